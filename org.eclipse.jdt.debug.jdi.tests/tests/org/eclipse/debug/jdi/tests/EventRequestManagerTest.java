@@ -14,15 +14,19 @@
 
 package org.eclipse.debug.jdi.tests;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+
 import com.sun.jdi.Field;
 import com.sun.jdi.Location;
 import com.sun.jdi.request.AccessWatchpointRequest;
 import com.sun.jdi.request.BreakpointRequest;
 import com.sun.jdi.request.ClassPrepareRequest;
 import com.sun.jdi.request.ClassUnloadRequest;
+import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
 import com.sun.jdi.request.ExceptionRequest;
 import com.sun.jdi.request.ModificationWatchpointRequest;
@@ -113,6 +117,33 @@ public class EventRequestManagerTest extends AbstractJDITest {
 		fManager.deleteAllBreakpoints();
 		assertEquals("5", 0, fManager.breakpointRequests().size());
 	}
+	/**
+	 * Test that requests enabled and disabled as a batch with pipelined
+	 * commands end up in the requested state
+	 */
+	public void testJDIBatchEnableDisable() {
+		List<EventRequest> requests = new ArrayList<>();
+		requests.add(fManager.createBreakpointRequest(getLocation()));
+		for (int i = 0; i < 5; i++) {
+			ClassPrepareRequest request = fManager.createClassPrepareRequest();
+			request.addClassFilter("org.eclipse.debug.jdi.tests.program.Batch" + i);
+			requests.add(request);
+		}
+		// one request is already enabled and must be skipped
+		requests.get(1).enable();
+
+		EventRequestManagerImpl manager = (EventRequestManagerImpl) fManager;
+		manager.enableEventRequests(requests);
+		for (EventRequest request : requests) {
+			assertTrue("1", request.isEnabled());
+		}
+		manager.disableEventRequests(requests);
+		for (EventRequest request : requests) {
+			assertFalse("2", request.isEnabled());
+		}
+		fManager.deleteEventRequests(requests);
+		assertEquals("3", 0, fManager.breakpointRequests().size());
+	}
 	/**
 	 * Test JDI createClassPrepareRequest(), classPrepareRequests()
 	 * and deleteEventRequest(EventRequest)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 package org.eclipse.debug.jdi.tests;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.IncompatibleThreadStateException;
@@ -147,6 +150,35 @@ public class ThreadReferenceTest extends AbstractJDITest {
 			}
 		}
 	}
+	/**
+	 * Test that the monitors of several threads retrieved with pipelined
+	 * commands are the ones retrieved thread by thread, and that threads
+	 * which are not suspended get no monitors.
+	 */
+	public void testJDIThreadMonitors() {
+		if (fVM.canGetOwnedMonitorInfo() && fVM.canGetCurrentContendedMonitor()) {
+			waitUntilReady();
+			List<ThreadReference> threads = new ArrayList<>();
+			threads.add(fThread);
+			threads.add(getMainThread());
+			List<List<ObjectReference>> ownedMonitors = new ArrayList<>();
+			List<ObjectReference> contendedMonitors = new ArrayList<>();
+			((VirtualMachineImpl) fVM).threadMonitors(threads, ownedMonitors, contendedMonitors);
+			assertEquals("1", 2, ownedMonitors.size());
+			assertEquals("2", 2, contendedMonitors.size());
+			try {
+				assertEquals("3", fThread.ownedMonitors(), ownedMonitors.get(0));
+				assertEquals("4", fThread.currentContendedMonitor(), contendedMonitors.get(0));
+			} catch (IncompatibleThreadStateException e) {
+				fail("5");
+			}
+			// only the thread of the event is suspended
+			if (getMainThread().suspendCount() == 0) {
+				assertNull("6", ownedMonitors.get(1));
+				assertNull("7", contendedMonitors.get(1));
+			}
+		}
+	}
 	/**
 	 * Test JDI status() and JDWP 'Thread - Get status'.
 	 */
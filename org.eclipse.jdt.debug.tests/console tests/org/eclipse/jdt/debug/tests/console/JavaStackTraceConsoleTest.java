@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2020 SAP SE and others.
+ * Copyright (c) 2014, 2026 SAP SE and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,10 +23,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.eclipse.jdt.debug.tests.TestUtil;
 import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceConsole;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.Position;
 import org.eclipse.swt.custom.ST;
+import org.eclipse.text.undo.DocumentUndoManagerRegistry;
+import org.eclipse.text.undo.IDocumentUndoManager;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.console.TextConsoleViewer;
 
@@ -411,4 +414,78 @@ public class JavaStackTraceConsoleTest extends AbstractJavaStackTraceConsoleTest
 		String[] matchTexts = linkTextsAtPositions(38);
 		assertArrayEquals(allLinks(), new String[] { "java.base/Charset.java:296" }, matchTexts);
 	}
+
+	/** Test formatting a pasted region which continues a suppressed block formatted before. */
+	public void testFormatRegionKeepsIndentation() throws Exception {
+		IDocument doc = consoleDocumentFormatted("Exception in thread \"main\" java.lang.Exception: Main block\n" + "  at Foo3.main(Foo3.java:7)\n"
+				+ "  Suppressed: Resource$CloseFailException: Resource ID = 2\n" + "      at Resource.close(Resource.java:26)\n");
+		assertEquals("at Resource.close(Resource.java:26)", getLine(doc, 3).trim());
+		sync(() -> {
+			String pasted = "\nat Foo3.main(Foo3.java:5)";
+			int offset = doc.getLength();
+			doc.replace(offset, 0, pasted);
+			fConsole.format(offset, pasted.length());
+			return null;
+		});
+		TestUtil.waitForJobs(getName(), 30, 1000);
+		assertEquals("at Foo3.main(Foo3.java:5)", getLine(doc, 4).trim());
+		assertEquals("Pasted line not indented like the suppressed block", getLineIndentation(getLine(doc, 3)), getLineIndentation(getLine(doc, 4)));
+		checkIndentationConsistency(doc, 0);
+	}
+
+	/** Test that a format inserted in several chunks is undone at once. */
+	public void testFormatChunksUndoneAtOnce() throws Exception {
+		StringBuilder trace = new StringBuilder("java.lang.Exception: deep");
+		int frames = 5000;
+		for (int i = 0; i < frames; i++) {
+			trace.append("\nat foo.Bar.method").append(i).append("(Bar.java:").append(i + 1).append(')');
+		}
+		String text = trace.toString();
+		IDocument doc = consoleDocumentWithText(text);
+		Object client = new Object();
+		IDocumentUndoManager undoManager = sync(() -> {
+			DocumentUndoManagerRegistry.connect(doc);
+			IDocumentUndoManager manager = DocumentUndoManagerRegistry.getDocumentUndoManager(doc);
+			manager.connect(client);
+			fConsole.format();
+			return manager;
+		});
+		try {
+			TestUtil.waitForJobs(getName(), 30, DEFAULT_TIMEOUT);
+			assertEquals(frames + 1, doc.getNumberOfLines());
+			assertEquals("at foo.Bar.method" + (frames - 1) + "(Bar.java:" + frames + ")", getLine(doc, frames).trim());
+			assertTrue("Frames not indented", getLineIndentation(getLine(doc, frames)) > 0);
+			sync(() -> {
+				undoManager.undo();
+				return null;
+			});
+			assertEquals("Format not undone at once", text, doc.get());
+		} finally {
+			sync(() -> {
+				undoManager.disconnect(client);
+				DocumentUndoManagerRegistry.disconnect(doc);
+			});
+		}
+	}
+
+	/** Test that hyperlinks far from the visible region are only added once it is scrolled to them. */
+	public void testHyperlinksAddedWhenVisible() throws Exception {
+		StringBuilder trace = new StringBuilder("java.lang.Exception: deep");
+		int frames = 5000;
+		for (int i = 0; i < frames; i++) {
+			trace.append("\n    at foo.Bar.method").append(i).append("(Bar.java:").append(i + 1).append(')');
+		}
+		TextConsoleViewer viewer = sync(() -> getConsolesViewer());
+		IDocument doc = consoleDocumentWithText(trace.toString());
+		int links = allLinkPositions().length;
+		assertTrue("No hyperlinks for the visible region: " + links, links > 0);
+		assertTrue("Hyperlinks added for the whole document: " + links, links < frames);
+
+		int lastLink = doc.get().lastIndexOf("Bar.java") + 1;
+		assertEquals("Hyperlink of the last line added early", 0, linkPositions(lastLink).size());
+		sync(() -> viewer.setTopIndex(frames));
+		TestUtil.runEventLoop();
+		assertEquals("Hyperlink of the last line not added when visible", 1, linkPositions(lastLink).size());
+	}
 }
+
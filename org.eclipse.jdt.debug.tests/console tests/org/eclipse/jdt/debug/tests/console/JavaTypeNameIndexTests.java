@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.console;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.ui.console.JavaTypeNameIndex;
+import org.eclipse.jdt.launching.JavaRuntime;
+
+/**
+ * Tests that the {@link JavaTypeNameIndex} answers source types only and follows changes of compilation units and source folders
+ */
+public class JavaTypeNameIndexTests extends AbstractDebugTest {
+
+	private static final String INDEXED = "package p;\npublic class IndexedByName {\n\tclass Inner {}\n}\n";
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	public JavaTypeNameIndexTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = JavaProjectHelper.createJavaProject("JavaTypeNameIndexTests", "bin");
+		JavaProjectHelper.addContainerEntry(fProject, new Path(JavaRuntime.JRE_CONTAINER));
+		IPackageFragmentRoot root = JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage = root.createPackageFragment("p", true, null);
+		fPackage.createCompilationUnit("IndexedByName.java", INDEXED, true, null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+		super.tearDown();
+	}
+
+	/**
+	 * Waits until the index answers the given name with the given number of types, <code>0</code> for not answering it from the index.
+	 */
+	private List<IType> waitForTypes(String typeName, int count) throws Exception {
+		long end = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+		List<IType> types = null;
+		while (System.currentTimeMillis() < end) {
+			types = JavaTypeNameIndex.getDefault().findTypes(typeName);
+			if (count == 0 ? types == null && isIndexBuilt() : types != null && types.size() == count) {
+				return types;
+			}
+			Thread.sleep(50);
+		}
+		fail("Index did not answer " + count + " types for " + typeName + ": " + types);
+		return null;
+	}
+
+	/**
+	 * Returns whether the index is built and up to date, i.e. answers a name known to be indexed.
+	 */
+	private boolean isIndexBuilt() {
+		return JavaTypeNameIndex.getDefault().findTypes("p.IndexedByName") != null || !fPackage.getCompilationUnit("IndexedByName.java").exists();
+	}
+
+	public void testQualifiedAndSimpleNames() throws Exception {
+		IType type = fPackage.getCompilationUnit("IndexedByName.java").getType("IndexedByName");
+		assertEquals(type, waitForTypes("p.IndexedByName", 1).get(0));
+		assertEquals(type, waitForTypes("IndexedByName", 1).get(0));
+	}
+
+	public void testMemberTypes() throws Exception {
+		IType inner = fPackage.getCompilationUnit("IndexedByName.java").getType("IndexedByName").getType("Inner");
+		assertEquals(inner, waitForTypes("p.IndexedByName.Inner", 1).get(0));
+		assertEquals(inner, waitForTypes("p.IndexedByName$Inner", 1).get(0));
+	}
+
+	public void testBinaryTypesNotIndexed() throws Exception {
+		waitForTypes("p.IndexedByName", 1);
+		assertNull("JRE types should not be indexed", JavaTypeNameIndex.getDefault().findTypes("java.lang.String"));
+	}
+
+	public void testBinaryTypeOfSameName() throws Exception {
+		waitForTypes("p.IndexedByName", 1);
+		assertFalse("No binary type of a source type's name", JavaTypeNameIndex.hasBinaryType("p.IndexedByName", null));
+		assertTrue("JRE type should be found", JavaTypeNameIndex.hasBinaryType("java.lang.String", null));
+		// a source type shadowing a JRE type is not the only candidate for its name
+		fProject.getPackageFragmentRoot(fProject.getProject().getFolder("src")).createPackageFragment("java.util.concurrent", true, null)
+				.createCompilationUnit("TimeUnit.java", "package java.util.concurrent;\npublic class TimeUnit {}\n", true, null);
+		waitForTypes("java.util.concurrent.TimeUnit", 1);
+		assertTrue("JRE type of an indexed name should be found", JavaTypeNameIndex.hasBinaryType("java.util.concurrent.TimeUnit", null));
+	}
+
+	public void testUnitAddedAndRemoved() throws Exception {
+		waitForTypes("p.IndexedByName", 1);
+		ICompilationUnit unit = fPackage.createCompilationUnit("AddedToIndex.java", "package p;\nclass AddedToIndex {}\n", true, null);
+		waitForTypes("p.AddedToIndex", 1);
+		unit.delete(true, null);
+		waitForTypes("p.AddedToIndex", 0);
+	}
+
+	public void testSourceFolderAddedAndRemoved() throws Exception {
+		waitForTypes("p.IndexedByName", 1);
+		IPackageFragmentRoot root = JavaProjectHelper.addSourceContainer(fProject, "src2");
+		root.createPackageFragment("q", true, null).createCompilationUnit("IndexedByName.java", "package q;\npublic class IndexedByName {}\n", true, null);
+		waitForTypes("q.IndexedByName", 1);
+		waitForTypes("IndexedByName", 2);
+		JavaProjectHelper.removeSourceContainer(fProject, "src2");
+		waitForTypes("q.IndexedByName", 0);
+		waitForTypes("IndexedByName", 1);
+	}
+}
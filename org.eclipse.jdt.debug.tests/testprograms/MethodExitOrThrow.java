@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+public class MethodExitOrThrow {
+
+	public static void main(String[] args) {
+		try {
+			exitOrThrow(true);
+		} catch (IllegalStateException e) {
+			// do nothing
+		}
+		exitOrThrow(false);
+	}
+
+	static void exitOrThrow(boolean fail) {
+		if (fail) {
+			throw new IllegalStateException();
+		}
+		System.out.println("exit");
+	}
+}
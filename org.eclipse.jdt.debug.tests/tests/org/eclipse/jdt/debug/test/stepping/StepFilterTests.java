@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2014 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -66,6 +66,32 @@ public class StepFilterTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests a step filter that is also covered by a broader prefix filter
+	 */
+	public void testSubsumedStepFilter() throws Exception {
+		getPrefStore().setValue(IJDIPreferencesConstants.PREF_ACTIVE_FILTERS_LIST, fOriginalActiveFilters + ",StepFilterTwo,StepFilterTw*," + fOriginalInactiveFilters);
+		String typeName = "StepFilterOne";
+		ILineBreakpoint bp = createLineBreakpoint(26, typeName);
+		bp.setEnabled(true);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp, true);
+			IJavaStackFrame stackFrame = (IJavaStackFrame) thread.getTopStackFrame();
+			thread = stepIntoWithFilters(stackFrame);
+			stackFrame = (IJavaStackFrame) thread.getTopStackFrame();
+			String recTypeName = stackFrame.getReceivingTypeName();
+			tryAgain(() -> assertEquals("Wrong receiving type", "StepFilterOne", recTypeName));
+			int lineNumber = stackFrame.getLineNumber();
+			assertEquals("Wrong line number", 27, lineNumber);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			resetStepFilters();
+		}
+	}
+
 	/**
 	 * Tests a simple step filter
 	 */
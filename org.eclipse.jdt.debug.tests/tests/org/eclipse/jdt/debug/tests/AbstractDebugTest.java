@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -204,7 +204,7 @@ public abstract class AbstractDebugTest extends TestCase implements  IEvaluation
 			"StepResult2", "StepResult3", "StepUncaught", "TriggerPoint_01", "BulkThreadCreationTest", "MethodExitAndException",
 			"Bug534319earlyStart", "Bug534319lateStart", "Bug534319singleThread", "Bug534319startBetwen", "MethodCall", "Bug538303", "Bug540243",
 			"OutSync", "OutSync2", "ConsoleOutputUmlaut", "ErrorRecurrence", "ModelPresentationTests", "Bug565982",
-			"SuspendVMConditionalBreakpointsTestSnippet", "FileConditionSnippet2" };
+			"SuspendVMConditionalBreakpointsTestSnippet", "FileConditionSnippet2", "MethodExitOrThrow", "PlatformClassLoading" };
 
 	/**
 	 * the default timeout
@@ -407,6 +407,10 @@ public abstract class AbstractDebugTest extends TestCase implements  IEvaluation
 				cfgs.add(createLaunchConfiguration(jp, "a.b.c.GenericMethodEntryTest"));
 				cfgs.add(createLaunchConfiguration(jp, "org.eclipse.debug.tests.targets.HcrClass", true));
 				cfgs.add(createLaunchConfiguration(jp, "a.b.c.Bug570988"));
+				cfgs.add(createLaunchConfiguration(jp, "a.b.c.BulkDetails"));
+				cfgs.add(createLaunchConfiguration(jp, "a.b.c.GCRootPaths"));
+				cfgs.add(createLaunchConfiguration(jp, "a.b.c.GroupedThreads"));
+				cfgs.add(createLaunchConfiguration(jp, "a.b.c.DeadlockWithTail"));
 				loaded15 = true;
 				waitForBuild();
 	        }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,7 @@ import org.eclipse.jdt.debug.tests.console.IOConsoleTests;
 import org.eclipse.jdt.debug.tests.console.JavaDebugStackTraceConsoleTest;
 import org.eclipse.jdt.debug.tests.console.JavaStackTraceAmbiguityTest;
 import org.eclipse.jdt.debug.tests.console.JavaStackTraceConsoleTest;
+import org.eclipse.jdt.debug.tests.console.JavaTypeNameIndexTests;
 import org.eclipse.jdt.debug.tests.core.AlternateStratumTests;
 import org.eclipse.jdt.debug.tests.core.ArgumentTests;
 import org.eclipse.jdt.debug.tests.core.ArgumentTestsWithArgfile;
@@ -110,6 +111,7 @@ import org.eclipse.jdt.debug.tests.launching.ConfigurationEncodingTests;
 import org.eclipse.jdt.debug.tests.launching.ConfigurationResourceMappingTests;
 import org.eclipse.jdt.debug.tests.launching.ContributedTabTests;
 import org.eclipse.jdt.debug.tests.launching.InstanceMainMethodsTests;
+import org.eclipse.jdt.debug.tests.launching.JavaLaunchableTesterTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchConfigurationManagerTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchConfigurationTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchDelegateTests;
@@ -131,11 +133,13 @@ import org.eclipse.jdt.debug.tests.refactoring.RenameNonPublicTypeUnitTests;
 import org.eclipse.jdt.debug.tests.refactoring.RenamePackageUnitTests;
 import org.eclipse.jdt.debug.tests.refactoring.RenamePublicTypeUnitTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.ArchiveSourceLookupTests;
+import org.eclipse.jdt.debug.tests.sourcelookup.ClassfileTransformerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.Bug565462Tests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DefaultSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DirectorySourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DirectorySourceLookupTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.ExternalArchiveSourceContainerTests;
+import org.eclipse.jdt.debug.tests.sourcelookup.FileHashingTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.FolderSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.JarSourceLookupTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.JavaProjectSourceContainerTests;
@@ -148,7 +152,9 @@ import org.eclipse.jdt.debug.tests.ui.DebugHoverTests;
 import org.eclipse.jdt.debug.tests.ui.DebugViewTests;
 import org.eclipse.jdt.debug.tests.ui.DetailPaneManagerTests;
 import org.eclipse.jdt.debug.tests.ui.JavaSnippetEditorTest;
+import org.eclipse.jdt.debug.tests.ui.JavaThreadGroupingTests;
 import org.eclipse.jdt.debug.tests.ui.OpenFromClipboardTests;
+import org.eclipse.jdt.debug.tests.ui.ThreadMonitorManagerTests;
 import org.eclipse.jdt.debug.tests.ui.ViewManagementTests;
 import org.eclipse.jdt.debug.tests.ui.VirtualThreadsDebugViewTests;
 import org.eclipse.jdt.debug.tests.ui.presentation.ModelPresentationTests;
@@ -191,6 +197,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(LaunchShortcutTests.class));
 		addTest(new TestSuite(LaunchTests.class));
 		addTest(new TestSuite(LaunchesTests.class));
+		addTest(new TestSuite(JavaLaunchableTesterTests.class));
 		addTest(new TestSuite(ContributedTabTests.class));
 		addTest(new TestSuite(TabGroupWrapperTests.class));
 		addTest(new TestSuite(MigrationDelegateTests.class));
@@ -223,6 +230,8 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(TypeResolutionTests.class));
 		addTest(new TestSuite(JarSourceLookupTests.class));
 		addTest(new TestSuite(Bug565462Tests.class));
+		addTest(new TestSuite(FileHashingTests.class));
+		addTest(new TestSuite(ClassfileTransformerTests.class));
 
 	// Variable tests
 		addTest(new TestSuite(InstanceVariableTests.class));
@@ -277,6 +286,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(IOConsoleTests.class));
 		addTest(new TestSuite(ConsoleTerminateAllActionTests.class));
 		addTest(new TestSuite(JavaStackTraceAmbiguityTest.class));
+		addTest(new TestSuite(JavaTypeNameIndexTests.class));
 
 	//Core tests
 		addTest(new TestSuite(DebugEventTests.class));
@@ -333,6 +343,8 @@ public class AutomatedSuite extends DebugSuite {
 	// Debug view tests
 		// Test was not stable, see bug 516024, the hope is that fix for bug 535686 helps
 		addTest(new TestSuite(DebugViewTests.class));
+		addTest(new TestSuite(JavaThreadGroupingTests.class));
+		addTest(new TestSuite(ThreadMonitorManagerTests.class));
 
 	// Scrapbook editor tests
 		addTest(new TestSuite(JavaSnippetEditorTest.class));
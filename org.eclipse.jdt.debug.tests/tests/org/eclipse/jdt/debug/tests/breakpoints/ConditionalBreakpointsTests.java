@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
@@ -21,8 +23,10 @@ import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.testplugin.EvalualtionBreakpointListener;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.TestUtil;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 
 /**
  * Tests conditional breakpoints.
@@ -221,6 +225,60 @@ public class ConditionalBreakpointsTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that a condition which does not complete within the evaluation
+	 * timeout is aborted, and that the breakpoint suspends with a runtime
+	 * error once the evaluation has ended.
+	 */
+	public void testConditionTimeoutAbortsEvaluation() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, "for (int x = 0; x < 100; x++) { Thread.sleep(100); } return false;", true);
+		bp.addBreakpointListener("org.eclipse.jdt.debug.tests.evalListener");
+		EvalualtionBreakpointListener.reset();
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putInt(JDIDebugPlugin.PREF_CONDITION_EVALUATION_TIMEOUT, 500);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			assertFalse("Evaluation should have been aborted", thread.isPerformingEvaluation());
+			assertFalse(EvalualtionBreakpointListener.HIT);
+			assertEquals("Timeout should be reported", 1, EvalualtionBreakpointListener.RUNTIME_ERRORS.size());
+			assertEquals(bp, EvalualtionBreakpointListener.RUNTIME_ERRORS.get(0));
+			assertEquals("Wrong location", 19, thread.getTopStackFrame().getLineNumber());
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_CONDITION_EVALUATION_TIMEOUT);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the breakpoint suspends with a runtime error when a condition
+	 * which timed out cannot be aborted, instead of waiting for it to end.
+	 */
+	public void testConditionTimeoutNotAborted() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, "Thread.sleep(60000); return false;", true);
+		bp.addBreakpointListener("org.eclipse.jdt.debug.tests.evalListener");
+		EvalualtionBreakpointListener.reset();
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putInt(JDIDebugPlugin.PREF_CONDITION_EVALUATION_TIMEOUT, 500);
+
+		IJavaThread thread= null;
+		try {
+			// the evaluation would outlast the launch timeout
+			thread= launchToLineBreakpoint(typeName, bp);
+			assertFalse(EvalualtionBreakpointListener.HIT);
+			assertEquals("Timeout should be reported", 1, EvalualtionBreakpointListener.RUNTIME_ERRORS.size());
+			assertEquals(bp, EvalualtionBreakpointListener.RUNTIME_ERRORS.get(0));
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_CONDITION_EVALUATION_TIMEOUT);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests that a conditional breakpoint with an expression that will hit a breakpoint
 	 * will complete the conditional expression evaluation (bug 269231).
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.jdt.debug.core.IJavaMethodBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
@@ -78,6 +79,59 @@ public class MethodBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that an exit breakpoint on a known void method suspends at the
+	 * method's return and is reported as an exit suspend
+	 */
+	public void testExitBreakpointOnReturn() throws Exception {
+		String typeName = "DropTests";
+		IJavaMethodBreakpoint bp = createMethodBreakpoint(typeName, "method3", "()V", false, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IBreakpoint hit = getBreakpoint(thread);
+			assertEquals("should hit exit breakpoint", bp, hit);
+			assertFalse("should be an exit suspend", bp.isEntrySuspend(thread.getDebugTarget()));
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("should suspend in method3", "method3", frame.getMethodName());
+			assertEquals("should suspend after method4 returned", 4, thread.getStackFrames().length);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an exit breakpoint suspends when the method exits by
+	 * throwing an exception
+	 */
+	public void testExitBreakpointOnThrow() throws Exception {
+		String typeName = "MethodExitOrThrow";
+		IJavaMethodBreakpoint bp = createMethodBreakpoint(typeName, "exitOrThrow", "(Z)V", false, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IBreakpoint hit = getBreakpoint(thread);
+			assertEquals("should hit exit breakpoint", bp, hit);
+			assertFalse("should be an exit suspend", bp.isEntrySuspend(thread.getDebugTarget()));
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			IJavaVariable fail = frame.findVariable("fail");
+			assertNotNull("Could not find variable 'fail'", fail);
+			assertEquals("should suspend on the exceptional exit", "true", fail.getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests the 'stop in main' launching preference
 	 * {@link IJavaLaunchConfigurationConstants#ATTR_STOP_IN_MAIN}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Andrey Loskutov <loskutov@gmx.de>.
+ *  Copyright (c) 2018, 2026 Andrey Loskutov <loskutov@gmx.de>.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,8 @@ import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.TestUtil;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jface.preference.IPreferenceStore;
 
@@ -147,6 +149,48 @@ public class ThreadNameChangeTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that thread names retrieved in one batch match the names of the
+	 * threads and are updated when a thread changes its name
+	 */
+	public void testFetchThreadNames() throws Exception {
+		String typeName = "ThreadNameChange";
+		final int bpLine1 = 39;
+		final int bpLine2 = 43;
+
+		IJavaLineBreakpoint bp1 = createLineBreakpoint(bpLine1, "", typeName + ".java", typeName);
+		IJavaLineBreakpoint bp2 = createLineBreakpoint(bpLine2, "", typeName + ".java", typeName);
+		bp1.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+		bp2.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp1);
+			TestUtil.waitForJobs(getName(), 100, 3000);
+
+			IThread second = findThread(thread, "1");
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			IThread[] threads = target.getThreads();
+			JDIThread[] jdiThreads = Arrays.copyOf(threads, threads.length, JDIThread[].class);
+			String[] names = target.fetchThreadNames(jdiThreads);
+			for (int i = 0; i < threads.length; i++) {
+				assertEquals("unexpected name of " + threads[i], threads[i].getName(), names[i]);
+			}
+			assertEquals("unexpected range of threads", Arrays.asList(threads).subList(1, threads.length), Arrays.asList(target.getThreads(1, threads.length)));
+
+			resumeToLineBreakpoint(thread, bp2);
+			TestUtil.waitForJobs(getName(), 1000, 3000);
+
+			// the remembered name is replaced once the name change is observed
+			String[] changed = target.fetchThreadNames(new JDIThread[] { (JDIThread) second });
+			assertEquals("2", changed[0]);
+			assertEquals("2", second.getName());
+		}
+		finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	private List<DebugEvent> getStateChangeEvents(AtomicReference<List<DebugEvent>> events, IThread second) {
 		List<DebugEvent> list = events.get();
 		Stream<DebugEvent> filtered = list.stream().filter(x -> x.getKind() == DebugEvent.CHANGE && x.getDetail() == DebugEvent.STATE
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.ui.console.IConsole;
 import org.eclipse.debug.ui.console.IConsoleLineTrackerExtension;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.ConsoleLineTracker;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
@@ -399,6 +400,71 @@ public class ArgumentTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that an opted-in launch on Java 13 or newer uses a class data sharing archive.
+	 */
+	public void testCdsArchiveArguments() throws Exception {
+		IVMInstall vm = JavaRuntime.getVMInstall(get14Project());
+		assertNotNull("should be able to get a VM install from the 1.4 project", vm);
+		if (JavaRuntime.compareJavaVersions(vm, JavaCore.VERSION_12) <= 0) {
+			return;
+		}
+		ILaunchConfigurationWorkingCopy workingCopy = newConfiguration(null, "config1");
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, get14Project().getProject().getName());
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_MAIN_TYPE_NAME, "FooPropertyPrinter");
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, true);
+		ILaunch launch = null;
+		try {
+			HashSet<String> set = new HashSet<>();
+			set.add(ILaunchManager.RUN_MODE);
+			ensurePreferredDelegate(workingCopy, set);
+			launch = workingCopy.launch(ILaunchManager.RUN_MODE, null);
+			IProcess process = launch.getProcesses()[0];
+			String commandLine = process.getAttribute(IProcess.ATTR_CMDLINE);
+			assertTrue("command line must use a CDS archive: " + commandLine, commandLine.contains("-XX:SharedArchiveFile=")
+					|| commandLine.contains("-XX:ArchiveClassesAtExit="));
+		} finally {
+			if (launch != null) {
+				launch.terminate();
+				getLaunchManager().removeLaunch(launch);
+			}
+		}
+	}
+
+	/**
+	 * Tests that a class data sharing archive is used by the next launch when the VM supposed to dump it was terminated.
+	 */
+	public void testCdsArchiveReleasedOnTerminate() throws Exception {
+		IVMInstall vm = JavaRuntime.getVMInstall(get14Project());
+		assertNotNull("should be able to get a VM install from the 1.4 project", vm);
+		if (JavaRuntime.compareJavaVersions(vm, JavaCore.VERSION_12) <= 0) {
+			return;
+		}
+		ILaunchConfigurationWorkingCopy workingCopy = newConfiguration(null, "config1");
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, get14Project().getProject().getName());
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_MAIN_TYPE_NAME, "FooPropertyPrinter");
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, true);
+		HashSet<String> set = new HashSet<>();
+		set.add(ILaunchManager.RUN_MODE);
+		ensurePreferredDelegate(workingCopy, set);
+		ILaunch launch = workingCopy.launch(ILaunchManager.RUN_MODE, null);
+		try {
+			launch.terminate();
+		} finally {
+			// releases the archive the terminated VM did not dump, if any
+			getLaunchManager().removeLaunch(launch);
+		}
+		launch = workingCopy.launch(ILaunchManager.RUN_MODE, null);
+		try {
+			String commandLine = launch.getProcesses()[0].getAttribute(IProcess.ATTR_CMDLINE);
+			assertTrue("command line must use a CDS archive: " + commandLine, commandLine.contains("-XX:SharedArchiveFile=")
+					|| commandLine.contains("-XX:ArchiveClassesAtExit="));
+		} finally {
+			launch.terminate();
+			getLaunchManager().removeLaunch(launch);
+		}
+	}
+
 	private List<String> readArgfile(String commandLine) {
 		String[] arguments = DebugPlugin.parseArguments(commandLine);
 		assertEquals("command line too long, only command @argfile expected", 2, arguments.length);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2017 salesforce.com.
+ *  Copyright (c) 2017, 2026 salesforce.com.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
@@ -30,8 +33,19 @@ import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher.AbstractDispatchJob;
+import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 
+import com.sun.jdi.Location;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.event.BreakpointEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequest;
+import com.sun.jdi.request.EventRequestManager;
+
 public class EventDispatcherTest extends AbstractDebugTest {
 
 	private JobChangeAdapter jobListener;
@@ -127,4 +141,58 @@ public class EventDispatcherTest extends AbstractDebugTest {
 		assertEquals("Unexpected number of event dispatching jobs: " + jobs.size() + " | " + jobs.keySet(), 2, jobs.size());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that the events of one thread are handled in the order they occurred, even when handling an event takes longer than the thread takes to
+	 * produce the next one.
+	 */
+	public void testSameThreadEventOrdering() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint breakpoint = createLineBreakpoint(17, typeName);
+		List<Integer> lines = Collections.synchronizedList(new ArrayList<>());
+		Random random = new Random();
+		IJDIEventListener listener = new IJDIEventListener() {
+			@Override
+			public boolean handleEvent(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
+				try {
+					Thread.sleep(random.nextInt(20));
+				}
+				catch (InterruptedException e) {
+				}
+				lines.add(((BreakpointEvent) event).location().lineNumber());
+				return true;
+			}
+
+			@Override
+			public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspend, EventSet eventSet) {
+			}
+		};
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, breakpoint);
+			breakpoint.delete();
+			JDIThread jdiThread = (JDIThread) thread;
+			JDIDebugTarget target = (JDIDebugTarget) jdiThread.getDebugTarget();
+			ReferenceType type = jdiThread.getUnderlyingThread().frame(0).location().declaringType();
+			EventRequestManager manager = target.getEventRequestManager();
+			for (int line = 19; line <= 20; line++) {
+				Location location = type.locationsOfLine(line).get(0);
+				BreakpointRequest request = manager.createBreakpointRequest(location);
+				request.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+				target.addJDIEventListener(listener, request);
+				request.enable();
+			}
+			resumeAndExit(thread);
+		}
+		finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			expected.add(19);
+			expected.add(20);
+		}
+		assertEquals("Events of the same thread were handled out of order", expected, lines);
+	}
+
+}
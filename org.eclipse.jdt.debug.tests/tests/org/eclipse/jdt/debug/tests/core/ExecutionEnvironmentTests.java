@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Properties;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
@@ -23,8 +28,11 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.environments.EnvironmentsManager;
 import org.eclipse.jdt.launching.AbstractVMInstall;
 import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallType;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.LibraryLocation;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
@@ -259,4 +267,89 @@ public class ExecutionEnvironmentTests extends AbstractDebugTest {
 		}
 		assertNotNull("Test should have thrown an exception", null);
 	}
+
+	/**
+	 * Tests that VMs analyzed together, concurrently when more than one
+	 * processor is available, are found compatible with the same environments
+	 * as the default VM they are copies of, and that the results are persisted
+	 */
+	public void testAnalyzeVMs() throws Exception {
+		IVMInstall def = JavaRuntime.getDefaultVMInstall();
+		IVMInstallType type = def.getVMInstallType();
+		EnvironmentsManager manager = EnvironmentsManager.getDefault();
+		IExecutionEnvironment[] environments = manager.getExecutionEnvironments();
+		IVMInstall[] vms = new IVMInstall[4];
+		try {
+			for (int i = 0; i < vms.length; i++) {
+				IVMInstall vm = type.createVMInstall("testAnalyzeVMs" + i);
+				vm.setName("testAnalyzeVMs" + i);
+				vm.setInstallLocation(def.getInstallLocation());
+				vms[i] = vm;
+			}
+			manager.analyzeVMs(vms);
+			for (IExecutionEnvironment environment : environments) {
+				boolean compatible = contains(environment.getCompatibleVMs(), def);
+				for (IVMInstall vm : vms) {
+					assertEquals("Wrong compatibility of " + vm.getName() + " with " + environment.getId(), compatible, contains(environment.getCompatibleVMs(), vm));
+					if (compatible) {
+						assertEquals("Wrong strict compatibility of " + vm.getName() + " with " + environment.getId(), environment.isStrictlyCompatible(def), environment.isStrictlyCompatible(vm));
+					}
+				}
+			}
+			if (LaunchingPlugin.computeInstallFingerprint(def.getInstallLocation()).isEmpty()) {
+				// results are not persisted for unknown install layouts
+				return;
+			}
+			Properties cache = loadAnalysisCache();
+			for (IVMInstall vm : vms) {
+				String suffix = '|' + JavaRuntime.getCompositeIdFromVM(vm);
+				boolean found = false;
+				for (String key : cache.stringPropertyNames()) {
+					if (key.endsWith(suffix + ".stamp")) {
+						found = true;
+						assertTrue("Stamp should record install location", cache.getProperty(key).startsWith(def.getInstallLocation().getAbsolutePath() + '|'));
+					} else if (key.endsWith(suffix + ".environments") && !cache.getProperty(key).isEmpty()) {
+						for (String id : cache.getProperty(key).split(",")) {
+							boolean strict = id.endsWith("!");
+							IExecutionEnvironment environment = manager.getEnvironment(strict ? id.substring(0, id.length() - 1) : id);
+							assertNotNull("Unknown persisted environment " + id, environment);
+							assertTrue("Persisted environment not compatible " + id, contains(environment.getCompatibleVMs(), vm));
+							assertEquals("Wrong persisted strict compatibility " + id, environment.isStrictlyCompatible(vm), strict);
+						}
+					}
+				}
+				assertTrue("Analysis of " + vm.getName() + " not persisted", found);
+			}
+		} finally {
+			for (IVMInstall vm : vms) {
+				if (vm != null) {
+					type.disposeVMInstall(vm.getId());
+				}
+			}
+		}
+		for (IExecutionEnvironment environment : environments) {
+			for (IVMInstall vm : vms) {
+				assertFalse("Disposed VM should not be compatible", contains(environment.getCompatibleVMs(), vm));
+			}
+		}
+	}
+
+	private Properties loadAnalysisCache() throws Exception {
+		File file = LaunchingPlugin.getDefault().getStateLocation().append(".environmentAnalysis.properties").toFile();
+		assertTrue("Analysis results not saved", file.isFile());
+		Properties cache = new Properties();
+		try (InputStream in = new FileInputStream(file)) {
+			cache.load(in);
+		}
+		return cache;
+	}
+
+	private static boolean contains(IVMInstall[] vms, IVMInstall vm) {
+		for (IVMInstall install : vms) {
+			if (install.equals(vm)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,10 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertNotEquals;
 
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.jdt.core.IBuffer;
@@ -31,6 +35,8 @@ import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.DebugEventWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.hcr.JavaHotCodeReplaceManager;
+import org.eclipse.jdt.internal.debug.core.hcr.JavaHotCodeReplaceManager.AffectedFrameIndex;
 
 /**
  * Tests hot code replace
@@ -41,6 +47,8 @@ public class HcrTests extends AbstractDebugTest {
 
 		boolean notified = false;
 		IJavaDebugTarget target = null;
+		int redefinedCount = -1;
+		int unchangedCount = -1;
 
 		/* (non-Javadoc)
 		 * @see org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener#hotCodeReplaceFailed(org.eclipse.jdt.debug.core.IJavaDebugTarget, org.eclipse.debug.core.DebugException)
@@ -70,6 +78,26 @@ public class HcrTests extends AbstractDebugTest {
 			notifyAll();
 		}
 
+		@Override
+		public synchronized void classesRedefined(IJavaDebugTarget target, int redefined, int unchanged, long elapsedMillis) {
+			redefinedCount = redefined;
+			unchangedCount = unchanged;
+			notifyAll();
+		}
+
+		/**
+		 * Waits until classes were redefined and returns whether they were.
+		 */
+		public synchronized boolean waitRedefined() {
+			if (redefinedCount < 0) {
+				try {
+					wait(AbstractDebugTest.DEFAULT_TIMEOUT);
+				} catch (InterruptedException e) {
+				}
+			}
+			return redefinedCount >= 0;
+		}
+
 		/**
 		 * Returns whether notified (yet).
 		 *
@@ -242,6 +270,111 @@ public class HcrTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that listeners are told how many classes were redefined.
+	 */
+	public void testHcrRedefinedCount() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+		HCRListener listener = new HCRListener();
+		JDIDebugModel.addHotCodeReplaceListener(listener);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaDebugTarget target = (IJavaDebugTarget)thread.getDebugTarget();
+			if (target.supportsHotCodeReplace()) {
+				removeAllBreakpoints();
+				ICompilationUnit cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				String contents = buffer.getContents();
+				int index = contents.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = contents.substring(0, index) + "\"Two\"" + contents.substring(index + 5);
+				buffer.setContents(newCode);
+
+				// save contents
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				assertTrue("Listener should have been notified", listener.waitNotification());
+				synchronized (listener) {
+					assertEquals("Wrong number of redefined classes", 1, listener.redefinedCount);
+					assertEquals("Wrong number of unchanged classes", 0, listener.unchangedCount);
+				}
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			JDIDebugModel.removeHotCodeReplaceListener(listener);
+		}
+	}
+
+	/**
+	 * Tests that classes whose class files did not change since they were last
+	 * replaced are not redefined again by a full build.
+	 */
+	public void testHcrSkipsUnchangedClasses() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+		HCRListener listener = new HCRListener();
+		JDIDebugModel.addHotCodeReplaceListener(listener);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaDebugTarget target = (IJavaDebugTarget)thread.getDebugTarget();
+			if (target.supportsHotCodeReplace()) {
+				removeAllBreakpoints();
+				ICompilationUnit cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				String contents = buffer.getContents();
+				int index = contents.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = contents.substring(0, index) + "\"Two\"" + contents.substring(index + 5);
+				buffer.setContents(newCode);
+
+				// save contents, the changed class is installed
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				assertTrue("Listener should have been notified", listener.waitNotification());
+				synchronized (listener) {
+					assertEquals("Wrong number of redefined classes", 1, listener.redefinedCount);
+					listener.redefinedCount = -1;
+					listener.unchangedCount = -1;
+				}
+
+				// a full build writes identical class files, nothing is redefined
+				get14Project().getProject().build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+				waitForBuild();
+				assertTrue("Listener should have been told about the replaced classes", listener.waitRedefined());
+				synchronized (listener) {
+					assertEquals("Unchanged classes should not be redefined", 0, listener.redefinedCount);
+					assertTrue("HcrClass should be reported unchanged", listener.unchangedCount > 0);
+				}
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			JDIDebugModel.removeHotCodeReplaceListener(listener);
+		}
+	}
+
 	/**
 	 * Tests that a target specific listener overrides a generic listener.
 	 */
@@ -1270,4 +1403,47 @@ public class HcrTests extends AbstractDebugTest {
 			JDIDebugModel.removeHotCodeReplaceListener(listener);
 		}
 	}
+
+	/**
+	 * Tests that a replaced nested type affects the frames of its enclosing types, but not of its siblings or of other types
+	 */
+	public void testAffectedFrameIndexNestedType() throws Exception {
+		AffectedFrameIndex index = createAffectedFrameIndex("a.Outer$Inner$Deep");
+		assertTrue("Replaced type should be affected", index.isChangedType("a.Outer$Inner$Deep"));
+		assertTrue("Enclosing type should be affected", index.isChangedType("a.Outer$Inner"));
+		assertTrue("Top level type should be affected", index.isChangedType("a.Outer"));
+		assertFalse("Sibling type should not be affected", index.isChangedType("a.Outer$Other"));
+		assertFalse("Type nested in the replaced type should not be affected", index.isChangedType("a.Outer$Inner$Deep$More"));
+		assertFalse("Type with the same prefix should not be affected", index.isChangedType("a.OuterType"));
+		assertFalse("Type in another package should not be affected", index.isChangedType("b.Outer"));
+	}
+
+	/**
+	 * Tests that a replaced anonymous type affects the frames of its enclosing types only
+	 */
+	public void testAffectedFrameIndexAnonymousType() throws Exception {
+		AffectedFrameIndex index = createAffectedFrameIndex("a.Outer$Inner$1");
+		assertTrue("Replaced type should be affected", index.isChangedType("a.Outer$Inner$1"));
+		assertTrue("Enclosing type should be affected", index.isChangedType("a.Outer$Inner"));
+		assertTrue("Top level type should be affected", index.isChangedType("a.Outer"));
+		assertFalse("Other anonymous type should not be affected", index.isChangedType("a.Outer$Inner$2"));
+		assertFalse("Anonymous type of the top level type should not be affected", index.isChangedType("a.Outer$1"));
+	}
+
+	/**
+	 * Tests that a replaced local type affects the frames of its enclosing types only
+	 */
+	public void testAffectedFrameIndexLocalType() throws Exception {
+		AffectedFrameIndex index = createAffectedFrameIndex("a.Outer$1Local", "b.Other");
+		assertTrue("Replaced type should be affected", index.isChangedType("a.Outer$1Local"));
+		assertTrue("Top level type should be affected", index.isChangedType("a.Outer"));
+		assertTrue("Other replaced type should be affected", index.isChangedType("b.Other"));
+		assertFalse("Local type of the same name in another method should not be affected", index.isChangedType("a.Outer$2Local"));
+		assertFalse("Anonymous type should not be affected", index.isChangedType("a.Outer$1"));
+		assertFalse("Nested type of the other replaced type should not be affected", index.isChangedType("b.Other$Inner"));
+	}
+
+	private AffectedFrameIndex createAffectedFrameIndex(String... replacedClassNames) {
+		return JavaHotCodeReplaceManager.getDefault().new AffectedFrameIndex(Arrays.asList(replacedClassNames));
+	}
 }
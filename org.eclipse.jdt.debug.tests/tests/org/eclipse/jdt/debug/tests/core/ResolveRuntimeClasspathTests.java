@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Ole Osterhagen and others.
+ * Copyright (c) 2023, 2026 Ole Osterhagen and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.Arrays;
+
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -20,12 +22,14 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jdt.core.IAccessRule;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 import org.eclipse.jdt.launching.JavaRuntime;
 
@@ -102,6 +106,38 @@ public class ResolveRuntimeClasspathTests extends AbstractDebugTest {
 		assertFalse(isOnRuntimeClasspath(resolved, "/projectA/bin/test"));
 	}
 
+	public void testResolvedClasspathRefreshedOnClasspathChange() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfigurationWorkingCopy config = getLaunchManager().getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION).newInstance(null, "ResolveRuntimeClasspathTests");
+		config.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, project.getElementName());
+		IRuntimeClasspathEntry[] unresolved = JavaRuntime.computeUnresolvedRuntimeClasspath(config);
+		IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(unresolved, config);
+		assertTrue(isOnRuntimeClasspath(resolved, "/projectA/bin/main"));
+		assertFalse(isOnRuntimeClasspath(resolved, "/projectA/bin/extra"));
+		assertEquals("Repeated resolution should answer the same classpath", Arrays.asList(resolved), Arrays.asList(JavaRuntime.resolveRuntimeClasspath(unresolved, config)));
+
+		IJavaProject javaProjectA = JavaCore.create(projectA);
+		JavaProjectHelper.addToClasspath(javaProjectA, JavaCore.newSourceEntry(createFolders(projectA, "extra").getFullPath(), new IPath[0], new IPath[0], createFolders(projectA, "bin/extra").getFullPath(), new IClasspathAttribute[0]));
+		resolved = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(config), config);
+		assertTrue(isOnRuntimeClasspath(resolved, "/projectA/bin/extra"));
+	}
+
+	public void testResolvedClasspathEntriesAreCopies() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfigurationWorkingCopy config = getLaunchManager().getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION).newInstance(null, "ResolveRuntimeClasspathTests");
+		config.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, project.getElementName());
+		IRuntimeClasspathEntry[] unresolved = JavaRuntime.computeUnresolvedRuntimeClasspath(config);
+		IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(unresolved, config);
+		assertTrue("Classpath should not be empty", resolved.length > 0);
+		int property = resolved[0].getClasspathProperty();
+		int otherProperty = property == IRuntimeClasspathEntry.USER_CLASSES ? IRuntimeClasspathEntry.BOOTSTRAP_CLASSES : IRuntimeClasspathEntry.USER_CLASSES;
+		resolved[0].setClasspathProperty(otherProperty);
+
+		IRuntimeClasspathEntry[] again = JavaRuntime.resolveRuntimeClasspath(unresolved, config);
+		assertNotSame("Resolved entries should not be shared", resolved[0], again[0]);
+		assertEquals("Modifying a resolved entry should not change the next resolution", property, again[0].getClasspathProperty());
+	}
+
 	private boolean isOnRuntimeClasspath(IRuntimeClasspathEntry[] runtimeClasspathEntries, String path) {
 		for (IRuntimeClasspathEntry runtimeClasspathEntry : runtimeClasspathEntries) {
 			if (runtimeClasspathEntry.getPath().equals(new Path(path))) {
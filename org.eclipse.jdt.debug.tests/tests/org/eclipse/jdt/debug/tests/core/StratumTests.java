@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.JDIHelpers;
 
@@ -65,6 +66,29 @@ public class StratumTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the sourcelookup agent leaves JDK classes alone, also those
+	 * loaded by the platform class loader, which have a protection domain.
+	 */
+	public void testJdkClassesNotInstrumented() throws Exception {
+		String typeName = "PlatformClassLoading";
+		createLineBreakpoint(17, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaType[] types = ((IJavaDebugTarget) thread.getDebugTarget()).getJavaTypes("java.sql.Date");
+			assertNotNull("java.sql.Date not loaded", types);
+			assertEquals("Wrong number of types", 1, types.length);
+			String[] strata = ((IJavaReferenceType) types[0]).getAvailableStrata();
+			assertArrayEquals("Available strata mismatch", new String[] { "Java" }, strata);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Test default stratum on a type.
 	 */
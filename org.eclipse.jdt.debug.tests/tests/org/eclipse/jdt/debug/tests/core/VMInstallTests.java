@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,22 @@ public class VMInstallTests extends AbstractDebugTest {
         assertNotNull("default VM is missing java.version", javaVersion);
 	}
 
+	/**
+	 * Tests that library info is reused for an unchanged install and
+	 * recomputed once the fingerprint of the install changes
+	 */
+	public void testLibraryInfoFingerprint() {
+		IVMInstall def = JavaRuntime.getDefaultVMInstall();
+		assertTrue("should be an IVMInstall2", def instanceof IVMInstall2);
+		assertNotNull("default VM is missing java.version", ((IVMInstall2) def).getJavaVersion());
+		File home = def.getInstallLocation();
+		String fingerprint = LaunchingPlugin.computeInstallFingerprint(home);
+		assertFalse("Fingerprint should not be empty", fingerprint.isEmpty());
+		assertEquals("Fingerprint should be stable", fingerprint, LaunchingPlugin.computeInstallFingerprint(home));
+		assertNotNull("Library info should be cached for the unchanged install", LaunchingPlugin.getLibraryInfo(home.getAbsolutePath(), fingerprint));
+		assertNull("Library info should not be reused for a changed install", LaunchingPlugin.getLibraryInfo(home.getAbsolutePath(), fingerprint + "changed"));
+	}
+
 	/**
 	 * Test acquiring the set of system properties
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,20 +13,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IExpressionManager;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IWatchExpression;
+import org.eclipse.debug.core.model.IWatchExpressionResult;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.ExpressionWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.ui.JavaWatchExpressionDelegate;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPage;
@@ -165,6 +171,56 @@ public class WatchExpressionTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test that a side effect free watch expression is not evaluated again
+	 * while its inputs are unchanged, and that other expressions are.
+	 */
+	public void testIncrementalEvaluation() throws Exception {
+		String typeName = "WatchItemTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(40, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaDebugTarget target = (IJavaDebugTarget)thread.getDebugTarget();
+
+			IWatchExpressionResult result = evaluate("i * 2", thread);
+			assertFalse("Should not have errors in expression", result.hasErrors());
+			assertEquals("Watch expression should be 0", target.newValue(0), result.getValue());
+			assertSame("Watch expression should not be evaluated again", result, evaluate("i * 2", thread));
+
+			IWatchExpressionResult invocation = evaluate("fVector.size()", thread);
+			assertEquals("Watch expression should be 0", target.newValue(0), invocation.getValue());
+			assertNotSame("Method invocation should be evaluated again", invocation, evaluate("fVector.size()", thread));
+
+			IWatchExpressionResult addition = evaluate("i + 1", thread);
+			assertEquals("Watch expression should be 1", target.newValue(1), addition.getValue());
+			assertSame("Addition of primitives should not be evaluated again", addition, evaluate("i + 1", thread));
+
+			IWatchExpressionResult concatenation = evaluate("fVector + \"\"", thread);
+			assertNotSame("Concatenation of an object should be evaluated again", concatenation, evaluate("fVector + \"\"", thread));
+
+			thread = resumeToLineBreakpoint(thread, bp);
+			IWatchExpressionResult next = evaluate("i * 2", thread);
+			assertNotSame("Watch expression should be evaluated again", result, next);
+			assertEquals("Watch expression should be 2", target.newValue(2), next.getValue());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Evaluates the given watch expression in the top frame of the given thread.
+	 */
+	private IWatchExpressionResult evaluate(String expression, IJavaThread thread) throws Exception {
+		CompletableFuture<IWatchExpressionResult> result = new CompletableFuture<>();
+		new JavaWatchExpressionDelegate().evaluateExpression(expression, thread.getTopStackFrame(), result::complete);
+		IWatchExpressionResult watchResult = result.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+		assertNotNull("Watch expression was not evaluated", watchResult);
+		return watchResult;
+	}
+
 	/**
 	 * Dumps any error messages to the console.
      */
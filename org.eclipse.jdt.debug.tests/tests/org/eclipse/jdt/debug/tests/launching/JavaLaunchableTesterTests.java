@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.launching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.JavaLaunchableTester;
+import org.eclipse.jdt.internal.launching.LaunchableTypeIndex;
+import org.eclipse.jdt.launching.JavaRuntime;
+
+/**
+ * Tests that {@link JavaLaunchableTester} remembers properties which only depend on a compilation unit, and forgets them when it changes
+ */
+public class JavaLaunchableTesterTests extends AbstractDebugTest {
+
+	private static final String WITH_MAIN = "package p;\npublic class Launchable {\n\tpublic static void main(String[] args) {}\n\tvoid run(int count) {}\n}\n";
+
+	private static final String WITHOUT_MAIN = "package p;\npublic class Launchable {\n\tvoid main() {}\n}\n";
+
+	private IJavaProject fProject;
+
+	private ICompilationUnit fUnit;
+
+	public JavaLaunchableTesterTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = JavaProjectHelper.createJavaProject("JavaLaunchableTesterTests", "bin");
+		JavaProjectHelper.addContainerEntry(fProject, new Path(JavaRuntime.JRE_CONTAINER));
+		IPackageFragmentRoot root = JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack = root.createPackageFragment("p", true, null);
+		fUnit = pack.createCompilationUnit("Launchable.java", WITH_MAIN, true, null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+		super.tearDown();
+	}
+
+	private static List<Object> key(IType type, String property, Object... args) {
+		List<Object> key = new ArrayList<>();
+		key.add(type.getHandleIdentifier());
+		key.add(property);
+		key.addAll(Arrays.asList(args));
+		return key;
+	}
+
+	private void setContents(String contents) throws Exception {
+		ICompilationUnit copy = fUnit.getWorkingCopy(null);
+		try {
+			copy.getBuffer().setContents(contents);
+			copy.commitWorkingCopy(true, null);
+		} finally {
+			copy.discardWorkingCopy();
+		}
+	}
+
+	/**
+	 * Tests that the result of <code>hasMain</code> is remembered for the type
+	 */
+	public void testHasMainIndexed() throws Exception {
+		IType type = fUnit.getType("Launchable");
+		JavaLaunchableTester tester = new JavaLaunchableTester();
+		assertTrue("Type should have a main method", tester.test(type, "hasMain", null, null));
+		assertEquals("Result should be remembered", Boolean.TRUE, LaunchableTypeIndex.getDefault().getProperty(type, key(type, "hasMain")));
+	}
+
+	/**
+	 * Tests that properties with arguments are remembered per argument
+	 */
+	public void testHasMethodIndexedPerArguments() throws Exception {
+		IType type = fUnit.getType("Launchable");
+		JavaLaunchableTester tester = new JavaLaunchableTester();
+		Object[] run = new Object[] { "run", "(I)V", "" };
+		Object[] stop = new Object[] { "stop", "(I)V", "" };
+		assertTrue("Type should have method run(int)", tester.test(type, "hasMethod", run, null));
+		assertFalse("Type should not have method stop(int)", tester.test(type, "hasMethod", stop, null));
+		LaunchableTypeIndex index = LaunchableTypeIndex.getDefault();
+		assertEquals("Wrong remembered result", Boolean.TRUE, index.getProperty(type, key(type, "hasMethod", run)));
+		assertEquals("Wrong remembered result", Boolean.FALSE, index.getProperty(type, key(type, "hasMethod", stop)));
+	}
+
+	/**
+	 * Tests that remembered properties are dropped when the compilation unit changes
+	 */
+	public void testHasMainForgottenOnChange() throws Exception {
+		IType type = fUnit.getType("Launchable");
+		JavaLaunchableTester tester = new JavaLaunchableTester();
+		assertTrue("Type should have a main method", tester.test(type, "hasMain", null, null));
+		setContents(WITHOUT_MAIN);
+		assertNull("Result should be forgotten", LaunchableTypeIndex.getDefault().getProperty(type, key(type, "hasMain")));
+		assertFalse("Type should not have a main method anymore", tester.test(type, "hasMain", null, null));
+		setContents(WITH_MAIN);
+		assertTrue("Type should have a main method again", tester.test(type, "hasMain", null, null));
+	}
+}
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.AdvancedSourceLookupSupport;
+
+/**
+ * Tests the class file patching of the advanced source lookup agent. The agent is not on the class path of the tests, it is loaded from the
+ * launching bundle the same way it is passed to launched VMs.
+ */
+public class ClassfileTransformerTests extends AbstractDebugTest {
+
+	private static final String LOCATION = "file:/tmp/classes/";
+
+	private URLClassLoader fAgentLoader;
+	private Object fTransformer;
+	private Method fTransform;
+
+	public ClassfileTransformerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		URL agent = new File(AdvancedSourceLookupSupport.getJavaagentLocation()).toURI().toURL();
+		fAgentLoader = new URLClassLoader(new URL[] { agent }, null);
+		Class<?> transformerClass = fAgentLoader.loadClass("org.eclipse.jdt.launching.internal.weaving.ClassfileTransformer");
+		fTransformer = transformerClass.getConstructor().newInstance();
+		fTransform = transformerClass.getMethod("transform", byte[].class, String.class);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fAgentLoader.close();
+		super.tearDown();
+	}
+
+	private byte[] transform(byte[] classfile) throws Exception {
+		return (byte[]) fTransform.invoke(fTransformer, classfile, LOCATION);
+	}
+
+	/**
+	 * Returns the SMAP the agent records for a class of the given source file
+	 */
+	private static String smap(String sourceFile) {
+		return "SMAP\n" + sourceFile + "\nJava\n*S jdt\n*F\n1 " + sourceFile + "\n2 " + LOCATION + "\n*L\n*E\n";
+	}
+
+	/**
+	 * Returns the class file of an empty public class, with the given <code>SourceFile</code> and <code>SourceDebugExtension</code> attributes when
+	 * not <code>null</code>. The attribute names and values are the last entries of the constant pool, as the agent appends them there.
+	 */
+	private static byte[] createClass(String name, String sourceFile, String smap) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0xCAFEBABE);
+		out.writeShort(0); // minor
+		out.writeShort(52); // Java 8
+		int count = 5 + (sourceFile != null ? 2 : 0) + (smap != null ? 1 : 0);
+		out.writeShort(count);
+		writeUtf8(out, name); // 1
+		out.writeByte(7); // 2, Class
+		out.writeShort(1);
+		writeUtf8(out, "java/lang/Object"); // 3
+		out.writeByte(7); // 4, Class
+		out.writeShort(3);
+		if (sourceFile != null) {
+			writeUtf8(out, "SourceFile"); // 5
+			writeUtf8(out, sourceFile); // 6
+		}
+		if (smap != null) {
+			writeUtf8(out, "SourceDebugExtension"); // 7
+		}
+		out.writeShort(0x0021); // public super
+		out.writeShort(2); // this_class
+		out.writeShort(4); // super_class
+		out.writeShort(0); // interfaces
+		out.writeShort(0); // fields
+		out.writeShort(0); // methods
+		out.writeShort((sourceFile != null ? 1 : 0) + (smap != null ? 1 : 0));
+		if (sourceFile != null) {
+			out.writeShort(5);
+			out.writeInt(2);
+			out.writeShort(6);
+		}
+		if (smap != null) {
+			byte[] value = smap.getBytes(StandardCharsets.UTF_8);
+			out.writeShort(7);
+			out.writeInt(value.length);
+			out.write(value);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static void writeUtf8(DataOutputStream out, String value) throws Exception {
+		out.writeByte(1);
+		out.writeUTF(value);
+	}
+
+	/**
+	 * Defines a class from the given class file, which fails unless the class file is well formed
+	 */
+	private static Class<?> define(String name, byte[] classfile) {
+		return new ClassLoader(ClassfileTransformerTests.class.getClassLoader()) {
+			Class<?> define() {
+				return defineClass(name, classfile, 0, classfile.length);
+			}
+		}.define();
+	}
+
+	/**
+	 * Tests that a class without an SMAP gets one appended, the rest of the class file being unchanged
+	 */
+	public void testPatchAddsSmap() throws Exception {
+		byte[] original = createClass("p/Patched", "Patched.java", null);
+		byte[] patched = transform(original);
+		assertNotNull("Class should be patched", patched);
+		assertArrayEquals("Wrong patched class file", createClass("p/Patched", "Patched.java", smap("Patched.java")), patched);
+		assertEquals("Wrong patched class", "p.Patched", define("p.Patched", patched).getName());
+	}
+
+	/**
+	 * Tests that a class which already has an SMAP, e.g. from another weaver or a previous transformation, is left unchanged
+	 */
+	public void testPatchSkipsClassWithSmap() throws Exception {
+		byte[] original = createClass("p/Woven", "Woven.jsp", "SMAP\nWoven.jsp\nJSP\n*E\n");
+		assertNull("Class with SMAP should be left unchanged", transform(original));
+		byte[] patched = transform(createClass("p/Woven", "Woven.java", null));
+		assertNotNull("Class should be patched", patched);
+		assertNull("Patched class should not be patched again", transform(patched));
+	}
+
+	/**
+	 * Tests that a class without a source file attribute is left unchanged, there is no source to map
+	 */
+	public void testPatchSkipsClassWithoutSourceFile() throws Exception {
+		assertNull("Class without source file should be left unchanged", transform(createClass("p/NoSource", null, null)));
+	}
+
+	/**
+	 * Tests that a class compiled by the Java compiler is patched in place: its constant pool and members are kept and only the SMAP is added
+	 */
+	public void testPatchCompiledClass() throws Exception {
+		byte[] original;
+		try (InputStream in = FileHashingTests.class.getResourceAsStream("FileHashingTests.class")) {
+			original = in.readAllBytes();
+		}
+		byte[] patched = transform(original);
+		assertNotNull("Class should be patched", patched);
+		byte[] smap = smap("FileHashingTests.java").getBytes(StandardCharsets.UTF_8);
+		// new constant for the attribute name, and the attribute itself
+		int added = 3 + "SourceDebugExtension".length() + 6 + smap.length;
+		assertEquals("Class file should only grow by the SMAP", original.length + added, patched.length);
+		byte[] tail = new byte[smap.length];
+		System.arraycopy(patched, patched.length - smap.length, tail, 0, smap.length);
+		assertArrayEquals("SMAP should be appended", smap, tail);
+		String name = FileHashingTests.class.getName();
+		assertEquals("Wrong patched class", name, define(name, patched).getName());
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.AdvancedSourceLookupSupport;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing;
+
+/**
+ * Tests file digests of advanced source lookup and warming of the persistent digest index
+ */
+public class FileHashingTests extends AbstractDebugTest {
+
+	private File fFile;
+
+	public FileHashingTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fFile = File.createTempFile("FileHashingTests", ".jar");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fFile.delete();
+		super.tearDown();
+	}
+
+	/**
+	 * Records the progress reported by a task
+	 */
+	static class RecordingMonitor extends NullProgressMonitor {
+		boolean fStarted;
+		int fWorked;
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fStarted = true;
+		}
+
+		@Override
+		public void worked(int work) {
+			fWorked += work;
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			fWorked += work;
+		}
+	}
+
+	private static String sha256(byte[] bytes) throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Tests that the digest of a file is the SHA-256 digest of its content
+	 */
+	public void testHashMatchesContent() throws Exception {
+		byte[] content = new byte[200 * 1024];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		Files.write(fFile.toPath(), content);
+		Object hash = FileHashing.newHasher().hash(fFile);
+		assertNotNull("File should be hashed", hash);
+		assertEquals("Wrong digest", sha256(content), hash.toString());
+	}
+
+	/**
+	 * Tests that a changed file is hashed again rather than answered from the caches
+	 */
+	public void testHashChangesWithContent() throws Exception {
+		Files.write(fFile.toPath(), "first".getBytes(StandardCharsets.UTF_8));
+		Object first = FileHashing.hasher().hash(fFile);
+		Files.write(fFile.toPath(), "second content".getBytes(StandardCharsets.UTF_8));
+		Object second = FileHashing.hasher().hash(fFile);
+		assertNotNull("File should be hashed", second);
+		assertFalse("Digest of changed file should change", first.equals(second));
+		assertEquals("Wrong digest", sha256("second content".getBytes(StandardCharsets.UTF_8)), second.toString());
+	}
+
+	/**
+	 * Tests that a hashed file is not held open and can be deleted right away
+	 */
+	public void testHashedFileNotLocked() throws Exception {
+		Files.write(fFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+		assertNotNull("File should be hashed", FileHashing.newHasher().hash(fFile));
+		Files.delete(fFile.toPath());
+		assertFalse("File should be deleted", fFile.exists());
+	}
+
+	/**
+	 * Tests that digests are written to the persistent index and read back from it after the index is reloaded
+	 */
+	public void testIndexSaveAndReload() throws Exception {
+		byte[] saved = "saved content".getBytes(StandardCharsets.UTF_8);
+		Files.write(fFile.toPath(), saved);
+		FileTime lastModified = Files.getLastModifiedTime(fFile.toPath());
+		assertNotNull("File should be hashed", FileHashing.newHasher().hash(fFile));
+		FileHashing.saveIndex();
+		FileHashing.reloadIndex();
+
+		// same length and modification time, only a digest read back from the index answers the old content
+		Files.write(fFile.toPath(), "other content".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(fFile.toPath(), lastModified);
+		Object hash = FileHashing.newHasher().hash(fFile);
+		assertNotNull("File should be hashed", hash);
+		assertEquals("Digest should be read back from the saved index", sha256(saved), hash.toString());
+	}
+
+	/**
+	 * Tests that the digest index is not warmed when advanced source lookup is disabled
+	 */
+	public void testWarmFileHashesDisabled() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		boolean enabled = AdvancedSourceLookupSupport.isAdvancedSourcelookupEnabled();
+		prefs.putBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, false);
+		try {
+			RecordingMonitor monitor = new RecordingMonitor();
+			AdvancedSourceLookupSupport.warmFileHashes(monitor);
+			assertFalse("Nothing should be hashed when advanced source lookup is disabled", monitor.fStarted);
+		} finally {
+			prefs.putBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, enabled);
+		}
+	}
+
+	/**
+	 * Tests that warming the digest index stops when its monitor is canceled
+	 */
+	public void testWarmFileHashesCanceled() throws Exception {
+		RecordingMonitor monitor = new RecordingMonitor();
+		monitor.setCanceled(true);
+		AdvancedSourceLookupSupport.warmFileHashes(monitor);
+		assertEquals("No work should be done once canceled", 0, monitor.fWorked);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2011 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.sourcelookup;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
@@ -118,6 +120,30 @@ public class FolderSourceContainerTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that a lookup that found nothing is repeated once the source file is added to the workspace.
+	 */
+	public void testNegativeLookupExpiresOnResourceAdded() throws Exception {
+		ISourceLookupDirector director = new JavaSourceLookupDirector();
+		director.initializeParticipants();
+		IFolder folder = get14Project().getProject().getFolder("src");
+		director.setSourceContainers(new ISourceContainer[] { new FolderSourceContainer(folder, false) });
+		IFile file = folder.getFile("NegativeLookup.java");
+		try {
+			assertEquals("Expected 0 files", 0, director.findSourceElements("NegativeLookup.java").length);
+			assertEquals("Expected 0 files", 0, director.findSourceElements("NegativeLookup.java").length);
+			file.create(new ByteArrayInputStream("class NegativeLookup {}".getBytes()), true, null);
+			Object[] objects = director.findSourceElements("NegativeLookup.java");
+			assertEquals("Expected 1 result", 1, objects.length);
+			assertEquals("Wrong file", file, objects[0]);
+		} finally {
+			if (file.exists()) {
+				file.delete(true, null);
+			}
+			director.dispose();
+		}
+	}
+
 	public void testRelativePathName() throws Exception {
 		FolderSourceContainer container = getContainer(false, false);
 		Object[] objects = container.findSourceElements(".."+File.separatorChar+".classpath");
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2017, 2024 Andrey Loskutov and others.
+ *  Copyright (c) 2017, 2026 Andrey Loskutov and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -549,6 +549,49 @@ public class DebugHoverTests extends AbstractDebugUiTests {
 		}
 	}
 
+	public void testHoverCachedUntilResume() throws Exception {
+		sync(() -> TestUtil.waitForJobs(getName(), 1000, 10000, ProcessConsole.class));
+
+		final String typeName = "Bug572629";
+		final String expectedMethod = "hoverOverLocal";
+		final int frameNumber = 2;
+		final int bpLine = 44;
+
+		IJavaBreakpoint bp = createLineBreakpoint(bpLine, "", typeName + ".java", typeName);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+		IFile file = (IFile) bp.getMarker().getResource();
+		assertEquals(typeName + ".java", file.getName());
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			CompilationUnitEditor part = openEditorAndValidateStack(expectedMethod, frameNumber, file, thread);
+
+			JavaDebugHover hover = new JavaDebugHover();
+			hover.setEditor(part);
+
+			int offset = part.getViewer().getDocument().get().indexOf("name.length") + "name.".length();
+			IRegion region = new Region(offset, "length".length());
+			String text = selectAndReveal(part, bpLine, region);
+			assertEquals("length", text);
+			IVariable info = (IVariable) sync(() -> hover.getHoverInfo2(part.getViewer(), region));
+			assertNotNull(info);
+			assertEquals("4", info.getValue().getValueString());
+
+			IVariable cached = (IVariable) sync(() -> hover.getHoverInfo2(part.getViewer(), region));
+			assertSame("Hover should be cached while suspended", info, cached);
+
+			thread = stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			IVariable resolved = (IVariable) sync(() -> hover.getHoverInfo2(part.getViewer(), region));
+			assertNotNull(resolved);
+			assertNotSame("Hover should be resolved again after resume", info, resolved);
+			assertEquals("4", resolved.getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testBug572629_ParameterVariableHover_ArrayLength_ExpectValue() throws Exception {
 		sync(() -> TestUtil.waitForJobs(getName(), 1000, 10000, ProcessConsole.class));
 
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.ui;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.threadgroups.JavaThreadBucket;
+import org.eclipse.jdt.internal.debug.ui.threadgroups.JavaThreadGrouping;
+import org.eclipse.jface.preference.IPreferenceStore;
+
+/**
+ * Tests the grouping of threads by state and name prefix in the debug view
+ */
+public class JavaThreadGroupingTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "a.b.c.GroupedThreads";
+
+	public JavaThreadGroupingTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get15Project();
+	}
+
+	public void testPrefixes() {
+		assertEquals("pool-1-thread", JavaThreadGrouping.getPrefix("pool-1-thread-7"));
+		assertEquals("worker", JavaThreadGrouping.getPrefix("worker_12"));
+		assertEquals("worker", JavaThreadGrouping.getPrefix("worker #3"));
+		assertEquals("main", JavaThreadGrouping.getPrefix("main"));
+		assertEquals("42", JavaThreadGrouping.getPrefix("42"));
+		assertEquals("", JavaThreadGrouping.getPrefix(null));
+	}
+
+	public void testGroupByName() throws Exception {
+		IPreferenceStore store = JDIDebugUIPlugin.getDefault().getPreferenceStore();
+		store.setValue(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME, true);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			JavaThreadGrouping grouping = JavaThreadGrouping.getGrouping(target);
+			JavaThreadBucket workers = new JavaThreadBucket(target, null, "worker");
+
+			List<Object> children = Arrays.asList(grouping.getChildren(null));
+			assertTrue("Missing group of workers: " + children, children.contains(workers));
+			assertTrue("Missing main thread: " + children, children.contains(thread));
+			assertTrue("Groups should precede threads", children.indexOf(workers) < children.indexOf(thread));
+			assertEquals("Wrong number of workers", 3, grouping.getThreadCount(workers));
+
+			Object[] threads = grouping.getChildren(workers);
+			assertEquals("Wrong number of children", 3, threads.length);
+			for (int i = 0; i < threads.length; i++) {
+				assertEquals("Wrong worker", "worker-" + (i + 1), ((IThread) threads[i]).getName());
+				assertEquals("Wrong path", Arrays.asList(workers), grouping.getPath((IThread) threads[i]));
+			}
+			assertTrue("Main thread should not be in a group", grouping.getPath(thread).isEmpty());
+			assertNull("Main thread did not change", grouping.update((JDIThread) thread));
+		} finally {
+			store.setToDefault(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testGroupByStateAndName() throws Exception {
+		IPreferenceStore store = JDIDebugUIPlugin.getDefault().getPreferenceStore();
+		store.setValue(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_STATE, true);
+		store.setValue(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME, true);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			JavaThreadGrouping grouping = JavaThreadGrouping.getGrouping(target);
+			JavaThreadBucket suspended = new JavaThreadBucket(target, JavaThreadGrouping.STATE_SUSPENDED);
+			JavaThreadBucket sleeping = new JavaThreadBucket(target, JavaThreadGrouping.STATE_SLEEPING);
+			JavaThreadBucket workers = new JavaThreadBucket(target, sleeping, "worker");
+
+			List<Object> children = Arrays.asList(grouping.getChildren(null));
+			assertEquals("Suspended threads should come first", suspended, children.get(0));
+			assertTrue("Missing sleeping threads: " + children, children.contains(sleeping));
+			assertEquals("Wrong number of suspended threads", 1, grouping.getThreadCount(suspended));
+			assertEquals("Wrong suspended threads", Arrays.asList(thread), Arrays.asList(grouping.getChildren(suspended)));
+			assertTrue("Missing group of workers", Arrays.asList(grouping.getChildren(sleeping)).contains(workers));
+			assertEquals("Wrong number of workers", 3, grouping.getThreadCount(workers));
+
+			assertEquals("Wrong path", Arrays.asList(suspended), grouping.getPath(thread));
+			for (Object worker : grouping.getChildren(workers)) {
+				assertEquals("Wrong path", Arrays.asList(sleeping, workers), grouping.getPath((IThread) worker));
+			}
+		} finally {
+			store.setToDefault(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_STATE);
+			store.setToDefault(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testGroupingReleasedOnTerminate() throws Exception {
+		IPreferenceStore store = JDIDebugUIPlugin.getDefault().getPreferenceStore();
+		store.setValue(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME, true);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			JavaThreadGrouping grouping = JavaThreadGrouping.getGrouping(target);
+			assertSame("Grouping should be kept", grouping, JavaThreadGrouping.getGrouping(target));
+			terminateAndRemove(thread);
+			thread = null;
+			assertNotSame("Grouping should be removed with its target", grouping, JavaThreadGrouping.getGrouping(target));
+		} finally {
+			store.setToDefault(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Launches the test program to the breakpoint after its workers started,
+	 * suspending only the main thread.
+	 */
+	private IJavaThread launchToBreakpoint() throws Exception {
+		IJavaLineBreakpoint bp = createLineBreakpoint(32, TYPE_NAME);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+		return launchToLineBreakpoint(TYPE_NAME, bp);
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.debug.tests.TestUtil;
+import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.monitors.ThreadMonitorManager;
+import org.eclipse.jface.preference.IPreferenceStore;
+
+/**
+ * Tests the deadlock detection of the thread and monitor model
+ */
+public class ThreadMonitorManagerTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "a.b.c.DeadlockWithTail";
+
+	public ThreadMonitorManagerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get15Project();
+	}
+
+	/**
+	 * Tests that the threads of a cycle of two threads, and the thread waiting for a monitor owned by one of them, are marked as deadlocked, while
+	 * a thread waiting for a thread which does not wait is not.
+	 */
+	public void testDetectDeadlocks() throws Exception {
+		IPreferenceStore store = JDIDebugUIPlugin.getDefault().getPreferenceStore();
+		boolean showMonitors = store.getBoolean(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO);
+		ThreadMonitorManager manager = ThreadMonitorManager.getDefault();
+		store.setValue(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO, true);
+		IJavaThread thread = null;
+		try {
+			IJavaLineBreakpoint bp = createLineBreakpoint(67, TYPE_NAME);
+			bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+			thread = launchToLineBreakpoint(TYPE_NAME, bp);
+
+			Map<String, IThread> threads = new HashMap<>();
+			for (IThread t : thread.getDebugTarget().getThreads()) {
+				threads.put(t.getName(), t);
+				// registers the thread with the model
+				manager.getContendedMonitor(t);
+			}
+			TestUtil.waitForJobs(getName(), 100, DEFAULT_TIMEOUT);
+
+			assertTrue("cycle-1 should be in the cycle", manager.isInDeadlock(threads.get("cycle-1")));
+			assertTrue("cycle-2 should be in the cycle", manager.isInDeadlock(threads.get("cycle-2")));
+			assertTrue("tail waits for the cycle and should be marked", manager.isInDeadlock(threads.get("tail")));
+			assertFalse("owner does not wait", manager.isInDeadlock(threads.get("owner")));
+			assertFalse("waiter waits for a thread which does not wait", manager.isInDeadlock(threads.get("waiter")));
+			assertFalse("main does not wait", manager.isInDeadlock(thread));
+
+			assertNotNull("tail should wait for a monitor", manager.getContendedMonitor(threads.get("tail")));
+			assertNull("owner should not wait for a monitor", manager.getContendedMonitor(threads.get("owner")));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			store.setValue(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO, showMonitors);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.debug.tests.ui.presentation;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.debug.ui.IDebugModelPresentation;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
@@ -313,4 +314,59 @@ public class ModelPresentationTests extends AbstractDebugTest {
 			pres.dispose();
 		}
 	}
+
+	/**
+	 * Tests that thread labels follow changes of the breakpoint the thread is
+	 * suspended at
+	 */
+	public void testThreadTextFollowsBreakpointChange() throws Exception {
+		String typeName = "ModelPresentationTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(19, typeName);
+		JDIModelPresentation pres = mock();
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+
+			String text = pres.getText(thread);
+			assertTrue("The thread text should name line 19: " + text, text.contains("line 19"));
+			assertSame("The thread text should have been cached", text, pres.getText(thread));
+
+			bp.getMarker().setAttribute(IMarker.LINE_NUMBER, 20);
+
+			text = pres.getText(thread);
+			assertTrue("The thread text should name line 20: " + text, text.contains("line 20"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			pres.dispose();
+		}
+	}
+
+	/**
+	 * Tests that the labels of terminated threads are not served from the
+	 * cache
+	 */
+	public void testThreadTextAfterTerminate() throws Exception {
+		String typeName = "ModelPresentationTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(19, typeName);
+		JDIModelPresentation pres = mock();
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+
+			String text = pres.getText(thread);
+			assertTrue("The thread text should be suspended: " + text, text.contains("Suspended"));
+
+			terminateAndRemove(thread);
+
+			text = pres.getText(thread);
+			assertTrue("The thread text should be terminated: " + text, text.contains("Terminated"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			pres.dispose();
+		}
+	}
 }
@@ -16,7 +16,9 @@ package org.eclipse.jdt.debug.tests.variables;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.ui.IValueDetailListener;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -36,9 +38,19 @@ public class DetailFormatterTests extends AbstractDebugTest {
 		volatile String result;
 
 		@Override
-		public void detailComputed(IValue value, String result) {
+		public synchronized void detailComputed(IValue value, String result) {
 			this.value = value;
 			this.result = result;
+			notifyAll();
+		}
+
+		synchronized void waitForResult() throws InterruptedException {
+			long end = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+			long remaining = DEFAULT_TIMEOUT;
+			while (value == null && remaining > 0) {
+				wait(remaining);
+				remaining = end - System.currentTimeMillis();
+			}
 		}
 
 		void reset() {
@@ -340,4 +352,43 @@ public class DetailFormatterTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that the elements of an array without formatter are converted by a single <code>String.format</code> invocation, and that elements
+	 * with a formatter are not
+	 */
+	public void testBulkArrayDetails() throws Exception {
+		IJavaThread thread = null;
+		DetailFormatter formatter = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.BulkDetails";
+			createLineBreakpoint(39, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			if (JavaCore.compareJavaVersions(((IJavaDebugTarget) thread.getDebugTarget()).getVersion(), JavaCore.VERSION_9) < 0) {
+				// older targets convert arrays with an Arrays.asList() snippet
+				return;
+			}
+			IJavaVariable var = thread.findVariable("items");
+			assertNotNull("the variable 'items' must exist in the frame", var);
+			jdfm.computeValueDetail((IJavaValue) var.getValue(), thread, fListener);
+			fListener.waitForResult();
+			assertEquals("Items should be converted by one String.format invocation", "[bulk1, bulk2, bulk3]", fListener.result);
+
+			formatter = new DetailFormatter("a.b.c.BulkDetails$Item", "\"formatted\"", true);
+			jdfm.setAssociatedDetailFormatter(formatter);
+			fListener.reset();
+			jdfm.computeValueDetail((IJavaValue) var.getValue(), thread, fListener);
+			fListener.waitForResult();
+			assertEquals("Items with a formatter should be converted one by one", "[single1, single2, single3]", fListener.result);
+		}
+		finally {
+			if (formatter != null) {
+				jdfm.removeAssociatedDetailFormatter(formatter);
+			}
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.variables;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
@@ -22,6 +28,12 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.GCRootPathFinder;
+import org.eclipse.jdt.internal.debug.core.HeapHistogram;
+import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 
 /**
  * Tests for instance retrieval
@@ -95,4 +107,138 @@ public class TestInstanceRetrieval extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests paging through all instances of a type and the heap histogram.
+	 */
+	public void testPagedInstancesAndHistogram() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		int max = HeapWalkingManager.getDefault().getAllInstancesMaxCount();
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+				IJavaVariable variable = frame.findVariable("rc");
+				assertNotNull("Missing variable 'rc'", variable);
+				JDIReferenceType refType = (JDIReferenceType) ((IJavaObject) variable.getValue()).getJavaType();
+
+				HeapWalkingManager.getDefault().setAllInstancesMaxCount(0);
+				JDIAllInstancesValue value = new JDIAllInstancesValue(target, refType);
+				assertEquals("Wrong number of instances", 1002, value.getSize());
+				IVariable[] page = value.getVariables(500, 100);
+				assertEquals("Wrong page size", 100, page.length);
+				for (int i = 0; i < page.length; i++) {
+					assertEquals("Wrong variable name", "[" + (500 + i) + "]", page[i].getName());
+					assertEquals("Instance is of unexpected type", refType, ((IJavaObject) page[i].getValue()).getJavaType());
+				}
+				assertEquals("Wrong value", page[0].getValue(), value.getValue(500));
+				IVariable[] first = value.getVariables();
+				assertEquals("Variables should include all instances", 1002, first.length);
+				assertEquals("Wrong variable name", "[0]", first[0].getName());
+				assertEquals("Wrong variable name", "[1001]", first[1001].getName());
+
+				HeapWalkingManager.getDefault().setAllInstancesMaxCount(100);
+				value = new JDIAllInstancesValue(target, refType);
+				assertEquals("Wrong number of instances", 101, value.getSize());
+				assertEquals("Wrong placeholder name", "...", value.getVariable(100).getName());
+
+				HeapHistogram histogram = HeapHistogram.compute(target, null);
+				HeapHistogram next = HeapHistogram.compute(target, histogram);
+				boolean found = false;
+				for (int i = 0; i < next.size(); i++) {
+					if (next.getTypeName(i).equals(refType.getName())) {
+						assertEquals("Wrong instance count", 1002, next.getCount(i));
+						assertEquals("Wrong change", 0, next.getDelta(i));
+						found = true;
+					}
+				}
+				assertTrue("Type missing from histogram", found);
+			}
+		} finally {
+			HeapWalkingManager.getDefault().setAllInstancesMaxCount(max);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests finding the paths from GC roots to objects.
+	 */
+	public void testGCRootPaths() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+				IJavaObject ro = (IJavaObject) frame.findVariable("ro").getValue();
+				IJavaObject list = (IJavaObject) frame.findVariable("list").getValue();
+				IJavaObject element = (IJavaObject) ((IJavaArray) list.getField("elementData", false).getValue()).getValue(3);
+
+				List<GCRootPathFinder.Path> paths = new ArrayList<>();
+				GCRootPathFinder finder = new GCRootPathFinder(target, 8, 5);
+				assertEquals("Wrong number of paths", 1, finder.find(ro, paths::add, new NullProgressMonitor()));
+				assertEquals("Wrong root", GCRootPathFinder.ROOT_NO_REFERRERS, paths.get(0).getRootKind());
+				assertEquals("Wrong path length", 1, paths.get(0).getLength());
+				assertEquals("Wrong object", ro, paths.get(0).getObject(0));
+
+				paths.clear();
+				assertEquals("Wrong number of paths", 1, finder.find(element, paths::add, new NullProgressMonitor()));
+				GCRootPathFinder.Path path = paths.get(0);
+				assertEquals("Wrong root", GCRootPathFinder.ROOT_NO_REFERRERS, path.getRootKind());
+				assertEquals("Wrong path length", 3, path.getLength());
+				assertEquals("Wrong root object", list, path.getObject(0));
+				assertEquals("Wrong reference", ".elementData", path.getReference(0));
+				assertEquals("Wrong reference", "[3]", path.getReference(1));
+				assertEquals("Wrong object", element, path.getObject(2));
+				assertNull("Unexpected reference", path.getReference(2));
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the paths from GC roots follow the strong fields of references but not their referents.
+	 */
+	public void testGCRootPathsThroughReferences() throws Exception {
+		String typeName = "a.b.c.GCRootPaths";
+		IJavaLineBreakpoint bp = createLineBreakpoint(get15Project().findType(typeName), 33);
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(getLaunchConfiguration(get15Project(), typeName), bp, true);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+				IJavaObject value = (IJavaObject) frame.findVariable("value").getValue();
+				IJavaObject weak = (IJavaObject) frame.findVariable("weak").getValue();
+
+				List<GCRootPathFinder.Path> paths = new ArrayList<>();
+				GCRootPathFinder finder = new GCRootPathFinder(target, 8, 1);
+				assertEquals("Wrong number of paths", 1, finder.find(value, paths::add, new NullProgressMonitor()));
+				GCRootPathFinder.Path path = paths.get(0);
+				assertEquals("Wrong root", GCRootPathFinder.ROOT_STATIC_FIELD, path.getRootKind());
+				assertEquals("Wrong root field", "a.b.c.GCRootPaths.MAP", path.getRoot());
+				assertEquals("Wrong object", value, path.getObject(path.getLength() - 1));
+				assertEquals("Wrong reference", ".value", path.getReference(path.getLength() - 2));
+
+				paths.clear();
+				assertEquals("Wrong number of paths", 1, finder.find(weak, paths::add, new NullProgressMonitor()));
+				assertEquals("Wrong root", GCRootPathFinder.ROOT_NO_REFERRERS, paths.get(0).getRootKind());
+				assertEquals("Wrong path length", 1, paths.get(0).getLength());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 }
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package a.b.c;
+
+public class BulkDetails {
+
+	static class Item {
+		final int id;
+
+		Item(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public String toString() {
+			// tells whether the item is converted as part of a String.format invocation
+			for (StackTraceElement element : new Throwable().getStackTrace()) {
+				if ("java.util.Formatter".equals(element.getClassName())) {
+					return "bulk" + id;
+				}
+			}
+			return "single" + id;
+		}
+	}
+
+	public static void main(String[] args) {
+		Object[] items = new Object[] { new Item(1), new Item(2), new Item(3) };
+		System.out.println(items.length); // breakpoint here
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package a.b.c;
+
+public class DeadlockWithTail {
+
+	static final Object LOCK1 = new Object();
+	static final Object LOCK2 = new Object();
+	static final Object LOCK3 = new Object();
+
+	static class Locker extends Thread {
+		private final Object fFirst;
+		private final Object fSecond;
+
+		Locker(String name, Object first, Object second) {
+			super(name);
+			fFirst = first;
+			fSecond = second;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			synchronized (fFirst) {
+				try {
+					Thread.sleep(500);
+				} catch (InterruptedException e) {
+				}
+				synchronized (fSecond) {
+					System.out.println(getName());
+				}
+			}
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		// cycle-1 and cycle-2 wait for each other, tail waits for cycle-1
+		new Locker("cycle-1", LOCK1, LOCK2).start();
+		new Locker("cycle-2", LOCK2, LOCK1).start();
+		// owner holds a monitor without waiting, waiter waits for it
+		new Locker("owner", LOCK3, new Object()) {
+			@Override
+			public void run() {
+				synchronized (LOCK3) {
+					try {
+						Thread.sleep(60000);
+					} catch (InterruptedException e) {
+					}
+				}
+			}
+		}.start();
+		Thread.sleep(100);
+		new Locker("tail", LOCK1, LOCK1).start();
+		new Locker("waiter", LOCK3, LOCK3).start();
+		Thread.sleep(1000);
+		System.out.println("deadlocked");
+	}
+}
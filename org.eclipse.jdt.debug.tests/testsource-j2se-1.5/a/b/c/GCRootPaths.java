@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package a.b.c;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public class GCRootPaths {
+
+	static final Object KEY = new Object();
+
+	static final Map<Object, Object> MAP = new WeakHashMap<Object, Object>();
+
+	static WeakReference<Object> WEAK;
+
+	public static void main(String[] args) {
+		Object value = new StringBuilder("value");
+		MAP.put(KEY, value);
+		Object weak = new StringBuilder("weak");
+		WEAK = new WeakReference<Object>(weak);
+		System.out.println(MAP.size() + " " + weak);
+	}
+}
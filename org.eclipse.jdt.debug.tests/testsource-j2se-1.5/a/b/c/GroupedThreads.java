@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package a.b.c;
+
+public class GroupedThreads {
+
+	public static void main(String[] args) throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			Thread worker = new Thread(new Runnable() {
+				public void run() {
+					try {
+						Thread.sleep(60000);
+					} catch (InterruptedException e) {
+					}
+				}
+			}, "worker-" + i);
+			worker.setDaemon(true);
+			worker.start();
+		}
+		Thread.sleep(1000);
+		System.out.println("started");
+	}
+}
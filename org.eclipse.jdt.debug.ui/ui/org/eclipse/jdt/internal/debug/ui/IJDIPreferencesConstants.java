@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -236,4 +236,17 @@ public interface IJDIPreferencesConstants {
 	 */
 	public static final String PREF_PROMPT_DELETE_CONDITIONAL_BREAKPOINT= IJavaDebugUIConstants.PLUGIN_ID + ".prompt_delete_conditional_breakpoint"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether threads are grouped by their
+	 * state in the debug view, unless thread groups are shown.
+	 */
+	public static final String PREF_GROUP_THREADS_BY_STATE = IJavaDebugUIConstants.PLUGIN_ID + ".group_threads_by_state"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether threads are grouped by the
+	 * prefix of their names, like the name of their pool, in the debug view,
+	 * unless thread groups are shown.
+	 */
+	public static final String PREF_GROUP_THREADS_BY_NAME = IJavaDebugUIConstants.PLUGIN_ID + ".group_threads_by_name"; //$NON-NLS-1$
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,7 @@ import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.ExceptionInspector;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.JavaBreakpointTypeAdapterFactory;
 import org.eclipse.jdt.internal.debug.ui.classpath.ClasspathEntryAdapterFactory;
+import org.eclipse.jdt.internal.debug.ui.console.JavaTypeNameIndex;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaContendedMonitor;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaOwnedMonitor;
@@ -68,6 +69,8 @@ import org.eclipse.jdt.internal.debug.ui.monitors.JavaWaitingThread;
 import org.eclipse.jdt.internal.debug.ui.monitors.MonitorsAdapterFactory;
 import org.eclipse.jdt.internal.debug.ui.snippeteditor.SnippetFileDocumentProvider;
 import org.eclipse.jdt.internal.debug.ui.sourcelookup.JavaDebugShowInAdapterFactory;
+import org.eclipse.jdt.internal.debug.ui.threadgroups.JavaThreadBucket;
+import org.eclipse.jdt.internal.debug.ui.threadgroups.JavaThreadGrouping;
 import org.eclipse.jdt.internal.debug.ui.threadgroups.TargetAdapterFactory;
 import org.eclipse.jdt.internal.debug.ui.threadgroups.ThreadGroupAdapterFactory;
 import org.eclipse.jdt.internal.debug.ui.variables.ColumnPresentationAdapterFactory;
@@ -388,6 +391,7 @@ public class JDIDebugUIPlugin extends AbstractUIPlugin {
 
         IAdapterFactory groupFactory = new ThreadGroupAdapterFactory();
         manager.registerAdapters(groupFactory, IJavaThreadGroup.class);
+        manager.registerAdapters(groupFactory, JavaThreadBucket.class);
 
         IAdapterFactory showInFactory = new JavaDebugShowInAdapterFactory();
         manager.registerAdapters(showInFactory, IJavaStackFrame.class);
@@ -431,6 +435,10 @@ public class JDIDebugUIPlugin extends AbstractUIPlugin {
 			}
 		});
 		JavaDebugOptionsManager.getDefault().startup();
+		JDIModelPresentation.startListening();
+		JavaWatchExpressionDelegate.startListening();
+		JavaThreadGrouping.startListening();
+		JavaTypeNameIndex.getDefault().start();
 	}
 
 	/* (non-Javadoc)
@@ -442,6 +450,10 @@ public class JDIDebugUIPlugin extends AbstractUIPlugin {
 			setShuttingDown(true);
 			JDIDebugModel.removeHotCodeReplaceListener(fHCRListener);
 			JavaDebugOptionsManager.getDefault().shutdown();
+			JDIModelPresentation.stopListening();
+			JavaWatchExpressionDelegate.stopListening();
+			JavaThreadGrouping.stopListening();
+			JavaTypeNameIndex.getDefault().stop();
 			if (fImageDescriptorRegistry != null) {
 				fImageDescriptorRegistry.dispose();
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,19 +14,32 @@
 package org.eclipse.jdt.internal.debug.ui;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointListener;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IDisconnect;
 import org.eclipse.debug.core.model.IExpression;
 import org.eclipse.debug.core.model.IStackFrame;
@@ -70,12 +83,16 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.IJavaWatchpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaExceptionBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaMethodBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaWatchpoint;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIReturnValueVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugModelMessages;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListEntryVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.SuspendOnUncaughtExceptionListener;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
@@ -94,6 +111,7 @@ import org.eclipse.jdt.ui.JavaElementLabelProvider;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.resource.CompositeImageDescriptor;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.viewers.IColorProvider;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.osgi.util.NLS;
@@ -150,6 +168,144 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 
 	private JavaElementLabelProvider fJavaLabelProvider;
 
+	/**
+	 * Maximum number of texts to remember per cache
+	 */
+	private static final int MAX_CACHED_TEXTS = 2000;
+
+	/**
+	 * Advanced whenever a preference of this plug-in changes, as most of them
+	 * affect labels
+	 */
+	private static final AtomicLong fgPreferenceEpoch = new AtomicLong();
+
+	private static final IPropertyChangeListener fgPreferenceListener = event -> fgPreferenceEpoch.incrementAndGet();
+
+	/**
+	 * Advanced whenever a breakpoint is added, removed or changed, as thread
+	 * labels describe the breakpoints they are suspended at
+	 */
+	private static final AtomicLong fgBreakpointEpoch = new AtomicLong();
+
+	/**
+	 * The text caches of all presentations, to drop the texts of elements of
+	 * terminated debug targets
+	 */
+	private static final Set<TextCache> fgCaches = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	/**
+	 * Tracks breakpoint changes and debug target terminations
+	 */
+	private static final class CacheListener implements IBreakpointListener, IDebugEventSetListener {
+
+		@Override
+		public void breakpointAdded(IBreakpoint breakpoint) {
+			fgBreakpointEpoch.incrementAndGet();
+		}
+
+		@Override
+		public void breakpointRemoved(IBreakpoint breakpoint, IMarkerDelta delta) {
+			fgBreakpointEpoch.incrementAndGet();
+		}
+
+		@Override
+		public void breakpointChanged(IBreakpoint breakpoint, IMarkerDelta delta) {
+			fgBreakpointEpoch.incrementAndGet();
+		}
+
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IDebugTarget target) {
+					TextCache[] caches;
+					synchronized (fgCaches) {
+						caches = fgCaches.toArray(new TextCache[fgCaches.size()]);
+					}
+					for (TextCache cache : caches) {
+						cache.evict(target);
+					}
+				}
+			}
+		}
+	}
+
+	private static final CacheListener fgCacheListener = new CacheListener();
+
+	/**
+	 * Advanced whenever an attribute of this presentation changes
+	 */
+	private final AtomicLong fAttributesEpoch = new AtomicLong();
+
+	/**
+	 * Labels of threads, stack frames, variables, values and debug targets
+	 */
+	private final TextCache fLabels = new TextCache();
+
+	/**
+	 * Formatted value texts of values
+	 */
+	private final TextCache fValueTexts = new TextCache();
+
+	/**
+	 * Access ordered cache of texts computed for debug elements. A text is
+	 * valid as long as the change epoch of its element and the settings epoch
+	 * are the ones it was computed in, such that repeated requests for the
+	 * label of an unchanged element do not communicate with the VM.
+	 *
+	 * @see JDIDebugTarget#getChangeEpoch()
+	 * @see JDIThread#getChangeEpoch()
+	 */
+	private static final class TextCache {
+
+		private static final class Entry {
+			final long fChangeEpoch;
+			final long fSettingsEpoch;
+			final String fText;
+
+			Entry(long changeEpoch, long settingsEpoch, String text) {
+				fChangeEpoch = changeEpoch;
+				fSettingsEpoch = settingsEpoch;
+				fText = text;
+			}
+		}
+
+		private final Map<Object, Entry> fEntries = new LinkedHashMap<>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+				return size() > MAX_CACHED_TEXTS;
+			}
+		};
+
+		synchronized String get(Object item, long changeEpoch, long settingsEpoch) {
+			Entry entry = fEntries.get(item);
+			if (entry != null && entry.fChangeEpoch == changeEpoch && entry.fSettingsEpoch == settingsEpoch) {
+				return entry.fText;
+			}
+			return null;
+		}
+
+		synchronized void put(Object item, long changeEpoch, long settingsEpoch, String text) {
+			fEntries.put(item, new Entry(changeEpoch, settingsEpoch, text));
+		}
+
+		TextCache() {
+			fgCaches.add(this);
+		}
+
+		synchronized void clear() {
+			fEntries.clear();
+		}
+
+		/**
+		 * Drops the texts of the given debug target and its elements.
+		 */
+		synchronized void evict(IDebugTarget target) {
+			fEntries.keySet().removeIf(item -> item instanceof IDebugElement element && element.getDebugTarget() == target);
+		}
+	}
+
 	public JDIModelPresentation() {
 		super();
 	}
@@ -164,6 +320,68 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 			fJavaLabelProvider.dispose();
 		}
 		fAttributes.clear();
+		fLabels.clear();
+		fValueTexts.clear();
+	}
+
+	/**
+	 * Starts tracking preference and breakpoint changes which affect labels,
+	 * and debug target terminations.
+	 */
+	static void startListening() {
+		JDIDebugUIPlugin.getDefault().getPreferenceStore().addPropertyChangeListener(fgPreferenceListener);
+		DebugPlugin.getDefault().getBreakpointManager().addBreakpointListener(fgCacheListener);
+		DebugPlugin.getDefault().addDebugEventListener(fgCacheListener);
+	}
+
+	/**
+	 * Stops tracking preference and breakpoint changes and debug target
+	 * terminations.
+	 */
+	static void stopListening() {
+		JDIDebugUIPlugin.getDefault().getPreferenceStore().removePropertyChangeListener(fgPreferenceListener);
+		DebugPlugin.getDefault().getBreakpointManager().removeBreakpointListener(fgCacheListener);
+		DebugPlugin.getDefault().removeDebugEventListener(fgCacheListener);
+		fgPreferenceEpoch.incrementAndGet();
+	}
+
+	/**
+	 * Returns the epoch of the settings texts are computed with. Preferences,
+	 * attributes and breakpoints only ever advance their epochs, so the sum
+	 * changes whenever one of them changes.
+	 *
+	 * @return the settings epoch
+	 */
+	private long getSettingsEpoch() {
+		return fgPreferenceEpoch.get() + fAttributesEpoch.get() + fgBreakpointEpoch.get();
+	}
+
+	/**
+	 * Returns the change epoch the text of the given element depends on, or
+	 * <code>-1</code> if texts of the element are not cached. Labels of threads
+	 * and stack frames only depend on their thread, other labels may depend on
+	 * any change in the debug target.
+	 *
+	 * @param item
+	 *            the element
+	 * @return change epoch or <code>-1</code>
+	 */
+	private static long getChangeEpoch(Object item) {
+		if (item instanceof JDIThread thread) {
+			return thread.getChangeEpoch();
+		}
+		if (item instanceof JDIStackFrame frame) {
+			if (frame.getThread() instanceof JDIThread thread) {
+				return thread.getChangeEpoch();
+			}
+			return -1;
+		}
+		if (item instanceof IJavaVariable || item instanceof IJavaValue || item instanceof JDIDebugTarget) {
+			if (((IDebugElement) item).getDebugTarget() instanceof JDIDebugTarget target) {
+				return target.getChangeEpoch();
+			}
+		}
+		return -1;
 	}
 
 	/**
@@ -217,71 +435,96 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 	 */
 	@Override
 	public String getText(Object item) {
+		long changeEpoch = getChangeEpoch(item);
+		long settingsEpoch = getSettingsEpoch();
+		if (changeEpoch >= 0) {
+			String text = fLabels.get(item, changeEpoch, settingsEpoch);
+			if (text != null) {
+				return text;
+			}
+		}
 		try {
-			boolean showQualified= isShowQualifiedNames();
-			if (item instanceof IJavaVariable) {
-				return getVariableText((IJavaVariable) item);
-			} else if (item instanceof IStackFrame) {
-				return getStackFrameText((IStackFrame) item);
-			} else if (item instanceof IMarker) {
-				IBreakpoint breakpoint = getBreakpoint((IMarker)item);
-				if (breakpoint != null) {
-					return getBreakpointText(breakpoint);
-				}
-				return null;
-			} else if (item instanceof IBreakpoint) {
-				return getBreakpointText((IBreakpoint)item);
-			} else if (item instanceof IWatchExpression) {
-				return getWatchExpressionText((IWatchExpression)item);
-			} else if (item instanceof IExpression) {
-				return getExpressionText((IExpression)item);
-			} else if (item instanceof JavaOwnedMonitor) {
-				return getJavaOwnedMonitorText((JavaOwnedMonitor)item);
-			} else if (item instanceof JavaContendedMonitor) {
-				return getJavaContendedMonitorText((JavaContendedMonitor)item);
-			} else if (item instanceof JavaOwningThread) {
-				return getJavaOwningTreadText((JavaOwningThread)item);
-			} else if (item instanceof JavaWaitingThread) {
-				return getJavaWaitingTreadText((JavaWaitingThread)item);
-			} else if (item instanceof NoMonitorInformationElement) {
-                return DebugUIMessages.JDIModelPresentation_5;
-            } else {
-				StringBuilder label= new StringBuilder();
-				if (item instanceof IJavaThread) {
-					label.append(getThreadText((IJavaThread) item, showQualified));
-					if (((IJavaThread)item).isOutOfSynch()) {
-						label.append(DebugUIMessages.JDIModelPresentation___out_of_synch__1);
-					} else if (((IJavaThread)item).mayBeOutOfSynch()) {
-						label.append(DebugUIMessages.JDIModelPresentation___may_be_out_of_synch__2);
-					}
-				} else if (item instanceof IJavaDebugTarget) {
-					label.append(getDebugTargetText((IJavaDebugTarget) item));
-					if (((IJavaDebugTarget)item).isOutOfSynch()) {
-						label.append(DebugUIMessages.JDIModelPresentation___out_of_synch__1);
-					} else if (((IJavaDebugTarget)item).mayBeOutOfSynch()) {
-						label.append(DebugUIMessages.JDIModelPresentation___may_be_out_of_synch__2);
-					}
-				} else if (item instanceof IJavaValue) {
-					label.append(getValueText((IJavaValue) item));
+			String text = computeText(item);
+			if (changeEpoch >= 0 && text != null) {
+				fLabels.put(item, changeEpoch, settingsEpoch, text);
+			}
+			return text;
+		} catch (CoreException e) {
+			return DebugUIMessages.JDIModelPresentation__not_responding__6;
+		}
+	}
+
+	/**
+	 * Computes the text for the given element.
+	 *
+	 * @param item
+	 *            the element
+	 * @return the text or <code>null</code>
+	 * @throws CoreException
+	 *             if the element does not respond
+	 */
+	private String computeText(Object item) throws CoreException {
+		boolean showQualified= isShowQualifiedNames();
+		if (item instanceof IJavaVariable) {
+			return getVariableText((IJavaVariable) item);
+		} else if (item instanceof IStackFrame) {
+			return getStackFrameText((IStackFrame) item);
+		} else if (item instanceof IMarker) {
+			IBreakpoint breakpoint = getBreakpoint((IMarker)item);
+			if (breakpoint != null) {
+				return getBreakpointText(breakpoint);
+			}
+			return null;
+		} else if (item instanceof IBreakpoint) {
+			return getBreakpointText((IBreakpoint)item);
+		} else if (item instanceof IWatchExpression) {
+			return getWatchExpressionText((IWatchExpression)item);
+		} else if (item instanceof IExpression) {
+			return getExpressionText((IExpression)item);
+		} else if (item instanceof JavaOwnedMonitor) {
+			return getJavaOwnedMonitorText((JavaOwnedMonitor)item);
+		} else if (item instanceof JavaContendedMonitor) {
+			return getJavaContendedMonitorText((JavaContendedMonitor)item);
+		} else if (item instanceof JavaOwningThread) {
+			return getJavaOwningTreadText((JavaOwningThread)item);
+		} else if (item instanceof JavaWaitingThread) {
+			return getJavaWaitingTreadText((JavaWaitingThread)item);
+		} else if (item instanceof NoMonitorInformationElement) {
+			return DebugUIMessages.JDIModelPresentation_5;
+		} else {
+			StringBuilder label= new StringBuilder();
+			if (item instanceof IJavaThread) {
+				label.append(getThreadText((IJavaThread) item, showQualified));
+				if (((IJavaThread)item).isOutOfSynch()) {
+					label.append(DebugUIMessages.JDIModelPresentation___out_of_synch__1);
+				} else if (((IJavaThread)item).mayBeOutOfSynch()) {
+					label.append(DebugUIMessages.JDIModelPresentation___may_be_out_of_synch__2);
 				}
-				if (item instanceof ITerminate) {
-					if (((ITerminate) item).isTerminated()) {
-						label.insert(0, DebugUIMessages.JDIModelPresentation__terminated__2);
-						return label.toString();
-					}
+			} else if (item instanceof IJavaDebugTarget) {
+				label.append(getDebugTargetText((IJavaDebugTarget) item));
+				if (((IJavaDebugTarget)item).isOutOfSynch()) {
+					label.append(DebugUIMessages.JDIModelPresentation___out_of_synch__1);
+				} else if (((IJavaDebugTarget)item).mayBeOutOfSynch()) {
+					label.append(DebugUIMessages.JDIModelPresentation___may_be_out_of_synch__2);
 				}
-				if (item instanceof IDisconnect) {
-					if (((IDisconnect) item).isDisconnected()) {
-						label.insert(0, DebugUIMessages.JDIModelPresentation__disconnected__4);
-						return label.toString();
-					}
+			} else if (item instanceof IJavaValue) {
+				label.append(getValueText((IJavaValue) item));
+			}
+			if (item instanceof ITerminate) {
+				if (((ITerminate) item).isTerminated()) {
+					label.insert(0, DebugUIMessages.JDIModelPresentation__terminated__2);
+					return label.toString();
 				}
-				if (label.length() > 0) {
+			}
+			if (item instanceof IDisconnect) {
+				if (((IDisconnect) item).isDisconnected()) {
+					label.insert(0, DebugUIMessages.JDIModelPresentation__disconnected__4);
 					return label.toString();
 				}
 			}
-		} catch (CoreException e) {
-			return DebugUIMessages.JDIModelPresentation__not_responding__6;
+			if (label.length() > 0) {
+				return label.toString();
+			}
 		}
 		return null;
 	}
@@ -384,7 +627,7 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 					IJavaWatchpoint wp = (IJavaWatchpoint)breakpoint;
 					String fieldName = wp.getFieldName();
 					args = new String[] {thread.getName(), fieldName, typeName};
-					if (wp.isAccessSuspend(thread.getDebugTarget())) {
+					if (wp instanceof JavaWatchpoint ? ((JavaWatchpoint) wp).isAccessSuspend(thread) : wp.isAccessSuspend(thread.getDebugTarget())) {
 						key.append("_fieldaccess"); //$NON-NLS-1$
 					} else {
 						key.append("_fieldmodification"); //$NON-NLS-1$
@@ -393,7 +636,7 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 					IJavaMethodBreakpoint me= (IJavaMethodBreakpoint)breakpoint;
 					String methodName= me.getMethodName();
 					args = new String[] {thread.getName(), methodName, typeName};
-					if (me.isEntrySuspend(thread.getDebugTarget())) {
+					if (me instanceof JavaMethodBreakpoint ? ((JavaMethodBreakpoint) me).isEntrySuspend(thread) : me.isEntrySuspend(thread.getDebugTarget())) {
 						key.append("_methodentry"); //$NON-NLS-1$
 					} else {
 						key.append("_methodexit"); //$NON-NLS-1$
@@ -1243,7 +1486,9 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 			return;
 		}
 		synchronized (fAttributes) {
-			fAttributes.put(id, value);
+			if (!Objects.equals(fAttributes.put(id, value), value)) {
+				fAttributesEpoch.incrementAndGet();
+			}
 		}
 	}
 
@@ -1336,20 +1581,33 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 	 * @return text
 	 */
 	public String getFormattedValueText(IJavaValue javaValue) {
-		String valueString= DebugUIMessages.JDIModelPresentation_unknown_value__3;
-		if (javaValue != null) {
-			if (isShowLabelDetails(javaValue)) {
-	    		valueString = getVariableDetail(javaValue);
-	    		if (valueString == null) {
-	    			valueString = DebugUIMessages.JDIModelPresentation_unknown_value__3;
-	    		}
-			} else {
-				try {
-					valueString= getValueText(javaValue);
-				} catch (DebugException exception) {
-				}
+		if (javaValue == null) {
+			return DebugUIMessages.JDIModelPresentation_unknown_value__3;
+		}
+		long changeEpoch = getChangeEpoch(javaValue);
+		long settingsEpoch = getSettingsEpoch();
+		String valueString = null;
+		if (changeEpoch >= 0) {
+			valueString = fValueTexts.get(javaValue, changeEpoch, settingsEpoch);
+			if (valueString != null) {
+				return valueString;
+			}
+		}
+		if (isShowLabelDetails(javaValue)) {
+			valueString = getVariableDetail(javaValue);
+		} else {
+			try {
+				valueString= getValueText(javaValue);
+			} catch (DebugException exception) {
 			}
 		}
+		if (valueString == null) {
+			// not remembered, the value may respond later
+			return DebugUIMessages.JDIModelPresentation_unknown_value__3;
+		}
+		if (changeEpoch >= 0) {
+			fValueTexts.put(javaValue, changeEpoch, settingsEpoch, valueString);
+		}
 		return valueString;
 	}
 
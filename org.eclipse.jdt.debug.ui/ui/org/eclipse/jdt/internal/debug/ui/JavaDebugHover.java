@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,23 @@
 package org.eclipse.jdt.internal.debug.ui;
 
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IStackFrame;
@@ -65,7 +74,9 @@ import org.eclipse.jdt.debug.eval.IEvaluationListener;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIPlaceholderVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
 import org.eclipse.jdt.internal.debug.core.model.JDIThisVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.text.java.hover.IJavaEditorTextHover;
@@ -84,8 +95,128 @@ import org.eclipse.ui.IEditorPart;
 public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension, ITextHoverExtension2 {
 
 	private static final String THIS = "this"; //$NON-NLS-1$
+
+	/**
+	 * Milliseconds to wait for a hover to be resolved, the resolution goes on
+	 * in the background afterwards and its result is cached
+	 */
+	private static final long RESOLVE_TIMEOUT = 5000;
+
+	/**
+	 * Milliseconds between checks for cancellation while waiting for an
+	 * evaluation
+	 */
+	private static final long POLL_INTERVAL = 100;
+
+	/**
+	 * Maximum number of cached hovers
+	 */
+	private static final int CACHE_SIZE = 64;
+
 	private IEditorPart fEditor;
 
+	/**
+	 * Resolved hovers of the frame {@link #fCacheFrame} while its thread is at
+	 * change epoch {@link #fCacheEpoch}, that is until the thread resumes.
+	 * Guards the other cache fields.
+	 */
+	private final Map<HoverKey, Object> fCache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<HoverKey, Object> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+	private IJavaStackFrame fCacheFrame;
+	private long fCacheEpoch;
+
+	/**
+	 * Whether the variables of {@link #fCacheFrame} have been preloaded
+	 */
+	private boolean fPreloaded;
+
+	/**
+	 * The last scheduled resolution or <code>null</code>
+	 */
+	private ResolveJob fJob;
+
+	/**
+	 * Identifies a hover by the frame, the document and the hovered text.
+	 */
+	private static final class HoverKey {
+		final IJavaStackFrame fFrame;
+		final IDocument fDocument;
+		final int fOffset;
+		final int fLength;
+		final String fText;
+
+		HoverKey(IJavaStackFrame frame, IDocument document, IRegion region, String text) {
+			fFrame = frame;
+			fDocument = document;
+			fOffset = region.getOffset();
+			fLength = region.getLength();
+			fText = text;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof HoverKey key && key.fFrame == fFrame && key.fDocument == fDocument && key.fOffset == fOffset
+					&& key.fLength == fLength && key.fText.equals(fText);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(Integer.valueOf(System.identityHashCode(fDocument)), Integer.valueOf(fOffset), Integer.valueOf(fLength), fText);
+		}
+	}
+
+	/**
+	 * Resolves one hover in the background. Canceled when another hover is
+	 * requested before it completes.
+	 */
+	private final class ResolveJob extends Job {
+		final HoverKey fKey;
+		final long fEpoch;
+		private final ITextViewer fViewer;
+		private final IRegion fRegion;
+		private final ICodeAssist fCodeAssist;
+		final CompletableFuture<Object> fResult = new CompletableFuture<>();
+
+		ResolveJob(HoverKey key, long epoch, ITextViewer viewer, IRegion region, ICodeAssist codeAssist) {
+			super("Resolve debug hover"); //$NON-NLS-1$
+			fKey = key;
+			fEpoch = epoch;
+			fViewer = viewer;
+			fRegion = region;
+			fCodeAssist = codeAssist;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Object result = null;
+			try {
+				if (!monitor.isCanceled()) {
+					preloadVariables(fKey.fFrame, fEpoch);
+					result = resolve(fViewer, fRegion, fKey.fFrame, fCodeAssist, monitor);
+					if (!monitor.isCanceled()) {
+						cacheResult(fKey, fEpoch, result);
+					}
+				}
+			} finally {
+				fResult.complete(monitor.isCanceled() ? null : result);
+			}
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+
+		@Override
+		protected void canceling() {
+			// release a waiting caller if canceled before running
+			fResult.complete(null);
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.jdt.ui.text.java.hover.IJavaEditorTextHover#setEditor(org.eclipse.ui.IEditorPart)
 	 */
@@ -263,7 +394,122 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
 	 */
 	@Override
 	public Object getHoverInfo2(ITextViewer textViewer, IRegion hoverRegion) {
-	    IJavaStackFrame frame = getFrame();
+		IJavaStackFrame frame = getFrame();
+		IDocument document = textViewer.getDocument();
+		if (frame == null || document == null) {
+			return null;
+		}
+		HoverKey key;
+		try {
+			key = new HoverKey(frame, document, hoverRegion, document.get(hoverRegion.getOffset(), hoverRegion.getLength()));
+		} catch (BadLocationException e) {
+			return null;
+		}
+		ResolveJob job;
+		synchronized (fCache) {
+			long epoch = getChangeEpoch(frame);
+			if (frame != fCacheFrame || epoch != fCacheEpoch) {
+				// another frame is selected or the thread changed
+				fCache.clear();
+				fCacheFrame = frame;
+				fCacheEpoch = epoch;
+				fPreloaded = false;
+			}
+			Object cached = fCache.get(key);
+			if (cached != null) {
+				return cached;
+			}
+			if (fJob != null && fJob.fKey.equals(key) && fJob.fEpoch == epoch) {
+				// still resolving the same hover
+				job = fJob;
+			} else {
+				if (fJob != null) {
+					fJob.cancel();
+				}
+				job = new ResolveJob(key, epoch, textViewer, hoverRegion, getCodeAssist());
+				fJob = job;
+				job.schedule();
+			}
+		}
+		try {
+			return job.fResult.get(RESOLVE_TIMEOUT, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			JDIDebugUIPlugin.log(e);
+		} catch (TimeoutException e) {
+			// keeps resolving, the result is cached for the next hover
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the change epoch of the thread of the given frame, or -1 if not
+	 * known.
+	 */
+	private static long getChangeEpoch(IJavaStackFrame frame) {
+		return frame.getThread() instanceof JDIThread thread ? thread.getChangeEpoch() : -1;
+	}
+
+	/**
+	 * Returns the code assist of the input of the editor or <code>null</code>.
+	 */
+	private ICodeAssist getCodeAssist() {
+		if (fEditor != null) {
+			IEditorInput input = fEditor.getEditorInput();
+			Object element = JavaUI.getWorkingCopyManager().getWorkingCopy(input);
+			if (element == null) {
+				element = input.getAdapter(IClassFile.class);
+			}
+			if (element instanceof ICodeAssist) {
+				return (ICodeAssist) element;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves the values of the variables of the given frame with one batch
+	 * of requests, once per cache generation, such that resolving hovers in
+	 * the frame does not retrieve them one by one.
+	 */
+	private void preloadVariables(IJavaStackFrame frame, long epoch) {
+		synchronized (fCache) {
+			if (fPreloaded || frame != fCacheFrame || epoch != fCacheEpoch) {
+				return;
+			}
+			fPreloaded = true;
+		}
+		if (frame instanceof JDIStackFrame jdiFrame) {
+			try {
+				jdiFrame.preloadVariableValues();
+			} catch (DebugException e) {
+				// variables retrieve their values themselves
+			}
+		}
+	}
+
+	/**
+	 * Remembers the result of resolving the given hover, unless it resolved to
+	 * nothing or the frame or its thread changed meanwhile.
+	 */
+	private void cacheResult(HoverKey key, long epoch, Object result) {
+		synchronized (fCache) {
+			if (result != null && key.fFrame == fCacheFrame && epoch == fCacheEpoch) {
+				fCache.put(key, result);
+			}
+			if (fJob != null && fJob.fKey == key) {
+				fJob = null;
+			}
+		}
+	}
+
+	/**
+	 * Resolves the variable at the given region in the given frame.
+	 *
+	 * @return the variable or <code>null</code>
+	 */
+	private Object resolve(ITextViewer textViewer, IRegion hoverRegion, IJavaStackFrame frame, ICodeAssist codeAssist, IProgressMonitor monitor) {
 	    if (frame != null) {
 	        // first check for 'this' - code resolve does not resolve java elements for 'this'
 	        IDocument document= textViewer.getDocument();
@@ -284,17 +530,6 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
                     return null;
                 }
 			}
-		    ICodeAssist codeAssist = null;
-		    if (fEditor != null) {
-				IEditorInput input = fEditor.getEditorInput();
-				Object element = JavaUI.getWorkingCopyManager().getWorkingCopy(input);
-				if (element == null) {
-					element = input.getAdapter(IClassFile.class);
-				}
-				if (element instanceof ICodeAssist) {
-					codeAssist = ((ICodeAssist)element);
-				}
-		    }
 		    if (codeAssist == null) {
 		        return resolveLocalVariable(frame, textViewer, hoverRegion);
 		    }
@@ -379,10 +614,10 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
 									if (fieldAccess.getExpression() instanceof ThisExpression && !onArrayLength) {
 										variable = evaluateField(findFirstFrameForVariable(frame, forField(field)), field);
 									} else {
-										variable = evaluateQualifiedNode(fieldAccess, frame, typeRoot.getJavaProject(), forField(field));
+										variable = evaluateQualifiedNode(fieldAccess, frame, typeRoot.getJavaProject(), forField(field), monitor);
 									}
 								} else if (locationInParent == QualifiedName.NAME_PROPERTY) {
-									variable = evaluateQualifiedNode(node.getParent(), frame, typeRoot.getJavaProject(), forField(field));
+									variable = evaluateQualifiedNode(node.getParent(), frame, typeRoot.getJavaProject(), forField(field), monitor);
 								} else {
 									variable = evaluateField(findFirstFrameForVariable(frame, forField(field)), field);
 								}
@@ -405,7 +640,7 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
 							if (node == null) {
 								return null;
 							}
-							return evaluateQualifiedNode(node.getParent(), frame, typeRoot.getJavaProject(), forLocalVariable(var));
+							return evaluateQualifiedNode(node.getParent(), frame, typeRoot.getJavaProject(), forLocalVariable(var), monitor);
 						}
 
             		    IJavaElement parent = var.getParent();
@@ -533,7 +768,7 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
 		return null;
 	}
 
-	private IJavaVariable evaluateQualifiedNode(ASTNode node, IJavaStackFrame frame, IJavaProject project, Predicate<IJavaStackFrame> framePredicate) {
+	private IJavaVariable evaluateQualifiedNode(ASTNode node, IJavaStackFrame frame, IJavaProject project, Predicate<IJavaStackFrame> framePredicate, IProgressMonitor monitor) {
 		StringBuilder snippetBuilder = new StringBuilder();
 		if (node instanceof QualifiedName) {
 			snippetBuilder.append(((QualifiedName) node).getFullyQualifiedName());
@@ -575,7 +810,16 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
 
 			public Optional<IEvaluationResult> getResult() {
 				try {
-					return Optional.ofNullable(result.get());
+					while (true) {
+						try {
+							return Optional.ofNullable(result.get(POLL_INTERVAL, TimeUnit.MILLISECONDS));
+						} catch (TimeoutException e) {
+							if (monitor.isCanceled()) {
+								// another hover was requested, stop waiting
+								return Optional.empty();
+							}
+						}
+					}
 				} catch (InterruptedException e) {
 					Thread.currentThread().interrupt();
 				} catch (ExecutionException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -96,6 +101,24 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 */
 	private final HashMap<Key, Expression> fCacheMap;
 
+	/**
+	 * Cache of whether values of a type can be converted in bulk, i.e. whether
+	 * neither a formatter nor <code>java.util.Formattable</code> applies.
+	 * Associate a pair type name/debug target to a boolean.
+	 */
+	private final Map<Key, Boolean> fBulkFormattableMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Separates the details of the values converted by one bulk evaluation
+	 */
+	private static final String BULK_SEPARATOR = "\u0000\u001f"; //$NON-NLS-1$
+
+	/**
+	 * The fully qualified name of <code>java.util.Formattable</code>, which
+	 * changes the conversion of objects by <code>String.format</code>
+	 */
+	private static final String FORMATTABLE_TYPE_NAME = "java.util.Formattable"; //$NON-NLS-1$
+
 	/**
 	 * JavaDetailFormattersManager constructor.
 	 */
@@ -141,6 +164,85 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		});
 	}
 
+	/**
+	 * Returns whether the details of the given value are its <code>toString()</code>
+	 * and can be computed by {@link #toStrings(List, IJavaThread)}.
+	 *
+	 * @param value the value
+	 * @return whether the value can be converted in bulk
+	 */
+	boolean isBulkFormattable(IJavaValue value) {
+		if (!(value instanceof IJavaObject) || value instanceof IJavaArray || value instanceof JDINullValue
+				|| value instanceof JDIAllInstancesValue || value instanceof JDIReferenceListValue) {
+			return false;
+		}
+		try {
+			String signature = value.getSignature();
+			if (signature == null || EvaluationListener.STRING_SIGNATURE.equals(signature)) {
+				return false;
+			}
+			IJavaType type = value.getJavaType();
+			if (!(type instanceof IJavaClassType)) {
+				return false;
+			}
+			Key key = new Key(type.getName(), (IJavaDebugTarget) value.getDebugTarget());
+			Boolean formattable = fBulkFormattableMap.get(key);
+			if (formattable == null) {
+				boolean result = getDetailFormatter((IJavaClassType) type) == null;
+				for (IJavaInterfaceType interfaceType : ((IJavaClassType) type).getAllInterfaces()) {
+					if (FORMATTABLE_TYPE_NAME.equals(interfaceType.getName())) {
+						result = false;
+					}
+				}
+				formattable = Boolean.valueOf(result);
+				fBulkFormattableMap.put(key, formattable);
+			}
+			return formattable.booleanValue();
+		} catch (DebugException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the <code>toString()</code> of the given objects computed by a single
+	 * invocation of <code>String.format</code> in the given thread, or <code>null</code>
+	 * if the results cannot be told apart.
+	 *
+	 * @param objects the objects to convert, must be accepted by {@link #isBulkFormattable(IJavaValue)}
+	 * @param thread the thread to perform the invocation in
+	 * @return the string of each object or <code>null</code>
+	 * @throws DebugException if the invocation fails, e.g. because one of the conversions throws an exception
+	 */
+	static String[] toStrings(List<IJavaObject> objects, IJavaThread thread) throws DebugException {
+		IJavaDebugTarget debugTarget = (IJavaDebugTarget) thread.getDebugTarget();
+		IJavaType[] stringTypes = debugTarget.getJavaTypes("java.lang.String"); //$NON-NLS-1$
+		IJavaType[] arrayTypes = debugTarget.getJavaTypes("java.lang.Object[]"); //$NON-NLS-1$
+		if (stringTypes == null || stringTypes.length == 0 || arrayTypes == null || arrayTypes.length == 0) {
+			return null;
+		}
+		IJavaArray array = ((IJavaArrayType) arrayTypes[0]).newInstance(objects.size());
+		array.disableCollection();
+		try {
+			array.setValues(objects.toArray(new IJavaValue[objects.size()]));
+			StringBuilder format = new StringBuilder();
+			for (int i = 0; i < objects.size(); i++) {
+				if (i > 0) {
+					format.append(BULK_SEPARATOR);
+				}
+				format.append("%s"); //$NON-NLS-1$
+			}
+			IJavaValue result = ((IJavaClassType) stringTypes[0]).sendMessage("format", "(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;", //$NON-NLS-1$ //$NON-NLS-2$
+					new IJavaValue[] { debugTarget.newValue(format.toString()), array }, thread);
+			if (result == null || result.isNull()) {
+				return null;
+			}
+			String[] details = result.getValueString().split(Pattern.quote(BULK_SEPARATOR), -1);
+			return details.length == objects.size() ? details : null;
+		} finally {
+			array.enableCollection();
+		}
+	}
+
 	private void resolveFormatter(final IJavaValue value, final IJavaThread thread, final IValueDetailListener listener) {
 		EvaluationListener evaluationListener= new EvaluationListener(value, thread, listener);
 		if (value instanceof IJavaObject) {
@@ -451,6 +553,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				property.equals(IDebugUIConstants.PREF_MAX_DETAIL_LENGTH)) {
 			populateDetailFormattersMap();
 			fCacheMap.clear();
+			fBulkFormattableMap.clear();
 			// If a Java stack frame is selected in the Debug view, fire a change event on
 			// it so the variables view will update for any formatter changes.
             IAdaptable selected = DebugUITools.getDebugContext();
@@ -520,6 +623,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				iter.remove();
 			}
 		}
+		fBulkFormattableMap.keySet().removeIf(key -> key.fDebugTarget == debugTarget);
 	}
 
 	/**
@@ -713,9 +817,35 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				return;
 			}
 
+			// convert plain objects with one invocation rather than one each
+			String[] details = new String[arrayValues.length];
+			List<IJavaObject> bulk = new ArrayList<>();
+			List<Integer> bulkIndexes = new ArrayList<>();
+			JavaDetailFormattersManager manager = getDefault();
+			for (int i = 0; i < arrayValues.length; i++) {
+				if (manager.isBulkFormattable(arrayValues[i])) {
+					bulk.add((IJavaObject) arrayValues[i]);
+					bulkIndexes.add(Integer.valueOf(i));
+				}
+			}
+			if (bulk.size() > 1) {
+				try {
+					String[] bulkDetails = toStrings(bulk, fThread);
+					if (bulkDetails != null) {
+						for (int i = 0; i < bulkDetails.length; i++) {
+							details[bulkIndexes.get(i).intValue()] = bulkDetails[i];
+						}
+					}
+				} catch (DebugException e) {
+					// convert one by one below
+				}
+			}
+
 			for (int i= 0; i < arrayValues.length; i++) {
 				IJavaValue value= arrayValues[i];
-				if (value instanceof IJavaArray) {
+				if (details[i] != null) {
+					result.append(details[i]);
+				} else if (value instanceof IJavaArray) {
 					appendArrayDetail(result, (IJavaArray) value);
 				} else if (value instanceof IJavaObject) {
 					appendObjectDetail(result, (IJavaObject) value);
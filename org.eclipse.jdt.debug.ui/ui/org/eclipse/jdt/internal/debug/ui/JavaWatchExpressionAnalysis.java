@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.ArrayAccess;
+import org.eclipse.jdt.core.dom.ArrayCreation;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.CastExpression;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CreationReference;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ExpressionMethodReference;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.QualifiedType;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SuperFieldAccess;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.SuperMethodReference;
+import org.eclipse.jdt.core.dom.SwitchExpression;
+import org.eclipse.jdt.core.dom.ThisExpression;
+import org.eclipse.jdt.core.dom.TypeMethodReference;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+
+/**
+ * Syntactic analysis of a watch expression: whether it reads variables only,
+ * without invoking methods, creating objects or assigning, and which locals
+ * and fields it reads. A string concatenation invokes <code>toString()</code>
+ * unless all its operands are primitives or strings, which is only known once
+ * the values of the inputs are read. The result of a side effect free
+ * expression only depends on its inputs, so it need not be evaluated again as
+ * long as the values of its inputs are unchanged.
+ */
+public final class JavaWatchExpressionAnalysis {
+
+	private static final String THIS = "this"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of remembered analyses
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	/**
+	 * Analyses by expression text, guarded by itself
+	 */
+	private static final Map<String, JavaWatchExpressionAnalysis> fgAnalyses = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, JavaWatchExpressionAnalysis> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private final boolean fSideEffectFree;
+
+	/**
+	 * Whether the expression has an addition, which is a string concatenation
+	 * unless all its operands are primitives
+	 */
+	private final boolean fAddition;
+
+	/**
+	 * Names of the locals and fields the expression reads, <code>this</code>
+	 * for the receiver
+	 */
+	private final String[] fInputs;
+
+	private JavaWatchExpressionAnalysis(boolean sideEffectFree, boolean addition, String[] inputs) {
+		fSideEffectFree = sideEffectFree;
+		fAddition = addition;
+		fInputs = inputs;
+	}
+
+	/**
+	 * Returns the analysis of the given expression.
+	 *
+	 * @param expression
+	 *            the expression text
+	 * @return the analysis
+	 */
+	public static JavaWatchExpressionAnalysis analyze(String expression) {
+		synchronized (fgAnalyses) {
+			JavaWatchExpressionAnalysis analysis = fgAnalyses.get(expression);
+			if (analysis != null) {
+				return analysis;
+			}
+		}
+		JavaWatchExpressionAnalysis analysis = computeAnalysis(expression);
+		synchronized (fgAnalyses) {
+			fgAnalyses.put(expression, analysis);
+		}
+		return analysis;
+	}
+
+	private static JavaWatchExpressionAnalysis computeAnalysis(String expression) {
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setKind(ASTParser.K_EXPRESSION);
+		parser.setSource(expression.toCharArray());
+		ASTNode node = parser.createAST(null);
+		if (!(node instanceof Expression) || (node.getFlags() & (ASTNode.MALFORMED | ASTNode.RECOVERED)) != 0) {
+			// not an expression, leave it to the evaluation engine
+			return new JavaWatchExpressionAnalysis(false, false, new String[0]);
+		}
+		InputCollector collector = new InputCollector();
+		node.accept(collector);
+		// the operands of an addition must be inputs or literals for their types to be known
+		boolean sideEffectFree = !collector.fSideEffects && !(collector.fAddition && collector.fDerived);
+		return new JavaWatchExpressionAnalysis(sideEffectFree, collector.fAddition, collector.fNames.toArray(new String[collector.fNames.size()]));
+	}
+
+	/**
+	 * Returns whether the expression only reads variables, unless it
+	 * concatenates objects other than strings.
+	 *
+	 * @return whether the expression may have no side effects
+	 * @see #isSideEffectFree(String[])
+	 */
+	public boolean mayBeSideEffectFree() {
+		return fSideEffectFree;
+	}
+
+	/**
+	 * Returns whether the expression only reads variables, given the values
+	 * of its inputs. An addition is only known not to invoke
+	 * <code>toString()</code> when all inputs are primitives, strings or
+	 * <code>null</code>.
+	 *
+	 * @param inputValues
+	 *            the values of the inputs, as returned by
+	 *            {@link #getInputValues(IJavaStackFrame)}
+	 * @return whether the expression has no side effects
+	 */
+	public boolean isSideEffectFree(String[] inputValues) {
+		return fSideEffectFree && (!fAddition || inputValues != null);
+	}
+
+	/**
+	 * Returns the values of the inputs of the expression in the given frame in
+	 * a form which can be compared between suspends, or <code>null</code> if
+	 * the expression has side effects or an input cannot be compared. Only
+	 * primitive values, <code>null</code> and strings, which are immutable,
+	 * can be compared; a change in the state of any other object would go
+	 * unnoticed.
+	 *
+	 * @param frame
+	 *            the frame the expression is evaluated in
+	 * @return comparable input values or <code>null</code>
+	 * @throws DebugException
+	 *             if the values cannot be retrieved
+	 */
+	public String[] getInputValues(IJavaStackFrame frame) throws DebugException {
+		if (!fSideEffectFree) {
+			return null;
+		}
+		String[] values = new String[fInputs.length];
+		for (int i = 0; i < fInputs.length; i++) {
+			if (THIS.equals(fInputs[i])) {
+				return null;
+			}
+			IJavaVariable variable = frame.findVariable(fInputs[i]);
+			if (variable == null) {
+				// a type name or a variable not visible here
+				return null;
+			}
+			IJavaValue value = (IJavaValue) variable.getValue();
+			if (value instanceof IJavaPrimitiveValue) {
+				values[i] = value.getSignature() + ':' + value.getValueString();
+			} else if (value == null || value.isNull()) {
+				values[i] = "null"; //$NON-NLS-1$
+			} else if (value instanceof IJavaObject object && "java.lang.String".equals(object.getReferenceTypeName())) { //$NON-NLS-1$
+				values[i] = "String@" + object.getUniqueId(); //$NON-NLS-1$
+			} else {
+				return null;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Collects the names an expression starts reading from and notes
+	 * operations with side effects, additions, and values whose types are not
+	 * those of the inputs.
+	 */
+	private static final class InputCollector extends ASTVisitor {
+		final Set<String> fNames = new LinkedHashSet<>();
+		boolean fSideEffects;
+		boolean fAddition;
+		boolean fDerived;
+
+		private boolean sideEffect() {
+			fSideEffects = true;
+			return false;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			fNames.add(node.getIdentifier());
+			return false;
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			// only the qualifier names a variable
+			fDerived = true;
+			node.getQualifier().accept(this);
+			return false;
+		}
+
+		@Override
+		public boolean visit(FieldAccess node) {
+			fDerived = true;
+			node.getExpression().accept(this);
+			return false;
+		}
+
+		@Override
+		public boolean visit(SuperFieldAccess node) {
+			fDerived = true;
+			fNames.add(THIS);
+			return false;
+		}
+
+		@Override
+		public boolean visit(ArrayAccess node) {
+			fDerived = true;
+			return true;
+		}
+
+		@Override
+		public boolean visit(CastExpression node) {
+			fDerived = true;
+			return true;
+		}
+
+		@Override
+		public boolean visit(ThisExpression node) {
+			fNames.add(THIS);
+			return false;
+		}
+
+		@Override
+		public boolean visit(SimpleType node) {
+			return false;
+		}
+
+		@Override
+		public boolean visit(QualifiedType node) {
+			return false;
+		}
+
+		@Override
+		public boolean visit(NameQualifiedType node) {
+			return false;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator = node.getOperator();
+			if (operator == PrefixExpression.Operator.INCREMENT || operator == PrefixExpression.Operator.DECREMENT) {
+				return sideEffect();
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(InfixExpression node) {
+			if (node.getOperator() == InfixExpression.Operator.PLUS) {
+				// may be a string concatenation, which invokes toString()
+				fAddition = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(MethodInvocation node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(SuperMethodInvocation node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(ArrayCreation node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(LambdaExpression node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(ExpressionMethodReference node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(CreationReference node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(SuperMethodReference node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(TypeMethodReference node) {
+			return sideEffect();
+		}
+
+		@Override
+		public boolean visit(SwitchExpression node) {
+			return sideEffect();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IValue;
@@ -24,6 +37,7 @@ import org.eclipse.debug.core.model.IWatchExpressionListener;
 import org.eclipse.debug.core.model.IWatchExpressionResult;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
@@ -31,14 +45,104 @@ import org.eclipse.jdt.debug.eval.IEvaluationListener;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 
 public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 
+	/**
+	 * Evaluations requested for a thread and not yet started, guarded by
+	 * itself. The watch expressions are evaluated in a burst on each suspend
+	 * and are collected here until the thread runs the batch. Entries of
+	 * threads which terminate before are removed by {@link #fgTerminateListener}.
+	 */
+	private static final Map<IJavaThread, List<EvaluationRunnable>> fgPending = new HashMap<>();
+
+	/**
+	 * Results of side effect free expressions by frame and expression text,
+	 * with the input values they were computed from. Guarded by itself. The
+	 * results do not refer to their frames, such that popped frames are
+	 * garbage collected, and results of terminated threads are removed by
+	 * {@link #fgTerminateListener}.
+	 */
+	private static final Map<IJavaStackFrame, Map<String, CachedResult>> fgResults = new WeakHashMap<>();
+
+	/**
+	 * Removes the pending evaluations and cached results of terminated or
+	 * disconnected threads and debug targets
+	 */
+	private static final IDebugEventSetListener fgTerminateListener = events -> {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && (event.getSource() instanceof IThread || event.getSource() instanceof IDebugTarget)) {
+				evict((IDebugElement) event.getSource());
+			}
+		}
+	};
+
 	private String fExpressionText;
 	private IWatchExpressionListener fListener;
 
+	/**
+	 * Result of an expression and the values of its inputs
+	 */
+	private static final class CachedResult {
+		final String[] fInputs;
+		final IWatchExpressionResult fResult;
+
+		CachedResult(String[] inputs, IWatchExpressionResult result) {
+			fInputs = inputs;
+			fResult = result;
+		}
+	}
+
+	/**
+	 * Starts removing the pending evaluations and cached results of threads
+	 * when they terminate.
+	 */
+	static void startListening() {
+		DebugPlugin.getDefault().addDebugEventListener(fgTerminateListener);
+	}
+
+	/**
+	 * Stops tracking thread terminations and forgets all pending evaluations
+	 * and cached results.
+	 */
+	static void stopListening() {
+		DebugPlugin.getDefault().removeDebugEventListener(fgTerminateListener);
+		synchronized (fgPending) {
+			fgPending.clear();
+		}
+		synchronized (fgResults) {
+			fgResults.clear();
+		}
+	}
+
+	/**
+	 * Removes the pending evaluations and cached results of the given
+	 * terminated thread or debug target.
+	 */
+	private static void evict(IDebugElement element) {
+		List<EvaluationRunnable> dropped = new ArrayList<>();
+		synchronized (fgPending) {
+			Iterator<Map.Entry<IJavaThread, List<EvaluationRunnable>>> entries = fgPending.entrySet().iterator();
+			while (entries.hasNext()) {
+				Map.Entry<IJavaThread, List<EvaluationRunnable>> entry = entries.next();
+				if (entry.getKey() == element || entry.getKey().getDebugTarget() == element) {
+					dropped.addAll(entry.getValue());
+					entries.remove();
+				}
+			}
+		}
+		synchronized (fgResults) {
+			fgResults.keySet().removeIf(frame -> frame.getThread() == element || frame.getDebugTarget() == element);
+		}
+		// the expressions will not be evaluated
+		for (EvaluationRunnable runnable : dropped) {
+			runnable.fListener.watchEvaluationFinished(null);
+		}
+	}
+
 	/**
 	 * @see org.eclipse.debug.core.model.IWatchExpressionDelegate#evaluateExpression(String, IDebugElement, IWatchExpressionListener)
 	 */
@@ -75,18 +179,66 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 	 * The evaluation is performed asynchronously. A change debug event, with
 	 * this as the source, is fired when the evaluation is completed.
 	 *
+	 * The evaluations requested for a thread before it gets to run them are
+	 * performed in one batch, side effect free expressions first.
+	 *
 	 * @param javaStackFrame the stack frame in the context of which performed
 	 * the evaluation.
 	 */
 	protected void doEvaluation(IJavaStackFrame javaStackFrame) {
 		IJavaThread thread = (IJavaThread)javaStackFrame.getThread();
 		if (preEvaluationCheck(thread)) {
-			thread.queueRunnable(new EvaluationRunnable(javaStackFrame));
+			EvaluationRunnable runnable = new EvaluationRunnable(javaStackFrame, JavaWatchExpressionAnalysis.analyze(fExpressionText));
+			boolean schedule;
+			synchronized (fgPending) {
+				if (thread.isTerminated()) {
+					// too late, the entry would never be removed
+					fListener.watchEvaluationFinished(null);
+					return;
+				}
+				List<EvaluationRunnable> batch = fgPending.get(thread);
+				schedule = batch == null;
+				if (schedule) {
+					batch = new ArrayList<>();
+					fgPending.put(thread, batch);
+				}
+				batch.add(runnable);
+			}
+			if (schedule) {
+				thread.queueRunnable(new BatchRunnable(thread));
+			}
 		} else {
 			fListener.watchEvaluationFinished(null);
 		}
 	}
 
+	/**
+	 * Returns the result of the given expression computed in the given frame
+	 * from the given input values, or <code>null</code> if none.
+	 */
+	private static IWatchExpressionResult getCachedResult(IJavaStackFrame frame, String expression, String[] inputs) {
+		synchronized (fgResults) {
+			Map<String, CachedResult> results = fgResults.get(frame);
+			CachedResult cached = results != null ? results.get(expression) : null;
+			return cached != null && Arrays.equals(cached.fInputs, inputs) ? cached.fResult : null;
+		}
+	}
+
+	/**
+	 * Remembers the result of the given expression computed in the given
+	 * frame from the given input values. Only primitive results are
+	 * remembered, other values may be garbage collected once the thread
+	 * resumes.
+	 */
+	private static void cacheResult(IJavaStackFrame frame, String expression, String[] inputs, IEvaluationResult result, IWatchExpressionResult watchResult) {
+		if (result.hasErrors() || !(result.getValue() instanceof IJavaPrimitiveValue)) {
+			return;
+		}
+		synchronized (fgResults) {
+			fgResults.computeIfAbsent(frame, f -> new HashMap<>()).put(expression, new CachedResult(inputs, watchResult));
+		}
+	}
+
 	private boolean preEvaluationCheck(IJavaThread javaThread) {
 		if (javaThread == null) {
 			return false;
@@ -97,15 +249,143 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 		return true;
 	}
 
+	/**
+	 * Runnable used to evaluate the pending expressions of a thread. Side
+	 * effect free expressions are evaluated first, or answered from the cache
+	 * if their inputs did not change. The other expressions are evaluated
+	 * afterwards, such that their side effects do not interfere. The values of
+	 * the variables of the frames of the expressions which may be side effect
+	 * free are retrieved in advance, with a few requests, and their inputs are
+	 * read before any evaluation invalidates them.
+	 */
+	private static final class BatchRunnable implements Runnable {
+
+		private final IJavaThread fThread;
+
+		private BatchRunnable(IJavaThread thread) {
+			fThread = thread;
+		}
+
+		@Override
+		public void run() {
+			List<EvaluationRunnable> batch;
+			synchronized (fgPending) {
+				batch = fgPending.remove(fThread);
+			}
+			if (batch == null) {
+				return;
+			}
+			Set<IJavaStackFrame> frames = new LinkedHashSet<>();
+			for (EvaluationRunnable runnable : batch) {
+				if (runnable.fAnalysis.mayBeSideEffectFree()) {
+					frames.add(runnable.fStackFrame);
+				}
+			}
+			for (IJavaStackFrame frame : frames) {
+				if (frame instanceof JDIStackFrame jdiFrame) {
+					try {
+						jdiFrame.preloadVariableValues();
+					} catch (DebugException e) {
+						// variables retrieve their values themselves
+					}
+				}
+			}
+			List<EvaluationRunnable> sideEffects = new ArrayList<>();
+			for (EvaluationRunnable runnable : batch) {
+				if (runnable.fAnalysis.mayBeSideEffectFree()) {
+					runnable.readInputs();
+				}
+				if (!runnable.isSideEffectFree()) {
+					sideEffects.add(runnable);
+				}
+			}
+			for (EvaluationRunnable runnable : batch) {
+				if (runnable.isSideEffectFree()) {
+					runnable.run();
+				}
+			}
+			for (EvaluationRunnable runnable : sideEffects) {
+				runnable.run();
+			}
+		}
+	}
+
+	/**
+	 * Returns a watch expression result for the given evaluation result. The
+	 * watch expression result does not refer to the frame of the evaluation,
+	 * such that it may be cached as long as the frame exists.
+	 */
+	private static IWatchExpressionResult createWatchResult(final IEvaluationResult result) {
+		return new IWatchExpressionResult() {
+			@Override
+			public IValue getValue() {
+				return result.getValue();
+			}
+			@Override
+			public boolean hasErrors() {
+				return result.hasErrors();
+			}
+			@Override
+			public String[] getErrorMessages() {
+				return JavaInspectExpression.getErrorMessages(result);
+			}
+			@Override
+			public String getExpressionText() {
+				return result.getSnippet();
+			}
+			@Override
+			public DebugException getException() {
+				return result.getException();
+			}
+		};
+	}
+
 	/**
 	 * Runnable used to evaluate the expression.
 	 */
 	private final class EvaluationRunnable implements Runnable {
 
 		private final IJavaStackFrame fStackFrame;
+		private final JavaWatchExpressionAnalysis fAnalysis;
+
+		/**
+		 * Listener of the evaluation, also notified if it is dropped
+		 */
+		private final IWatchExpressionListener fListener;
 
-		private EvaluationRunnable(IJavaStackFrame frame) {
+		/**
+		 * Values of the inputs of the expression, once read
+		 */
+		private String[] fInputs;
+		private boolean fInputsRead;
+
+		private EvaluationRunnable(IJavaStackFrame frame, JavaWatchExpressionAnalysis analysis) {
 			fStackFrame= frame;
+			fAnalysis = analysis;
+			fListener = JavaWatchExpressionDelegate.this.fListener;
+		}
+
+		/**
+		 * Reads the values of the inputs of the expression, unless already
+		 * read.
+		 */
+		private void readInputs() {
+			if (!fInputsRead) {
+				fInputsRead = true;
+				try {
+					fInputs = fAnalysis.getInputValues(fStackFrame);
+				} catch (DebugException e) {
+					fInputs = null;
+				}
+			}
+		}
+
+		/**
+		 * Returns whether the expression only reads variables, once its inputs
+		 * are read.
+		 */
+		private boolean isSideEffectFree() {
+			return fInputsRead && fAnalysis.isSideEffectFree(fInputs);
 		}
 
 		@Override
@@ -115,33 +395,26 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 				fListener.watchEvaluationFinished(null);
 				return;
 			}
+			readInputs();
+			String[] inputs = fInputs;
+			if (inputs != null) {
+				IWatchExpressionResult cached = getCachedResult(fStackFrame, fExpressionText, inputs);
+				if (cached != null) {
+					// inputs unchanged since the last evaluation
+					fListener.watchEvaluationFinished(cached);
+					return;
+				}
+			}
+			final String[] evaluatedInputs = inputs;
 			IAstEvaluationEngine evaluationEngine= JDIDebugPlugin.getDefault().getEvaluationEngine(project, (IJavaDebugTarget) fStackFrame.getDebugTarget());
 			// the evaluation listener
 			IEvaluationListener listener= new IEvaluationListener() {
 				@Override
 				public void evaluationComplete(final IEvaluationResult result) {
-					IWatchExpressionResult watchResult= new IWatchExpressionResult() {
-						@Override
-						public IValue getValue() {
-							return result.getValue();
-						}
-						@Override
-						public boolean hasErrors() {
-							return result.hasErrors();
-						}
-						@Override
-						public String[] getErrorMessages() {
-							return JavaInspectExpression.getErrorMessages(result);
-						}
-						@Override
-						public String getExpressionText() {
-							return result.getSnippet();
-						}
-						@Override
-						public DebugException getException() {
-							return result.getException();
-						}
-					};
+					IWatchExpressionResult watchResult = createWatchResult(result);
+					if (evaluatedInputs != null) {
+						cacheResult(fStackFrame, fExpressionText, evaluatedInputs, result, watchResult);
+					}
 					fListener.watchEvaluationFinished(watchResult);
 				}
 			};
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.actions;
+
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
+
+/**
+ * Toggle to group threads by the prefix of their names in the debug view.
+ */
+public class GroupThreadsByName extends ToggleBooleanPreferenceAction {
+
+	@Override
+	protected String getPreferenceKey() {
+		return IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME;
+	}
+
+	@Override
+	protected String getCompositeKey() {
+		return getPreferenceKey();
+	}
+}
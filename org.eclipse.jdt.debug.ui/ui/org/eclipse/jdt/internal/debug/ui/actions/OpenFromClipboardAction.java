@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.jdt.debug.ui.console.JavaStackTraceConsoleFactory;
 import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceConsole;
+import org.eclipse.jdt.internal.debug.ui.console.JavaTypeNameIndex;
 import org.eclipse.jdt.ui.JavaElementLabelProvider;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.action.IAction;
@@ -619,7 +620,9 @@ public class OpenFromClipboardAction implements IWorkbenchWindowActionDelegate {
 	}
 
 	/**
-	 * Perform a Java search for the type and return the corresponding Java elements.
+	 * Perform a Java search for the type and return the corresponding Java elements. The types are
+	 * looked up in the {@link JavaTypeNameIndex} if it is up to date and there is no binary type of
+	 * that name, which the index does not know.
 	 *
 	 * <p>
 	 * TODO: Because of faster performance SearchEngine.searchAllTypeNames(...) is used to do the
@@ -635,6 +638,15 @@ public class OpenFromClipboardAction implements IWorkbenchWindowActionDelegate {
 	 *            the Progress Monitor
 	 */
 	private static void doTypeSearch(String typeName, final List<Object> matches, IProgressMonitor monitor) {
+		try {
+			List<IType> types = JavaTypeNameIndex.getDefault().findTypes(typeName);
+			if (types != null && !JavaTypeNameIndex.hasBinaryType(typeName, monitor)) {
+				matches.addAll(types);
+				return;
+			}
+		} catch (CoreException e) {
+			JDIDebugUIPlugin.log(e);
+		}
 		IJavaSearchScope scope = SearchEngine.createWorkspaceScope();
 		SearchEngine searchEngine = new SearchEngine();
 
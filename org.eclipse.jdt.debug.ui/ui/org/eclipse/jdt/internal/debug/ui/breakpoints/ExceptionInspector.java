@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,7 +98,7 @@ JDIDebugUIPlugin.getUniqueIdentifier(),
 												if (breakpoints.length == 1) {
 													if (breakpoints[0] instanceof IJavaExceptionBreakpoint) {
 														IJavaExceptionBreakpoint exception = (IJavaExceptionBreakpoint) breakpoints[0];
-														IJavaObject lastException = ((JavaExceptionBreakpoint)exception).getLastException();
+														IJavaObject lastException = ((JavaExceptionBreakpoint)exception).getLastException(thread);
 														if (lastException != null) {
 															IExpression exp = new JavaInspectExpression(exception.getExceptionTypeName(), lastException);
 															Tree tree = (Tree) ((IDebugView)part).getViewer().getControl();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,28 @@ public class JavaConsoleTracker implements IPatternMatchListenerDelegate {
         return fConsole;
     }
 
+	/**
+	 * Adds the given hyperlink to the console. In a {@link JavaStackTraceConsole} the link is only
+	 * added once its region becomes visible.
+	 *
+	 * @param link
+	 *            the hyperlink
+	 * @param offset
+	 *            offset of the link in the console document
+	 * @param length
+	 *            length of the link
+	 * @throws BadLocationException
+	 *             if the region is not within the document
+	 */
+	protected void addHyperlink(IHyperlink link, int offset, int length) throws BadLocationException {
+		TextConsole console = getConsole();
+		if (console instanceof JavaStackTraceConsole) {
+			((JavaStackTraceConsole) console).addHyperlinkWhenVisible(link, offset, length);
+		} else {
+			console.addHyperlink(link, offset, length);
+		}
+	}
+
     /* (non-Javadoc)
      * @see org.eclipse.ui.console.IPatternMatchListenerDelegate#matchFound(org.eclipse.ui.console.PatternMatchEvent)
      */
@@ -59,7 +81,7 @@ public class JavaConsoleTracker implements IPatternMatchListenerDelegate {
             int offset = event.getOffset();
             int length = event.getLength();
             IHyperlink link = new JavaStackTraceHyperlink(fConsole);
-            fConsole.addHyperlink(link, offset+1, length-2);
+            addHyperlink(link, offset+1, length-2);
         } catch (BadLocationException e) {
         }
     }
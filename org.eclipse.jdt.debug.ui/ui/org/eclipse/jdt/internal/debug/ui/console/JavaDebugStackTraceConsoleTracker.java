@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Simeon Andreev and others.
+ * Copyright (c) 2022, 2026 Simeon Andreev and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,7 +50,7 @@ public class JavaDebugStackTraceConsoleTracker extends JavaConsoleTracker {
 			int hyperlinkStartIndex = offset + linkSubstring.startIndex;
 			int hyperlinkLength = linkSubstring.substring.length();
 			IHyperlink link = new JavaDebugStackTraceHyperlink(console);
-			console.addHyperlink(link, hyperlinkStartIndex, hyperlinkLength);
+			addHyperlink(link, hyperlinkStartIndex, hyperlinkLength);
 		}
 	}
 
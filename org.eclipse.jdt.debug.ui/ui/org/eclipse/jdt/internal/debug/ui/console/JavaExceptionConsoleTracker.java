@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,7 +37,7 @@ public class JavaExceptionConsoleTracker extends JavaConsoleTracker {
             String exceptionName;
             exceptionName = console.getDocument().get(offset, length - 1);
             IHyperlink link = new JavaExceptionHyperLink(console, exceptionName);
-            getConsole().addHyperlink(link, offset, length - 1);
+            addHyperlink(link, offset, length - 1);
         } catch (BadLocationException e) {
         }
     }
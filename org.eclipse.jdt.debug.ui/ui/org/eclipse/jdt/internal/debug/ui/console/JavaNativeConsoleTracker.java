@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,7 +31,7 @@ public class JavaNativeConsoleTracker extends JavaConsoleTracker {
             int length = event.getLength();
             TextConsole console = getConsole();
             IHyperlink link = new JavaNativeStackTraceHyperlink(console);
-            console.addHyperlink(link, offset+1, length-2);
+            addHyperlink(link, offset+1, length-2);
         } catch (BadLocationException e) {
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,21 +20,28 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.internal.debug.ui.IJavaDebugHelpContextIds;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JavaDebugImages;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -42,8 +49,11 @@ import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.text.undo.DocumentUndoManagerRegistry;
+import org.eclipse.text.undo.IDocumentUndoManager;
 import org.eclipse.ui.console.IConsoleDocumentPartitioner;
 import org.eclipse.ui.console.IConsoleView;
+import org.eclipse.ui.console.IHyperlink;
 import org.eclipse.ui.console.TextConsole;
 import org.eclipse.ui.part.IPageBookViewPage;
 import org.eclipse.ui.progress.WorkbenchJob;
@@ -82,6 +92,76 @@ public class JavaStackTraceConsole extends TextConsole {
 	private static final String INDENT_STR = "    "; //$NON-NLS-1$
 	private static final int INDENT_WIDTH = 4;
 
+	/**
+	 * Approximate number of characters of formatted text inserted into the document at once
+	 */
+	private static final int FORMAT_CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * A hyperlink found by a console tracker which is added to the document once its region
+	 * becomes visible
+	 */
+	private static final class PendingHyperlink {
+		final IHyperlink fLink;
+		int fOffset;
+		final int fLength;
+
+		PendingHyperlink(IHyperlink link, int offset, int length) {
+			fLink = link;
+			fOffset = offset;
+			fLength = length;
+		}
+	}
+
+	/**
+	 * Hyperlinks not yet added to the document, ordered by offset. Also guards the visible region.
+	 */
+	private final List<PendingHyperlink> fPendingHyperlinks = new ArrayList<>();
+	/**
+	 * Region shown by the viewer, <code>-1</code> if no viewer reported it yet in which case
+	 * hyperlinks are added right away
+	 */
+	private int fVisibleStart = -1;
+	private int fVisibleEnd = -1;
+
+	/**
+	 * Keeps the offsets of pending hyperlinks up to date. Hyperlinks within changed text are
+	 * dropped, the pattern matcher reports them again.
+	 */
+	private final IDocumentListener fPendingHyperlinkUpdater = new IDocumentListener() {
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			int start = event.getOffset();
+			int end = start + Math.max(event.getLength(), 1);
+			int delta = (event.getText() == null ? 0 : event.getText().length()) - event.getLength();
+			synchronized (fPendingHyperlinks) {
+				fPendingHyperlinks.removeIf(link -> link.fOffset < end && link.fOffset + link.fLength > start);
+				for (PendingHyperlink link : fPendingHyperlinks) {
+					if (link.fOffset >= start) {
+						link.fOffset += delta;
+					}
+				}
+			}
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+		}
+	};
+
+	/**
+	 * Guards {@link #fFormatting} and {@link #fFormatRequested}
+	 */
+	private final Object fFormatLock = new Object();
+	/**
+	 * Whether a format is in progress, from taking the text to inserting the last chunk
+	 */
+	private boolean fFormatting;
+	/**
+	 * Whether the whole document is to be formatted once the current format is done
+	 */
+	private boolean fFormatRequested;
+
     private final JavaStackTraceConsolePartitioner partitioner = new JavaStackTraceConsolePartitioner();
     private final IPropertyChangeListener propertyListener = new IPropertyChangeListener() {
         @Override
@@ -114,6 +194,7 @@ public class JavaStackTraceConsole extends TextConsole {
         Font font = JFaceResources.getFont(IDebugUIConstants.PREF_CONSOLE_FONT);
         setFont(font);
         partitioner.connect(getDocument());
+		getDocument().addDocumentListener(fPendingHyperlinkUpdater);
     }
 
 	/**
@@ -141,6 +222,8 @@ public class JavaStackTraceConsole extends TextConsole {
     @Override
 	protected void init() {
         JFaceResources.getFontRegistry().addListener(propertyListener);
+		// resolve the types of pasted traces from memory
+		JavaTypeNameIndex.getDefault().prepare();
     }
 
     /**
@@ -149,6 +232,10 @@ public class JavaStackTraceConsole extends TextConsole {
     @Override
 	protected void dispose() {
         saveDocument();
+		getDocument().removeDocumentListener(fPendingHyperlinkUpdater);
+		synchronized (fPendingHyperlinks) {
+			fPendingHyperlinks.clear();
+		}
         JFaceResources.getFontRegistry().removeListener(propertyListener);
         super.dispose();
     }
@@ -201,22 +288,280 @@ public class JavaStackTraceConsole extends TextConsole {
      * performs the formatting of the stacktrace console
      */
     public void format() {
-    	WorkbenchJob job = new WorkbenchJob(ConsoleMessages.JavaStackTraceConsole_1) {
-			@Override
-			public IStatus runInUIThread(IProgressMonitor monitor) {
-	            IDocument document = getDocument();
-	            String orig = document.get();
-	            if (orig != null && orig.length() > 0) {
-	                document.set(format(orig));
-				}
+		format(0, -1);
+    }
 
+	/**
+	 * Formats the lines touched by the given region of the document, together with the lines of
+	 * the trace before it, which determine its indentation. The text is formatted in the
+	 * background and inserted in chunks of lines, such that large thread dumps do not block the
+	 * user interface. The inserted chunks are undone as a single change. If a format is already
+	 * in progress the whole document is formatted after it.
+	 *
+	 * @param offset
+	 *            offset of the region
+	 * @param length
+	 *            length of the region or <code>-1</code> for the rest of the document
+	 */
+	public void format(int offset, int length) {
+		synchronized (fFormatLock) {
+			if (fFormatting) {
+				fFormatRequested = true;
+				return;
+			}
+			fFormatting = true;
+		}
+		new FormatJob(offset, length).schedule();
+	}
+
+	/**
+	 * Called when a format is done, starts the next one if requested meanwhile.
+	 */
+	private void formatDone() {
+		synchronized (fFormatLock) {
+			fFormatting = false;
+			if (!fFormatRequested) {
+				return;
+			}
+			fFormatRequested = false;
+		}
+		format();
+	}
+
+	/**
+	 * Formats a snapshot of a region of the document and hands the result to an
+	 * {@link InsertFormattedJob}.
+	 */
+	private final class FormatJob extends Job {
+
+		private final int fOffset;
+		private final int fLength;
+
+		FormatJob(int offset, int length) {
+			super(ConsoleMessages.JavaStackTraceConsole_1);
+			fOffset = offset;
+			fLength = length;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IDocument document = getDocument();
+			long stamp;
+			int start;
+			String text;
+			try {
+				do {
+					stamp = ((IDocumentExtension4) document).getModificationStamp();
+					int documentLength = document.getLength();
+					int offset = Math.min(fOffset, documentLength);
+					int end = fLength < 0 ? documentLength : Math.min(offset + fLength, documentLength);
+					start = getTraceStart(document, document.getLineOfOffset(offset));
+					IRegion endLine = document.getLineInformationOfOffset(end);
+					end = Math.max(end, endLine.getOffset() + endLine.getLength());
+					text = document.get(start, end - start);
+				} while (stamp != ((IDocumentExtension4) document).getModificationStamp());
+			} catch (BadLocationException e) {
+				// changed concurrently, try again
+				schedule();
+				return Status.OK_STATUS;
+			}
+			if (text.isEmpty() || monitor.isCanceled()) {
+				formatDone();
 				return Status.OK_STATUS;
 			}
-		};
-		job.setSystem(true);
-		job.schedule();
+			String formatted = format(text);
+			if (start > 0 && formatted.startsWith(NL)) {
+				// the region already starts on a new line
+				formatted = formatted.substring(NL.length());
+			}
+			new InsertFormattedJob(this, stamp, start, text.length(), split(formatted)).schedule();
+			return Status.OK_STATUS;
+		}
+	}
 
-    }
+	/**
+	 * Returns the offset of the first line of the trace containing the given line, that is the
+	 * line after the closest empty line before it. How a line is indented depends on the
+	 * <code>Caused by</code> and <code>Suppressed</code> blocks of its trace before it.
+	 */
+	private static int getTraceStart(IDocument document, int line) throws BadLocationException {
+		while (line > 0) {
+			IRegion previous = document.getLineInformation(line - 1);
+			if (document.get(previous.getOffset(), previous.getLength()).isBlank()) {
+				break;
+			}
+			line--;
+		}
+		return document.getLineOffset(line);
+	}
+
+	/**
+	 * Replaces the formatted region of the document chunk by chunk, yielding to the user interface
+	 * in between. The region is only replaced if the document did not change since it was
+	 * formatted, otherwise it is formatted again. All chunks form one compound change for the undo
+	 * manager of the document, if any.
+	 */
+	private final class InsertFormattedJob extends WorkbenchJob {
+
+		private final FormatJob fFormatJob;
+		private final long fStamp;
+		private final int fOffset;
+		private final int fLength;
+		private final List<String> fChunks;
+		private int fNextChunk;
+		/**
+		 * Where to insert the next chunk, updated with changes of the document
+		 */
+		private Position fInsertion;
+		/**
+		 * Undo manager of the document while the compound change is open
+		 */
+		private IDocumentUndoManager fUndoManager;
+
+		InsertFormattedJob(FormatJob formatJob, long stamp, int offset, int length, List<String> chunks) {
+			super(ConsoleMessages.JavaStackTraceConsole_1);
+			fFormatJob = formatJob;
+			fStamp = stamp;
+			fOffset = offset;
+			fLength = length;
+			fChunks = chunks;
+			setSystem(true);
+		}
+
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			IDocument document = getDocument();
+			try {
+				if (fInsertion == null) {
+					if (((IDocumentExtension4) document).getModificationStamp() != fStamp) {
+						fFormatJob.schedule();
+						return Status.OK_STATUS;
+					}
+					fUndoManager = DocumentUndoManagerRegistry.getDocumentUndoManager(document);
+					if (fUndoManager != null) {
+						fUndoManager.beginCompoundChange();
+					}
+					String chunk = fChunks.get(fNextChunk++);
+					document.replace(fOffset, fLength, chunk);
+					fInsertion = new Position(fOffset + chunk.length());
+					document.addPosition(fInsertion);
+				} else {
+					int offset = fInsertion.isDeleted() ? document.getLength() : fInsertion.getOffset();
+					document.replace(offset, 0, fChunks.get(fNextChunk++));
+				}
+			} catch (BadLocationException e) {
+				JDIDebugUIPlugin.log(e);
+				fNextChunk = fChunks.size();
+			}
+			if (fNextChunk < fChunks.size()) {
+				schedule();
+			} else {
+				if (fInsertion != null) {
+					document.removePosition(fInsertion);
+				}
+				if (fUndoManager != null) {
+					fUndoManager.endCompoundChange();
+				}
+				formatDone();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * Splits the given text at line ends into chunks of about {@link #FORMAT_CHUNK_SIZE}
+	 * characters.
+	 */
+	private static List<String> split(String text) {
+		List<String> chunks = new ArrayList<>(text.length() / FORMAT_CHUNK_SIZE + 1);
+		int start = 0;
+		while (text.length() - start > FORMAT_CHUNK_SIZE) {
+			int end = text.indexOf(NL, start + FORMAT_CHUNK_SIZE);
+			if (end == -1) {
+				break;
+			}
+			chunks.add(text.substring(start, end));
+			start = end;
+		}
+		chunks.add(text.substring(start));
+		return chunks;
+	}
+
+	/**
+	 * Adds the given hyperlink to the document if its region is visible, otherwise remembers it
+	 * until it becomes visible. Creating the hyperlinks of large thread dumps up front would make
+	 * every change of the document update all of their positions.
+	 *
+	 * @param link
+	 *            the hyperlink
+	 * @param offset
+	 *            offset of the link
+	 * @param length
+	 *            length of the link
+	 * @throws BadLocationException
+	 *             if the region is not within the document
+	 */
+	void addHyperlinkWhenVisible(IHyperlink link, int offset, int length) throws BadLocationException {
+		synchronized (fPendingHyperlinks) {
+			if (fVisibleStart >= 0 && (offset + length < fVisibleStart || offset > fVisibleEnd)) {
+				int index = fPendingHyperlinks.size();
+				while (index > 0 && fPendingHyperlinks.get(index - 1).fOffset > offset) {
+					index--;
+				}
+				fPendingHyperlinks.add(index, new PendingHyperlink(link, offset, length));
+				return;
+			}
+		}
+		// not holding the lock, the document notifies listeners while locked itself
+		addHyperlink(link, offset, length);
+	}
+
+	/**
+	 * Sets the region shown by the viewer and adds the pending hyperlinks within it.
+	 *
+	 * @param start
+	 *            offset of the first visible character
+	 * @param end
+	 *            offset after the last visible character
+	 * @return whether hyperlinks were added
+	 */
+	boolean revealHyperlinks(int start, int end) {
+		List<PendingHyperlink> visible = new ArrayList<>();
+		synchronized (fPendingHyperlinks) {
+			fVisibleStart = start;
+			fVisibleEnd = end;
+			int low = 0;
+			int high = fPendingHyperlinks.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (fPendingHyperlinks.get(middle).fOffset < start) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			// include links starting before but reaching into the region
+			while (low > 0 && fPendingHyperlinks.get(low - 1).fOffset + fPendingHyperlinks.get(low - 1).fLength >= start) {
+				low--;
+			}
+			int index = low;
+			while (index < fPendingHyperlinks.size() && fPendingHyperlinks.get(index).fOffset <= end) {
+				index++;
+			}
+			List<PendingHyperlink> range = fPendingHyperlinks.subList(low, index);
+			visible.addAll(range);
+			range.clear();
+		}
+		for (PendingHyperlink link : visible) {
+			try {
+				addHyperlink(link.fLink, link.fOffset, link.fLength);
+			} catch (BadLocationException e) {
+				// changed meanwhile, reported again by the pattern matcher
+			}
+		}
+		return !visible.isEmpty();
+	}
 
 	/**
 	 * Underlying format operation
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,13 @@ import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.text.DocumentCommand;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ITextOperationTarget;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.ControlAdapter;
+import org.eclipse.swt.events.ControlEvent;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.ui.console.TextConsoleViewer;
 
@@ -28,6 +33,11 @@ import org.eclipse.ui.console.TextConsoleViewer;
  */
 public class JavaStackTraceConsoleViewer extends TextConsoleViewer {
 
+	/**
+	 * Number of characters before and after the visible region whose hyperlinks are created as well
+	 */
+	private static final int REVEAL_MARGIN = 16 * 1024;
+
 	private final JavaStackTraceConsole fConsole;
 	private boolean fAutoFormat = false;
 
@@ -43,6 +53,29 @@ public class JavaStackTraceConsoleViewer extends TextConsoleViewer {
 
 		IPreferenceStore fPreferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
 		fAutoFormat = fPreferenceStore.getBoolean(IJDIPreferencesConstants.PREF_AUTO_FORMAT_JSTCONSOLE);
+
+		// hyperlinks are only created for the visible part of the document
+		addViewportListener(verticalOffset -> revealHyperlinks());
+		addTextListener(event -> revealHyperlinks());
+		getTextWidget().addControlListener(new ControlAdapter() {
+			@Override
+			public void controlResized(ControlEvent e) {
+				revealHyperlinks();
+			}
+		});
+		revealHyperlinks();
+	}
+
+	/**
+	 * Reports the visible region to the console, adding the hyperlinks within it.
+	 */
+	private void revealHyperlinks() {
+		if (getDocument() == null || getTextWidget() == null || getTextWidget().isDisposed()) {
+			return;
+		}
+		if (fConsole.revealHyperlinks(Math.max(0, getTopIndexStartOffset() - REVEAL_MARGIN), getBottomIndexEndOffset() + REVEAL_MARGIN)) {
+			getTextWidget().redraw();
+		}
 	}
 
 	/**
@@ -67,10 +100,32 @@ public class JavaStackTraceConsoleViewer extends TextConsoleViewer {
 	 */
 	@Override
 	public void doOperation(int operation) {
-		super.doOperation(operation);
+		if (!fAutoFormat || operation != ITextOperationTarget.PASTE) {
+			super.doOperation(operation);
+			return;
+		}
+		// only format the pasted text and the trace it continues
+		int[] pasted = { -1, 0 };
+		IDocumentListener listener = new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+			}
 
-		if (fAutoFormat && operation == ITextOperationTarget.PASTE) {
-			fConsole.format();
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				pasted[0] = event.getOffset();
+				pasted[1] = event.getText() == null ? 0 : event.getText().length();
+			}
+		};
+		IDocument document = getDocument();
+		document.addDocumentListener(listener);
+		try {
+			super.doOperation(operation);
+		} finally {
+			document.removeDocumentListener(listener);
+		}
+		if (pasted[0] >= 0) {
+			fConsole.format(pasted[0], pasted[1]);
 		}
 	}
 
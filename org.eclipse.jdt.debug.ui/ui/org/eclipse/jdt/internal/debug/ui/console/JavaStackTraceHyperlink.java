@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,14 +133,25 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 				ILaunch launch = getLaunch();
 				Object result = null;
 				try {
-					// search for the type in the workspace
-					result = OpenTypeAction.findTypeInWorkspace(typeName, true);
+					// look the type up in the workspace index, search if it is not built yet or
+					// a binary type of that name may be meant as well
+					List<IType> types = JavaTypeNameIndex.getDefault().findTypes(typeName);
+					if (types != null && JavaTypeNameIndex.hasBinaryType(typeName, monitor)) {
+						types = null;
+					}
+					if (types == null) {
+						result = OpenTypeAction.findTypeInWorkspace(typeName, true);
+					} else if (types.size() == 1) {
+						result = types.get(0);
+					}
 					if (result == null && launch != null) {
 						result = JavaDebugUtils.resolveSourceElement(JavaDebugUtils.generateSourceName(typeName), getLaunch());
 					}
 					if (result == null) {
 						// search for all types in the workspace
-						List<IType> types = findTypesInWorkspace(typeName);
+						if (types == null) {
+							types = findTypesInWorkspace(typeName);
+						}
 						if (types.isEmpty()) {
 							result = null;
 						} else {
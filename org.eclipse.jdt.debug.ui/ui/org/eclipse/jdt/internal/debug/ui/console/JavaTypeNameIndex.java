@@ -0,0 +1,526 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+
+/**
+ * In-memory index of the source types in the workspace by fully qualified and
+ * by simple name, used to resolve stack trace hyperlinks and clipboard
+ * contents without a search per lookup. Binary types, such as those of the JRE
+ * and of libraries, are not indexed; lookups of them fall back to a search.
+ * <p>
+ * The index is built by a single type name search over the source folders of
+ * the workspace the first time it is needed, and is then kept up to date from
+ * Java element deltas in the background. Compilation units that are added,
+ * removed or whose types change are re-indexed individually. Projects, source
+ * folders and packages that are added, removed or whose classpath changes are
+ * re-indexed by a search restricted to them. While the index is being built
+ * or has changes pending, lookups answer <code>null</code> and callers fall
+ * back to a search.
+ * </p>
+ */
+public final class JavaTypeNameIndex implements IElementChangedListener {
+
+	/**
+	 * Delta flags on projects and package fragment roots which affect the
+	 * contained source types
+	 */
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH;
+
+	private static final JavaTypeNameIndex fgDefault = new JavaTypeNameIndex();
+
+	/**
+	 * Types by fully qualified name, member types qualified with '.', or
+	 * <code>null</code> if the index is not built
+	 */
+	private Map<String, List<IType>> fQualifiedNames;
+
+	/**
+	 * Types by simple name, or <code>null</code> if the index is not built
+	 */
+	private Map<String, List<IType>> fSimpleNames;
+
+	/**
+	 * Indexed types by compilation unit, or <code>null</code> if the index is
+	 * not built
+	 */
+	private Map<ICompilationUnit, List<IType>> fUnits;
+
+	/**
+	 * Whether the index is to be built, i.e. it was requested since it was last
+	 * discarded
+	 */
+	private boolean fRequested;
+
+	/**
+	 * Incremented whenever the index is discarded, an index built across a
+	 * change is not installed
+	 */
+	private long fGeneration;
+
+	/**
+	 * Compilation units, packages, package fragment roots and projects to
+	 * re-index, with the stamp of their last change
+	 */
+	private final Map<IJavaElement, Long> fChangedElements = new LinkedHashMap<>();
+
+	/**
+	 * Incremented for every changed element
+	 */
+	private long fChangeStamp;
+	private final Job fUpdateJob = new Job("Update type name index") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				update(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				JDIDebugUIPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private boolean fStarted;
+
+	private JavaTypeNameIndex() {
+		fUpdateJob.setSystem(true);
+		fUpdateJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Returns the shared index.
+	 *
+	 * @return the shared index
+	 */
+	public static JavaTypeNameIndex getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Starts listening to Java model changes. The index itself is built on
+	 * first use.
+	 */
+	public synchronized void start() {
+		if (!fStarted) {
+			fStarted = true;
+			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+		}
+	}
+
+	/**
+	 * Stops listening and discards the index.
+	 */
+	public void stop() {
+		synchronized (this) {
+			fStarted = false;
+			fRequested = false;
+			discard();
+		}
+		JavaCore.removeElementChangedListener(this);
+		fUpdateJob.cancel();
+	}
+
+	/**
+	 * Starts building the index in the background if not already built, such
+	 * that subsequent lookups are answered from memory.
+	 */
+	public synchronized void prepare() {
+		if (fStarted && !fRequested) {
+			fRequested = true;
+			fUpdateJob.schedule();
+		}
+	}
+
+	/**
+	 * Returns the source types with the given name in the workspace, or
+	 * <code>null</code> if there are none, the index is not built yet or has
+	 * changes pending, in which case a search is to be performed. A qualified
+	 * name is matched against fully qualified type names, a simple name against
+	 * simple type names in any package. Member types may be qualified with '$'
+	 * or '.'.
+	 *
+	 * @param typeName
+	 *            fully qualified or simple type name
+	 * @return matching source types or <code>null</code> if unknown
+	 */
+	public List<IType> findTypes(String typeName) {
+		String name = typeName.replace('$', '.');
+		synchronized (this) {
+			if (fQualifiedNames == null) {
+				prepare();
+				return null;
+			}
+			if (!fChangedElements.isEmpty()) {
+				return null;
+			}
+			List<IType> types = (name.indexOf('.') != -1 ? fQualifiedNames : fSimpleNames).get(name);
+			// not a source type, possibly a binary one
+			return types != null ? new ArrayList<>(types) : null;
+		}
+	}
+
+	/**
+	 * Returns whether a binary type with the given name is on the classpath of
+	 * a workspace project, such as a type of a library or of the JRE. Source
+	 * types answered by {@link #findTypes(String)} for such a name are not the
+	 * only candidates, and the name is to be resolved by a search.
+	 *
+	 * @param typeName
+	 *            fully qualified or simple type name
+	 * @param monitor
+	 *            progress monitor or <code>null</code>
+	 * @return whether a binary type with the given name exists
+	 * @throws CoreException
+	 *             if the search failed
+	 */
+	public static boolean hasBinaryType(String typeName, IProgressMonitor monitor) throws CoreException {
+		String name = typeName.replace('$', '.');
+		int dot = name.lastIndexOf('.');
+		char[][] qualifications = dot != -1 ? new char[][] { name.substring(0, dot).toCharArray() } : null;
+		char[][] simpleNames = new char[][] { name.substring(dot + 1).toCharArray() };
+		IJavaElement[] projects = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(projects, IJavaSearchScope.APPLICATION_LIBRARIES | IJavaSearchScope.SYSTEM_LIBRARIES);
+		boolean[] found = { false };
+		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				found[0] = true;
+				// one match is enough
+				throw new OperationCanceledException();
+			}
+		};
+		try {
+			new SearchEngine().searchAllTypeNames(qualifications, simpleNames, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		} catch (OperationCanceledException e) {
+			if (!found[0]) {
+				throw e;
+			}
+		}
+		return found[0];
+	}
+
+	/**
+	 * Builds the index if requested and not built, then re-indexes changed
+	 * elements.
+	 */
+	private void update(IProgressMonitor monitor) throws CoreException {
+		long generation;
+		boolean build;
+		synchronized (this) {
+			if (!fRequested) {
+				return;
+			}
+			generation = fGeneration;
+			build = fQualifiedNames == null;
+			if (build) {
+				// the build reflects all changes up to now
+				fChangedElements.clear();
+			}
+		}
+		if (build) {
+			build(generation, monitor);
+		}
+		Map<IJavaElement, Long> elements;
+		synchronized (this) {
+			if (fQualifiedNames == null || fChangedElements.isEmpty()) {
+				return;
+			}
+			elements = new LinkedHashMap<>(fChangedElements);
+		}
+		Map<IJavaElement, List<IType>> types = new HashMap<>();
+		for (IJavaElement element : elements.keySet()) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			List<IType> elementTypes = new ArrayList<>();
+			if (element.exists()) {
+				try {
+					if (element instanceof ICompilationUnit unit) {
+						Collections.addAll(elementTypes, unit.getAllTypes());
+					} else {
+						search(element, elementTypes, monitor);
+					}
+				} catch (JavaModelException e) {
+					// not indexed until changed again
+				}
+			}
+			types.put(element, elementTypes);
+		}
+		synchronized (this) {
+			if (generation != fGeneration || fQualifiedNames == null) {
+				return;
+			}
+			for (IJavaElement element : elements.keySet()) {
+				if (fChangedElements.get(element).equals(elements.get(element))) {
+					// not changed again in the meantime
+					fChangedElements.remove(element);
+				} else {
+					fUpdateJob.schedule();
+				}
+				if (element instanceof ICompilationUnit unit) {
+					removeTypes(fUnits.remove(unit));
+				} else {
+					for (Iterator<Map.Entry<ICompilationUnit, List<IType>>> iterator = fUnits.entrySet().iterator(); iterator.hasNext();) {
+						Map.Entry<ICompilationUnit, List<IType>> entry = iterator.next();
+						if (isWithin(entry.getKey(), element)) {
+							iterator.remove();
+							removeTypes(entry.getValue());
+						}
+					}
+				}
+				for (IType type : types.get(element)) {
+					add(type);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Searches the type names of the source folders of the workspace and
+	 * installs the index, unless it was discarded in the meantime.
+	 */
+	private void build(long generation, IProgressMonitor monitor) throws CoreException {
+		List<IType> types = new ArrayList<>();
+		search(null, types, monitor);
+		Map<String, List<IType>> qualifiedNames = new HashMap<>();
+		Map<String, List<IType>> simpleNames = new HashMap<>();
+		Map<ICompilationUnit, List<IType>> units = new HashMap<>();
+		for (IType type : types) {
+			put(qualifiedNames, type.getFullyQualifiedName('.'), type);
+			put(simpleNames, type.getElementName(), type);
+			put(units, type.getCompilationUnit(), type);
+		}
+		synchronized (this) {
+			if (generation == fGeneration && fRequested) {
+				fQualifiedNames = qualifiedNames;
+				fSimpleNames = simpleNames;
+				fUnits = units;
+			} else if (fRequested) {
+				fUpdateJob.schedule();
+			}
+		}
+	}
+
+	/**
+	 * Collects the source types of the given project, package fragment root or
+	 * package, or of the whole workspace if <code>null</code>.
+	 */
+	private static void search(IJavaElement element, List<IType> types, IProgressMonitor monitor) throws CoreException {
+		IJavaElement[] elements;
+		if (element != null) {
+			elements = new IJavaElement[] { element };
+		} else {
+			elements = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+		}
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(elements, IJavaSearchScope.SOURCES);
+		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				String simpleName = match.getSimpleTypeName();
+				if (simpleName == null || simpleName.isEmpty()) {
+					return;
+				}
+				IType type = match.getType();
+				if (type.getCompilationUnit() != null && (element == null || isWithin(type, element))) {
+					types.add(type);
+				}
+			}
+		};
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+	}
+
+	/**
+	 * Returns whether the given element is the given container or one of its
+	 * descendants.
+	 */
+	private static boolean isWithin(IJavaElement element, IJavaElement container) {
+		for (IJavaElement parent = element; parent != null; parent = parent.getParent()) {
+			if (parent.equals(container)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void add(IType type) {
+		put(fQualifiedNames, type.getFullyQualifiedName('.'), type);
+		put(fSimpleNames, type.getElementName(), type);
+		put(fUnits, type.getCompilationUnit(), type);
+	}
+
+	private void removeTypes(List<IType> types) {
+		if (types != null) {
+			for (IType type : types) {
+				remove(fQualifiedNames, type.getFullyQualifiedName('.'), type);
+				remove(fSimpleNames, type.getElementName(), type);
+			}
+		}
+	}
+
+	private static <K> void put(Map<K, List<IType>> map, K key, IType type) {
+		List<IType> types = map.get(key);
+		if (types == null) {
+			map.put(key, Collections.singletonList(type));
+		} else {
+			if (types.size() == 1) {
+				types = new ArrayList<>(types);
+				map.put(key, types);
+			}
+			types.add(type);
+		}
+	}
+
+	private static void remove(Map<String, List<IType>> map, String key, IType type) {
+		List<IType> types = map.get(key);
+		if (types == null) {
+			return;
+		}
+		if (types.size() == 1) {
+			if (types.get(0).equals(type)) {
+				map.remove(key);
+			}
+		} else {
+			types.remove(type);
+		}
+	}
+
+	/**
+	 * Discards the index, to be rebuilt when requested.
+	 */
+	private synchronized void discard() {
+		fQualifiedNames = null;
+		fSimpleNames = null;
+		fUnits = null;
+		fChangedElements.clear();
+		fGeneration++;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (!fRequested) {
+				// nothing built or being built
+				return;
+			}
+		}
+		Set<IJavaElement> changed = new LinkedHashSet<>();
+		collectChanges(event.getDelta(), changed);
+		if (!changed.isEmpty()) {
+			synchronized (this) {
+				for (IJavaElement element : changed) {
+					fChangedElements.put(element, Long.valueOf(++fChangeStamp));
+				}
+			}
+			fUpdateJob.schedule();
+		}
+	}
+
+	/**
+	 * Collects the compilation units, packages, package fragment roots and
+	 * projects whose source types may have changed.
+	 */
+	private void collectChanges(IJavaElementDelta delta, Set<IJavaElement> changed) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+					changed.add(element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (((IPackageFragmentRoot) element).isArchive()) {
+					// binary types are not indexed
+					return;
+				}
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+					changed.add(element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					// contained units are not necessarily reported
+					changed.add(element);
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit = (ICompilationUnit) element;
+				if (!unit.isWorkingCopy() && (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 || hasTypeChanges(delta))) {
+					changed.add(unit);
+				}
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChanges(child, changed);
+		}
+	}
+
+	/**
+	 * Returns whether the given fine grained delta adds, removes or renames a
+	 * type.
+	 */
+	private static boolean hasTypeChanges(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() == IJavaElement.TYPE) {
+				if (child.getKind() != IJavaElementDelta.CHANGED || hasTypeChanges(child)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.heapwalking;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PartInitException;
+
+/**
+ * Action to search the paths from garbage collection roots to the selected
+ * object, shown in the {@link GCRootPathsView}.
+ */
+public class GCRootPathsActionDelegate extends BaseInstanceActionDelegate {
+
+	@Override
+	public void run(IAction action) {
+		IStructuredSelection currentSelection = getCurrentSelection();
+		if (currentSelection != null && (currentSelection.getFirstElement() instanceof IJavaVariable)) {
+			IJavaVariable var = (IJavaVariable) currentSelection.getFirstElement();
+			try {
+				if (var.getValue() instanceof IJavaObject object) {
+					IWorkbenchWindow window = fWindow != null ? fWindow : getWorkbenchWindow();
+					GCRootPathsView view = (GCRootPathsView) window.getActivePage().showView(GCRootPathsView.ID);
+					view.findPaths(var.getName(), object);
+					return;
+				}
+			} catch (DebugException e) {
+				JDIDebugUIPlugin.statusDialog(e.getStatus());
+				return;
+			} catch (PartInitException e) {
+				JDIDebugUIPlugin.statusDialog(e.getStatus());
+				return;
+			}
+		}
+		JDIDebugUIPlugin.statusDialog(new Status(IStatus.WARNING, JDIDebugUIPlugin.getUniqueIdentifier(), Messages.AllReferencesActionDelegate_0));
+	}
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.heapwalking;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.ui.DebugUITools;
+import org.eclipse.debug.ui.IDebugModelPresentation;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.internal.debug.core.GCRootPathFinder;
+import org.eclipse.jdt.internal.debug.core.GCRootPathFinder.Path;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * Shows the shortest paths from garbage collection roots to an object, as
+ * they are found by a {@link GCRootPathFinder} running in the background.
+ */
+public class GCRootPathsView extends ViewPart {
+
+	/**
+	 * Identifier of this view
+	 */
+	public static final String ID = "org.eclipse.jdt.debug.ui.GCRootPathsView"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of references on a path
+	 */
+	private static final int MAX_DEPTH = 32;
+
+	/**
+	 * Maximum number of paths to find
+	 */
+	private static final int MAX_PATHS = 20;
+
+	private Tree fTree;
+
+	/**
+	 * Labels of values, only used by the search job
+	 */
+	private IDebugModelPresentation fPresentation;
+
+	/**
+	 * The running search or <code>null</code>
+	 */
+	private Job fJob;
+
+	@Override
+	public void createPartControl(Composite parent) {
+		fTree = new Tree(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+		fPresentation = DebugUITools.newDebugModelPresentation();
+	}
+
+	/**
+	 * Searches the paths to the given object, replacing the paths shown.
+	 *
+	 * @param name
+	 *            name of the variable holding the object
+	 * @param object
+	 *            the object
+	 */
+	public void findPaths(String name, IJavaObject object) {
+		if (fJob != null) {
+			fJob.cancel();
+		}
+		fTree.removeAll();
+		setContentDescription(NLS.bind(Messages.GCRootPathsView_0, name));
+		if (!(object.getDebugTarget() instanceof JDIDebugTarget target)) {
+			return;
+		}
+		fJob = new Job(NLS.bind(Messages.GCRootPathsView_0, name)) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				GCRootPathFinder finder = new GCRootPathFinder(target, MAX_DEPTH, MAX_PATHS);
+				int found;
+				try {
+					found = finder.find(object, path -> addPath(this, path), monitor);
+				} catch (DebugException e) {
+					setDescription(this, e.getStatus().getMessage());
+					return Status.OK_STATUS;
+				}
+				if (!monitor.isCanceled()) {
+					setDescription(this, found == 0 ? NLS.bind(Messages.GCRootPathsView_1, name) : NLS.bind(Messages.GCRootPathsView_2, name, Integer.toString(found)));
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		fJob.schedule();
+	}
+
+	/**
+	 * Adds a tree item for the given path found by the given search, unless
+	 * another search has been started. Called by the search job.
+	 */
+	private void addPath(Job job, Path path) {
+		String root;
+		switch (path.getRootKind()) {
+			case GCRootPathFinder.ROOT_STATIC_FIELD:
+				root = NLS.bind(Messages.GCRootPathsView_3, path.getRoot());
+				break;
+			case GCRootPathFinder.ROOT_THREAD:
+				root = NLS.bind(Messages.GCRootPathsView_4, path.getRoot());
+				break;
+			default:
+				root = Messages.GCRootPathsView_5;
+				break;
+		}
+		String label = NLS.bind(Messages.GCRootPathsView_6, root, Integer.toString(path.getLength()));
+		// compute the labels outside the UI thread, they may need the target
+		String[] elements = new String[path.getLength()];
+		for (int i = 0; i < elements.length; i++) {
+			String reference = path.getReference(i);
+			elements[i] = fPresentation.getText(path.getObject(i)) + (reference != null ? "  " + reference : ""); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		asyncExec(job, () -> {
+			TreeItem item = new TreeItem(fTree, SWT.NONE);
+			item.setText(label);
+			for (String element : elements) {
+				new TreeItem(item, SWT.NONE).setText(element);
+			}
+			if (fTree.getItemCount() == 1) {
+				item.setExpanded(true);
+			}
+		});
+	}
+
+	private void setDescription(Job job, String description) {
+		asyncExec(job, () -> setContentDescription(description));
+	}
+
+	/**
+	 * Runs the given runnable in the UI thread if the view is open and the
+	 * given search is still the current one.
+	 */
+	private void asyncExec(Job job, Runnable runnable) {
+		Tree tree = fTree;
+		if (!tree.isDisposed()) {
+			tree.getDisplay().asyncExec(() -> {
+				if (!tree.isDisposed() && job == fJob) {
+					runnable.run();
+				}
+			});
+		}
+	}
+
+	@Override
+	public void setFocus() {
+		fTree.setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		if (fJob != null) {
+			fJob.cancel();
+		}
+		if (fPresentation != null) {
+			fPresentation.dispose();
+		}
+		super.dispose();
+	}
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.heapwalking;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.ui.DebugUITools;
+import org.eclipse.debug.ui.contexts.DebugContextEvent;
+import org.eclipse.debug.ui.contexts.IDebugContextListener;
+import org.eclipse.debug.ui.contexts.IDebugContextService;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.internal.debug.core.HeapHistogram;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.ui.IActionBars;
+import org.eclipse.ui.actions.ActionFactory;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * Shows the number of instances of every loaded type of the debug target of
+ * the current debug context, and the change since the previous histogram of
+ * the target. Computing a histogram walks the whole heap of the target, so it
+ * is only computed the first time a target is shown and then on request.
+ */
+public class HeapHistogramView extends ViewPart implements IDebugContextListener, IDebugEventSetListener {
+
+	private static final int SORT_BY_NAME = 0;
+	private static final int SORT_BY_COUNT = 1;
+	private static final int SORT_BY_DELTA = 2;
+
+	/**
+	 * Last histogram of each target, to compute changes against. Histograms
+	 * reference their target, so the entries are removed when the targets
+	 * terminate.
+	 */
+	private final Map<JDIDebugTarget, HeapHistogram> fPrevious = new HashMap<>();
+
+	private Table fTable;
+
+	/**
+	 * Target of the current debug context or <code>null</code>
+	 */
+	private volatile JDIDebugTarget fTarget;
+
+	/**
+	 * Histogram shown or <code>null</code>
+	 */
+	private HeapHistogram fHistogram;
+
+	/**
+	 * Histogram indices in the order shown
+	 */
+	private int[] fOrder = new int[0];
+
+	/**
+	 * Column the table is sorted by, one of {@link #SORT_BY_NAME},
+	 * {@link #SORT_BY_COUNT} and {@link #SORT_BY_DELTA}
+	 */
+	private int fSortBy = SORT_BY_COUNT;
+
+	private final Action fRefreshAction = new Action(Messages.HeapHistogramView_6) {
+		@Override
+		public void run() {
+			if (fTarget != null) {
+				setContentDescription(Messages.HeapHistogramView_3);
+				fRefreshJob.schedule();
+			}
+		}
+	};
+
+	private final Job fRefreshJob = new Job(Messages.HeapHistogramView_3) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			JDIDebugTarget target = fTarget;
+			if (target == null || target.isTerminated() || target.isDisconnected()) {
+				return Status.OK_STATUS;
+			}
+			HeapHistogram histogram = null;
+			try {
+				HeapHistogram previous;
+				synchronized (fPrevious) {
+					previous = fPrevious.get(target);
+				}
+				histogram = HeapHistogram.compute(target, previous);
+				synchronized (fPrevious) {
+					fPrevious.put(target, histogram);
+				}
+			} catch (DebugException e) {
+				// not supported or the target went away, show nothing
+			}
+			if (target == fTarget && !monitor.isCanceled()) {
+				HeapHistogram result = histogram;
+				Table table = fTable;
+				if (!table.isDisposed()) {
+					table.getDisplay().asyncExec(() -> setHistogram(target, result));
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * Creates the view.
+	 */
+	public HeapHistogramView() {
+		fRefreshJob.setSystem(true);
+	}
+
+	@Override
+	public void createPartControl(Composite parent) {
+		Table table = new Table(parent, SWT.VIRTUAL | SWT.FULL_SELECTION | SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+		fTable = table;
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		createColumn(table, Messages.HeapHistogramView_0, SWT.LEFT, 400, SORT_BY_NAME);
+		createColumn(table, Messages.HeapHistogramView_1, SWT.RIGHT, 100, SORT_BY_COUNT);
+		createColumn(table, Messages.HeapHistogramView_2, SWT.RIGHT, 100, SORT_BY_DELTA);
+		// items are only filled in when they become visible
+		table.addListener(SWT.SetData, event -> {
+			TableItem item = (TableItem) event.item;
+			int index = table.indexOf(item);
+			if (fHistogram != null && index < fOrder.length) {
+				int type = fOrder[index];
+				item.setText(new String[] { fHistogram.getTypeName(type), Long.toString(fHistogram.getCount(type)),
+						formatDelta(fHistogram, type) });
+			}
+		});
+		fRefreshAction.setToolTipText(Messages.HeapHistogramView_7);
+		fRefreshAction.setEnabled(false);
+		IActionBars actionBars = getViewSite().getActionBars();
+		actionBars.getToolBarManager().add(fRefreshAction);
+		actionBars.setGlobalActionHandler(ActionFactory.REFRESH.getId(), fRefreshAction);
+		actionBars.updateActionBars();
+		DebugPlugin.getDefault().addDebugEventListener(this);
+		IDebugContextService service = DebugUITools.getDebugContextManager().getContextService(getSite().getWorkbenchWindow());
+		service.addDebugContextListener(this);
+		setTarget(service.getActiveContext());
+	}
+
+	private void createColumn(Table table, String text, int style, int width, int sortBy) {
+		TableColumn column = new TableColumn(table, style);
+		column.setText(text);
+		column.setWidth(width);
+		column.addListener(SWT.Selection, event -> {
+			fSortBy = sortBy;
+			table.setSortColumn(column);
+			table.setSortDirection(sortBy == SORT_BY_NAME ? SWT.UP : SWT.DOWN);
+			setHistogram(fTarget, fHistogram);
+		});
+	}
+
+	/**
+	 * Returns the change of the given type as a signed number, or an empty
+	 * string if there is no previous histogram.
+	 */
+	private static String formatDelta(HeapHistogram histogram, int index) {
+		if (!histogram.hasPrevious()) {
+			return ""; //$NON-NLS-1$
+		}
+		long delta = histogram.getDelta(index);
+		return delta > 0 ? "+" + delta : Long.toString(delta); //$NON-NLS-1$
+	}
+
+	/**
+	 * Shows the given histogram of the given target, unless the target is not
+	 * the current one anymore.
+	 */
+	private void setHistogram(JDIDebugTarget target, HeapHistogram histogram) {
+		if (fTable.isDisposed() || target != fTarget) {
+			return;
+		}
+		fHistogram = histogram;
+		int size = histogram != null ? histogram.size() : 0;
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = Integer.valueOf(i);
+		}
+		if (fSortBy == SORT_BY_NAME && histogram != null) {
+			Arrays.sort(order, (i1, i2) -> histogram.getTypeName(i1.intValue()).compareTo(histogram.getTypeName(i2.intValue())));
+		} else if (fSortBy == SORT_BY_DELTA && histogram != null) {
+			Arrays.sort(order, (i1, i2) -> Long.compare(histogram.getDelta(i2.intValue()), histogram.getDelta(i1.intValue())));
+		}
+		fOrder = new int[size];
+		for (int i = 0; i < size; i++) {
+			fOrder[i] = order[i].intValue();
+		}
+		fTable.clearAll();
+		fTable.setItemCount(size);
+		if (histogram != null) {
+			setContentDescription(NLS.bind(Messages.HeapHistogramView_4, Long.toString(histogram.getTotalCount()), Integer.toString(size)));
+		} else {
+			setContentDescription(target != null ? Messages.HeapHistogramView_5 : ""); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Makes the debug target of the given context the current one and shows
+	 * its last histogram, computing one if there is none yet.
+	 */
+	private void setTarget(ISelection context) {
+		JDIDebugTarget target = null;
+		if (context instanceof IStructuredSelection) {
+			Object element = ((IStructuredSelection) context).getFirstElement();
+			if (element instanceof IDebugElement) {
+				Object adapter = ((IDebugElement) element).getDebugTarget().getAdapter(IJavaDebugTarget.class);
+				if (adapter instanceof JDIDebugTarget && ((JDIDebugTarget) adapter).supportsInstanceRetrieval()) {
+					target = (JDIDebugTarget) adapter;
+				}
+			}
+		}
+		if (target != fTarget) {
+			fTarget = target;
+			fRefreshAction.setEnabled(target != null);
+			HeapHistogram previous = null;
+			if (target != null) {
+				synchronized (fPrevious) {
+					previous = fPrevious.get(target);
+				}
+			}
+			setHistogram(target, previous);
+			if (target != null && previous == null) {
+				setContentDescription(Messages.HeapHistogramView_3);
+				fRefreshJob.schedule();
+			}
+		}
+	}
+
+	@Override
+	public void debugContextChanged(DebugContextEvent event) {
+		if ((event.getFlags() & DebugContextEvent.ACTIVATED) > 0) {
+			setTarget(event.getContext());
+		}
+	}
+
+	@Override
+	public void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof JDIDebugTarget target) {
+				synchronized (fPrevious) {
+					fPrevious.remove(target);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void setFocus() {
+		fTable.setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		DebugPlugin.getDefault().removeDebugEventListener(this);
+		DebugUITools.getDebugContextManager().getContextService(getSite().getWorkbenchWindow()).removeDebugContextListener(this);
+		fRefreshJob.cancel();
+		synchronized (fPrevious) {
+			fPrevious.clear();
+		}
+		super.dispose();
+	}
+}
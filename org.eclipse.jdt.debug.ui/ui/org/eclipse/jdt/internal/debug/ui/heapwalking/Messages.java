@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2006, 2010 IBM Corporation and others.
+ *  Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,23 @@ public class Messages extends NLS {
 
 	public static String InstanceCountActionDelegate_3;
 
+	public static String HeapHistogramView_0;
+	public static String HeapHistogramView_1;
+	public static String HeapHistogramView_2;
+	public static String HeapHistogramView_3;
+	public static String HeapHistogramView_4;
+	public static String HeapHistogramView_5;
+	public static String HeapHistogramView_6;
+	public static String HeapHistogramView_7;
+
+	public static String GCRootPathsView_0;
+	public static String GCRootPathsView_1;
+	public static String GCRootPathsView_2;
+	public static String GCRootPathsView_3;
+	public static String GCRootPathsView_4;
+	public static String GCRootPathsView_5;
+	public static String GCRootPathsView_6;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2018 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,8 @@ public class LauncherMessages extends NLS {
 	public static String JavaArgumentsTab_AttributeTooltip_ActivateHelpfulNullPointerExceptions;
 	public static String JavaArgumentsTab_AttributeLabel_UseArgfile;
 	public static String JavaArgumentsTab_AttributeTooltip_UseArgfile;
+	public static String JavaArgumentsTab_AttributeLabel_UseCdsArchive;
+	public static String JavaArgumentsTab_AttributeTooltip_UseCdsArchive;
 
 	public static String JavaArgumentsTab_AttributeLabel_WorkingDirectory;
 
@@ -61,6 +63,7 @@ public class LauncherMessages extends NLS {
 
 	public static String VMArgumentsBlock_VM_Arguments;
 	public static String VMArgumentsBlock_4;
+	public static String VMArgumentsBlock_5;
 
 	public static String JavaConnectTab__Allow_termination_of_remote_VM_6;
 	public static String JavaConnectTab_Conn_ect_20;
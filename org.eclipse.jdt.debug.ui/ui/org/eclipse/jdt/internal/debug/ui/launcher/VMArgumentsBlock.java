@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,7 @@ public class VMArgumentsBlock extends JavaLaunchTab {
 	private Button fUseStartOnFirstThread = null;
 	private Button fHelpfulExceptions = null;
 	private Button fUseArgfile = null;
+	private Button fUseCdsArchive = null;
 	private Button fPgrmArgVariableButton;
 
 	/**
@@ -132,6 +133,15 @@ public class VMArgumentsBlock extends JavaLaunchTab {
 				scheduleUpdateJob();
 			}
 		});
+		fUseCdsArchive = SWTFactory.createCheckButton(group, LauncherMessages.VMArgumentsBlock_5, null, false, 1);
+		fUseCdsArchive.setEnabled(false);
+		fUseCdsArchive.setToolTipText(LauncherMessages.JavaArgumentsTab_AttributeTooltip_UseCdsArchive);
+		fUseCdsArchive.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				scheduleUpdateJob();
+			}
+		});
 	}
 
 	/**
@@ -143,6 +153,7 @@ public class VMArgumentsBlock extends JavaLaunchTab {
 		configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_START_ON_FIRST_THREAD, true);
 		configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_SHOW_CODEDETAILS_IN_EXCEPTION_MESSAGES, true);
 		configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_ARGFILE, false);
+		configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, false);
 	}
 
 	/**
@@ -161,6 +172,9 @@ public class VMArgumentsBlock extends JavaLaunchTab {
 			if (fUseArgfile != null) {
 				fUseArgfile.setSelection(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_ARGFILE, false));
 			}
+			if (fUseCdsArchive != null) {
+				fUseCdsArchive.setSelection(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, false));
+			}
 		} catch (CoreException e) {
 			setErrorMessage(LauncherMessages.JavaArgumentsTab_Exception_occurred_reading_configuration___15 + e.getStatus().getMessage());
 			JDIDebugUIPlugin.log(e);
@@ -188,6 +202,12 @@ public class VMArgumentsBlock extends JavaLaunchTab {
 		} else {
 			fUseArgfile.setEnabled(false);
 		}
+		if (isJavaNewerThan(configuration, JavaCore.VERSION_12)) {
+			configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, fUseCdsArchive.getSelection());
+			fUseCdsArchive.setEnabled(true);
+		} else {
+			fUseCdsArchive.setEnabled(false);
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.debug.ui.monitors;
 import org.eclipse.debug.internal.ui.model.elements.ElementContentProvider;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPreferenceInitializer;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -31,6 +32,8 @@ public abstract class JavaElementContentProvider extends ElementContentProvider
 
 	private static boolean fgDisplayMonitors;
 	private static boolean fgDisplayThreadGroups;
+	private static boolean fgGroupThreadsByState;
+	private static boolean fgGroupThreadsByName;
 
 	static {
 		IPreferenceStore preferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
@@ -41,18 +44,44 @@ public abstract class JavaElementContentProvider extends ElementContentProvider
 					fgDisplayMonitors= JDIDebugUIPreferenceInitializer.getBoolean(event);
 				} else if (event.getProperty().equals(IJavaDebugUIConstants.PREF_SHOW_THREAD_GROUPS)) {
 					fgDisplayThreadGroups= JDIDebugUIPreferenceInitializer.getBoolean(event);
+				} else if (event.getProperty().equals(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_STATE)) {
+					fgGroupThreadsByState = JDIDebugUIPreferenceInitializer.getBoolean(event);
+				} else if (event.getProperty().equals(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME)) {
+					fgGroupThreadsByName = JDIDebugUIPreferenceInitializer.getBoolean(event);
 				}
 			}
 
 		});
 		fgDisplayMonitors= preferenceStore.getBoolean(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO);
 		fgDisplayThreadGroups = preferenceStore.getBoolean(IJavaDebugUIConstants.PREF_SHOW_THREAD_GROUPS);
+		fgGroupThreadsByState = preferenceStore.getBoolean(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_STATE);
+		fgGroupThreadsByName = preferenceStore.getBoolean(IJDIPreferencesConstants.PREF_GROUP_THREADS_BY_NAME);
 	}
 
 	public static boolean isDisplayThreadGroups() {
 		return fgDisplayThreadGroups;
 	}
 
+	/**
+	 * Returns whether threads are grouped by their state. Thread groups take
+	 * precedence over grouping.
+	 *
+	 * @return whether threads are grouped by their state
+	 */
+	public static boolean isGroupThreadsByState() {
+		return fgGroupThreadsByState && !fgDisplayThreadGroups;
+	}
+
+	/**
+	 * Returns whether threads are grouped by the prefix of their names.
+	 * Thread groups take precedence over grouping.
+	 *
+	 * @return whether threads are grouped by the prefix of their names
+	 */
+	public static boolean isGroupThreadsByName() {
+		return fgGroupThreadsByName && !fgDisplayThreadGroups;
+	}
+
 	public static boolean isDisplayMonitors() {
 	    return fgDisplayMonitors;
 	}
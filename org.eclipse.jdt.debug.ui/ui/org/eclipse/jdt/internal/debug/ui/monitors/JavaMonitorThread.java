@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2012 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -262,6 +262,13 @@ public class JavaMonitorThread extends PlatformObject {
 		DebugPlugin.getDefault().fireDebugEventSet(changeEvents);
 	}
 
+	/**
+	 * Returns whether the information for this thread needs to be updated.
+	 */
+	protected boolean isToUpdate() {
+		return fToUpdate;
+	}
+
 	public synchronized void setToUpdate() {
 		if (!fToUpdate) {
 			fToUpdate= true;
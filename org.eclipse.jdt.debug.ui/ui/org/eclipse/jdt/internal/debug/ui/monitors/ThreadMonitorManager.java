@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,21 +14,30 @@
 package org.eclipse.jdt.internal.debug.ui.monitors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPreferenceInitializer;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -53,6 +62,8 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 
 	private boolean fIsEnabled;
 
+	private final DetectDeadlockJob fDetectDeadlockJob= new DetectDeadlockJob();
+
 	/**
 	 * Returns the default ThreadMonitorManager object.
 	 */
@@ -93,7 +104,7 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 						case DebugEvent.RESUME:
 							// refresh on suspend/resume
 							if (debugEvent.getDetail() != DebugEvent.EVALUATION_IMPLICIT) {
-								handleSuspendResume();
+								handleSuspendResume(javaThread);
 							}
 							break;
 						case DebugEvent.TERMINATE:
@@ -109,7 +120,7 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 							case DebugEvent.RESUME:
 								// refresh on suspend/resume
 								if (debugEvent.getDetail() != DebugEvent.EVALUATION_IMPLICIT) {
-									handleSuspendResume();
+									handleSuspendResume(target);
 								}
 								break;
 							case DebugEvent.TERMINATE:
@@ -123,12 +134,29 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 		}
 	}
 
-	private void handleSuspendResume() {
-		JavaMonitorThread[] threads = getJavaMonitorThreads();
-		for (int i = 0; i < threads.length; i++) {
-			threads[i].setToUpdate();
+	/**
+	 * Marks the information of the given thread, or of all threads of the given
+	 * debug target, to be updated and schedules a refresh. Information of other
+	 * threads is kept, unless related through a monitor.
+	 */
+	private void handleSuspendResume(IDebugElement element) {
+		if (element instanceof IJavaThread) {
+			JavaMonitorThread thread;
+			synchronized (fJavaMonitorThreads) {
+				thread= (JavaMonitorThread) fJavaMonitorThreads.get(element);
+			}
+			if (thread != null) {
+				thread.setToUpdate();
+			}
+		} else {
+			JavaMonitorThread[] threads = getJavaMonitorThreads();
+			for (int i = 0; i < threads.length; i++) {
+				if (threads[i].getDebugTarget().equals(element)) {
+					threads[i].setToUpdate();
+				}
+			}
 		}
-		DebugPlugin.getDefault().asyncExec(new RefreshAndDetectDeadlock());
+		fDetectDeadlockJob.scheduleRefresh();
 	}
 
 	private void handleThreadTerminate(IJavaThread thread) {
@@ -168,7 +196,7 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 			if (javaMonitorThread == null) {
 				javaMonitorThread= new JavaMonitorThread(thread, originalThread);
 				fJavaMonitorThreads.put(thread, javaMonitorThread);
-				DebugPlugin.getDefault().asyncExec(new DetectDeadlock());
+				fDetectDeadlockJob.schedule();
 			} else if (originalThread != null) {
 				javaMonitorThread.setOriginalThread(originalThread);
 			}
@@ -222,67 +250,132 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 	}
 
 	/**
-	 *  Runnable to be run asynchronously, to refresh the model and
-	 *  look for deadlocks.
+	 * Job refreshing the model if requested and looking for deadlocks. Requests
+	 * made while the job is waiting are coalesced.
 	 */
-	class RefreshAndDetectDeadlock extends DetectDeadlock {
+	class DetectDeadlockJob extends Job {
+
+		private final AtomicBoolean fRefresh= new AtomicBoolean();
+
+		DetectDeadlockJob() {
+			super("Detect deadlocks"); //$NON-NLS-1$
+			setSystem(true);
+		}
+
+		/**
+		 * Schedules this job to refresh the model before looking for deadlocks.
+		 */
+		void scheduleRefresh() {
+			fRefresh.set(true);
+			schedule();
+		}
+
 		@Override
-		public void run() {
-			JavaMonitorThread[] threads= getJavaMonitorThreads();
-			for (int i = 0; i < threads.length; i++) {
-				threads[i].refresh();
+		protected IStatus run(IProgressMonitor monitor) {
+			if (fRefresh.getAndSet(false)) {
+				JavaMonitorThread[] threads= getJavaMonitorThreads();
+				fetchMonitorInformation(threads);
+				for (int i = 0; i < threads.length; i++) {
+					threads[i].refresh();
+				}
 			}
-			super.run();
+			detectDeadlocks();
+			return Status.OK_STATUS;
 		}
 	}
 
-	class DetectDeadlock implements Runnable {
-		@Override
-		public void run() {
-			JavaMonitorThread[] threads= getJavaMonitorThreads();
-			JavaMonitor[] monitors= getJavaMonitors();
-			List<Object> inDeadlock= new ArrayList<>();
-			for (int i = 0; i < threads.length; i++) {
-				JavaMonitorThread thread= threads[i];
-				List<JavaMonitorThread> threadStack= new ArrayList<>();
-				List<JavaMonitor> monitorStack= new ArrayList<>();
-				while (thread != null) {
-					boolean isInDeadlock= false;
-					if (inDeadlock.contains(thread) || threadStack.contains(thread)) {
-						isInDeadlock= true;
-					} else {
-						JavaMonitor monitor = thread.getContendedMonitor0();
-						if (monitor == null) {
-							thread= null;
-						} else if (inDeadlock.contains(monitor)) {
-							isInDeadlock= true;
-						} else {
-							threadStack.add(thread);
-							monitorStack.add(monitor);
-							thread= monitor.getOwningThread0();
-						}
-					}
-					if (isInDeadlock) {
-						// is in a deadlock, set the elements of the back trace as 'in a deadlock'
-						for (Iterator<JavaMonitorThread> iter = threadStack.iterator(); iter.hasNext();) {
-							inDeadlock.add(iter.next());
-						}
-						for (Iterator<JavaMonitor> iter = monitorStack.iterator(); iter.hasNext();) {
-							inDeadlock.add(iter.next());
-						}
-						thread= null;
-					}
+	/**
+	 * Retrieves the monitor information of all suspended threads of the debug
+	 * targets with threads to update, with one pipelined batch of requests per
+	 * target instead of requests per thread and monitor.
+	 */
+	private void fetchMonitorInformation(JavaMonitorThread[] threads) {
+		Set<IDebugTarget> targets= new HashSet<>();
+		for (int i = 0; i < threads.length; i++) {
+			if (threads[i].isToUpdate()) {
+				targets.add(threads[i].getDebugTarget());
+			}
+		}
+		for (IDebugTarget target : targets) {
+			if (target instanceof JDIDebugTarget) {
+				((JDIDebugTarget) target).fetchMonitorInformation();
+			}
+		}
+	}
+
+	/**
+	 * Marks the threads and monitors which are part of a deadlock, or wait for
+	 * a thread which is.
+	 * <p>
+	 * In the wait-for graph, each thread has an edge to the owner of the
+	 * monitor it waits for, if any. As every thread waits for at most one
+	 * monitor, the strongly connected components with more than one thread are
+	 * exactly the cycles of the graph, and each walk along the edges ends at a
+	 * thread which does not wait or in a cycle. The graph is indexed by thread
+	 * and every thread is visited once, so detection takes linear time in the
+	 * number of threads.
+	 * </p>
+	 */
+	private void detectDeadlocks() {
+		JavaMonitorThread[] threads= getJavaMonitorThreads();
+		List<JavaMonitorThread> nodes= new ArrayList<>(Arrays.asList(threads));
+		Map<JavaMonitorThread, Integer> ids= new HashMap<>();
+		for (int i = 0; i < threads.length; i++) {
+			ids.put(threads[i], Integer.valueOf(i));
+		}
+		// owners of monitors may be threads not known yet, which are added to the graph
+		List<JavaMonitor> waitingFor= new ArrayList<>(threads.length);
+		int[] next= new int[threads.length];
+		for (int i = 0; i < nodes.size(); i++) {
+			JavaMonitor monitor= nodes.get(i).getContendedMonitor0();
+			JavaMonitorThread owner= monitor == null ? null : monitor.getOwningThread0();
+			int successor= -1;
+			if (owner != null) {
+				Integer id= ids.get(owner);
+				if (id == null) {
+					id= Integer.valueOf(nodes.size());
+					nodes.add(owner);
+					ids.put(owner, id);
 				}
+				successor= id.intValue();
 			}
-			for (int i = 0; i < threads.length; i++) {
-				JavaMonitorThread thread= threads[i];
-				thread.setInDeadlock(inDeadlock.contains(thread));
+			if (i == next.length) {
+				next= Arrays.copyOf(next, next.length * 2 + 1);
 			}
-			for (int i = 0; i < monitors.length; i++) {
-				JavaMonitor monitor= monitors[i];
-				monitor.setInDeadlock(inDeadlock.contains(monitor));
+			next[i]= successor;
+			waitingFor.add(monitor);
+		}
+		int count= nodes.size();
+		// 0: not visited, 1: on the current walk, 2: done
+		byte[] state= new byte[count];
+		boolean[] inDeadlock= new boolean[count];
+		int[] walk= new int[count];
+		for (int start = 0; start < count; start++) {
+			int length= 0;
+			int node= start;
+			while (node >= 0 && state[node] == 0) {
+				state[node]= 1;
+				walk[length++]= node;
+				node= next[node];
+			}
+			// the walk ended at a thread which does not wait, closed a cycle or reached a known thread
+			boolean isInDeadlock= node >= 0 && (state[node] == 1 || inDeadlock[node]);
+			for (int i = 0; i < length; i++) {
+				inDeadlock[walk[i]]= isInDeadlock;
+				state[walk[i]]= 2;
 			}
 		}
+		Set<JavaMonitor> monitorsInDeadlock= new HashSet<>();
+		for (int i = 0; i < count; i++) {
+			if (inDeadlock[i]) {
+				monitorsInDeadlock.add(waitingFor.get(i));
+			}
+			nodes.get(i).setInDeadlock(inDeadlock[i]);
+		}
+		JavaMonitor[] monitors= getJavaMonitors();
+		for (int i = 0; i < monitors.length; i++) {
+			monitors[i].setInDeadlock(monitorsInDeadlock.contains(monitors[i]));
+		}
 	}
 
 	/* (non-Javadoc)
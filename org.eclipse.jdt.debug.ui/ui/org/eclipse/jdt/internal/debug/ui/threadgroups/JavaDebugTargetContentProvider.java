@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationCont
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
 
 /**
@@ -39,6 +40,12 @@ public class JavaDebugTargetContentProvider extends DebugTargetContentProvider {
 				}
 				return debugTarget.getRootThreadGroups().length;
 			}
+			if (element instanceof JDIDebugTarget target) {
+				if (JavaThreadGrouping.isGrouping()) {
+					return JavaThreadGrouping.getGrouping(target).getChildren(null).length;
+				}
+				return target.getThreadCount();
+			}
 		}
 		return super.getChildCount(element, context, monitor);
 	}
@@ -52,6 +59,17 @@ public class JavaDebugTargetContentProvider extends DebugTargetContentProvider {
 			if (JavaElementContentProvider.isDisplayThreadGroups()) {
 				return getElements(((IJavaDebugTarget)parent).getRootThreadGroups(), index, length);
 			}
+			if (parent instanceof JDIDebugTarget target) {
+				// only the requested range of threads is labeled, retrieve their names together
+				Object[] children;
+				if (JavaThreadGrouping.isGrouping()) {
+					children = getElements(JavaThreadGrouping.getGrouping(target).getChildren(null), index, length);
+				} else {
+					children = target.getThreads(index, length);
+				}
+				JavaThreadGrouping.fetchThreadNames(children);
+				return children;
+			}
 		}
 		return super.getChildren(parent, index, length, context, monitor);
 	}
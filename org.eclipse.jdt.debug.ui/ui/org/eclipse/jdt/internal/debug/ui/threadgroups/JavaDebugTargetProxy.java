@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2006, 2012 IBM Corporation and others.
+ *  Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.debug.internal.ui.viewers.update.StackFrameEventHandler;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.ui.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
 import org.eclipse.jdt.internal.debug.ui.snippeteditor.ScrapbookLauncher;
 import org.eclipse.jface.viewers.Viewer;
@@ -143,6 +144,12 @@ public class JavaDebugTargetProxy extends DebugTargetProxy {
                 }
                 return javaTarget.getRootThreadGroups().length;
             }
+            if (javaTarget instanceof JDIDebugTarget jdiTarget) {
+                if (JavaThreadGrouping.isGrouping()) {
+                    return JavaThreadGrouping.getGrouping(jdiTarget).getChildren(null).length;
+                }
+                return jdiTarget.getThreadCount();
+            }
             return javaTarget.getThreads().length;
 	    }
 	    return 0;
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.threadgroups;
+
+import java.util.Objects;
+
+import org.eclipse.core.runtime.PlatformObject;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+/**
+ * Group of threads of a debug target in the debug view, either the threads in
+ * one state or the threads with one name prefix. A group of threads with one
+ * name prefix may be nested in a group of threads in one state. The threads of
+ * a group are computed by a {@link JavaThreadGrouping}, groups are equal if
+ * they select the same threads.
+ */
+public class JavaThreadBucket extends PlatformObject implements IDebugElement {
+
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * The enclosing group or <code>null</code>
+	 */
+	private final JavaThreadBucket fParent;
+
+	/**
+	 * One of the <code>STATE_*</code> constants of {@link JavaThreadGrouping},
+	 * or -1 for a group of threads with one name prefix
+	 */
+	private final int fState;
+
+	/**
+	 * The name prefix or <code>null</code> for a group of threads in one state
+	 */
+	private final String fPrefix;
+
+	/**
+	 * Creates a group of the threads of the given target in the given state.
+	 *
+	 * @param target
+	 *            the debug target
+	 * @param state
+	 *            one of the <code>STATE_*</code> constants of
+	 *            {@link JavaThreadGrouping}
+	 */
+	public JavaThreadBucket(JDIDebugTarget target, int state) {
+		fTarget = target;
+		fParent = null;
+		fState = state;
+		fPrefix = null;
+	}
+
+	/**
+	 * Creates a group of the threads of the given target or enclosing group
+	 * with the given name prefix.
+	 *
+	 * @param target
+	 *            the debug target
+	 * @param parent
+	 *            the enclosing group or <code>null</code>
+	 * @param prefix
+	 *            the name prefix
+	 */
+	public JavaThreadBucket(JDIDebugTarget target, JavaThreadBucket parent, String prefix) {
+		fTarget = target;
+		fParent = parent;
+		fState = -1;
+		fPrefix = prefix;
+	}
+
+	/**
+	 * Returns the enclosing group.
+	 *
+	 * @return the enclosing group or <code>null</code>
+	 */
+	public JavaThreadBucket getParent() {
+		return fParent;
+	}
+
+	/**
+	 * Returns the state of the threads of this group.
+	 *
+	 * @return one of the <code>STATE_*</code> constants of
+	 *         {@link JavaThreadGrouping}, or -1 if this group is defined by a
+	 *         name prefix
+	 */
+	public int getState() {
+		return fState;
+	}
+
+	/**
+	 * Returns the name prefix of the threads of this group.
+	 *
+	 * @return the name prefix or <code>null</code> if this group is defined
+	 *         by a state
+	 */
+	public String getPrefix() {
+		return fPrefix;
+	}
+
+	@Override
+	public String getModelIdentifier() {
+		return fTarget.getModelIdentifier();
+	}
+
+	@Override
+	public IDebugTarget getDebugTarget() {
+		return fTarget;
+	}
+
+	@Override
+	public ILaunch getLaunch() {
+		return fTarget.getLaunch();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T getAdapter(Class<T> adapter) {
+		if (adapter == IDebugTarget.class) {
+			return (T) getDebugTarget();
+		}
+		if (adapter.equals(ILaunchConfiguration.class)) {
+			return (T) getLaunch().getLaunchConfiguration();
+		}
+		return super.getAdapter(adapter);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof JavaThreadBucket bucket) {
+			return bucket.fTarget == fTarget && bucket.fState == fState && Objects.equals(bucket.fPrefix, fPrefix)
+					&& Objects.equals(bucket.fParent, fParent);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(fTarget, Integer.valueOf(fState), fPrefix, fParent);
+	}
+}
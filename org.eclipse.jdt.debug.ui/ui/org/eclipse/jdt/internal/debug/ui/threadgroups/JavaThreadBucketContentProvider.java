@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.threadgroups;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
+
+/**
+ * Provides the nested groups and threads of a group of threads, retrieving
+ * the names of the threads in the requested range together.
+ */
+public class JavaThreadBucketContentProvider extends JavaElementContentProvider {
+
+	@Override
+	protected int getChildCount(Object element, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		JavaThreadBucket bucket = (JavaThreadBucket) element;
+		if (!isAvailable(bucket)) {
+			return 0;
+		}
+		return JavaThreadGrouping.getGrouping((JDIDebugTarget) bucket.getDebugTarget()).getChildren(bucket).length;
+	}
+
+	@Override
+	protected Object[] getChildren(Object parent, int index, int length, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		JavaThreadBucket bucket = (JavaThreadBucket) parent;
+		if (!isAvailable(bucket)) {
+			return EMPTY;
+		}
+		Object[] children = getElements(JavaThreadGrouping.getGrouping((JDIDebugTarget) bucket.getDebugTarget()).getChildren(bucket), index, length);
+		JavaThreadGrouping.fetchThreadNames(children);
+		return children;
+	}
+
+	private boolean isAvailable(JavaThreadBucket bucket) {
+		return !(bucket.getDebugTarget().isTerminated() || bucket.getDebugTarget().isDisconnected());
+	}
+
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.threadgroups;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.internal.ui.model.elements.ElementLabelProvider;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.ui.JavaDebugImages;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Labels a group of threads with its state or name prefix and the number of
+ * its threads, which is only computed when the group is shown.
+ */
+public class JavaThreadBucketLabelProvider extends ElementLabelProvider {
+
+	private static ImageDescriptor fgImage = JavaDebugImages.getImageDescriptor(JavaDebugImages.IMG_OBJS_THREAD_GROUP);
+
+	private static final String[] STATE_NAMES = { ThreadGroupMessages.JavaThreadBucketLabelProvider_1,
+			ThreadGroupMessages.JavaThreadBucketLabelProvider_2, ThreadGroupMessages.JavaThreadBucketLabelProvider_3,
+			ThreadGroupMessages.JavaThreadBucketLabelProvider_4, ThreadGroupMessages.JavaThreadBucketLabelProvider_5,
+			ThreadGroupMessages.JavaThreadBucketLabelProvider_6 };
+
+	@Override
+	protected String getLabel(TreePath elementPath, IPresentationContext presentationContext, String columnId) throws CoreException {
+		JavaThreadBucket bucket = (JavaThreadBucket) elementPath.getLastSegment();
+		String name = bucket.getPrefix() != null ? bucket.getPrefix() : STATE_NAMES[bucket.getState()];
+		int count = JavaThreadGrouping.getGrouping((JDIDebugTarget) bucket.getDebugTarget()).getThreadCount(bucket);
+		return NLS.bind(ThreadGroupMessages.JavaThreadBucketLabelProvider_0, name, Integer.toString(count));
+	}
+
+	@Override
+	protected ImageDescriptor getImageDescriptor(TreePath elementPath, IPresentationContext presentationContext, String columnId) throws CoreException {
+		return fgImage;
+	}
+
+}
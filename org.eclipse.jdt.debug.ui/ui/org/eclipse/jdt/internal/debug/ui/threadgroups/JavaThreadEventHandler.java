@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2006, 2015 IBM Corporation and others.
+ *  Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,19 @@
 package org.eclipse.jdt.internal.debug.ui.threadgroups;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -33,6 +42,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaThreadGroup;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPreferenceInitializer;
@@ -54,14 +64,34 @@ import org.eclipse.swt.widgets.Widget;
  */
 public class JavaThreadEventHandler extends ThreadEventHandler implements IPropertyChangeListener, TreeListener {
 
+	/**
+	 * Delay to collect the label updates of groups of threads of consecutive
+	 * events in milliseconds
+	 */
+	private static final long REFRESH_DELAY = 200;
+
 	private boolean fDisplayMonitors;
 	private Tree fTree;
 
+	/**
+	 * Groups of threads whose labels need to be updated, by target
+	 */
+	private final Map<JDIDebugTarget, Set<JavaThreadBucket>> fRefreshes = new HashMap<>();
+
+	private final Job fRefreshJob = new Job(ThreadGroupMessages.JavaThreadEventHandler_0) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			refresh();
+			return Status.OK_STATUS;
+		}
+	};
+
 	/**
 	 * Constructs and event handler for a Java thread.
 	 */
 	public JavaThreadEventHandler(AbstractModelProxy proxy) {
 		super(proxy);
+		fRefreshJob.setSystem(true);
 		IPreferenceStore preferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
 		preferenceStore.addPropertyChangeListener(this);
 		fDisplayMonitors= preferenceStore.getBoolean(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO);
@@ -88,6 +118,10 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 		if (fTree != null) {
 			fTree.removeTreeListener(this);
 		}
+		fRefreshJob.cancel();
+		synchronized (fRefreshes) {
+			fRefreshes.clear();
+		}
 		IPreferenceStore preferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
 		preferenceStore.removePropertyChangeListener(this);
 		super.dispose();
@@ -131,9 +165,144 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 				}
 			return delta;
 		}
+		if (JavaThreadGrouping.isGrouping() && thread instanceof JDIThread jdiThread && thread.getDebugTarget() instanceof JDIDebugTarget debugTarget) {
+			JavaThreadGrouping grouping = JavaThreadGrouping.getGrouping(debugTarget);
+			try {
+				// only the groups the thread left or entered are refreshed
+				JavaThreadGrouping.Move move = grouping.update(jdiThread);
+				Map<Object, ModelDelta> nodes = new HashMap<>();
+				addTargetNode(delta, debugTarget, grouping, nodes);
+				List<JavaThreadBucket> path;
+				if (move != null) {
+					addContentChanges(nodes, grouping, Collections.singletonList(move));
+					path = move.isRemoved() ? move.getPreviousPath() : grouping.getPath(thread);
+				} else {
+					path = grouping.getPath(thread);
+				}
+				if (move != null || grouping.needsRefresh()) {
+					scheduleRefresh(debugTarget, move != null ? move.getRelabeled() : Collections.emptySet());
+				}
+				ModelDelta node = nodes.get(debugTarget);
+				for (JavaThreadBucket bucket : path) {
+					if (!grouping.exists(bucket)) {
+						break;
+					}
+					node = addBucketNode(nodes, grouping, bucket);
+				}
+				return node;
+			} catch (DebugException e) {
+				JDIDebugUIPlugin.log(e);
+			}
+			return delta;
+		}
 		return super.addPathToThread(delta, thread);
 	}
 
+	/**
+	 * Adds the nodes of the launch and the given target to the given delta.
+	 */
+	private void addTargetNode(ModelDelta delta, JDIDebugTarget target, JavaThreadGrouping grouping, Map<Object, ModelDelta> nodes) throws DebugException {
+		ILaunch launch = target.getLaunch();
+		ILaunch[] launches = DebugPlugin.getDefault().getLaunchManager().getLaunches();
+		Object[] launchChildren = launch.getChildren();
+		delta = delta.addNode(launch, indexOf(launches, launch), IModelDelta.NO_CHANGE, launchChildren.length);
+		nodes.put(target, delta.addNode(target, indexOf(launchChildren, target), IModelDelta.NO_CHANGE, grouping.getChildren(null).length));
+	}
+
+	/**
+	 * Returns the node of the given group, adding it and the nodes of its
+	 * enclosing groups below the node of its target if not yet present.
+	 */
+	private ModelDelta addBucketNode(Map<Object, ModelDelta> nodes, JavaThreadGrouping grouping, JavaThreadBucket bucket) throws DebugException {
+		ModelDelta node = nodes.get(bucket);
+		if (node == null) {
+			JavaThreadBucket parent = bucket.getParent();
+			ModelDelta parentNode = parent != null ? addBucketNode(nodes, grouping, parent) : nodes.get(bucket.getDebugTarget());
+			node = parentNode.addNode(bucket, indexOf(grouping.getChildren(parent), bucket), IModelDelta.NO_CHANGE, grouping.getChildren(bucket).length);
+			nodes.put(bucket, node);
+		}
+		return node;
+	}
+
+	/**
+	 * Marks the target and groups whose children changed by the given moves.
+	 */
+	private void addContentChanges(Map<Object, ModelDelta> nodes, JavaThreadGrouping grouping, List<JavaThreadGrouping.Move> moves) throws DebugException {
+		for (JavaThreadGrouping.Move move : moves) {
+			for (Object container : move.getChanged()) {
+				ModelDelta node;
+				if (container instanceof JavaThreadBucket bucket) {
+					if (!grouping.exists(bucket)) {
+						// removed by a later move, its parent is refreshed
+						continue;
+					}
+					node = addBucketNode(nodes, grouping, bucket);
+				} else {
+					node = nodes.get(container);
+				}
+				node.setFlags(node.getFlags() | IModelDelta.CONTENT);
+			}
+		}
+	}
+
+	/**
+	 * Queues the given groups of the given target for a label update, and
+	 * schedules the update together with the retrieval of the states of
+	 * resumed threads.
+	 */
+	private void scheduleRefresh(JDIDebugTarget target, Set<JavaThreadBucket> relabeled) {
+		synchronized (fRefreshes) {
+			fRefreshes.computeIfAbsent(target, t -> new HashSet<>()).addAll(relabeled);
+		}
+		fRefreshJob.schedule(REFRESH_DELAY);
+	}
+
+	/**
+	 * Updates the labels of the queued groups and moves resumed threads to
+	 * the groups of their states, with one delta.
+	 */
+	private void refresh() {
+		Map<JDIDebugTarget, Set<JavaThreadBucket>> refreshes;
+		synchronized (fRefreshes) {
+			refreshes = new HashMap<>(fRefreshes);
+			fRefreshes.clear();
+		}
+		ModelDelta delta = new ModelDelta(DebugPlugin.getDefault().getLaunchManager(), IModelDelta.NO_CHANGE);
+		boolean changed = false;
+		for (Map.Entry<JDIDebugTarget, Set<JavaThreadBucket>> entry : refreshes.entrySet()) {
+			JDIDebugTarget target = entry.getKey();
+			if (target.isTerminated() || target.isDisconnected() || !JavaThreadGrouping.isGrouping()) {
+				continue;
+			}
+			JavaThreadGrouping grouping = JavaThreadGrouping.getGrouping(target);
+			Set<JavaThreadBucket> relabeled = entry.getValue();
+			try {
+				List<JavaThreadGrouping.Move> moves = grouping.refresh();
+				for (JavaThreadGrouping.Move move : moves) {
+					relabeled.addAll(move.getRelabeled());
+				}
+				if (moves.isEmpty() && relabeled.isEmpty()) {
+					continue;
+				}
+				Map<Object, ModelDelta> nodes = new HashMap<>();
+				addTargetNode(delta, target, grouping, nodes);
+				addContentChanges(nodes, grouping, moves);
+				for (JavaThreadBucket bucket : relabeled) {
+					if (grouping.exists(bucket)) {
+						ModelDelta node = addBucketNode(nodes, grouping, bucket);
+						node.setFlags(node.getFlags() | IModelDelta.STATE);
+					}
+				}
+				changed = true;
+			} catch (DebugException e) {
+				JDIDebugUIPlugin.log(e);
+			}
+		}
+		if (changed) {
+			fireDelta(delta);
+		}
+	}
+
 	@Override
 	public void propertyChange(PropertyChangeEvent event) {
 		if (event.getProperty().equals(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO)) {
@@ -237,6 +406,15 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 				return -1;
 			}
 		}
+		if (JavaThreadGrouping.isGrouping() && thread.getDebugTarget() instanceof JDIDebugTarget debugTarget) {
+			JavaThreadGrouping grouping = JavaThreadGrouping.getGrouping(debugTarget);
+			try {
+				List<JavaThreadBucket> path = grouping.getPath(thread);
+				return indexOf(grouping.getChildren(path.isEmpty() ? null : path.get(path.size() - 1)), thread);
+			} catch (DebugException e) {
+				return -1;
+			}
+		}
 		return super.indexOf(thread);
 	}
 
@@ -306,6 +484,17 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 		queueSuspendedThread(thread);
 	}
 
+	/**
+	 * Regroups a thread by its new name
+	 */
+	@Override
+	protected void handleChange(DebugEvent event) {
+		if (JavaThreadGrouping.isGrouping() && event.getSource() instanceof JDIThread thread && thread.getDebugTarget() instanceof JDIDebugTarget target) {
+			JavaThreadGrouping.getGrouping(target).nameChanged(thread);
+		}
+		super.handleChange(event);
+	}
+
 	/**
 	 * Do not update for quiet resume/suspend
 	 */
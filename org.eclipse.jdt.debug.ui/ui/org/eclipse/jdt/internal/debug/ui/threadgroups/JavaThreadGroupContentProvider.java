@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.threadgroups;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaThreadGroup;
+import org.eclipse.jdt.internal.debug.core.model.JDIThreadGroup;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
 
 /**
@@ -36,7 +41,7 @@ public class JavaThreadGroupContentProvider extends JavaElementContentProvider {
 			IJavaThreadGroup group = (IJavaThreadGroup) element;
 			if (isAvailable(group)) {
 				count += group.getThreadGroups().length;
-				count += group.getThreads().length;
+				count += group instanceof JDIThreadGroup jdiGroup ? jdiGroup.getThreadCount() : group.getThreads().length;
 			}
 		}
 		return count;
@@ -48,11 +53,41 @@ public class JavaThreadGroupContentProvider extends JavaElementContentProvider {
 	@Override
 	protected Object[] getChildren(Object parent, int index, int length, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
 		if (parent instanceof IJavaThreadGroup) {
-			return getElements(getChildren((IJavaThreadGroup) parent), index, length);
+			Object[] children;
+			if (parent instanceof JDIThreadGroup group) {
+				children = getChildren(group, index, length);
+			} else {
+				children = getElements(getChildren((IJavaThreadGroup) parent), index, length);
+			}
+			JavaThreadGrouping.fetchThreadNames(children);
+			return children;
 		}
 		return EMPTY;
 	}
 
+	/**
+	 * Returns the children of the given group in the given range: threads
+	 * first, followed by thread groups. Only the threads in the range are
+	 * looked up.
+	 */
+	private Object[] getChildren(JDIThreadGroup group, int index, int length) throws CoreException {
+		if (!isAvailable(group)) {
+			return EMPTY;
+		}
+		List<Object> children = new ArrayList<>();
+		int threadCount = group.getThreadCount();
+		if (index < threadCount) {
+			Collections.addAll(children, group.getThreads(index, length));
+		}
+		if (index + length > threadCount) {
+			IJavaThreadGroup[] threadGroups = group.getThreadGroups();
+			for (int i = Math.max(0, index - threadCount); i < threadGroups.length && children.size() < length; i++) {
+				children.add(threadGroups[i]);
+			}
+		}
+		return children.toArray();
+	}
+
 	protected Object[] getChildren(IJavaThreadGroup group) throws CoreException {
 		if (isAvailable(group)) {
 			IJavaThreadGroup[] threadGroups = group.getThreadGroups();
@@ -0,0 +1,773 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.threadgroups;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
+
+import com.sun.jdi.ThreadReference;
+
+/**
+ * Groups the threads of a debug target in the debug view by their state, by
+ * the prefix of their names, like the name of their pool, or both. The states
+ * and names of all threads are retrieved in pipelined batches when the
+ * grouping is first needed. Afterwards the grouping is kept for the life of
+ * its target and updated for one thread at a time as the thread changes, see
+ * {@link #update(JDIThread)}. Running threads are first grouped as running,
+ * their exact states are retrieved together by {@link #refresh()}.
+ */
+public class JavaThreadGrouping {
+
+	/**
+	 * Threads suspended in the debugger
+	 */
+	public static final int STATE_SUSPENDED = 0;
+
+	/**
+	 * Running threads
+	 */
+	public static final int STATE_RUNNING = 1;
+
+	/**
+	 * Sleeping threads
+	 */
+	public static final int STATE_SLEEPING = 2;
+
+	/**
+	 * Threads waiting for a notification
+	 */
+	public static final int STATE_WAITING = 3;
+
+	/**
+	 * Threads waiting to enter a monitor
+	 */
+	public static final int STATE_BLOCKED = 4;
+
+	/**
+	 * Threads not started, terminated or in an unknown state
+	 */
+	public static final int STATE_OTHER = 5;
+
+	private static final int STATE_COUNT = 6;
+
+	/**
+	 * Minimum number of threads with one name prefix to group them
+	 */
+	private static final int MIN_GROUP_SIZE = 2;
+
+	/**
+	 * Maximum number of threads whose names or states are retrieved with one
+	 * batch of requests
+	 */
+	private static final int BATCH_SIZE = 500;
+
+	/**
+	 * Characters separating the number from the prefix of a thread name
+	 */
+	private static final String SEPARATORS = "-_.# "; //$NON-NLS-1$
+
+	/**
+	 * Grouping of each target. Guarded by itself. The groupings of terminated
+	 * targets are removed by {@link #fgTerminateListener}.
+	 */
+	private static final Map<JDIDebugTarget, JavaThreadGrouping> fgGroupings = new HashMap<>();
+
+	/**
+	 * Removes the groupings of terminated or disconnected debug targets
+	 */
+	private static final IDebugEventSetListener fgTerminateListener = events -> {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof JDIDebugTarget target) {
+				synchronized (fgGroupings) {
+					fgGroupings.remove(target);
+				}
+			}
+		}
+	};
+
+	private final JDIDebugTarget fTarget;
+	private final boolean fByState;
+	private final boolean fByName;
+
+	/**
+	 * Whether the states and names of the threads of the target have been
+	 * retrieved
+	 */
+	private boolean fInitialized;
+
+	/**
+	 * Sequence number of the next thread, threads are shown in the order they
+	 * are first seen
+	 */
+	private long fNextSequence;
+
+	/**
+	 * Membership of each thread
+	 */
+	private final Map<JDIThread, Member> fMembers = new HashMap<>();
+
+	/**
+	 * All threads by sequence number
+	 */
+	private final TreeMap<Long, JDIThread> fThreads = new TreeMap<>();
+
+	/**
+	 * Threads by sequence number of each state group and of each name prefix,
+	 * which is shown as a group once it has {@link #MIN_GROUP_SIZE} threads
+	 */
+	private final Map<JavaThreadBucket, TreeMap<Long, JDIThread>> fBuckets = new HashMap<>();
+
+	/**
+	 * Running threads whose exact state has not been retrieved yet
+	 */
+	private final Set<JDIThread> fStale = new LinkedHashSet<>();
+
+	/**
+	 * Children of the target, mapped to <code>null</code>, and of groups
+	 */
+	private final Map<JavaThreadBucket, Object[]> fChildren = new HashMap<>();
+
+	/**
+	 * Groups of a thread
+	 */
+	private static final class Member {
+		final long fSequence;
+
+		/**
+		 * The state group and name prefix group the thread is counted in
+		 */
+		List<JavaThreadBucket> fKeys = Collections.emptyList();
+
+		/**
+		 * Whether the name of the thread changed since it was grouped
+		 */
+		boolean fNameChanged;
+
+		Member(long sequence) {
+			fSequence = sequence;
+		}
+	}
+
+	/**
+	 * Change of the groups caused by a thread moving between groups, being
+	 * added or being removed.
+	 */
+	public static final class Move {
+		private final List<JavaThreadBucket> fPreviousPath;
+		private final Set<Object> fChanged;
+		private final Set<JavaThreadBucket> fRelabeled;
+		private final boolean fRemoved;
+
+		Move(List<JavaThreadBucket> previousPath, Set<Object> changed, Set<JavaThreadBucket> relabeled, boolean removed) {
+			fPreviousPath = previousPath;
+			fChanged = changed;
+			fRelabeled = relabeled;
+			fRemoved = removed;
+		}
+
+		/**
+		 * Returns the groups that enclosed the thread before it moved,
+		 * outermost first.
+		 *
+		 * @return the groups enclosing the thread before
+		 */
+		public List<JavaThreadBucket> getPreviousPath() {
+			return fPreviousPath;
+		}
+
+		/**
+		 * Returns the target or groups whose children changed.
+		 *
+		 * @return the debug target or groups with changed children
+		 */
+		public Set<Object> getChanged() {
+			return fChanged;
+		}
+
+		/**
+		 * Returns the groups whose number of threads changed.
+		 *
+		 * @return the groups with changed thread counts
+		 */
+		public Set<JavaThreadBucket> getRelabeled() {
+			return fRelabeled;
+		}
+
+		/**
+		 * Returns whether the thread has been removed.
+		 *
+		 * @return whether the thread has been removed
+		 */
+		public boolean isRemoved() {
+			return fRemoved;
+		}
+	}
+
+	private JavaThreadGrouping(JDIDebugTarget target, boolean byState, boolean byName) {
+		fTarget = target;
+		fByState = byState;
+		fByName = byName;
+	}
+
+	/**
+	 * Starts removing the groupings of debug targets when they terminate.
+	 */
+	public static void startListening() {
+		DebugPlugin.getDefault().addDebugEventListener(fgTerminateListener);
+	}
+
+	/**
+	 * Stops tracking target terminations and forgets all groupings.
+	 */
+	public static void stopListening() {
+		DebugPlugin.getDefault().removeDebugEventListener(fgTerminateListener);
+		synchronized (fgGroupings) {
+			fgGroupings.clear();
+		}
+	}
+
+	/**
+	 * Returns whether threads are grouped in the debug view.
+	 *
+	 * @return whether threads are grouped
+	 */
+	public static boolean isGrouping() {
+		return JavaElementContentProvider.isGroupThreadsByState() || JavaElementContentProvider.isGroupThreadsByName();
+	}
+
+	/**
+	 * Returns the grouping of the threads of the given target. The grouping is
+	 * kept until the grouping settings change or the target terminates.
+	 *
+	 * @param target
+	 *            the debug target
+	 * @return the grouping of its threads
+	 */
+	public static JavaThreadGrouping getGrouping(JDIDebugTarget target) {
+		boolean byState = JavaElementContentProvider.isGroupThreadsByState();
+		boolean byName = JavaElementContentProvider.isGroupThreadsByName();
+		synchronized (fgGroupings) {
+			JavaThreadGrouping grouping = fgGroupings.get(target);
+			if (grouping == null || grouping.fByState != byState || grouping.fByName != byName) {
+				grouping = new JavaThreadGrouping(target, byState, byName);
+				if (!target.isTerminated()) {
+					fgGroupings.put(target, grouping);
+				}
+			}
+			return grouping;
+		}
+	}
+
+	/**
+	 * Retrieves the names of the threads among the given elements with one
+	 * pipelined batch of requests, such that their labels do not need to
+	 * retrieve them one by one.
+	 *
+	 * @param elements
+	 *            elements about to be shown
+	 */
+	public static void fetchThreadNames(Object[] elements) {
+		List<JDIThread> threads = new ArrayList<>(elements.length);
+		for (Object element : elements) {
+			if (element instanceof JDIThread thread) {
+				threads.add(thread);
+			}
+		}
+		if (threads.size() > 1) {
+			try {
+				((JDIDebugTarget) threads.get(0).getDebugTarget()).fetchThreadNames(threads.toArray(new JDIThread[threads.size()]));
+			} catch (DebugException e) {
+				// labels retrieve the names themselves
+			}
+		}
+	}
+
+	/**
+	 * Returns the children of the given group, or of the target if
+	 * <code>null</code>: nested groups by state or name prefix followed by
+	 * the threads that are not in a nested group.
+	 *
+	 * @param bucket
+	 *            a group of this grouping or <code>null</code>
+	 * @return the groups and threads in the given group
+	 * @throws DebugException
+	 *             if the states or names of the threads cannot be retrieved
+	 */
+	public synchronized Object[] getChildren(JavaThreadBucket bucket) throws DebugException {
+		synchronizeThreads();
+		Object[] children = fChildren.get(bucket);
+		if (children == null) {
+			children = computeChildren(bucket);
+			fChildren.put(bucket, children);
+		}
+		return children;
+	}
+
+	/**
+	 * Returns the number of threads in the given group, including nested
+	 * groups.
+	 *
+	 * @param bucket
+	 *            a group of this grouping
+	 * @return the number of threads in the group
+	 * @throws DebugException
+	 *             if the states or names of the threads cannot be retrieved
+	 */
+	public synchronized int getThreadCount(JavaThreadBucket bucket) throws DebugException {
+		synchronizeThreads();
+		return size(bucket);
+	}
+
+	/**
+	 * Returns whether the given group has threads and is shown.
+	 *
+	 * @param bucket
+	 *            a group of this grouping
+	 * @return whether the group is shown
+	 * @throws DebugException
+	 *             if the states or names of the threads cannot be retrieved
+	 */
+	public synchronized boolean exists(JavaThreadBucket bucket) throws DebugException {
+		synchronizeThreads();
+		return exists(bucket, size(bucket));
+	}
+
+	/**
+	 * Returns the groups enclosing the given thread, outermost first.
+	 *
+	 * @param thread
+	 *            a thread of the target
+	 * @return the enclosing groups, empty if the thread is not in a group
+	 * @throws DebugException
+	 *             if the states or names of the threads cannot be retrieved
+	 */
+	public synchronized List<JavaThreadBucket> getPath(IThread thread) throws DebugException {
+		synchronizeThreads();
+		Member member = fMembers.get(thread);
+		return member != null ? getPath(member) : Collections.emptyList();
+	}
+
+	/**
+	 * Updates the groups of the given thread after it changed, was added or
+	 * was terminated. The thread is grouped as running until {@link #refresh()}
+	 * retrieves its exact state, unless it is suspended.
+	 *
+	 * @param thread
+	 *            a thread of the target
+	 * @return the change of the groups, or <code>null</code> if the thread
+	 *         stays in its groups
+	 * @throws DebugException
+	 *             if the name of the thread cannot be retrieved
+	 */
+	public synchronized Move update(JDIThread thread) throws DebugException {
+		if (!fInitialized) {
+			// the thread is grouped with all others when first needed
+			return null;
+		}
+		Member member = fMembers.get(thread);
+		if (thread.isTerminated()) {
+			fStale.remove(thread);
+			return member != null ? move(thread, null) : null;
+		}
+		int state = STATE_SUSPENDED;
+		if (fByState && !thread.isSuspended()) {
+			// keep the state retrieved for a running thread, a resumed thread runs
+			state = member != null && getState(member) != STATE_SUSPENDED ? getState(member) : STATE_RUNNING;
+			fStale.add(thread);
+		}
+		return move(thread, getKeys(state, fByName ? getPrefix(thread, member) : null));
+	}
+
+	/**
+	 * Marks the name of the given thread as changed, such that it is grouped
+	 * by its new name prefix when updated next.
+	 *
+	 * @param thread
+	 *            a thread of the target
+	 */
+	public synchronized void nameChanged(JDIThread thread) {
+		Member member = fMembers.get(thread);
+		if (member != null) {
+			member.fNameChanged = true;
+		}
+	}
+
+	/**
+	 * Returns whether the exact states of updated running threads need to be
+	 * retrieved.
+	 *
+	 * @return whether {@link #refresh()} would move threads
+	 */
+	public synchronized boolean needsRefresh() {
+		return !fStale.isEmpty();
+	}
+
+	/**
+	 * Retrieves the exact states of the running threads updated since the
+	 * last refresh with pipelined batches of requests and moves them to the
+	 * groups of their states.
+	 *
+	 * @return the changes of the groups
+	 * @throws DebugException
+	 *             if the states of the threads cannot be retrieved
+	 */
+	public synchronized List<Move> refresh() throws DebugException {
+		List<JDIThread> running = new ArrayList<>(fStale.size());
+		for (JDIThread thread : fStale) {
+			if (fMembers.containsKey(thread) && !thread.isSuspended() && !thread.isTerminated()) {
+				running.add(thread);
+			}
+		}
+		fStale.clear();
+		List<Move> moves = new ArrayList<>();
+		for (int start = 0; start < running.size(); start += BATCH_SIZE) {
+			JDIThread[] threads = running.subList(start, Math.min(start + BATCH_SIZE, running.size())).toArray(new JDIThread[0]);
+			int[] statuses = fTarget.fetchThreadStatuses(threads);
+			for (int i = 0; i < threads.length; i++) {
+				Member member = fMembers.get(threads[i]);
+				Move move = move(threads[i], getKeys(toState(statuses[i]), fByName ? getPrefix(threads[i], member) : null));
+				if (move != null) {
+					moves.add(move);
+				}
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * Moves the given thread to the groups with the given keys, or removes it
+	 * if <code>null</code>.
+	 */
+	private Move move(JDIThread thread, List<JavaThreadBucket> keys) {
+		Member member = fMembers.get(thread);
+		if (member != null) {
+			member.fNameChanged = false;
+		}
+		List<JavaThreadBucket> previousKeys = member != null ? member.fKeys : null;
+		if (Objects.equals(previousKeys, keys)) {
+			return null;
+		}
+		List<JavaThreadBucket> previousPath = member != null ? getPath(member) : Collections.emptyList();
+		Set<JavaThreadBucket> affected = new LinkedHashSet<>();
+		if (previousKeys != null) {
+			affected.addAll(previousKeys);
+		}
+		if (keys != null) {
+			affected.addAll(keys);
+		}
+		Map<JavaThreadBucket, Integer> previousSizes = new HashMap<>();
+		for (JavaThreadBucket bucket : affected) {
+			previousSizes.put(bucket, Integer.valueOf(size(bucket)));
+		}
+		if (member != null) {
+			unindex(thread, member);
+		}
+		if (keys == null) {
+			fMembers.remove(thread);
+		} else {
+			if (member == null) {
+				member = new Member(fNextSequence++);
+				fMembers.put(thread, member);
+			}
+			member.fKeys = keys;
+			index(thread, member);
+		}
+		Set<Object> changed = new LinkedHashSet<>();
+		addChanged(previousKeys, previousSizes, changed);
+		addChanged(keys, previousSizes, changed);
+		for (Object container : changed) {
+			fChildren.remove(container == fTarget ? null : container);
+		}
+		Set<JavaThreadBucket> relabeled = new LinkedHashSet<>();
+		for (JavaThreadBucket bucket : affected) {
+			if ((previousKeys == null || keys == null || !(previousKeys.contains(bucket) && keys.contains(bucket))) && exists(bucket, size(bucket))) {
+				relabeled.add(bucket);
+			}
+		}
+		return new Move(previousPath, changed, relabeled, keys == null);
+	}
+
+	/**
+	 * Adds the container whose children changed when a thread left or entered
+	 * the groups with the given keys: the parent of the outermost group that
+	 * appeared or disappeared, or else the group showing the thread.
+	 */
+	private void addChanged(List<JavaThreadBucket> keys, Map<JavaThreadBucket, Integer> previousSizes, Set<Object> changed) {
+		if (keys == null) {
+			return;
+		}
+		Object parent = fTarget;
+		for (JavaThreadBucket bucket : keys) {
+			if (!exists(bucket, previousSizes.get(bucket).intValue()) || !exists(bucket, size(bucket))) {
+				changed.add(parent);
+				return;
+			}
+			parent = bucket;
+		}
+		changed.add(parent);
+	}
+
+	/**
+	 * Retrieves the states and names of the threads of the target when first
+	 * needed, and of threads that were added or removed without an update.
+	 */
+	private void synchronizeThreads() throws DebugException {
+		if (fInitialized && fTarget.getThreadCount() == fMembers.size()) {
+			return;
+		}
+		IThread[] threads = fTarget.getThreads();
+		Set<JDIThread> current = new HashSet<>();
+		List<JDIThread> added = new ArrayList<>();
+		for (IThread thread : threads) {
+			current.add((JDIThread) thread);
+			if (!fMembers.containsKey(thread)) {
+				added.add((JDIThread) thread);
+			}
+		}
+		for (JDIThread thread : new ArrayList<>(fMembers.keySet())) {
+			if (!current.contains(thread)) {
+				unindex(thread, fMembers.remove(thread));
+				fStale.remove(thread);
+			}
+		}
+		JDIThread[] addedThreads = added.toArray(new JDIThread[added.size()]);
+		int[] states = fByState ? getStates(addedThreads) : null;
+		String[] prefixes = fByName ? getPrefixes(addedThreads) : null;
+		for (int i = 0; i < addedThreads.length; i++) {
+			Member member = new Member(fNextSequence++);
+			member.fKeys = getKeys(fByState ? states[i] : STATE_SUSPENDED, fByName ? prefixes[i] : null);
+			fMembers.put(addedThreads[i], member);
+			index(addedThreads[i], member);
+		}
+		fChildren.clear();
+		fInitialized = true;
+	}
+
+	/**
+	 * Returns the state group and name prefix group of a thread with the given
+	 * state and name prefix.
+	 */
+	private List<JavaThreadBucket> getKeys(int state, String prefix) {
+		List<JavaThreadBucket> keys = new ArrayList<>(2);
+		JavaThreadBucket parent = null;
+		if (fByState) {
+			parent = new JavaThreadBucket(fTarget, state);
+			keys.add(parent);
+		}
+		if (fByName) {
+			keys.add(new JavaThreadBucket(fTarget, parent, prefix));
+		}
+		return keys;
+	}
+
+	private int getState(Member member) {
+		return fByState ? member.fKeys.get(0).getState() : STATE_SUSPENDED;
+	}
+
+	private List<JavaThreadBucket> getPath(Member member) {
+		List<JavaThreadBucket> path = new ArrayList<>(member.fKeys.size());
+		for (JavaThreadBucket key : member.fKeys) {
+			if (!exists(key, size(key))) {
+				break;
+			}
+			path.add(key);
+		}
+		return path;
+	}
+
+	private void index(JDIThread thread, Member member) {
+		Long sequence = Long.valueOf(member.fSequence);
+		fThreads.put(sequence, thread);
+		for (JavaThreadBucket key : member.fKeys) {
+			fBuckets.computeIfAbsent(key, k -> new TreeMap<>()).put(sequence, thread);
+		}
+	}
+
+	private void unindex(JDIThread thread, Member member) {
+		Long sequence = Long.valueOf(member.fSequence);
+		fThreads.remove(sequence);
+		for (JavaThreadBucket key : member.fKeys) {
+			TreeMap<Long, JDIThread> threads = fBuckets.get(key);
+			if (threads != null) {
+				threads.remove(sequence);
+				if (threads.isEmpty()) {
+					fBuckets.remove(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the threads of the given group, or of the target if
+	 * <code>null</code>, in the order they were first seen.
+	 */
+	private Collection<JDIThread> getThreads(JavaThreadBucket bucket) {
+		if (bucket == null) {
+			return fThreads.values();
+		}
+		TreeMap<Long, JDIThread> threads = fBuckets.get(bucket);
+		return threads != null ? threads.values() : Collections.emptyList();
+	}
+
+	private int size(JavaThreadBucket bucket) {
+		TreeMap<Long, JDIThread> threads = fBuckets.get(bucket);
+		return threads != null ? threads.size() : 0;
+	}
+
+	private static boolean exists(JavaThreadBucket bucket, int size) {
+		return size >= (bucket.getPrefix() != null ? MIN_GROUP_SIZE : 1);
+	}
+
+	private Object[] computeChildren(JavaThreadBucket bucket) {
+		List<Object> children = new ArrayList<>();
+		if (bucket == null && fByState) {
+			for (int state = 0; state < STATE_COUNT; state++) {
+				JavaThreadBucket stateBucket = new JavaThreadBucket(fTarget, state);
+				if (size(stateBucket) > 0) {
+					children.add(stateBucket);
+				}
+			}
+		} else if (fByName && (bucket == null || bucket.getPrefix() == null)) {
+			// groups in the order of their prefixes, followed by the threads with unique prefixes
+			Map<String, JavaThreadBucket> groups = new TreeMap<>();
+			for (JDIThread thread : getThreads(bucket)) {
+				Member member = fMembers.get(thread);
+				JavaThreadBucket key = member.fKeys.get(member.fKeys.size() - 1);
+				if (size(key) >= MIN_GROUP_SIZE) {
+					groups.putIfAbsent(key.getPrefix(), key);
+				} else {
+					children.add(thread);
+				}
+			}
+			children.addAll(0, groups.values());
+		} else {
+			children.addAll(getThreads(bucket));
+		}
+		return children.toArray();
+	}
+
+	/**
+	 * Returns the name prefix of the given thread, retrieving its name if it
+	 * changed.
+	 */
+	private static String getPrefix(JDIThread thread, Member member) throws DebugException {
+		if (member != null && !member.fNameChanged) {
+			return member.fKeys.get(member.fKeys.size() - 1).getPrefix();
+		}
+		return getPrefix(thread.getName());
+	}
+
+	/**
+	 * Returns the state of each of the given threads, retrieving the states
+	 * of running threads with pipelined batches of requests.
+	 */
+	private int[] getStates(JDIThread[] threads) throws DebugException {
+		int[] states = new int[threads.length];
+		List<Integer> running = new ArrayList<>();
+		for (int i = 0; i < threads.length; i++) {
+			if (threads[i].isSuspended()) {
+				states[i] = STATE_SUSPENDED;
+			} else if (threads[i].isTerminated()) {
+				states[i] = STATE_OTHER;
+			} else {
+				running.add(Integer.valueOf(i));
+			}
+		}
+		for (int start = 0; start < running.size(); start += BATCH_SIZE) {
+			List<Integer> batch = running.subList(start, Math.min(start + BATCH_SIZE, running.size()));
+			JDIThread[] batchThreads = new JDIThread[batch.size()];
+			for (int i = 0; i < batchThreads.length; i++) {
+				batchThreads[i] = threads[batch.get(i).intValue()];
+			}
+			int[] statuses = fTarget.fetchThreadStatuses(batchThreads);
+			for (int i = 0; i < statuses.length; i++) {
+				states[batch.get(i).intValue()] = toState(statuses[i]);
+			}
+		}
+		return states;
+	}
+
+	private static int toState(int status) {
+		switch (status) {
+			case ThreadReference.THREAD_STATUS_RUNNING:
+				return STATE_RUNNING;
+			case ThreadReference.THREAD_STATUS_SLEEPING:
+				return STATE_SLEEPING;
+			case ThreadReference.THREAD_STATUS_WAIT:
+				return STATE_WAITING;
+			case ThreadReference.THREAD_STATUS_MONITOR:
+				return STATE_BLOCKED;
+			default:
+				return STATE_OTHER;
+		}
+	}
+
+	/**
+	 * Returns the name prefix of each of the given threads, retrieving their
+	 * names with pipelined batches of requests.
+	 */
+	private String[] getPrefixes(JDIThread[] threads) throws DebugException {
+		String[] prefixes = new String[threads.length];
+		for (int start = 0; start < threads.length; start += BATCH_SIZE) {
+			JDIThread[] batch = Arrays.copyOfRange(threads, start, Math.min(start + BATCH_SIZE, threads.length));
+			String[] names = fTarget.fetchThreadNames(batch);
+			for (int i = 0; i < names.length; i++) {
+				prefixes[start + i] = getPrefix(names[i]);
+			}
+		}
+		return prefixes;
+	}
+
+	/**
+	 * Returns the given thread name without its trailing number, such that
+	 * the threads of a pool, like <code>pool-1-thread-7</code>, share the
+	 * prefix <code>pool-1-thread</code>.
+	 *
+	 * @param name
+	 *            a thread name
+	 * @return its prefix
+	 */
+	public static String getPrefix(String name) {
+		if (name == null) {
+			return ""; //$NON-NLS-1$
+		}
+		int end = name.length();
+		while (end > 0 && Character.isDigit(name.charAt(end - 1))) {
+			end--;
+		}
+		while (end > 0 && SEPARATORS.indexOf(name.charAt(end - 1)) >= 0) {
+			end--;
+		}
+		return end > 0 ? name.substring(0, end) : name;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,8 @@ public class ThreadGroupAdapterFactory implements IAdapterFactory{
 
 	private static IElementContentProvider fgCPThreadGroup = new JavaThreadGroupContentProvider();
 	private static IElementLabelProvider fgLPThreadGroup = new JavaThreadGroupLabelProvider();
+	private static IElementContentProvider fgCPThreadBucket = new JavaThreadBucketContentProvider();
+	private static IElementLabelProvider fgLPThreadBucket = new JavaThreadBucketLabelProvider();
 
 	/* (non-Javadoc)
 	 * @see org.eclipse.core.runtime.IAdapterFactory#getAdapter(java.lang.Object, java.lang.Class)
@@ -38,11 +40,17 @@ public class ThreadGroupAdapterFactory implements IAdapterFactory{
 			if (adaptableObject instanceof IJavaThreadGroup) {
 				return (T) fgCPThreadGroup;
 			}
+			if (adaptableObject instanceof JavaThreadBucket) {
+				return (T) fgCPThreadBucket;
+			}
 		}
 		if (adapterType.equals(IElementLabelProvider.class)) {
 			if (adaptableObject instanceof IJavaThreadGroup) {
 				return (T) fgLPThreadGroup;
 			}
+			if (adaptableObject instanceof JavaThreadBucket) {
+				return (T) fgLPThreadBucket;
+			}
 		}
 		return null;
 	}
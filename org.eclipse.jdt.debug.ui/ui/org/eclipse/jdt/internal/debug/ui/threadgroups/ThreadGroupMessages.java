@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,4 +30,12 @@ public class ThreadGroupMessages extends NLS {
 	}
 
 	public static String AsyncThreadGroupLabelAdapter_0;
+	public static String JavaThreadBucketLabelProvider_0;
+	public static String JavaThreadBucketLabelProvider_1;
+	public static String JavaThreadBucketLabelProvider_2;
+	public static String JavaThreadBucketLabelProvider_3;
+	public static String JavaThreadBucketLabelProvider_4;
+	public static String JavaThreadBucketLabelProvider_5;
+	public static String JavaThreadBucketLabelProvider_6;
+	public static String JavaThreadEventHandler_0;
 }
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.jdi.ObjectReference;
+
+/**
+ * Instances of a reference type as returned by the JDWP
+ * <code>ReferenceType.Instances</code> command, kept in their compact wire
+ * format. Object mirrors are only created for the windows that are requested,
+ * so that millions of instances cost one byte plus one object ID each.
+ *
+ * @see ReferenceTypeImpl#instanceList(long)
+ * @since 3.22
+ */
+public class InstanceList {
+
+	private final MirrorImpl fTarget;
+	private final byte[] fData;
+	private final int fOffset;
+	private final int fEntrySize;
+	private final int fSize;
+
+	/**
+	 * Creates a list over the given reply data.
+	 *
+	 * @param target
+	 *            mirror the instances are read for
+	 * @param data
+	 *            reply data
+	 * @param offset
+	 *            offset of the first tagged object ID in the data
+	 * @param size
+	 *            number of instances
+	 */
+	InstanceList(MirrorImpl target, byte[] data, int offset, int size) {
+		fTarget = target;
+		fData = data;
+		fOffset = offset;
+		// every instance is a tagged object ID of the same size
+		fEntrySize = 1 + target.virtualMachineImpl().objectIDSize();
+		fSize = size;
+	}
+
+	/**
+	 * @return Returns the number of instances.
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Returns the instances from index <code>from</code>, inclusive, to index
+	 * <code>to</code>, exclusive.
+	 *
+	 * @param from
+	 *            index of the first instance
+	 * @param to
+	 *            index after the last instance
+	 * @return Returns the instances in the given window.
+	 * @throws IndexOutOfBoundsException
+	 *             if the window is not within this list
+	 */
+	public List<ObjectReference> get(int from, int to) {
+		if (from < 0 || to > fSize || from > to) {
+			throw new IndexOutOfBoundsException();
+		}
+		List<ObjectReference> list = new ArrayList<>(to - from);
+		if (from == to) {
+			return list;
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(fData,
+				fOffset + from * fEntrySize, (to - from) * fEntrySize));
+		try {
+			for (int i = from; i < to; i++) {
+				list.add((ObjectReference) ValueImpl.readWithTag(fTarget, in));
+			}
+		} catch (IOException e) {
+			fTarget.defaultIOExceptionHandler(e);
+		}
+		return list;
+	}
+}
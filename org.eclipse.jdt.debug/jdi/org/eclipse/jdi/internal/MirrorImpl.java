@@ -233,6 +233,45 @@ public class MirrorImpl implements Mirror {
 		return reply;
 	}
 
+	/**
+	 * Sends a VM request without waiting for its reply. Several requests can
+	 * be sent before their replies are collected with
+	 * {@link #replyVM(JdwpCommandPacket)}, to pipeline round trips.
+	 *
+	 * @return Returns the command packet that was sent.
+	 */
+	public JdwpCommandPacket sendVM(int command, ByteArrayOutputStream outData) {
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+		commandPacket.setData(outData.toByteArray());
+		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+		fPendingJdwpRequest = true;
+		writeVerboseCommandPacketHeader(commandPacket);
+		return commandPacket;
+	}
+
+	/**
+	 * Waits for the reply to a VM request sent with
+	 * {@link #sendVM(int, ByteArrayOutputStream)}.
+	 *
+	 * @return Returns reply data.
+	 */
+	public JdwpReplyPacket replyVM(JdwpCommandPacket commandPacket) {
+		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
+				.getReply(commandPacket);
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println();
+			fVerboseWriter.println("Received reply"); //$NON-NLS-1$
+			fVerboseWriter.println("length", reply.getLength()); //$NON-NLS-1$
+			fVerboseWriter.println("id", reply.getId()); //$NON-NLS-1$
+			fVerboseWriter.println(
+					"flags", reply.getFlags(), JdwpPacket.getFlagMap()); //$NON-NLS-1$
+			fVerboseWriter
+					.println(
+							"error code", reply.errorCode(), JdwpReplyPacket.errorMap()); //$NON-NLS-1$
+		}
+		return reply;
+	}
+
 	/**
 	 * Performs a VM request.
 	 *
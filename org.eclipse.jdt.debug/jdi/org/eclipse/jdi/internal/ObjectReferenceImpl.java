@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,26 +96,30 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 	 */
 	@Override
 	public void disableCollection() {
-		initJdwpRequest();
-		try {
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.OR_DISABLE_COLLECTION, this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-		} finally {
-			handledJdwpRequest();
-		}
+		setCollectionEnabled(false);
 	}
 
 	/**
-	 * Permits garbage collection for this object.
+	 * Permits garbage collection for this object, unless it has been disabled
+	 * more often than enabled.
 	 */
 	@Override
 	public void enableCollection() {
+		setCollectionEnabled(true);
+	}
+
+	/**
+	 * Enables or disables garbage collection for this object.
+	 *
+	 * @see VirtualMachineImpl#sendCollectionEnabled(ObjectReferenceImpl, boolean)
+	 */
+	private void setCollectionEnabled(boolean enabled) {
 		initJdwpRequest();
 		try {
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.OR_ENABLE_COLLECTION, this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
+			JdwpCommandPacket commandPacket = virtualMachineImpl().sendCollectionEnabled(this, enabled);
+			if (commandPacket != null) {
+				defaultReplyErrorHandler(replyVM(commandPacket).errorCode());
+			}
 		} finally {
 			handledJdwpRequest();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2157,6 +2157,22 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<ObjectReference> instances(long maxInstances) {
+		InstanceList instances = instanceList(maxInstances);
+		return instances != null ? instances.get(0, instances.size()) : null;
+	}
+
+	/**
+	 * Returns the instances of this reference type like
+	 * {@link #instances(long)}, without creating object mirrors for them. The
+	 * mirrors are created by {@link InstanceList#get(int, int)} for the
+	 * requested windows only.
+	 *
+	 * @param maxInstances
+	 *            the maximum number of instances to return, 0 for all
+	 * @return Returns the instances of this reference type.
+	 * @since 3.22
+	 */
+	public InstanceList instanceList(long maxInstances) {
 		try {
 			int max = (int) maxInstances;
 			if (maxInstances >= Integer.MAX_VALUE) {
@@ -2190,11 +2206,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			if (max > 0 && elements > max) {
 				elements = max;
 			}
-			ArrayList<ObjectReference> list = new ArrayList<>();
-			for (int i = 0; i < elements; i++) {
-				list.add((ObjectReference) ValueImpl.readWithTag(this, replyData));
-			}
-			return list;
+			// skip the element count
+			return new InstanceList(this, replyPacket.data(), 4, elements);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
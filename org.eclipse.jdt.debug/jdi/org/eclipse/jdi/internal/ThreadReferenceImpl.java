@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -540,27 +540,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				return THREAD_STATUS_NOT_STARTED;
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			int threadStatus = readInt(
-					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
-			readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
-			switch (threadStatus) {
-			case JDWP_THREAD_STATUS_ZOMBIE:
-				return THREAD_STATUS_ZOMBIE;
-			case JDWP_THREAD_STATUS_RUNNING:
-				return THREAD_STATUS_RUNNING;
-			case JDWP_THREAD_STATUS_SLEEPING:
-				return THREAD_STATUS_SLEEPING;
-			case JDWP_THREAD_STATUS_MONITOR:
-				return THREAD_STATUS_MONITOR;
-			case JDWP_THREAD_STATUS_WAIT:
-				return THREAD_STATUS_WAIT;
-			case -1: // see bug 30816
-				return THREAD_STATUS_UNKNOWN;
-			}
-			throw new InternalException(
-					JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
-							+ threadStatus);
+			return readStatus(this, replyPacket.dataInStream());
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return 0;
@@ -569,6 +549,42 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * Reads the reply to a status command and returns the thread status it
+	 * carries.
+	 *
+	 * @param mirror
+	 *            mirror reading the reply
+	 * @param replyData
+	 *            data of the reply
+	 * @return one of the <code>THREAD_STATUS_*</code> constants of
+	 *         {@link ThreadReference}
+	 * @throws IOException
+	 *             if the reply cannot be read
+	 */
+	static int readStatus(MirrorImpl mirror, DataInputStream replyData) throws IOException {
+		int threadStatus = mirror.readInt(
+				"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
+		mirror.readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
+		switch (threadStatus) {
+		case JDWP_THREAD_STATUS_ZOMBIE:
+			return THREAD_STATUS_ZOMBIE;
+		case JDWP_THREAD_STATUS_RUNNING:
+			return THREAD_STATUS_RUNNING;
+		case JDWP_THREAD_STATUS_SLEEPING:
+			return THREAD_STATUS_SLEEPING;
+		case JDWP_THREAD_STATUS_MONITOR:
+			return THREAD_STATUS_MONITOR;
+		case JDWP_THREAD_STATUS_WAIT:
+			return THREAD_STATUS_WAIT;
+		case -1: // see bug 30816
+			return THREAD_STATUS_UNKNOWN;
+		}
+		throw new InternalException(
+				JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
+						+ threadStatus);
+	}
+
 	/**
 	 * Stops this thread with an asynchronous exception.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,10 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,12 +47,14 @@ import com.sun.jdi.FloatValue;
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.LongValue;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ShortValue;
 import com.sun.jdi.StringReference;
 import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VMMismatchException;
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.VoidValue;
 import com.sun.jdi.connect.spi.Connection;
@@ -161,6 +165,12 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private final PacketReceiveManager fPacketReceiveManager;
 	private final PacketSendManager fPacketSendManager;
 
+	/**
+	 * Number of times garbage collection has been disabled and not enabled
+	 * again, by object ID. The VM does not count these requests.
+	 */
+	private final Map<JdwpObjectID, Integer> fCollectionDisabled = new HashMap<>();
+
 	/**
 	 * Creates a new Virtual Machine.
 	 */
@@ -445,6 +455,347 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Retrieves the monitors owned by each of the given threads and the
+	 * monitor each thread is waiting for. The commands for all threads are
+	 * sent before waiting for their replies, so that retrieving the monitors of
+	 * many threads costs about one round trip to the VM.
+	 * <p>
+	 * For each thread, in order, the owned monitors are added to
+	 * <code>ownedMonitors</code> and the contended monitor, or
+	 * <code>null</code> if none, to <code>contendedMonitors</code>. A thread
+	 * that is not suspended or no longer exists gets <code>null</code> for
+	 * both.
+	 * </p>
+	 *
+	 * @param threads
+	 *            threads of this VM
+	 * @param ownedMonitors
+	 *            receives the owned monitors of each thread
+	 * @param contendedMonitors
+	 *            receives the contended monitor of each thread
+	 * @throws UnsupportedOperationException
+	 *             if this VM cannot retrieve owned or contended monitors
+	 * @throws VMMismatchException
+	 *             if a thread belongs to another VM
+	 */
+	public void threadMonitors(List<? extends ThreadReference> threads, List<List<ObjectReference>> ownedMonitors,
+			List<ObjectReference> contendedMonitors) throws VMMismatchException {
+		if (!canGetOwnedMonitorInfo() || !canGetCurrentContendedMonitor()) {
+			throw new UnsupportedOperationException();
+		}
+		for (ThreadReference thread : threads) {
+			checkVM(thread);
+		}
+		int count = threads.size();
+		JdwpCommandPacket[] ownedCommands = new JdwpCommandPacket[count];
+		JdwpCommandPacket[] contendedCommands = new JdwpCommandPacket[count];
+		initJdwpRequest();
+		try {
+			for (int i = 0; i < count; i++) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				((ThreadReferenceImpl) threads.get(i)).write(this, new DataOutputStream(outBytes));
+				ownedCommands[i] = sendVM(JdwpCommandPacket.TR_OWNED_MONITORS, outBytes);
+				contendedCommands[i] = sendVM(JdwpCommandPacket.TR_CURRENT_CONTENDED_MONITOR, outBytes);
+			}
+			// collect all replies before processing any, which may fail
+			JdwpReplyPacket[] ownedReplies = new JdwpReplyPacket[count];
+			JdwpReplyPacket[] contendedReplies = new JdwpReplyPacket[count];
+			for (int i = 0; i < count; i++) {
+				ownedReplies[i] = replyVM(ownedCommands[i]);
+				contendedReplies[i] = replyVM(contendedCommands[i]);
+			}
+			for (int i = 0; i < count; i++) {
+				if (!isThreadStateAvailable(ownedReplies[i]) || !isThreadStateAvailable(contendedReplies[i])) {
+					ownedMonitors.add(null);
+					contendedMonitors.add(null);
+					continue;
+				}
+				DataInputStream replyData = ownedReplies[i].dataInStream();
+				int nrOfMonitors = readInt("nr of monitors", replyData); //$NON-NLS-1$
+				List<ObjectReference> owned = new ArrayList<>(nrOfMonitors);
+				for (int j = 0; j < nrOfMonitors; j++) {
+					owned.add(ObjectReferenceImpl.readObjectRefWithTag(this, replyData));
+				}
+				ownedMonitors.add(owned);
+				contendedMonitors.add(ObjectReferenceImpl.readObjectRefWithTag(this, contendedReplies[i].dataInStream()));
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Returns whether the given reply to a thread command carries data, or
+	 * <code>false</code> if the thread is not suspended or no longer exists.
+	 */
+	private boolean isThreadStateAvailable(JdwpReplyPacket replyPacket) {
+		switch (replyPacket.errorCode()) {
+			case JdwpReplyPacket.INVALID_THREAD:
+			case JdwpReplyPacket.INVALID_OBJECT:
+			case JdwpReplyPacket.THREAD_NOT_SUSPENDED:
+				return false;
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		return true;
+	}
+
+	/**
+	 * Retrieves the names of the given threads. The commands for all threads
+	 * are sent before waiting for their replies, so that retrieving the names
+	 * of many threads costs about one round trip to the VM.
+	 *
+	 * @param threads
+	 *            threads of this VM
+	 * @return the name of each thread, in order, or <code>null</code> for a
+	 *         thread that no longer exists
+	 * @throws VMMismatchException
+	 *             if a thread belongs to another VM
+	 * @since 3.22
+	 */
+	public String[] threadNames(List<? extends ThreadReference> threads) throws VMMismatchException {
+		JdwpReplyPacket[] replies = requestThreads(JdwpCommandPacket.TR_NAME, threads);
+		String[] names = new String[replies.length];
+		try {
+			for (int i = 0; i < replies.length; i++) {
+				JdwpReplyPacket replyPacket = replies[i];
+				switch (replyPacket.errorCode()) {
+				case JdwpReplyPacket.INVALID_THREAD:
+				case JdwpReplyPacket.INVALID_OBJECT:
+					continue;
+				}
+				defaultReplyErrorHandler(replyPacket.errorCode());
+				names[i] = readString("name", replyPacket.dataInStream()); //$NON-NLS-1$
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+		return names;
+	}
+
+	/**
+	 * Retrieves the status of the given threads. The commands for all threads
+	 * are sent before waiting for their replies, so that retrieving the status
+	 * of many threads costs about one round trip to the VM.
+	 *
+	 * @param threads
+	 *            threads of this VM
+	 * @return the status of each thread, in order, as one of the
+	 *         <code>THREAD_STATUS_*</code> constants of {@link ThreadReference}
+	 * @throws VMMismatchException
+	 *             if a thread belongs to another VM
+	 * @see ThreadReference#status()
+	 * @since 3.22
+	 */
+	public int[] threadStatuses(List<? extends ThreadReference> threads) throws VMMismatchException {
+		JdwpReplyPacket[] replies = requestThreads(JdwpCommandPacket.TR_STATUS, threads);
+		int[] statuses = new int[replies.length];
+		try {
+			for (int i = 0; i < replies.length; i++) {
+				JdwpReplyPacket replyPacket = replies[i];
+				switch (replyPacket.errorCode()) {
+				case JdwpReplyPacket.ABSENT_INFORMATION:
+					statuses[i] = ThreadReference.THREAD_STATUS_UNKNOWN;
+					continue;
+				case JdwpReplyPacket.INVALID_THREAD:
+				case JdwpReplyPacket.INVALID_OBJECT:
+					statuses[i] = ThreadReference.THREAD_STATUS_NOT_STARTED;
+					continue;
+				}
+				defaultReplyErrorHandler(replyPacket.errorCode());
+				statuses[i] = ThreadReferenceImpl.readStatus(this, replyPacket.dataInStream());
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+		return statuses;
+	}
+
+	/**
+	 * Sends the given thread command for each of the given threads and
+	 * returns the replies, in order. All commands are sent before waiting for
+	 * the first reply.
+	 */
+	private JdwpReplyPacket[] requestThreads(int command, List<? extends ThreadReference> threads) throws VMMismatchException {
+		for (ThreadReference thread : threads) {
+			checkVM(thread);
+		}
+		JdwpCommandPacket[] commands = new JdwpCommandPacket[threads.size()];
+		JdwpReplyPacket[] replies = new JdwpReplyPacket[commands.length];
+		initJdwpRequest();
+		try {
+			for (int i = 0; i < commands.length; i++) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				((ThreadReferenceImpl) threads.get(i)).write(this, new DataOutputStream(outBytes));
+				commands[i] = sendVM(command, outBytes);
+			}
+			for (int i = 0; i < commands.length; i++) {
+				replies[i] = replyVM(commands[i]);
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+		return replies;
+	}
+
+	/**
+	 * Sends the command to enable or disable garbage collection of the given
+	 * object, if the request changes the collection state of the object.
+	 * Requests are counted: collection is only enabled again when it has been
+	 * enabled as many times as it has been disabled, e.g. both by an
+	 * evaluation and by a view.
+	 *
+	 * @param object
+	 *            object of this VM
+	 * @param enabled
+	 *            whether to enable or to disable garbage collection
+	 * @return the command that was sent, or <code>null</code> if the
+	 *         collection state of the object does not change
+	 */
+	JdwpCommandPacket sendCollectionEnabled(ObjectReferenceImpl object, boolean enabled) {
+		// the commands are sent in the order the requests are counted
+		synchronized (fCollectionDisabled) {
+			JdwpObjectID id = object.getObjectID();
+			Integer count = fCollectionDisabled.get(id);
+			if (enabled) {
+				if (count != null && count > 1) {
+					fCollectionDisabled.put(id, count - 1);
+					return null;
+				}
+				fCollectionDisabled.remove(id);
+			} else {
+				fCollectionDisabled.put(id, count == null ? 1 : count + 1);
+				if (count != null) {
+					return null;
+				}
+			}
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			try {
+				object.write(this, new DataOutputStream(outBytes));
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+			}
+			return sendVM(enabled ? JdwpCommandPacket.OR_ENABLE_COLLECTION : JdwpCommandPacket.OR_DISABLE_COLLECTION, outBytes);
+		}
+	}
+
+	/**
+	 * Enables or disables garbage collection of the given objects. The
+	 * commands for all objects are sent before waiting for their replies.
+	 * Objects that have already been collected are ignored. Requests are
+	 * counted like those of {@link ObjectReference#disableCollection()} and
+	 * {@link ObjectReference#enableCollection()}.
+	 *
+	 * @param objects
+	 *            objects of this VM
+	 * @param enabled
+	 *            whether to enable or to disable garbage collection
+	 * @throws VMMismatchException
+	 *             if an object belongs to another VM
+	 * @since 3.22
+	 */
+	public void setCollectionEnabled(List<? extends ObjectReference> objects, boolean enabled) throws VMMismatchException {
+		for (ObjectReference object : objects) {
+			checkVM(object);
+		}
+		List<JdwpCommandPacket> commands = new ArrayList<>(objects.size());
+		initJdwpRequest();
+		try {
+			for (ObjectReference object : objects) {
+				JdwpCommandPacket commandPacket = sendCollectionEnabled((ObjectReferenceImpl) object, enabled);
+				if (commandPacket != null) {
+					commands.add(commandPacket);
+				}
+			}
+			for (JdwpCommandPacket commandPacket : commands) {
+				JdwpReplyPacket replyPacket = replyVM(commandPacket);
+				if (replyPacket.errorCode() != JdwpReplyPacket.INVALID_OBJECT) {
+					defaultReplyErrorHandler(replyPacket.errorCode());
+				}
+			}
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Returns the objects that refer to each of the given objects, like
+	 * {@link ObjectReference#referringObjects(long)}. The commands for all
+	 * objects are sent before waiting for their replies, so that retrieving
+	 * the referrers of many objects costs about one round trip to the VM.
+	 *
+	 * @param objects
+	 *            objects of this VM
+	 * @param maxReferrers
+	 *            the maximum number of referrers to return per object, 0 for
+	 *            all
+	 * @return Returns the referrers of each object, in order, or
+	 *         <code>null</code> for objects that have been collected.
+	 * @throws UnsupportedOperationException
+	 *             if this VM cannot retrieve referring objects
+	 * @throws VMMismatchException
+	 *             if an object belongs to another VM
+	 * @since 3.22
+	 */
+	public List<List<ObjectReference>> referringObjects(List<? extends ObjectReference> objects, long maxReferrers) throws VMMismatchException {
+		if (!canGetInstanceInfo()) {
+			throw new UnsupportedOperationException(JDIMessages.ReferenceTypeImpl_27);
+		}
+		for (ObjectReference object : objects) {
+			checkVM(object);
+		}
+		int max = (int) Math.min(maxReferrers, Integer.MAX_VALUE);
+		JdwpCommandPacket[] commands = new JdwpCommandPacket[objects.size()];
+		initJdwpRequest();
+		try {
+			for (int i = 0; i < commands.length; i++) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				((ObjectReferenceImpl) objects.get(i)).write(this, outData);
+				writeInt(max, "max referrers", outData); //$NON-NLS-1$
+				commands[i] = sendVM(JdwpCommandPacket.OR_REFERRING_OBJECTS, outBytes);
+			}
+			// collect all replies before processing any, which may fail
+			JdwpReplyPacket[] replies = new JdwpReplyPacket[commands.length];
+			for (int i = 0; i < commands.length; i++) {
+				replies[i] = replyVM(commands[i]);
+			}
+			List<List<ObjectReference>> result = new ArrayList<>(commands.length);
+			for (JdwpReplyPacket replyPacket : replies) {
+				switch (replyPacket.errorCode()) {
+				case JdwpReplyPacket.INVALID_OBJECT:
+					result.add(null);
+					continue;
+				case JdwpReplyPacket.NOT_IMPLEMENTED:
+					throw new UnsupportedOperationException(JDIMessages.ReferenceTypeImpl_27);
+				case JdwpReplyPacket.VM_DEAD:
+					throw new VMDisconnectedException(JDIMessages.vm_dead);
+				}
+				defaultReplyErrorHandler(replyPacket.errorCode());
+				DataInputStream replyData = replyPacket.dataInStream();
+				int elements = readInt("elements", replyData); //$NON-NLS-1$
+				if (max > 0 && elements > max) {
+					elements = max;
+				}
+				List<ObjectReference> referrers = new ArrayList<>(elements);
+				for (int i = 0; i < elements; i++) {
+					referrers.add((ObjectReference) ValueImpl.readWithTag(this, replyData));
+				}
+				result.add(referrers);
+			}
+			return result;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * Retrieve this VM's capabilities.
 	 */
@@ -650,26 +1001,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeString(signature, "signature", outData); //$NON-NLS-1$
-
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE, outBytes);
+					JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE, writeClassesBySignature(signature));
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			List<ReferenceType> elements = new ArrayList<>(nrOfElements);
-			for (int i = 0; i < nrOfElements; i++) {
-				ReferenceTypeImpl elt = ReferenceTypeImpl.readWithTypeTag(this,
-						replyData);
-				readInt("status", ReferenceTypeImpl.classStatusStrings(), replyData); //$NON-NLS-1$
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			return elements;
+			return readClassesBySignature(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -678,6 +1013,83 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Returns the loaded reference types for each of the given fully qualified
+	 * names. The lookups are all sent before waiting for their replies, so
+	 * that resolving many names costs about one round trip to the VM.
+	 *
+	 * @param names
+	 *            fully qualified type names
+	 * @return mapping of each given name to the loaded types of that name, in
+	 *         the order of the given names
+	 */
+	public Map<String, List<ReferenceType>> classesByNames(Collection<String> names) {
+		// Note that this information should not be cached.
+		Map<String, JdwpCommandPacket> commandPackets = new LinkedHashMap<>();
+		Map<String, List<ReferenceType>> result = new LinkedHashMap<>();
+		Exception failure = null;
+		initJdwpRequest();
+		try {
+			for (String name : names) {
+				if (commandPackets.containsKey(name)) {
+					continue;
+				}
+				try {
+					String signature = TypeImpl.classNameToSignature(name);
+					commandPackets.put(name, sendVM(JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE, writeClassesBySignature(signature)));
+				} catch (IOException | RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+			// collect all replies, even after a failure
+			for (Map.Entry<String, JdwpCommandPacket> entry : commandPackets.entrySet()) {
+				try {
+					JdwpReplyPacket replyPacket = replyVM(entry.getValue());
+					defaultReplyErrorHandler(replyPacket.errorCode());
+					result.put(entry.getKey(), readClassesBySignature(replyPacket));
+				} catch (IOException | RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+		} finally {
+			handledJdwpRequest();
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure != null) {
+			defaultIOExceptionHandler(failure);
+		}
+		return result;
+	}
+
+	private ByteArrayOutputStream writeClassesBySignature(String signature) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeString(signature, "signature", outData); //$NON-NLS-1$
+		return outBytes;
+	}
+
+	private List<ReferenceType> readClassesBySignature(JdwpReplyPacket replyPacket) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		List<ReferenceType> elements = new ArrayList<>(nrOfElements);
+		for (int i = 0; i < nrOfElements; i++) {
+			ReferenceTypeImpl elt = ReferenceTypeImpl.readWithTypeTag(this,
+					replyData);
+			readInt("status", ReferenceTypeImpl.classStatusStrings(), replyData); //$NON-NLS-1$
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		return elements;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.VirtualMachine#classesByName(java.lang.String)
 	 */
@@ -1500,6 +1912,103 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Returns the number of instances of each of the given reference types
+	 * like {@link #instanceCounts(List)}, splitting the types into batches of
+	 * the given size. The commands for all batches are sent before waiting
+	 * for their replies. Unlike {@link #instanceCounts(List)}, a type that has
+	 * been unloaded does not fail the request but gets a count of
+	 * <code>-1</code>.
+	 *
+	 * @param refTypes
+	 *            reference types of this VM
+	 * @param batchSize
+	 *            maximum number of types per command
+	 * @return Returns the instance count of each type, or <code>-1</code> for
+	 *         types that have been unloaded.
+	 * @since 3.22
+	 */
+	public long[] instanceCounts(List<? extends ReferenceType> refTypes, int batchSize) {
+		if (!canGetInstanceInfo()) {
+			throw new UnsupportedOperationException(JDIMessages.ReferenceTypeImpl_27);
+		}
+		int size = refTypes.size();
+		long[] counts = new long[size];
+		int batches = (size + batchSize - 1) / batchSize;
+		List<Integer> failed = new ArrayList<>();
+		initJdwpRequest();
+		try {
+			JdwpCommandPacket[] commands = new JdwpCommandPacket[batches];
+			for (int i = 0; i < batches; i++) {
+				commands[i] = sendInstanceCounts(refTypes.subList(i * batchSize, Math.min(size, (i + 1) * batchSize)));
+			}
+			for (int i = 0; i < batches; i++) {
+				if (!readInstanceCounts(replyVM(commands[i]), counts, i * batchSize)) {
+					failed.add(Integer.valueOf(i));
+				}
+			}
+			// retry batches with unloaded types one type at a time
+			List<JdwpCommandPacket> retries = new ArrayList<>();
+			for (Integer batch : failed) {
+				for (int j = batch.intValue() * batchSize; j < Math.min(size, (batch.intValue() + 1) * batchSize); j++) {
+					retries.add(sendInstanceCounts(refTypes.subList(j, j + 1)));
+				}
+			}
+			int index = 0;
+			for (Integer batch : failed) {
+				for (int j = batch.intValue() * batchSize; j < Math.min(size, (batch.intValue() + 1) * batchSize); j++) {
+					if (!readInstanceCounts(replyVM(retries.get(index++)), counts, j)) {
+						counts[j] = -1;
+					}
+				}
+			}
+			return counts;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Sends an <code>InstanceCounts</code> command for the given types.
+	 */
+	private JdwpCommandPacket sendInstanceCounts(List<? extends ReferenceType> refTypes) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeInt(refTypes.size(), "size", outData); //$NON-NLS-1$
+		for (ReferenceType refType : refTypes) {
+			checkVM(refType);
+			((ReferenceTypeImpl) refType).getRefTypeID().write(outData);
+		}
+		return sendVM(JdwpCommandPacket.VM_INSTANCE_COUNTS, outBytes);
+	}
+
+	/**
+	 * Reads the counts of an <code>InstanceCounts</code> reply into the given
+	 * array, starting at the given index. Returns <code>false</code> if a type
+	 * is not known to the VM anymore.
+	 */
+	private boolean readInstanceCounts(JdwpReplyPacket replyPacket, long[] counts, int start) throws IOException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_CLASS:
+		case JdwpReplyPacket.INVALID_OBJECT:
+			return false;
+		case JdwpReplyPacket.NOT_IMPLEMENTED:
+			throw new UnsupportedOperationException(JDIMessages.ReferenceTypeImpl_27);
+		case JdwpReplyPacket.VM_DEAD:
+			throw new VMDisconnectedException(JDIMessages.vm_dead);
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		int count = readInt("counts", replyData); //$NON-NLS-1$
+		for (int i = 0; i < count; i++) {
+			counts[start + i] = readLong("ref count", replyData); //$NON-NLS-1$
+		}
+		return true;
+	}
+
 	/**
 	 * Returns whether this VM is disconnected.
 	 *
@@ -232,23 +232,9 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			fRequestID.write(this, outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_CLEAR,
-					outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.NOT_FOUND:
-				throw new InvalidRequestStateException();
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			virtualMachineImpl().eventRequestManagerImpl()
-					.removeRequestIDMapping(this);
-			fRequestID = null;
+					writeDisableCommand());
+			disableCompleted(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -256,6 +242,33 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * @return Returns the data of the command disabling this request.
+	 */
+	ByteArrayOutputStream writeDisableCommand() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		fRequestID.write(this, outData);
+		return outBytes;
+	}
+
+	/**
+	 * Processes the reply to the command disabling this request.
+	 */
+	synchronized void disableCompleted(JdwpReplyPacket replyPacket) {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.NOT_FOUND:
+			throw new InvalidRequestStateException();
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		virtualMachineImpl().eventRequestManagerImpl()
+				.removeRequestIDMapping(this);
+		fRequestID = null;
+	}
+
 	/**
 	 * Enables event request.
 	 */
@@ -267,22 +280,9 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			writeByte(
-					suspendPolicyJDWP(),
-					"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
-			writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
-			writeModifiers(outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_SET,
-					outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fRequestID = RequestID.read(this, replyData);
-			virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+					writeEnableCommand());
+			enableCompleted(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -290,6 +290,32 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * @return Returns the data of the command enabling this request.
+	 */
+	ByteArrayOutputStream writeEnableCommand() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		writeByte(
+				suspendPolicyJDWP(),
+				"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
+		writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
+		writeModifiers(outData);
+		return outBytes;
+	}
+
+	/**
+	 * Processes the reply to the command enabling this request.
+	 */
+	synchronized void enableCompleted(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fRequestID = RequestID.read(this, replyData);
+		virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+	}
+
 	/**
 	 * Clear all breakpoints (used by EventRequestManager).
 	 */
@@ -14,6 +14,7 @@
 package org.eclipse.jdi.internal.request;
 
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -44,6 +45,8 @@ import org.eclipse.jdi.internal.event.StepEventImpl;
 import org.eclipse.jdi.internal.event.ThreadDeathEventImpl;
 import org.eclipse.jdi.internal.event.ThreadStartEventImpl;
 import org.eclipse.jdi.internal.event.VMDeathEventImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.Field;
@@ -437,6 +440,94 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		}
 	}
 
+	/**
+	 * Enables the given requests. The commands enabling the requests are all
+	 * sent before waiting for their replies, so that enabling many requests
+	 * costs about one round trip to the VM. Requests that are already enabled
+	 * are ignored.
+	 *
+	 * @param requests
+	 *            requests to enable
+	 * @throws VMMismatchException
+	 *             if a request belongs to another VM
+	 */
+	public void enableEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		setEventRequestsEnabled(requests, true);
+	}
+
+	/**
+	 * Disables the given requests. The commands disabling the requests are all
+	 * sent before waiting for their replies, so that disabling many requests
+	 * costs about one round trip to the VM. Requests that are already disabled
+	 * are ignored.
+	 *
+	 * @param requests
+	 *            requests to disable
+	 * @throws VMMismatchException
+	 *             if a request belongs to another VM
+	 */
+	public void disableEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		setEventRequestsEnabled(requests, false);
+	}
+
+	/**
+	 * Pipelines <code>EVENT_REQUEST_SET</code> or
+	 * <code>EVENT_REQUEST_CLEAR</code> commands for the given requests. All
+	 * replies are processed before the first failure, if any, is thrown.
+	 */
+	private void setEventRequestsEnabled(List<? extends EventRequest> requests, boolean enable) {
+		for (EventRequest request : requests) {
+			checkVM(request);
+		}
+		List<EventRequestImpl> sentRequests = new ArrayList<>(requests.size());
+		List<JdwpCommandPacket> commandPackets = new ArrayList<>(requests.size());
+		Exception failure = null;
+		initJdwpRequest();
+		try {
+			for (EventRequest request : requests) {
+				EventRequestImpl requestImpl = (EventRequestImpl) request;
+				if (requestImpl.isEnabled() == enable) {
+					continue;
+				}
+				try {
+					if (enable) {
+						commandPackets.add(sendVM(JdwpCommandPacket.ER_SET, requestImpl.writeEnableCommand()));
+					} else {
+						commandPackets.add(sendVM(JdwpCommandPacket.ER_CLEAR, requestImpl.writeDisableCommand()));
+					}
+					sentRequests.add(requestImpl);
+				} catch (IOException | RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+			// collect all replies, even after a failure
+			for (int i = 0; i < commandPackets.size(); i++) {
+				try {
+					JdwpReplyPacket replyPacket = replyVM(commandPackets.get(i));
+					if (enable) {
+						sentRequests.get(i).enableCompleted(replyPacket);
+					} else {
+						sentRequests.get(i).disableCompleted(replyPacket);
+					}
+				} catch (IOException | RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+		} finally {
+			handledJdwpRequest();
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure != null) {
+			defaultIOExceptionHandler(failure);
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.request.EventRequestManager#accessWatchpointRequests()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,4 +59,29 @@ public interface IJavaHotCodeReplaceListener {
 	 */
 	public void obsoleteMethods(IJavaDebugTarget target);
 
+	/**
+	 * Notification that classes were redefined in the given target by a hot
+	 * code replace. Class files whose contents are identical to the ones last
+	 * installed in the target are not redefined again. This notification is
+	 * sent before {@link #hotCodeReplaceSucceeded(IJavaDebugTarget)}.
+	 * <p>
+	 * The default implementation does nothing.
+	 * </p>
+	 *
+	 * @param target
+	 *            the target in which classes were redefined
+	 * @param redefinedCount
+	 *            the number of changed types that were redefined
+	 * @param unchangedCount
+	 *            the number of types that were skipped because their class
+	 *            files did not change
+	 * @param elapsedMillis
+	 *            the time taken to read, compare and redefine the classes, in
+	 *            milliseconds
+	 * @since 3.22
+	 */
+	public default void classesRedefined(IJavaDebugTarget target, int redefinedCount, int unchangedCount, long elapsedMillis) {
+		// do nothing
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -31,16 +37,24 @@ import org.eclipse.jdi.internal.event.ExceptionEventImpl;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
+import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.BreakpointEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventIterator;
 import com.sun.jdi.event.EventQueue;
 import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.ExceptionEvent;
+import com.sun.jdi.event.LocatableEvent;
+import com.sun.jdi.event.MethodEntryEvent;
+import com.sun.jdi.event.MethodExitEvent;
+import com.sun.jdi.event.StepEvent;
 import com.sun.jdi.event.ThreadDeathEvent;
 import com.sun.jdi.event.VMDeathEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
 import com.sun.jdi.event.VMStartEvent;
+import com.sun.jdi.event.WatchpointEvent;
 import com.sun.jdi.request.EventRequest;
 
 /**
@@ -60,6 +74,18 @@ import com.sun.jdi.request.EventRequest;
  * only resumed in if all event handlers agree that the thread should be
  * resumed.
  * </p>
+ * <p>
+ * Event sets that only concern a single thread (breakpoint, step, method
+ * entry/exit, exception and watchpoint events that do not suspend the whole
+ * VM) are dispatched in a lane per thread. Lanes of different threads are
+ * processed concurrently, while the event sets of one thread are processed in
+ * the order they were received. All other event sets (VM, thread and class
+ * lifecycle events, and events suspending the VM) act as barriers: they are
+ * dispatched by the thread reading the event queue once all lanes have been
+ * drained. Event sets requiring expression evaluation are dispatched in a
+ * separate job, once the lanes holding earlier event sets of their thread
+ * have been drained.
+ * </p>
  */
 
 public class EventDispatcher implements Runnable {
@@ -75,7 +101,18 @@ public class EventDispatcher implements Runnable {
 	 * Table of event listeners. Table is a mapping of <code>EventRequest</code>
 	 * to <code>IJDIEventListener</code>.
 	 */
-	private final HashMap<EventRequest, IJDIEventListener> fEventHandlers;
+	private final Map<EventRequest, IJDIEventListener> fEventHandlers;
+
+	/**
+	 * Event sets waiting to be dispatched, per thread. A thread has an entry
+	 * while a task is draining its lane. Also used as lock for the lanes.
+	 */
+	private final Map<ThreadReference, Deque<EventSet>> fLanes = new HashMap<>();
+
+	/**
+	 * Bounds the number of jobs draining thread lanes.
+	 */
+	private final JobGroup fLaneGroup;
 
 	/**
 	 * Queue of debug model events to fire, created when processing events on
@@ -83,6 +120,20 @@ public class EventDispatcher implements Runnable {
 	 */
 	private final Map<EventSet, List<DebugEvent>> fSetToQueue = new HashMap<>();
 
+	/**
+	 * Bounds the number of event sets with conditional breakpoints that are
+	 * dispatched concurrently. Event sets for different threads are evaluated
+	 * in parallel while this dispatcher keeps reading from the event queue.
+	 * <p>
+	 * A condition may wait for another thread, e.g. on a monitor, whose own
+	 * condition is queued behind it, so the bound is only applied while a
+	 * condition evaluation timeout is set: each evaluation then releases its
+	 * slot after the timeout and the grace period to abort it at the latest.
+	 * Without a timeout, event sets are dispatched without bound as before.
+	 * </p>
+	 */
+	private final JobGroup fEvaluationGroup;
+
 	/**
 	 * Constructs a new event dispatcher listening for events originating from
 	 * the specified debug target's underlying VM.
@@ -91,9 +142,25 @@ public class EventDispatcher implements Runnable {
 	 *            the target this event dispatcher belongs to
 	 */
 	public EventDispatcher(JDIDebugTarget target) {
-		fEventHandlers = new HashMap<>(10);
+		fEventHandlers = new ConcurrentHashMap<>(10);
 		fTarget = target;
 		fShutdown = false;
+		int lanes = Math.min(8, Math.max(2, Runtime.getRuntime().availableProcessors()));
+		fLaneGroup = new JobGroup("JDI Event Dispatch", lanes, 0) { //$NON-NLS-1$
+			@Override
+			protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCanceledJobs) {
+				// a failed lane must not discard the pending event sets of other threads
+				return false;
+			}
+		};
+		int maxEvaluations = Platform.getPreferencesService().getInt(JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.PREF_MAX_CONCURRENT_CONDITION_EVALUATIONS, JDIDebugPlugin.DEF_MAX_CONCURRENT_CONDITION_EVALUATIONS, null);
+		fEvaluationGroup = new JobGroup("JDI Expression Evaluation Event Dispatch", Math.max(1, maxEvaluations), 0) { //$NON-NLS-1$
+			@Override
+			protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCanceledJobs) {
+				// a failed dispatch must not discard the pending event sets of other threads
+				return false;
+			}
+		};
 	}
 
 	/**
@@ -134,7 +201,7 @@ public class EventDispatcher implements Runnable {
 				continue;
 			}
 			// Dispatch events to registered listeners, if any
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			listeners[index] = listener;
 			if (listener != null) {
 				if (listener instanceof IJavaLineBreakpoint) {
@@ -192,8 +259,7 @@ public class EventDispatcher implements Runnable {
 					continue;
 				}
 				// Dispatch events to registered listeners, if any
-				IJDIEventListener listener = fEventHandlers
-						.get(event.request());
+				IJDIEventListener listener = getListener(event);
 				if (listener != null) {
 					vote = true;
 					try {
@@ -256,7 +322,7 @@ public class EventDispatcher implements Runnable {
 			if (event == null) {
 				continue;
 			}
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			if (listener instanceof IJavaLineBreakpoint) {
 				try {
 					if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
@@ -271,6 +337,161 @@ public class EventDispatcher implements Runnable {
 		return false;
 	}
 
+	/**
+	 * Returns whether conditional breakpoints are evaluated with a timeout,
+	 * such that an evaluation cannot hold its slot in
+	 * {@link #fEvaluationGroup} indefinitely.
+	 */
+	private boolean hasEvaluationTimeout() {
+		return Platform.getPreferencesService().getInt(JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.PREF_CONDITION_EVALUATION_TIMEOUT, 0, null) > 0;
+	}
+
+	/**
+	 * Returns the listener registered for the request of the given event, or
+	 * <code>null</code> if none. VM start and death events have no request.
+	 */
+	private IJDIEventListener getListener(Event event) {
+		EventRequest request = event.request();
+		if (request == null) {
+			return null;
+		}
+		return fEventHandlers.get(request);
+	}
+
+	/**
+	 * Returns the thread whose lane the given event set can be dispatched in,
+	 * or <code>null</code> if the event set must be dispatched as a barrier.
+	 * Only event sets that do not suspend the whole VM and whose events are all
+	 * thread local events of the same thread are dispatched in a lane.
+	 */
+	private ThreadReference getLaneThread(EventSet eventSet) {
+		if (eventSet.suspendPolicy() == EventRequest.SUSPEND_ALL) {
+			return null;
+		}
+		ThreadReference thread = null;
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			Event event = iter.nextEvent();
+			if (!(event instanceof BreakpointEvent || event instanceof StepEvent
+					|| event instanceof MethodEntryEvent || event instanceof MethodExitEvent
+					|| event instanceof ExceptionEvent || event instanceof WatchpointEvent)) {
+				return null;
+			}
+			ThreadReference eventThread = ((LocatableEvent) event).thread();
+			if (eventThread == null || (thread != null && !thread.equals(eventThread))) {
+				return null;
+			}
+			thread = eventThread;
+		}
+		return thread;
+	}
+
+	/**
+	 * Appends the given event set to the lane of the given thread, starting a
+	 * task to drain the lane if none is running.
+	 */
+	private void dispatchInLane(ThreadReference thread, EventSet eventSet) {
+		synchronized (fLanes) {
+			Deque<EventSet> lane = fLanes.get(thread);
+			if (lane != null) {
+				lane.add(eventSet);
+				return;
+			}
+			lane = new ArrayDeque<>();
+			lane.add(eventSet);
+			fLanes.put(thread, lane);
+		}
+		Job job = new LaneJob(thread);
+		job.setJobGroup(fLaneGroup);
+		job.schedule();
+	}
+
+	/**
+	 * Drains the lane of a thread. Lanes do not belong to the dispatcher's job
+	 * family so that a lane which has been started is always drained.
+	 */
+	private final class LaneJob extends Job {
+		private final ThreadReference fThread;
+
+		LaneJob(ThreadReference thread) {
+			super("JDI Event Dispatch"); //$NON-NLS-1$
+			fThread = thread;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			drainLane(fThread);
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * Dispatches the event sets of the given thread's lane in order, until the
+	 * lane is empty.
+	 */
+	private void drainLane(ThreadReference thread) {
+		while (true) {
+			EventSet eventSet;
+			synchronized (fLanes) {
+				Deque<EventSet> lane = fLanes.get(thread);
+				eventSet = lane.poll();
+				if (eventSet == null) {
+					fLanes.remove(thread);
+					fLanes.notifyAll();
+					return;
+				}
+			}
+			try {
+				dispatch(eventSet);
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.logError("Exception occurred while dispatching event set: " + eventSet, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Waits until all thread lanes have been drained.
+	 */
+	private void awaitLanes() throws InterruptedException {
+		synchronized (fLanes) {
+			while (!fLanes.isEmpty()) {
+				fLanes.wait();
+			}
+		}
+	}
+
+	/**
+	 * Returns the lanes the given event set must wait for before it is
+	 * dispatched: the lane of its thread, or all lanes when the event set
+	 * is not local to one thread.
+	 */
+	private List<Deque<EventSet>> getPendingLanes(EventSet eventSet) {
+		ThreadReference thread = getLaneThread(eventSet);
+		synchronized (fLanes) {
+			if (thread == null) {
+				return new ArrayList<>(fLanes.values());
+			}
+			Deque<EventSet> lane = fLanes.get(thread);
+			return lane == null ? Collections.emptyList() : Collections.singletonList(lane);
+		}
+	}
+
+	/**
+	 * Waits until the given lanes have been drained. A lane has been drained
+	 * once it is no longer registered, a later lane of the same thread is a
+	 * different instance.
+	 */
+	private void awaitLanes(List<Deque<EventSet>> lanes) throws InterruptedException {
+		synchronized (fLanes) {
+			for (Deque<EventSet> lane : lanes) {
+				while (fLanes.containsValue(lane)) {
+					fLanes.wait();
+				}
+			}
+		}
+	}
+
 	/** @noreference public for test purposes */
 	public abstract class AbstractDispatchJob extends Job {
 		protected AbstractDispatchJob(String name) {
@@ -317,17 +538,33 @@ public class EventDispatcher implements Runnable {
 
 					if (eventSet != null) {
 						if (!requiresExpressionEvaluation(eventSet)) {
-							dispatch(eventSet);
+							ThreadReference thread = getLaneThread(eventSet);
+							if (thread != null) {
+								dispatchInLane(thread, eventSet);
+							} else {
+								awaitLanes();
+								dispatch(eventSet);
+							}
 						} else {
-							// 269231 always evaluate expressions in a separate job to avoid deadlocks
+							// 269231 always evaluate expressions in a separate job to avoid deadlocks,
+							// but only after the event sets received before it for the same thread
+							List<Deque<EventSet>> pending = getPendingLanes(eventSet);
 							Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
 								@Override
 								protected IStatus run(IProgressMonitor monitor) {
+									try {
+										awaitLanes(pending);
+									} catch (InterruptedException e) {
+										Thread.currentThread().interrupt();
+									}
 									dispatch(eventSet);
 									return Status.OK_STATUS;
 								}
 							};
 							job.setSystem(true);
+							if (hasEvaluationTimeout()) {
+								job.setJobGroup(fEvaluationGroup);
+							}
 							job.schedule();
 						}
 					}
@@ -370,7 +607,9 @@ public class EventDispatcher implements Runnable {
 	 */
 	public void addJDIEventListener(IJDIEventListener listener,
 			EventRequest request) {
-		fEventHandlers.put(request, listener);
+		if (request != null && listener != null) {
+			fEventHandlers.put(request, listener);
+		}
 	}
 
 	/**
@@ -384,7 +623,9 @@ public class EventDispatcher implements Runnable {
 	 *            the event request to de-register
 	 */
 	public void removeJDIEventListener(IJDIEventListener listener, EventRequest request) {
-		fEventHandlers.remove(request);
+		if (request != null) {
+			fEventHandlers.remove(request);
+		}
 	}
 
 	/**
@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.ClassObjectReference;
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Finds the shortest chains of references that keep an object alive, by a
+ * bounded breadth-first search over the objects referring to it.
+ * <p>
+ * The referrers of all objects of one level of the search are retrieved with
+ * pipelined <code>ReferringObjects</code> commands, in batches of
+ * {@link #BATCH_SIZE}. Each object is visited once. The search does not
+ * continue past class objects, which hold the static fields of their class,
+ * and thread objects. The <code>referent</code> of a
+ * {@link java.lang.ref.Reference} does not prevent collection and is not
+ * followed, while the other fields of references, like the values of
+ * <code>WeakHashMap</code> and <code>ThreadLocalMap</code> entries, are.
+ * Objects without other referrers are held by a thread stack or native code,
+ * or are not reachable anymore. Paths are reported as they are found, shortest
+ * first.
+ * </p>
+ *
+ * @since 3.22
+ */
+public final class GCRootPathFinder {
+
+	private static final String REFERENCE = "java.lang.ref.Reference"; //$NON-NLS-1$
+	private static final String REFERENT = "referent"; //$NON-NLS-1$
+
+	/**
+	 * Number of objects whose referrers are requested at once
+	 */
+	public static final int BATCH_SIZE = 256;
+
+	/**
+	 * Maximum number of referrers retrieved per object
+	 */
+	public static final int MAX_REFERRERS = 1000;
+
+	/**
+	 * Maximum number of objects visited by one search
+	 */
+	public static final int MAX_OBJECTS = 200000;
+
+	/**
+	 * Root kind of a path ending at a static field
+	 */
+	public static final int ROOT_STATIC_FIELD = 1;
+
+	/**
+	 * Root kind of a path ending at a thread object
+	 */
+	public static final int ROOT_THREAD = 2;
+
+	/**
+	 * Root kind of a path ending at an object without referrers in the heap,
+	 * which is held by a thread stack or native code, or is unreachable and
+	 * not collected yet
+	 */
+	public static final int ROOT_NO_REFERRERS = 3;
+
+	/**
+	 * Receives the paths found by a search.
+	 */
+	public interface IPathListener {
+
+		/**
+		 * Notification that a path has been found.
+		 *
+		 * @param path
+		 *            the path
+		 */
+		void pathFound(Path path);
+	}
+
+	/**
+	 * A chain of references from a root to the object searched for.
+	 */
+	public static final class Path {
+
+		private final IJavaObject[] fObjects;
+		private final String[] fReferences;
+		private final int fRootKind;
+		private final String fRoot;
+
+		Path(IJavaObject[] objects, String[] references, int rootKind, String root) {
+			fObjects = objects;
+			fReferences = references;
+			fRootKind = rootKind;
+			fRoot = root;
+		}
+
+		/**
+		 * @return the number of objects on this path, including the object
+		 *         searched for
+		 */
+		public int getLength() {
+			return fObjects.length;
+		}
+
+		/**
+		 * @param index
+		 *            index of an object, 0 for the root end of the path
+		 * @return the object at the given index
+		 */
+		public IJavaObject getObject(int index) {
+			return fObjects[index];
+		}
+
+		/**
+		 * @param index
+		 *            index of an object, 0 for the root end of the path
+		 * @return the field name or array index, like <code>.next</code> or
+		 *         <code>[3]</code>, by which the object at the given index
+		 *         refers to the next one, or <code>null</code> for the last
+		 *         object or if unknown
+		 */
+		public String getReference(int index) {
+			return fReferences[index];
+		}
+
+		/**
+		 * @return one of {@link GCRootPathFinder#ROOT_STATIC_FIELD},
+		 *         {@link GCRootPathFinder#ROOT_THREAD} or
+		 *         {@link GCRootPathFinder#ROOT_NO_REFERRERS}
+		 */
+		public int getRootKind() {
+			return fRootKind;
+		}
+
+		/**
+		 * @return the qualified name of the static field, or the name of the
+		 *         thread at the root of this path, or <code>null</code>
+		 */
+		public String getRoot() {
+			return fRoot;
+		}
+	}
+
+	/**
+	 * Open addressing set of object IDs.
+	 */
+	private static final class IDSet {
+
+		private long[] fIDs = new long[1024];
+		private boolean fHasZero;
+		private int fSize;
+
+		/**
+		 * Adds the given ID, returns whether it was not contained yet.
+		 */
+		boolean add(long id) {
+			if (id == 0) {
+				boolean added = !fHasZero;
+				fHasZero = true;
+				return added;
+			}
+			int mask = fIDs.length - 1;
+			int index = hash(id) & mask;
+			while (fIDs[index] != 0) {
+				if (fIDs[index] == id) {
+					return false;
+				}
+				index = (index + 1) & mask;
+			}
+			fIDs[index] = id;
+			if (++fSize * 2 > fIDs.length) {
+				grow();
+			}
+			return true;
+		}
+
+		private void grow() {
+			long[] ids = fIDs;
+			fIDs = new long[ids.length * 2];
+			int mask = fIDs.length - 1;
+			for (long id : ids) {
+				if (id != 0) {
+					int index = hash(id) & mask;
+					while (fIDs[index] != 0) {
+						index = (index + 1) & mask;
+					}
+					fIDs[index] = id;
+				}
+			}
+		}
+
+		private static int hash(long id) {
+			long h = id * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+
+	private final JDIDebugTarget fTarget;
+	private final int fMaxDepth;
+	private final int fMaxPaths;
+
+	/**
+	 * Objects visited by the current search
+	 */
+	private final List<ObjectReference> fObjects = new ArrayList<>();
+
+	/**
+	 * Index of the object referred to by each visited object, -1 for the
+	 * object searched for
+	 */
+	private int[] fReferents = new int[1024];
+
+	/**
+	 * Whether instances of a type are {@link java.lang.ref.Reference} objects
+	 */
+	private final Map<ReferenceType, Boolean> fIsReference = new HashMap<>();
+
+	/**
+	 * Creates a finder for the given target.
+	 *
+	 * @param target
+	 *            the debug target
+	 * @param maxDepth
+	 *            maximum number of references on a path
+	 * @param maxPaths
+	 *            maximum number of paths to report
+	 */
+	public GCRootPathFinder(JDIDebugTarget target, int maxDepth, int maxPaths) {
+		fTarget = target;
+		fMaxDepth = maxDepth;
+		fMaxPaths = maxPaths;
+	}
+
+	/**
+	 * Searches the paths from roots to the given object, reporting each path
+	 * to the given listener as soon as it is found.
+	 *
+	 * @param object
+	 *            object of the debug target of this finder
+	 * @param listener
+	 *            receives the paths found
+	 * @param monitor
+	 *            progress monitor, for cancellation
+	 * @return the number of paths found
+	 * @throws DebugException
+	 *             if the target does not support referring objects or the
+	 *             referrers cannot be retrieved
+	 */
+	public synchronized int find(IJavaObject object, IPathListener listener, IProgressMonitor monitor) throws DebugException {
+		VirtualMachine vm = fTarget.getVM();
+		if (!(object instanceof JDIObjectValue) || !fTarget.supportsInstanceRetrieval() || !(vm instanceof VirtualMachineImpl)) {
+			throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.NOT_SUPPORTED,
+					JDIDebugMessages.GCRootPathFinder_0, null));
+		}
+		VirtualMachineImpl vmImpl = (VirtualMachineImpl) vm;
+		fObjects.clear();
+		fIsReference.clear();
+		IDSet visited = new IDSet();
+		ObjectReference start = ((JDIObjectValue) object).getUnderlyingObject();
+		add(start, -1);
+		visited.add(start.uniqueID());
+		int found = 0;
+		int[] level = { 0 };
+		int levelSize = 1;
+		try {
+			for (int depth = 0; depth <= fMaxDepth && levelSize > 0; depth++) {
+				int[] next = new int[16];
+				int nextSize = 0;
+				for (int batch = 0; batch < levelSize; batch += BATCH_SIZE) {
+					if (monitor.isCanceled()) {
+						return found;
+					}
+					int batchEnd = Math.min(levelSize, batch + BATCH_SIZE);
+					List<ObjectReference> objects = new ArrayList<>(batchEnd - batch);
+					for (int i = batch; i < batchEnd; i++) {
+						objects.add(fObjects.get(level[i]));
+					}
+					List<List<ObjectReference>> referrers = vmImpl.referringObjects(objects, MAX_REFERRERS);
+					for (int i = batch; i < batchEnd; i++) {
+						List<ObjectReference> objectReferrers = referrers.get(i - batch);
+						if (objectReferrers == null) {
+							// collected meanwhile
+							continue;
+						}
+						ObjectReference current = fObjects.get(level[i]);
+						boolean referred = false;
+						for (ObjectReference referrer : objectReferrers) {
+							if (isWeakReferrer(referrer, current)) {
+								continue;
+							}
+							referred = true;
+							if (!visited.add(referrer.uniqueID()) || fObjects.size() >= MAX_OBJECTS) {
+								continue;
+							}
+							int index = add(referrer, level[i]);
+							int rootKind = 0;
+							if (referrer instanceof ClassObjectReference) {
+								rootKind = ROOT_STATIC_FIELD;
+							} else if (referrer instanceof ThreadReference) {
+								rootKind = ROOT_THREAD;
+							}
+							if (rootKind != 0) {
+								listener.pathFound(createPath(index, rootKind));
+								if (++found >= fMaxPaths) {
+									return found;
+								}
+							} else if (depth < fMaxDepth) {
+								if (nextSize == next.length) {
+									next = Arrays.copyOf(next, nextSize * 2);
+								}
+								next[nextSize++] = index;
+							}
+						}
+						if (!referred) {
+							listener.pathFound(createPath(level[i], ROOT_NO_REFERRERS));
+							if (++found >= fMaxPaths) {
+								return found;
+							}
+						}
+					}
+				}
+				level = next;
+				levelSize = nextSize;
+			}
+		} catch (RuntimeException e) {
+			throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.TARGET_REQUEST_FAILED,
+					JDIDebugMessages.GCRootPathFinder_1, e));
+		} finally {
+			fObjects.clear();
+			fIsReference.clear();
+		}
+		return found;
+	}
+
+	/**
+	 * Adds a visited object, returns its index.
+	 */
+	private int add(ObjectReference object, int referent) {
+		int index = fObjects.size();
+		fObjects.add(object);
+		if (index == fReferents.length) {
+			fReferents = Arrays.copyOf(fReferents, index * 2);
+		}
+		fReferents[index] = referent;
+		return index;
+	}
+
+	/**
+	 * Returns whether the given referrer is a {@link java.lang.ref.Reference}
+	 * which refers to the given object through its <code>referent</code> only,
+	 * which does not prevent the object from being collected.
+	 */
+	private boolean isWeakReferrer(ObjectReference referrer, ObjectReference object) {
+		if (!isReference(referrer)) {
+			return false;
+		}
+		List<Field> fields = new ArrayList<>();
+		for (Field field : referrer.referenceType().allFields()) {
+			if (!field.isStatic() && !(REFERENT.equals(field.name()) && REFERENCE.equals(field.declaringType().name()))) {
+				fields.add(field);
+			}
+		}
+		return !referrer.getValues(fields).containsValue(object);
+	}
+
+	/**
+	 * Returns whether the given object is a {@link java.lang.ref.Reference}.
+	 */
+	private boolean isReference(ObjectReference object) {
+		ReferenceType type = object.referenceType();
+		Boolean isReference = fIsReference.get(type);
+		if (isReference == null) {
+			isReference = Boolean.FALSE;
+			if (type instanceof ClassType) {
+				for (ClassType superclass = ((ClassType) type).superclass(); superclass != null; superclass = superclass.superclass()) {
+					if (REFERENCE.equals(superclass.name())) {
+						isReference = Boolean.TRUE;
+						break;
+					}
+				}
+			}
+			fIsReference.put(type, isReference);
+		}
+		return isReference.booleanValue();
+	}
+
+	/**
+	 * Creates the path from the object at the given index to the object
+	 * searched for, resolving the references between them.
+	 */
+	private Path createPath(int rootIndex, int rootKind) {
+		List<ObjectReference> chain = new ArrayList<>();
+		for (int index = rootIndex; index >= 0; index = fReferents[index]) {
+			chain.add(fObjects.get(index));
+		}
+		String root = null;
+		int first = 0;
+		if (rootKind == ROOT_STATIC_FIELD) {
+			// the class object only stands for the static field
+			root = findStaticField((ClassObjectReference) chain.get(0), chain.get(1));
+			first = 1;
+		} else if (rootKind == ROOT_THREAD) {
+			root = ((ThreadReference) chain.get(0)).name();
+		}
+		int length = chain.size() - first;
+		IJavaObject[] objects = new IJavaObject[length];
+		String[] references = new String[length];
+		for (int i = 0; i < length; i++) {
+			ObjectReference current = chain.get(first + i);
+			objects[i] = (IJavaObject) JDIValue.createValue(fTarget, current);
+			if (first + i + 1 < chain.size()) {
+				references[i] = findReference(current, chain.get(first + i + 1));
+			}
+		}
+		return new Path(objects, references, rootKind, root);
+	}
+
+	/**
+	 * Returns the qualified name of the static field of the given class
+	 * holding the given value, or <code>null</code> if none.
+	 */
+	private static String findStaticField(ClassObjectReference classObject, ObjectReference value) {
+		try {
+			ReferenceType type = classObject.reflectedType();
+			List<Field> fields = new ArrayList<>();
+			for (Field field : type.fields()) {
+				if (field.isStatic()) {
+					fields.add(field);
+				}
+			}
+			for (Map.Entry<Field, Value> entry : type.getValues(fields).entrySet()) {
+				if (value.equals(entry.getValue())) {
+					return type.name() + '.' + entry.getKey().name();
+				}
+			}
+			return type.name();
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the field name or array index by which the given referrer refers
+	 * to the given value, or <code>null</code> if unknown.
+	 */
+	private static String findReference(ObjectReference referrer, ObjectReference value) {
+		try {
+			if (referrer instanceof ArrayReference) {
+				List<Value> values = ((ArrayReference) referrer).getValues();
+				int index = values.indexOf(value);
+				return index >= 0 ? "[" + index + ']' : null; //$NON-NLS-1$
+			}
+			List<Field> fields = new ArrayList<>();
+			for (Field field : referrer.referenceType().allFields()) {
+				if (!field.isStatic()) {
+					fields.add(field);
+				}
+			}
+			for (Map.Entry<Field, Value> entry : referrer.getValues(fields).entrySet()) {
+				if (value.equals(entry.getValue())) {
+					return '.' + entry.getKey().name();
+				}
+			}
+		} catch (RuntimeException e) {
+			// collected or not available, leave unknown
+		}
+		return null;
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Number of instances of every loaded type of a debug target at one point in
+ * time, with the change in the number of instances since a previous histogram
+ * of the same target.
+ * <p>
+ * The instance counts of all loaded types are retrieved with one
+ * <code>InstanceCounts</code> command per {@link #BATCH_SIZE} types, all sent
+ * before waiting for their replies.
+ * </p>
+ *
+ * @since 3.22
+ */
+public final class HeapHistogram {
+
+	/**
+	 * Maximum number of types per <code>InstanceCounts</code> command
+	 */
+	public static final int BATCH_SIZE = 1000;
+
+	private final JDIDebugTarget fTarget;
+	private final ReferenceType[] fTypes;
+	private final long[] fCounts;
+	private final long[] fDeltas;
+	private final Map<ReferenceType, Integer> fIndex;
+	private final boolean fHasPrevious;
+
+	private HeapHistogram(JDIDebugTarget target, ReferenceType[] types, long[] counts, long[] deltas, boolean hasPrevious) {
+		fTarget = target;
+		fHasPrevious = hasPrevious;
+		fTypes = types;
+		fCounts = counts;
+		fDeltas = deltas;
+		fIndex = new HashMap<>(types.length * 2);
+		for (int i = 0; i < types.length; i++) {
+			fIndex.put(types[i], Integer.valueOf(i));
+		}
+	}
+
+	/**
+	 * Computes the histogram of the given target, ordered by decreasing number
+	 * of instances.
+	 *
+	 * @param target
+	 *            the debug target
+	 * @param previous
+	 *            histogram of the same target to compute changes against, or
+	 *            <code>null</code>
+	 * @return the histogram
+	 * @throws DebugException
+	 *             if the target does not support instance retrieval or the
+	 *             instance counts cannot be retrieved
+	 */
+	public static HeapHistogram compute(JDIDebugTarget target, HeapHistogram previous) throws DebugException {
+		VirtualMachine vm = target.getVM();
+		if (!target.supportsInstanceRetrieval() || !(vm instanceof VirtualMachineImpl)) {
+			throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.NOT_SUPPORTED,
+					JDIDebugMessages.HeapHistogram_0, null));
+		}
+		List<ReferenceType> allTypes;
+		long[] allCounts;
+		try {
+			allTypes = vm.allClasses();
+			allCounts = ((VirtualMachineImpl) vm).instanceCounts(allTypes, BATCH_SIZE);
+		} catch (RuntimeException e) {
+			throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.TARGET_REQUEST_FAILED,
+					JDIDebugMessages.HeapHistogram_1, e));
+		}
+		// drop unloaded types and sort by decreasing count
+		List<Integer> order = new ArrayList<>(allTypes.size());
+		for (int i = 0; i < allCounts.length; i++) {
+			if (allCounts[i] >= 0) {
+				order.add(Integer.valueOf(i));
+			}
+		}
+		order.sort((i1, i2) -> Long.compare(allCounts[i2.intValue()], allCounts[i1.intValue()]));
+		ReferenceType[] types = new ReferenceType[order.size()];
+		long[] counts = new long[order.size()];
+		long[] deltas = new long[order.size()];
+		boolean hasPrevious = previous != null && previous.fTarget == target;
+		for (int i = 0; i < types.length; i++) {
+			int index = order.get(i).intValue();
+			types[i] = allTypes.get(index);
+			counts[i] = allCounts[index];
+			deltas[i] = counts[i];
+			if (hasPrevious) {
+				Integer previousIndex = previous.fIndex.get(types[i]);
+				if (previousIndex != null) {
+					deltas[i] -= previous.fCounts[previousIndex.intValue()];
+				}
+			}
+		}
+		return new HeapHistogram(target, types, counts, deltas, hasPrevious);
+	}
+
+	/**
+	 * @return the debug target of this histogram
+	 */
+	public JDIDebugTarget getDebugTarget() {
+		return fTarget;
+	}
+
+	/**
+	 * @return whether the changes are computed against a previous histogram
+	 */
+	public boolean hasPrevious() {
+		return fHasPrevious;
+	}
+
+	/**
+	 * @return the number of types in this histogram
+	 */
+	public int size() {
+		return fTypes.length;
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the name of the type at the given index
+	 */
+	public String getTypeName(int index) {
+		return fTypes[index].name();
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the number of instances of the type at the given index
+	 */
+	public long getCount(int index) {
+		return fCounts[index];
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the change in the number of instances of the type at the given
+	 *         index since the previous histogram, or the number of instances
+	 *         if there was no previous histogram or the type was not loaded
+	 */
+	public long getDelta(int index) {
+		return fDeltas[index];
+	}
+
+	/**
+	 * @return the total number of instances of all types
+	 */
+	public long getTotalCount() {
+		return Arrays.stream(fCounts).sum();
+	}
+}
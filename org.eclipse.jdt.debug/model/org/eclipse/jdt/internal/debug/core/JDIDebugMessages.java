@@ -1,5 +1,5 @@
 /**********************************************************************
- * Copyright (c) 2004, 2005 IBM Corporation and others.s
+ * Copyright (c) 2004, 2026 IBM Corporation and others.s
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,12 @@ public class JDIDebugMessages extends NLS {
 
 	public static String EventDispatcher_0;
 
+	public static String HeapHistogram_0;
+	public static String HeapHistogram_1;
+
+	public static String GCRootPathFinder_0;
+	public static String GCRootPathFinder_1;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, JDIDebugMessages.class);
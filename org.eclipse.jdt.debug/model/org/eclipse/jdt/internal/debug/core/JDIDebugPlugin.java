@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,37 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ENABLE_ADVANCED_SOURCELOOKUP = JDIDebugPlugin
 			.getUniqueIdentifier() + ".enable_advanced_sourcelookup"; //$NON-NLS-1$
 
+	/**
+	 * Integer preference determining the time in milliseconds to wait for a
+	 * breakpoint condition to be evaluated. When the time is up the evaluation
+	 * is aborted and the breakpoint suspends with an error once it has ended,
+	 * or after a grace period if it cannot be aborted. A value of
+	 * <code>0</code> waits until the evaluation completes.
+	 *
+	 * @since 3.22
+	 */
+	public static final String PREF_CONDITION_EVALUATION_TIMEOUT = JDIDebugPlugin
+			.getUniqueIdentifier() + ".condition_evaluation_timeout"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference determining the maximum number of event sets with
+	 * conditional breakpoints that are evaluated concurrently per debug target.
+	 * Only applies while {@link #PREF_CONDITION_EVALUATION_TIMEOUT} is set, as
+	 * a condition waiting for another thread's condition could otherwise
+	 * block all evaluations.
+	 *
+	 * @since 3.22
+	 */
+	public static final String PREF_MAX_CONCURRENT_CONDITION_EVALUATIONS = JDIDebugPlugin
+			.getUniqueIdentifier() + ".max_concurrent_condition_evaluations"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MAX_CONCURRENT_CONDITION_EVALUATIONS}
+	 *
+	 * @since 3.22
+	 */
+	public static final int DEF_MAX_CONCURRENT_CONDITION_EVALUATIONS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
 	/**
 	 * Extension point for java logical structures.
 	 *
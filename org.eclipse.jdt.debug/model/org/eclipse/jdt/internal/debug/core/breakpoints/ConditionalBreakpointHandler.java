@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 IBM Corporation and others.
+ * Copyright (c) 2024, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
@@ -61,6 +62,18 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 	 */
 	private boolean fHasErrors = false;
 
+	/**
+	 * Milliseconds between attempts to abort an evaluation that timed out
+	 */
+	private static final long TERMINATE_POLL_INTERVAL = 100;
+
+	/**
+	 * Milliseconds to wait for an evaluation that timed out to be aborted. An
+	 * evaluation blocked in the target, e.g. on a monitor, cannot be aborted,
+	 * the breakpoint suspends anyway once this period has passed.
+	 */
+	private static final long TERMINATE_GRACE_PERIOD = 5000;
+
 	/**
 	 * Listens for evaluation completion for condition evaluation. If an evaluation evaluates <code>true</code> or has an error, this breakpoint will
 	 * suspend the thread in which the breakpoint was hit. If the evaluation returns <code>false</code>, the thread is resumed.
@@ -82,14 +95,21 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 		 */
 		private int fVote;
 
+		/**
+		 * Whether the evaluation has completed, guarded by the lock
+		 */
+		private boolean fComplete;
+
 		EvaluationListener(JavaLineBreakpoint breakpoint) {
 			fBreakpoint = breakpoint;
 		}
 
 		@Override
 		public void evaluationComplete(IEvaluationResult result) {
-			fVote = determineVote(result);
+			int vote = determineVote(result);
 			synchronized (fLock) {
+				fVote = vote;
+				fComplete = true;
 				fLock.notifyAll();
 			}
 		}
@@ -179,6 +199,16 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 			return fVote;
 		}
 
+		/**
+		 * Returns whether the evaluation has completed. Must be called while
+		 * holding the lock.
+		 *
+		 * @return whether the evaluation has completed
+		 */
+		boolean isComplete() {
+			return fComplete;
+		}
+
 		/**
 		 * Returns the lock object to synchronize this evaluation.
 		 *
@@ -256,12 +286,39 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					return SUSPEND;
 				}
 				Object lock = listener.getLock();
+				boolean timedOut = false;
 				synchronized (lock) {
 					engine.evaluateExpression(expression, frame, listener,
 							DebugEvent.EVALUATION_IMPLICIT, false);
-					// TODO: timeout?
+					int timeout = getEvaluationTimeout();
+					long deadline = System.currentTimeMillis() + timeout;
+					long graceDeadline = deadline + TERMINATE_GRACE_PERIOD;
 					try {
-						lock.wait();
+						// the listener may already have been notified if the
+						// evaluation completed synchronously
+						while (!listener.isComplete()) {
+							long now = System.currentTimeMillis();
+							if (timeout <= 0) {
+								lock.wait();
+							} else if (now < deadline) {
+								lock.wait(deadline - now);
+							} else {
+								if (!timedOut) {
+									timedOut = true;
+									fireConditionHasRuntimeErrors(lineBreakpoint, new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), MessageFormat.format(JDIDebugBreakpointMessages.ConditionalBreakpointHandler_2, Integer.toString(timeout)))));
+								}
+								if (now >= graceDeadline) {
+									// the evaluation cannot be aborted, suspend
+									// anyway rather than blocking the dispatch
+									break;
+								}
+								// the thread should not suspend while it still
+								// runs the evaluation, abort it and wait for
+								// it to end (it may not have started yet)
+								terminateEvaluation(thread);
+								lock.wait(Math.min(TERMINATE_POLL_INTERVAL, graceDeadline - now));
+							}
+						}
 					} catch (InterruptedException e) {
 						fireConditionHasRuntimeErrors(
 								lineBreakpoint,
@@ -275,7 +332,7 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 						return SUSPEND;
 					}
 				}
-				return listener.getVote();
+				return timedOut ? SUSPEND : listener.getVote();
 			} catch (CoreException e) {
 				DebugException de = null;
 				if (e instanceof DebugException) {
@@ -316,6 +373,29 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 		return ((JDIDebugTarget) vm).getEvaluationEngine(project);
 	}
 
+	/**
+	 * Aborts the evaluation running in the given thread, if any.
+	 */
+	private void terminateEvaluation(IJavaThread thread) {
+		if (thread.canTerminateEvaluation()) {
+			try {
+				thread.terminateEvaluation();
+			} catch (DebugException e) {
+				JDIDebugPlugin.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the time in milliseconds to wait for a condition to be evaluated,
+	 * or <code>0</code> to wait until the evaluation completes.
+	 *
+	 * @return the evaluation timeout
+	 */
+	private int getEvaluationTimeout() {
+		return Platform.getPreferencesService().getInt(JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.PREF_CONDITION_EVALUATION_TIMEOUT, 0, null);
+	}
+
 	private void fireConditionHasRuntimeErrors(IJavaLineBreakpoint breakpoint, DebugException exception) {
 		fHasErrors = true;
 		JDIDebugPlugin.getDefault().fireBreakpointHasRuntimeException(breakpoint, exception);
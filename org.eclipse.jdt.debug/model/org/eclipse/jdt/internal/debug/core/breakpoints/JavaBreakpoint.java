@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,17 +16,19 @@ package org.eclipse.jdt.internal.debug.core.breakpoints;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
@@ -119,9 +121,10 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	/**
 	 * Stores the collection of requests that this breakpoint has installed in
 	 * debug targets. key: a debug target value: the requests this breakpoint
-	 * has installed in that target
+	 * has installed in that target. Events of different threads are handled
+	 * concurrently.
 	 */
-	protected HashMap<JDIDebugTarget, List<EventRequest>> fRequestsByTarget;
+	protected Map<JDIDebugTarget, List<EventRequest>> fRequestsByTarget;
 
 	/**
 	 * The list of threads (ThreadReference objects) in which this breakpoint
@@ -178,8 +181,8 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 			EXPIRED, ENABLED };
 
 	public JavaBreakpoint() {
-		fRequestsByTarget = new HashMap<>(1);
-		fFilteredThreadsByTarget = new HashMap<>(1);
+		fRequestsByTarget = new ConcurrentHashMap<>(1);
+		fFilteredThreadsByTarget = new ConcurrentHashMap<>(1);
 	}
 
 	/*
@@ -379,7 +382,14 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 				// inappropriate type
 				return true;
 			}
-			createRequest(target, event.referenceType());
+			boolean batch = target.beginRequestBatch();
+			try {
+				createRequest(target, event.referenceType());
+			} finally {
+				if (batch) {
+					target.endRequestBatch();
+				}
+			}
 		} catch (CoreException e) {
 			JDIDebugPlugin.log(e);
 		}
@@ -621,6 +631,18 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		if (target.isTerminated() || shouldSkipBreakpoint()) {
 			return;
 		}
+		// enable all requests of this breakpoint with pipelined round trips
+		boolean batch = target.beginRequestBatch();
+		try {
+			internalCreateRequests(target);
+		} finally {
+			if (batch) {
+				target.endRequestBatch();
+			}
+		}
+	}
+
+	private void internalCreateRequests(JDIDebugTarget target) throws CoreException {
 		String referenceTypeName = getTypeName();
 		String enclosingTypeName = getEnclosingReferenceTypeName();
 		if (referenceTypeName == null || enclosingTypeName == null) {
@@ -738,6 +760,17 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		return hitCount != oldCount;
 	}
 
+	/**
+	 * Notification that the given thread died, or that its VM terminated or
+	 * disconnected. Subclasses forget the state they keep for the thread.
+	 *
+	 * @param thread
+	 *            the thread that died
+	 */
+	public void threadTerminated(ThreadReference thread) {
+		// no state is kept per thread
+	}
+
 	/**
 	 * Removes this breakpoint from the given target.
 	 */
@@ -830,7 +863,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 				// if the request has expired, do not disable.
 				// BreakpointRequests that have expired cannot be deleted.
 				if (!isExpired(request)) {
-					request.setEnabled(enabled);
+					target.setRequestEnabled(request, enabled);
 				}
 			} catch (VMDisconnectedException e) {
 			} catch (RuntimeException e) {
@@ -839,6 +872,30 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		}
 	}
 
+	/**
+	 * Sets the enabled state of the given request of this breakpoint after
+	 * changing it along with other requests in a request batch failed. A
+	 * failure is reported against this breakpoint.
+	 *
+	 * @param request
+	 *            a request of this breakpoint
+	 * @param enabled
+	 *            the state to set
+	 * @see JDIDebugTarget#endRequestBatch()
+	 */
+	public void retryUpdateEnabledState(EventRequest request, boolean enabled) {
+		try {
+			if (request.isEnabled() != enabled && !isExpired(request)) {
+				request.setEnabled(enabled);
+			}
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			IMarker marker = getMarker();
+			String label = marker == null ? getClass().getName() : marker.getAttribute(IMarker.MESSAGE, getClass().getName());
+			JDIDebugPlugin.log(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.ERROR, MessageFormat.format(JDIDebugBreakpointMessages.JavaBreakpoint_Unable_to_update_request, label), e));
+		}
+	}
+
 	/**
 	 * Returns whether this breakpoint has expired.
 	 */
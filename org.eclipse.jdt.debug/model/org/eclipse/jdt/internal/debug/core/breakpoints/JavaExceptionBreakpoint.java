@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IResource;
@@ -34,6 +35,7 @@ import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
@@ -133,8 +135,30 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected String[] fExclusionClassFilters = null;
 
-	private ObjectReference fLastException;
-	private JDIDebugTarget fLastTarget;
+	/**
+	 * The last exception encountered by this breakpoint in each thread.
+	 * Events of different threads are handled concurrently.
+	 */
+	private final Map<ThreadReference, ObjectReference> fLastExceptions = new ConcurrentHashMap<>();
+
+	/**
+	 * The last exception encountered by this breakpoint in any thread, or
+	 * <code>null</code>
+	 */
+	private volatile LastException fLastException;
+
+	/**
+	 * An exception and the target it was thrown in
+	 */
+	private static final class LastException {
+		final JDIDebugTarget fTarget;
+		final ObjectReference fException;
+
+		LastException(JDIDebugTarget target, ObjectReference exception) {
+			fTarget = target;
+			fException = exception;
+		}
+	}
 
 	public JavaExceptionBreakpoint() {
 	}
@@ -378,8 +402,8 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	private boolean handleBreakpointEventInternal(Event event, JDIThread thread, boolean suspendVote) {
 		if (event instanceof ExceptionEvent) {
 			ObjectReference ex = ((ExceptionEvent) event).exception();
-			fLastTarget = thread.getJavaDebugTarget();
-			fLastException = ex;
+			fLastException = new LastException(thread.getJavaDebugTarget(), ex);
+			fLastExceptions.put(thread.getUnderlyingThread(), ex);
 			String name = null;
 			try {
 				name = ex.type().name();
@@ -467,6 +491,16 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 		return false;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#threadTerminated(ThreadReference)
+	 */
+	@Override
+	public void threadTerminated(ThreadReference thread) {
+		fLastExceptions.remove(thread);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -477,7 +511,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	@Override
 	protected void setInstalledIn(IJavaDebugTarget target, boolean installed) {
 		fLastException = null;
-		fLastTarget = null;
+		if (target instanceof JDIDebugTarget jdiTarget) {
+			fLastExceptions.keySet().removeIf(thread -> thread.virtualMachine() == jdiTarget.getVM());
+		} else {
+			fLastExceptions.clear();
+		}
 		super.setInstalledIn(target, installed);
 	}
 
@@ -787,9 +825,28 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 * TODO: make API in future release.
 	 */
 	public IJavaObject getLastException() {
-		if (fLastException != null) {
-			return (IJavaObject) JDIValue.createValue(fLastTarget,
-					fLastException);
+		LastException last = fLastException;
+		if (last != null) {
+			return (IJavaObject) JDIValue.createValue(last.fTarget,
+					last.fException);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the last exception object that was encountered by this exception
+	 * breakpoint in the given thread, or <code>null</code> if none.
+	 *
+	 * @param thread
+	 *            the thread
+	 * @return the last exception in the thread or <code>null</code>
+	 */
+	public IJavaObject getLastException(IJavaThread thread) {
+		if (thread instanceof JDIThread jdiThread) {
+			ObjectReference exception = fLastExceptions.get(jdiThread.getUnderlyingThread());
+			if (exception != null) {
+				return (IJavaObject) JDIValue.createValue(jdiThread.getJavaDebugTarget(), exception);
+			}
 		}
 		return null;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -26,6 +26,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaMethodBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
@@ -34,7 +35,6 @@ import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult.ResultType;
 
-import com.sun.jdi.ClassType;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
@@ -117,13 +117,20 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 
 	/**
 	 * Maps each debug target that is suspended for this breakpoint to reason
-	 * that this breakpoint suspended it. Reasons include:
+	 * that this breakpoint last suspended it. Reasons include:
 	 * <ol>
 	 * <li>Method entry (value <code>ENTRY_EVENT</code>)</li>
 	 * <li>Method exit (value <code>EXIT_EVENT</code>)</li>
 	 * </ol>
+	 * Events of different threads are handled concurrently.
 	 */
-	private final Map<IDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
+	private final Map<IDebugTarget, Integer> fLastEventTypes = new ConcurrentHashMap<>(10);
+
+	/**
+	 * Maps each thread that this breakpoint suspended to the reason it
+	 * suspended it, as for {@link #fLastEventTypes}
+	 */
+	private final Map<ThreadReference, Integer> fThreadEventTypes = new ConcurrentHashMap<>();
 
 	/**
 	 * Used to match type names
@@ -281,21 +288,12 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		if (manager != null) {
 			try {
 				if (entry) {
-					if (classFilter instanceof ClassType && getMethodName() != null
-							&& getMethodSignature() != null) {
-						// use a line breakpoint if possible for better performance
-						ClassType clazz = (ClassType) classFilter;
-						if (clazz.name().equals(getTypeName())) {
-							// only use line breakpoint when there is an exact match
-							Method method = clazz.concreteMethodByName(
-									getMethodName(), getMethodSignature());
-							if (method != null && !method.isNative()) {
-								Location location = method.location();
-								if (location != null && location.codeIndex() != -1) {
-									request = manager
-											.createBreakpointRequest(location);
-								}
-							}
+					// use a line breakpoint if possible for better performance
+					Method method = getInstallableMethod(classFilter);
+					if (method != null) {
+						Location location = method.location();
+						if (location != null && location.codeIndex() != -1) {
+							request = manager.createBreakpointRequest(location);
 						}
 					}
 					if (request == null) {
@@ -335,6 +333,45 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		return null;
 	}
 
+	/**
+	 * Returns the concrete, non-native method this breakpoint applies to if it
+	 * is declared by the given type, or <code>null</code> if the method cannot
+	 * be determined exactly (for example when a type name pattern is used or
+	 * the method is native).
+	 *
+	 * @param classFilter
+	 *            a type name pattern or a <code>ReferenceType</code>
+	 * @return the method or <code>null</code>
+	 * @exception CoreException
+	 *                if an exception occurs accessing this breakpoint's
+	 *                underlying marker
+	 */
+	private Method getInstallableMethod(Object classFilter) throws CoreException {
+		if (!(classFilter instanceof ReferenceType) || getMethodName() == null
+				|| getMethodSignature() == null || isNativeOnly()) {
+			return null;
+		}
+		ReferenceType type = (ReferenceType) classFilter;
+		if (!type.name().equals(getTypeName())) {
+			// only use line breakpoints when there is an exact match
+			return null;
+		}
+		for (Method method : type.methodsByName(getMethodName())) {
+			if (method.isAbstract() || method.isNative()
+					|| !type.equals(method.declaringType())) {
+				continue;
+			}
+			String sig = method.signature();
+			if (sig.indexOf('$') > -1) {
+				sig = sig.replace('$', '.');
+			}
+			if (sig.equals(getMethodSignature())) {
+				return method;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * @see JavaBreakpoint#setRequestThreadFilter(EventRequest, ThreadReference)
 	 */
@@ -415,6 +452,34 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		return lastEventType.equals(ENTRY_EVENT);
 	}
 
+	/**
+	 * Returns whether this breakpoint last suspended the given thread on
+	 * method entry. Other threads may have been suspended by this breakpoint
+	 * on exit meanwhile.
+	 *
+	 * @param thread
+	 *            a thread suspended by this breakpoint
+	 * @return whether the thread was suspended on method entry
+	 * @see #isEntrySuspend(IDebugTarget)
+	 */
+	public boolean isEntrySuspend(IJavaThread thread) {
+		if (thread instanceof JDIThread jdiThread) {
+			Integer lastEventType = fThreadEventTypes.get(jdiThread.getUnderlyingThread());
+			if (lastEventType != null) {
+				return lastEventType.equals(ENTRY_EVENT);
+			}
+		}
+		return isEntrySuspend(thread.getDebugTarget());
+	}
+
+	/**
+	 * Remembers why this breakpoint is about to suspend the given thread.
+	 */
+	private void setLastEventType(JDIThread thread, Integer eventType) {
+		fLastEventTypes.put(thread.getDebugTarget(), eventType);
+		fThreadEventTypes.put(thread.getUnderlyingThread(), eventType);
+	}
+
 	/**
 	 * @see JavaBreakpoint#handleBreakpointEvent(Event, JDIThread, boolean)
 	 */
@@ -423,13 +488,13 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			boolean suspendVote) {
 		if (event instanceof MethodEntryEvent) {
 			MethodEntryEvent entryEvent = (MethodEntryEvent) event;
-			fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
+			setLastEventType(thread, ENTRY_EVENT);
 			//inActivateTriggerPoint(event);
 			return handleMethodEvent(entryEvent, entryEvent.method(), thread,
 					suspendVote);
 		} else if (event instanceof MethodExitEvent) {
 			MethodExitEvent exitEvent = (MethodExitEvent) event;
-			fLastEventTypes.put(thread.getDebugTarget(), EXIT_EVENT);
+			setLastEventType(thread, EXIT_EVENT);
 			//inActivateTriggerPoint(event);
 			boolean result = handleMethodEvent(exitEvent, exitEvent.method(), thread,
 					suspendVote);
@@ -439,7 +504,7 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			}
 			return result;
 		} else if (event instanceof BreakpointEvent) {
-			fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
+			setLastEventType(thread, ENTRY_EVENT);
 			return super.handleBreakpointEvent(event, thread, suspendVote);
 		}
 		return true;
@@ -576,12 +641,14 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	@Override
 	public void setEntry(boolean entry) throws CoreException {
 		if (isEntry() != entry) {
-			setAttribute(ENTRY, entry);
-			if (entry && !isEnabled()) {
-				setEnabled(true);
-			} else if (!(entry || isExit())) {
-				setEnabled(false);
+			// change both attributes at once, so requests are recreated once
+			boolean enabled = isEnabled();
+			if (entry) {
+				enabled = true;
+			} else if (!isExit()) {
+				enabled = false;
 			}
+			setAttributes(new String[] { ENTRY, ENABLED }, new Object[] { Boolean.valueOf(entry), Boolean.valueOf(enabled) });
 			recreate();
 		}
 	}
@@ -592,12 +659,14 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	@Override
 	public void setExit(boolean exit) throws CoreException {
 		if (isExit() != exit) {
-			setAttribute(EXIT, exit);
-			if (exit && !isEnabled()) {
-				setEnabled(true);
-			} else if (!(exit || isEntry())) {
-				setEnabled(false);
+			// change both attributes at once, so requests are recreated once
+			boolean enabled = isEnabled();
+			if (exit) {
+				enabled = true;
+			} else if (!isEntry()) {
+				enabled = false;
 			}
+			setAttributes(new String[] { EXIT, ENABLED }, new Object[] { Boolean.valueOf(exit), Boolean.valueOf(enabled) });
 			recreate();
 		}
 	}
@@ -708,12 +777,21 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		}
 	}
 
+	/**
+	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#threadTerminated(ThreadReference)
+	 */
+	@Override
+	public void threadTerminated(ThreadReference thread) {
+		fThreadEventTypes.remove(thread);
+	}
+
 	/**
 	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#removeFromTarget(JDIDebugTarget)
 	 */
 	@Override
 	public void removeFromTarget(JDIDebugTarget target) throws CoreException {
 		fLastEventTypes.remove(target);
+		fThreadEventTypes.keySet().removeIf(thread -> thread.virtualMachine() == target.getVM());
 		super.removeFromTarget(target);
 	}
 
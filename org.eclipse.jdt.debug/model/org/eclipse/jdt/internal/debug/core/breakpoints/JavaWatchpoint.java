@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -27,10 +27,12 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaWatchpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 
 import com.sun.jdi.Field;
 import com.sun.jdi.ObjectReference;
@@ -96,8 +98,15 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 	 * <li>Field access (value <code>ACCESS_EVENT</code>)</li>
 	 * <li>Field modification (value <code>MODIFICATION_EVENT</code>)</li>
 	 * </ol>
+	 * Events of different threads are handled concurrently.
 	 */
-	private final HashMap<JDIDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
+	private final Map<JDIDebugTarget, Integer> fLastEventTypes = new ConcurrentHashMap<>(10);
+
+	/**
+	 * Maps each thread that this breakpoint suspended to the reason it
+	 * suspended it, as for {@link #fLastEventTypes}
+	 */
+	private final Map<ThreadReference, Integer> fThreadEventTypes = new ConcurrentHashMap<>();
 
 	public JavaWatchpoint() {
 	}
@@ -323,12 +332,14 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 		if (access == isAccess()) {
 			return;
 		}
-		setAttribute(ACCESS, access);
-		if (access && !isEnabled()) {
-			setEnabled(true);
-		} else if (!(access || isModification())) {
-			setEnabled(false);
+		// change both attributes at once, so requests are recreated once
+		boolean enabled = isEnabled();
+		if (access) {
+			enabled = true;
+		} else if (!isModification()) {
+			enabled = false;
 		}
+		setAttributes(new String[] { ACCESS, ENABLED }, new Object[] { Boolean.valueOf(access), Boolean.valueOf(enabled) });
 		recreate();
 	}
 
@@ -358,12 +369,14 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 		if (modification == isModification()) {
 			return;
 		}
-		setAttribute(MODIFICATION, modification);
-		if (modification && !isEnabled()) {
-			setEnabled(true);
-		} else if (!(modification || isAccess())) {
-			setEnabled(false);
+		// change both attributes at once, so requests are recreated once
+		boolean enabled = isEnabled();
+		if (modification) {
+			enabled = true;
+		} else if (!isAccess()) {
+			enabled = false;
 		}
+		setAttributes(new String[] { MODIFICATION, ENABLED }, new Object[] { Boolean.valueOf(modification), Boolean.valueOf(enabled) });
 		recreate();
 	}
 
@@ -466,10 +479,10 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 	@Override
 	public boolean handleEvent(Event event, JDIDebugTarget target,
 			boolean suspendVote, EventSet eventSet) {
-		if (event instanceof AccessWatchpointEvent) {
-			fLastEventTypes.put(target, ACCESS_EVENT);
-		} else if (event instanceof ModificationWatchpointEvent) {
-			fLastEventTypes.put(target, MODIFICATION_EVENT);
+		if (event instanceof AccessWatchpointEvent accessEvent) {
+			setLastEventType(target, accessEvent.thread(), ACCESS_EVENT);
+		} else if (event instanceof ModificationWatchpointEvent modificationEvent) {
+			setLastEventType(target, modificationEvent.thread(), MODIFICATION_EVENT);
 		}
 		return super.handleEvent(event, target, suspendVote, eventSet);
 	}
@@ -517,6 +530,36 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 		return lastEventType.equals(ACCESS_EVENT);
 	}
 
+	/**
+	 * Returns whether this breakpoint last suspended the given thread on field
+	 * access. Other threads may have been suspended by this breakpoint on
+	 * modification meanwhile.
+	 *
+	 * @param thread
+	 *            a thread suspended by this breakpoint
+	 * @return whether the thread was suspended on field access
+	 * @see #isAccessSuspend(IDebugTarget)
+	 */
+	public boolean isAccessSuspend(IJavaThread thread) {
+		if (thread instanceof JDIThread jdiThread) {
+			Integer lastEventType = fThreadEventTypes.get(jdiThread.getUnderlyingThread());
+			if (lastEventType != null) {
+				return lastEventType.equals(ACCESS_EVENT);
+			}
+		}
+		return isAccessSuspend(thread.getDebugTarget());
+	}
+
+	/**
+	 * Remembers why this breakpoint is about to suspend the given thread.
+	 */
+	private void setLastEventType(JDIDebugTarget target, ThreadReference thread, Integer eventType) {
+		fLastEventTypes.put(target, eventType);
+		if (thread != null) {
+			fThreadEventTypes.put(thread, eventType);
+		}
+	}
+
 	/**
 	 * @see IJavaLineBreakpoint#supportsCondition()
 	 */
@@ -525,12 +568,21 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 		return true;
 	}
 
+	/**
+	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#threadTerminated(ThreadReference)
+	 */
+	@Override
+	public void threadTerminated(ThreadReference thread) {
+		fThreadEventTypes.remove(thread);
+	}
+
 	/**
 	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#removeFromTarget(JDIDebugTarget)
 	 */
 	@Override
 	public void removeFromTarget(JDIDebugTarget target) throws CoreException {
 		fLastEventTypes.remove(target);
+		fThreadEventTypes.keySet().removeIf(thread -> thread.virtualMachine() == target.getVM());
 		super.removeFromTarget(target);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,15 +14,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.hcr;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -98,6 +103,10 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * The class file extension
 	 */
 	private static final String CLASS_FILE_EXTENSION = "class"; //$NON-NLS-1$
+	/**
+	 * Algorithm used to detect class files that did not change
+	 */
+	private static final String CLASS_FILE_DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
 
 	/**
 	 * The list of <code>IJavaHotCodeReplaceListeners</code> which this hot code
@@ -446,7 +455,19 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				continue;
 			}
 
+			// Don't redefine types whose class files are identical to the ones
+			// last installed, e.g. after a full build
+			long start = System.currentTimeMillis();
+			Map<String, byte[]> digests = new HashMap<>();
+			Map<String, byte[]> classFiles = readClassFiles(resourcesToReplace, qualifiedNamesToReplace, digests);
+			int unchangedCount = filterUnchangedTypes(target, resourcesToReplace, qualifiedNamesToReplace, digests);
+			if (qualifiedNamesToReplace.isEmpty()) {
+				fireClassesRedefined(target, 0, unchangedCount, System.currentTimeMillis() - start);
+				continue;
+			}
+
 			List<IThread> poppedThreads = new ArrayList<>();
+			AffectedFrameIndex index = new AffectedFrameIndex(qualifiedNamesToReplace);
 			target.setIsPerformingHotCodeReplace(true);
 			try {
 				boolean framesPopped = false;
@@ -457,8 +478,8 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 					// Thus, pop the frames that contain affected methods
 					// *before* the class redefinition to avoid problems.
 					try {
-						attemptPopFrames(target, resourcesToReplace,
-								qualifiedNamesToReplace, poppedThreads);
+						attemptPopFrames(target, index, qualifiedNamesToReplace,
+								poppedThreads);
 						framesPopped = true; // No exception occurred
 					} catch (DebugException de) {
 						if (shouldLogHCRException(de)) {
@@ -468,11 +489,17 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				}
 				target.removeOutOfSynchTypes(qualifiedNamesToReplace);
 				if (target.supportsJDKHotCodeReplace()) {
-					redefineTypesJDK(target, resourcesToReplace,
-							qualifiedNamesToReplace);
+					redefineTypesJDK(target, qualifiedNamesToReplace, classFiles);
 				} else if (target.supportsJ9HotCodeReplace()) {
 					redefineTypesJ9(target, qualifiedNamesToReplace);
 				}
+				for (String name : qualifiedNamesToReplace) {
+					byte[] digest = digests.get(name);
+					if (digest != null) {
+						target.setInstalledClassDigest(name, digest);
+					}
+				}
+				fireClassesRedefined(target, qualifiedNamesToReplace.size(), unchangedCount, System.currentTimeMillis() - start);
 				if (containsObsoleteMethods(target)) {
 					fireObsoleteMethods(target);
 				}
@@ -488,7 +515,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 					} else {
 						// J9 drop to frame support:
 						// After redefining classes, drop to frame
-						attemptDropToFrame(target, resourcesToReplace,
+						attemptDropToFrame(target, index,
 								qualifiedNamesToReplace);
 					}
 				} catch (DebugException de) {
@@ -595,12 +622,11 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *
 	 * This method is to be used for JDK hot code replace.
 	 */
-	private void redefineTypesJDK(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) throws DebugException {
+	private void redefineTypesJDK(JDIDebugTarget target, List<String> qualifiedNames,
+			Map<String, byte[]> classFiles) throws DebugException {
 		if (target.supportsJDKHotCodeReplace()) {
 			target.setHCROccurred(true);
-			Map<ReferenceType, byte[]> typesToBytes = getTypesToBytes(target, resources,
-					qualifiedNames);
+			Map<ReferenceType, byte[]> typesToBytes = getTypesToBytes(target, qualifiedNames, classFiles);
 			try {
 				VirtualMachine vm = target.getVM();
 				if (vm == null) {
@@ -683,38 +709,93 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	}
 
 	/**
-	 * Returns a mapping of class files to the bytes that make up those class
-	 * files.
+	 * Reads the given class files in parallel and computes their digests.
+	 * Class files that cannot be read are omitted from the result.
 	 *
-	 * @param target
-	 *            the debug target to query
 	 * @param resources
 	 *            the classfiles
 	 * @param qualifiedNames
 	 *            the fully qualified type names corresponding to the
 	 *            classfiles. The typeNames correspond to the resources on a
 	 *            one-to-one basis.
-	 * @return a mapping of class files to bytes key: class file value: the
-	 *         bytes which make up that classfile
+	 * @param digests
+	 *            map to which the digest of each class file read is added,
+	 *            keyed by type name
+	 * @return mapping of type names to the bytes of their class files
 	 */
-	private Map<ReferenceType, byte[]> getTypesToBytes(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) {
-		Map<ReferenceType, byte[]> typesToBytes = new HashMap<>(resources.size());
-		Iterator<IResource> resourceIter = resources.iterator();
-		Iterator<String> nameIter = qualifiedNames.iterator();
-		IResource resource;
-		String name;
-		while (resourceIter.hasNext()) {
-			resource = resourceIter.next();
-			name = nameIter.next();
-			List<ReferenceType> classes = target.jdiClassesByName(name);
-			byte[] bytes = null;
+	private Map<String, byte[]> readClassFiles(List<IResource> resources, List<String> qualifiedNames, Map<String, byte[]> digests) {
+		byte[][] contents = new byte[resources.size()][];
+		byte[][] contentDigests = new byte[resources.size()][];
+		IntStream.range(0, resources.size()).parallel().forEach(i -> {
 			try {
-				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
-			} catch (JavaModelException jme) {
+				contents[i] = Util.getResourceContentsAsByteArray((IFile) resources.get(i));
+				contentDigests[i] = MessageDigest.getInstance(CLASS_FILE_DIGEST_ALGORITHM).digest(contents[i]);
+			} catch (JavaModelException | NoSuchAlgorithmException e) {
+				// unreadable class files are not replaced, unknown digests
+				// compare as changed
+			}
+		});
+		Map<String, byte[]> classFiles = new HashMap<>(resources.size());
+		for (int i = 0; i < contents.length; i++) {
+			String name = qualifiedNames.get(i);
+			if (contents[i] != null) {
+				classFiles.put(name, contents[i]);
+			}
+			if (contentDigests[i] != null) {
+				digests.put(name, contentDigests[i]);
+			}
+		}
+		return classFiles;
+	}
+
+	/**
+	 * Removes the types whose class files are identical to the ones last
+	 * installed in the given target from the given lists. Such types are no
+	 * longer out of synch with the target.
+	 *
+	 * @return the number of types removed
+	 */
+	private int filterUnchangedTypes(JDIDebugTarget target, List<IResource> resources, List<String> qualifiedNames, Map<String, byte[]> digests) {
+		List<String> unchanged = new ArrayList<>();
+		for (int i = qualifiedNames.size() - 1; i >= 0; i--) {
+			String name = qualifiedNames.get(i);
+			byte[] digest = digests.get(name);
+			if (digest != null && Arrays.equals(digest, target.getInstalledClassDigest(name))) {
+				unchanged.add(name);
+				qualifiedNames.remove(i);
+				resources.remove(i);
+			}
+		}
+		if (!unchanged.isEmpty()) {
+			target.removeOutOfSynchTypes(unchanged);
+		}
+		return unchanged.size();
+	}
+
+	/**
+	 * Returns a mapping of loaded types to the bytes of their class files. The
+	 * loaded types are resolved in one batch.
+	 *
+	 * @param target
+	 *            the debug target to query
+	 * @param qualifiedNames
+	 *            the fully qualified type names to replace
+	 * @param classFiles
+	 *            the bytes of the class files, keyed by type name
+	 * @return a mapping of loaded types to the bytes which make up their new
+	 *         class files
+	 */
+	private Map<ReferenceType, byte[]> getTypesToBytes(JDIDebugTarget target, List<String> qualifiedNames,
+			Map<String, byte[]> classFiles) {
+		Map<ReferenceType, byte[]> typesToBytes = new HashMap<>(qualifiedNames.size());
+		Map<String, List<ReferenceType>> classes = target.jdiClassesByNames(qualifiedNames);
+		for (String name : qualifiedNames) {
+			byte[] bytes = classFiles.get(name);
+			List<ReferenceType> types = classes.get(name);
+			if (bytes == null || types == null) {
 				continue;
 			}
-			for(ReferenceType type : classes) {
+			for (ReferenceType type : types) {
 				typesToBytes.put(type, bytes);
 			}
 		}
@@ -762,6 +843,16 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		}
 	}
 
+	/**
+	 * Notifies listeners of the classes redefined by a hot code replace
+	 */
+	private void fireClassesRedefined(JDIDebugTarget target, int redefinedCount, int unchangedCount, long elapsedMillis) {
+		ListenerList<IJavaHotCodeReplaceListener> listeners = getHotCodeReplaceListeners(target);
+		for (IJavaHotCodeReplaceListener listener : listeners) {
+			listener.classesRedefined(target, redefinedCount, unchangedCount, elapsedMillis);
+		}
+	}
+
 	/**
 	 * Notifies listeners that obsolete methods remain on the stack
 	 */
@@ -778,12 +869,14 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *
 	 * @param target
 	 *            the debug target in which frames are to be dropped
+	 * @param index
+	 *            the index of the classes that have been redefined
 	 * @param replacedClassNames
 	 *            the classes that have been redefined
 	 */
-	protected void attemptDropToFrame(JDIDebugTarget target, List<IResource> resources,
+	protected void attemptDropToFrame(JDIDebugTarget target, AffectedFrameIndex index,
 			List<String> replacedClassNames) throws DebugException {
-		List<JDIStackFrame> dropFrames = getAffectedFrames(target.getThreads(), resources,
+		List<JDIStackFrame> dropFrames = getAffectedFrames(target.getThreads(), index,
 				replacedClassNames);
 
 		// All threads that want to drop to frame are able. Proceed with the
@@ -809,15 +902,17 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *
 	 * @param target
 	 *            the debug target in which frames are to be dropped
+	 * @param index
+	 *            the index of the classes that have been redefined
 	 * @param replacedClassNames
 	 *            the classes that have been redefined
 	 * @param poppedThreads
 	 *            a list of the threads in which frames were popped.This
 	 *            parameter may have entries added by this method
 	 */
-	protected void attemptPopFrames(JDIDebugTarget target, List<IResource> resources,
+	protected void attemptPopFrames(JDIDebugTarget target, AffectedFrameIndex index,
 			List<String> replacedClassNames, List<IThread> poppedThreads) throws DebugException {
-		List<JDIStackFrame> popFrames = getAffectedFrames(target.getThreads(), resources,
+		List<JDIStackFrame> popFrames = getAffectedFrames(target.getThreads(), index,
 				replacedClassNames);
 
 		// All threads that want to drop to frame are able. Proceed with the
@@ -857,21 +952,117 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		return false;
 	}
 
+	/**
+	 * Index of the types replaced by one hot code replace. It answers whether
+	 * a frame's declaring type was affected without scanning the replaced type
+	 * names, and remembers the source lookup and the method diff for each
+	 * declaring type and method, so they are computed once no matter how many
+	 * frames refer to them. One index is used for all frames of one replace.
+	 *
+	 * @noreference public for test purposes
+	 */
+	public class AffectedFrameIndex {
+		/**
+		 * Replaced types and all enclosing types of replaced nested, local and
+		 * anonymous types
+		 */
+		private final Set<String> fChangedTypes = new HashSet<>();
+		/**
+		 * Compilation unit of each declaring type, <code>null</code> if none
+		 */
+		private final Map<String, ICompilationUnit> fCompilationUnits = new HashMap<>();
+		/**
+		 * Whether a method (declaring type, name and signature) has changed
+		 */
+		private final Map<String, Boolean> fChangedMethods = new HashMap<>();
+
+		public AffectedFrameIndex(List<String> replacedClassNames) {
+			for (String className : replacedClassNames) {
+				fChangedTypes.add(className);
+				int index = className.indexOf('$');
+				while (index > -1) {
+					fChangedTypes.add(className.substring(0, index));
+					index = className.indexOf('$', index + 1);
+				}
+			}
+		}
+
+		/**
+		 * Returns whether the given frame's declaring type, or one of its
+		 * nested types, was replaced.
+		 */
+		boolean containsChangedType(JDIStackFrame frame) throws DebugException {
+			return isChangedType(frame.getDeclaringTypeName());
+		}
+
+		/**
+		 * Returns whether the type with the given fully qualified binary name,
+		 * or one of the types nested in it, was replaced.
+		 *
+		 * @param typeName
+		 *            fully qualified binary type name
+		 * @return whether the type or one of its nested types was replaced
+		 */
+		public boolean isChangedType(String typeName) {
+			return fChangedTypes.contains(typeName);
+		}
+
+		/**
+		 * Returns whether the method of the given frame, whose declaring type
+		 * was replaced, has changed. Answers <code>true</code> when this
+		 * cannot be determined, i.e. the frame is dropped based on its type.
+		 */
+		boolean hasChangedMethod(JDIStackFrame frame) throws DebugException {
+			String typeName = frame.getDeclaringTypeName();
+			String key = typeName + '#' + frame.getName() + frame.getSignature();
+			Boolean changed = fChangedMethods.get(key);
+			if (changed == null) {
+				changed = Boolean.valueOf(computeChangedMethod(frame, typeName));
+				fChangedMethods.put(key, changed);
+			}
+			return changed.booleanValue();
+		}
+
+		private boolean computeChangedMethod(JDIStackFrame frame, String typeName) throws DebugException {
+			ICompilationUnit compilationUnit;
+			if (fCompilationUnits.containsKey(typeName)) {
+				compilationUnit = fCompilationUnits.get(typeName);
+			} else {
+				compilationUnit = getCompilationUnit(frame);
+				fCompilationUnits.put(typeName, compilationUnit);
+			}
+			// if we can't find the source, then do type-based drop
+			if (compilationUnit != null) {
+				try {
+					IProject project = compilationUnit.getCorrespondingResource()
+							.getProject();
+					CompilationUnitDelta delta = getDelta(compilationUnit,
+							getLastProjectBuildTime(project));
+					return delta.hasChanged(typeName.replace('$', '.'), frame.getName(),
+							frame.getSignature());
+				} catch (CoreException exception) {
+					// If smart drop to frame fails, just do type-based drop
+				}
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Returns a list of frames which should be popped in the given threads.
+	 * The stack frames of all suspended threads are computed in parallel, then
+	 * matched against the given index of the replaced types.
 	 */
-	protected List<JDIStackFrame> getAffectedFrames(IThread[] threads, List<IResource> resourceList,
+	protected List<JDIStackFrame> getAffectedFrames(IThread[] threads, AffectedFrameIndex index,
 			List<String> replacedClassNames) throws DebugException {
-		JDIThread thread = null;
 		JDIStackFrame affectedFrame = null;
 		List<JDIStackFrame> popFrames = new ArrayList<>();
 		int numThreads = threads.length;
-		IResource[] resources = new IResource[resourceList.size()];
-		resourceList.toArray(resources);
+		List<List<IJavaStackFrame>> threadFrames = computeSuspendedStackFrames(threads);
 		for (int i = 0; i < numThreads; i++) {
-			thread = (JDIThread) threads[i];
-			if (thread.isSuspended()) {
-				affectedFrame = getAffectedFrame(thread, replacedClassNames);
+			List<IJavaStackFrame> frames = threadFrames.get(i);
+			if (frames != null) {
+				affectedFrame = getAffectedFrame(frames, index);
 				if (affectedFrame == null) {
 					// No frame to drop to in this thread
 					continue;
@@ -900,43 +1091,52 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	}
 
 	/**
-	 * Returns the stack frame that should be dropped to in the given thread
-	 * after a hot code replace. This is calculated by determining if the
-	 * threads contain stack frames that reside in one of the given replaced
-	 * class names. If possible, only stack frames whose methods were directly
+	 * Computes the stack frames of the suspended threads among the given
+	 * threads in parallel, as each thread requires its own round trips to the
+	 * VM.
+	 *
+	 * @return the stack frames of each given thread, <code>null</code> for
+	 *         threads that are not suspended
+	 */
+	private List<List<IJavaStackFrame>> computeSuspendedStackFrames(IThread[] threads) throws DebugException {
+		List<List<IJavaStackFrame>> threadFrames = new ArrayList<>(Collections.nCopies(threads.length, null));
+		DebugException[] failure = new DebugException[1];
+		IntStream.range(0, threads.length).parallel().forEach(i -> {
+			JDIThread thread = (JDIThread) threads[i];
+			if (thread.isSuspended()) {
+				try {
+					threadFrames.set(i, thread.computeStackFrames());
+				} catch (DebugException e) {
+					synchronized (failure) {
+						if (failure[0] == null) {
+							failure[0] = e;
+						}
+					}
+				}
+			}
+		});
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+		return threadFrames;
+	}
+
+	/**
+	 * Returns the stack frame that should be dropped to among the given
+	 * frames of a thread after a hot code replace. This is calculated by
+	 * determining if the frames reside in one of the replaced types of the
+	 * given index. If possible, only stack frames whose methods were directly
 	 * affected (and not simply all frames in affected types) will be returned.
 	 */
-	protected JDIStackFrame getAffectedFrame(JDIThread thread,
-			List<String> replacedClassNames) throws DebugException {
-		List<IJavaStackFrame> frames = thread.computeStackFrames();
+	private JDIStackFrame getAffectedFrame(List<IJavaStackFrame> frames, AffectedFrameIndex index) throws DebugException {
 		JDIStackFrame affectedFrame = null;
 		JDIStackFrame frame = null;
-		ICompilationUnit compilationUnit = null;
-		CompilationUnitDelta delta = null;
-		IProject project = null;
 		for (int j = 0; j < frames.size(); j++) {
 			frame = (JDIStackFrame) frames.get(j);
-			if (containsChangedType(frame, replacedClassNames)) {
+			if (index.containsChangedType(frame)) {
 				// smart drop to frame support
-				compilationUnit = getCompilationUnit(frame);
-				// if we can't find the source, then do type-based drop
-				if (compilationUnit != null) {
-					try {
-						project = compilationUnit.getCorrespondingResource()
-								.getProject();
-						delta = getDelta(compilationUnit,
-								getLastProjectBuildTime(project));
-
-						String typeName = frame.getDeclaringTypeName();
-						typeName = typeName.replace('$', '.');
-
-						if (!delta.hasChanged(typeName, frame.getName(),
-								frame.getSignature())) {
-							continue;
-						}
-					} catch (CoreException exception) {
-						// If smart drop to frame fails, just do type-based drop
-					}
+				if (!index.hasChangedMethod(frame)) {
+					continue;
 				}
 
 				if (frame.supportsDropToFrame()) {
@@ -980,33 +1180,6 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		return delta;
 	}
 
-	/**
-	 * Returns whether the given frame's declaring type was changed based on the
-	 * given list of changed class names.
-	 */
-	protected boolean containsChangedType(JDIStackFrame frame,
-			List<String> replacedClassNames) throws DebugException {
-		String declaringTypeName = frame.getDeclaringTypeName();
-		// Check if the frame's declaring type was changed
-		if (replacedClassNames.contains(declaringTypeName)) {
-			return true;
-		}
-		// Check if one of the frame's declaring type's inner classes have
-		// changed
-		Iterator<String> iter = replacedClassNames.iterator();
-		int index;
-		String className = null;
-		while (iter.hasNext()) {
-			className = iter.next();
-			index = className.indexOf('$');
-			if (index > -1
-					&& declaringTypeName.equals(className.substring(0, index))) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	/**
 	 * Performs a "step into" operation on the given threads.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,16 @@
 package org.eclipse.jdt.internal.debug.core.logicalstructures;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.InstanceList;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaType;
@@ -25,24 +32,63 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugElement;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugModelMessages;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIPlaceholderValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.VirtualMachine;
 
 
 
 /**
  * Java value containing an array of java objects. This value is used to hold a
  * list of all instances of a specific java type.
+ * <p>
+ * The instances are retrieved as a compact list of object IDs. Model objects
+ * are only created for the pages of instances that are requested. Garbage
+ * collection is disabled for the objects of the most recently requested page
+ * only, and enabled again when another page is requested or the target
+ * resumes. Disabling collection is counted by the VM mirror, so objects that
+ * are also kept by others, e.g. an evaluation, stay uncollectable.
+ * </p>
  *
  * @since 3.3
  */
 public class JDIAllInstancesValue extends JDIArrayValue {
 
-	private IJavaObject[] fInstances;
+	/**
+	 * Maximum number of instances listed by the detail string
+	 */
+	private static final int DETAIL_LIMIT = 100;
+
+	private InstanceList fInstances;
+	private boolean fInstancesRetrieved;
 	private final JDIReferenceType fRoot;
 	private IJavaArrayType fType;
 	private boolean fIsMoreThanPreference;
+	private IJavaObject fPlaceholder;
+
+	/**
+	 * Offset of the current page
+	 */
+	private int fPageOffset;
+
+	/**
+	 * Instances of the current page, whose garbage collection is disabled, or
+	 * <code>null</code> if none
+	 */
+	private IJavaObject[] fPage;
+
+	/**
+	 * Enables garbage collection of the current page when the target resumes
+	 * or terminates, or <code>null</code> if not registered
+	 */
+	private IDebugEventSetListener fResumeListener;
 
 	/**
 	 * Constructor, specifies whether there are more instances available than
@@ -66,37 +112,157 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	}
 
 	/**
-	 * @return an array of java objects that are instances of the root type
+	 * Retrieves the object IDs of the instances of the root type, once.
+	 *
+	 * @return the number of instances to display, excluding the placeholder
 	 */
-	protected IJavaObject[] getInstances() {
-		if (fInstances != null) {
-			return fInstances;
-		}
-		IJavaObject[] instances = new IJavaObject[0];
-		fIsMoreThanPreference = false;
-		if (fRoot != null) {
-			int max = HeapWalkingManager.getDefault()
-					.getAllInstancesMaxCount();
-			try {
-				if (max == 0) {
-					instances = fRoot.getInstances(max);
-				} else {
-					instances = fRoot.getInstances(max + 1);
-					if (instances.length > max) {
-						instances[max] = new JDIPlaceholderValue(
-								(JDIDebugTarget) fRoot.getDebugTarget(),
+	private synchronized int retrieveInstances() {
+		if (!fInstancesRetrieved) {
+			fInstancesRetrieved = true;
+			fIsMoreThanPreference = false;
+			if (fRoot != null) {
+				int max = HeapWalkingManager.getDefault().getAllInstancesMaxCount();
+				try {
+					fInstances = fRoot.getInstanceList(max == 0 ? 0 : max + 1);
+					if (fInstances != null && max != 0 && fInstances.size() > max) {
+						fPlaceholder = new JDIPlaceholderValue((JDIDebugTarget) fRoot.getDebugTarget(),
 								MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_2, Integer.toString(max)));
 						fIsMoreThanPreference = true;
 					}
+				} catch (DebugException e) {
+					JDIDebugPlugin.log(e);
 				}
-			} catch (DebugException e) {
-				JDIDebugPlugin.log(e);
 			}
 		}
-		fInstances = instances;
+		if (fInstances == null) {
+			return 0;
+		}
+		return fIsMoreThanPreference ? fInstances.size() - 1 : fInstances.size();
+	}
+
+	/**
+	 * @return an array of java objects that are instances of the root type,
+	 *         followed by a placeholder if there are more instances than should
+	 *         be displayed
+	 * @throws DebugException
+	 *             if the instances cannot be retrieved
+	 */
+	protected IJavaObject[] getInstances() throws DebugException {
+		int count = retrieveInstances();
+		IJavaObject[] instances = createValues(0, count);
+		if (isMoreThanPreference()) {
+			IJavaObject[] all = new IJavaObject[count + 1];
+			System.arraycopy(instances, 0, all, 0, count);
+			all[count] = fPlaceholder;
+			return all;
+		}
 		return instances;
 	}
 
+	/**
+	 * Creates model objects for the instances in the given range.
+	 */
+	private IJavaObject[] createValues(int from, int to) throws DebugException {
+		List<ObjectReference> references;
+		try {
+			references = fInstances != null ? fInstances.get(from, to) : new ArrayList<>();
+		} catch (RuntimeException e) {
+			targetRequestFailed(JDIDebugModelMessages.JDIReferenceType_5, e);
+			return null;
+		}
+		IJavaObject[] values = new IJavaObject[references.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (IJavaObject) JDIValue.createValue(getJavaDebugTarget(), references.get(i));
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the instances in the given range, making them the current page.
+	 * Garbage collection is disabled for the instances of the new page and
+	 * enabled again for the instances of the previous page.
+	 */
+	private synchronized IJavaObject[] getPage(int offset, int length) throws DebugException {
+		if (fPage != null && fPageOffset == offset && fPage.length == length) {
+			return fPage;
+		}
+		IJavaObject[] page = createValues(offset, offset + length);
+		IJavaObject[] previous = fPage;
+		fPage = page;
+		fPageOffset = offset;
+		// disable collection of the new page first, so that objects on both
+		// pages are never collectable
+		setCollectionEnabled(page, false);
+		setCollectionEnabled(previous, true);
+		if (fResumeListener == null) {
+			fResumeListener = this::handleDebugEvents;
+			DebugPlugin.getDefault().addDebugEventListener(fResumeListener);
+		}
+		return page;
+	}
+
+	/**
+	 * Enables or disables garbage collection of the given objects.
+	 */
+	private void setCollectionEnabled(IJavaObject[] objects, boolean enabled) {
+		JDIDebugTarget target = getJavaDebugTarget();
+		VirtualMachine vm = target.getVM();
+		if (objects == null || !target.supportsSelectiveGarbageCollection() || !(vm instanceof VirtualMachineImpl)) {
+			return;
+		}
+		List<ObjectReference> references = new ArrayList<>(objects.length);
+		for (IJavaObject object : objects) {
+			if (object instanceof JDIObjectValue) {
+				references.add(((JDIObjectValue) object).getUnderlyingObject());
+			}
+		}
+		try {
+			((VirtualMachineImpl) vm).setCollectionEnabled(references, enabled);
+		} catch (UnsupportedOperationException e) {
+			// the VM does not support enable/disable GC, ignore
+		} catch (RuntimeException e) {
+			// the instances may have been collected or the target terminated
+			JDIDebugPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Enables garbage collection of the current page when the target resumes,
+	 * other than for an evaluation, or terminates.
+	 */
+	private void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			Object source = event.getSource();
+			if (!(source instanceof JDIDebugElement) || ((JDIDebugElement) source).getDebugTarget() != getDebugTarget()) {
+				continue;
+			}
+			int kind = event.getKind();
+			if ((kind == DebugEvent.RESUME && !event.isEvaluation()) || kind == DebugEvent.TERMINATE) {
+				releasePage(kind == DebugEvent.RESUME);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Forgets the current page, enabling garbage collection of its instances
+	 * if requested.
+	 */
+	private void releasePage(boolean enableCollection) {
+		IJavaObject[] page;
+		synchronized (this) {
+			page = fPage;
+			fPage = null;
+			if (fResumeListener != null) {
+				DebugPlugin.getDefault().removeDebugEventListener(fResumeListener);
+				fResumeListener = null;
+			}
+		}
+		if (enableCollection) {
+			setCollectionEnabled(page, true);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -104,7 +270,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public synchronized int getLength() throws DebugException {
-		return getInstances().length;
+		return getSize();
 	}
 
 	/*
@@ -114,7 +280,8 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public int getSize() throws DebugException {
-		return getInstances().length;
+		int count = retrieveInstances();
+		return isMoreThanPreference() ? count + 1 : count;
 	}
 
 	/*
@@ -125,10 +292,19 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IJavaValue getValue(int index) throws DebugException {
-		if (index > getInstances().length - 1 || index < 0) {
+		int count = retrieveInstances();
+		if (index > getSize() - 1 || index < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_0);
 		}
-		return getInstances()[index];
+		if (index == count) {
+			return fPlaceholder;
+		}
+		synchronized (this) {
+			if (fPage != null && index >= fPageOffset && index < fPageOffset + fPage.length) {
+				return fPage[index - fPageOffset];
+			}
+		}
+		return createValues(index, index + 1)[0];
 	}
 
 	/*
@@ -149,17 +325,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable getVariable(int offset) throws DebugException {
-		if (offset > getInstances().length - 1 || offset < 0) {
-			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
-		}
-		if (isMoreThanPreference() && offset == getInstances().length - 1) {
-			return new JDIPlaceholderVariable(
-					LogicalStructuresMessages.JDIAllInstancesValue_4,
-					getInstances()[offset]);
-		}
-		return new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5,
-				Integer.toString(offset)),
-				getInstances()[offset]);
+		return getVariables(offset, 1)[0];
 	}
 
 	/*
@@ -175,24 +341,32 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		if (length == 0) {
 			return new IVariable[0];
 		}
-		if (offset > getInstances().length - 1 || offset < 0) {
+		int count = retrieveInstances();
+		if (offset > getSize() - 1 || offset < 0 || offset + length > getSize()) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
 		}
+		IJavaObject[] page = getPage(offset, Math.min(length, count - offset));
 		IVariable[] vars = new JDIPlaceholderVariable[length];
-		for (int i = 0; i < length; i++) {
-			vars[i] = getVariable(i + offset);
+		for (int i = 0; i < page.length; i++) {
+			vars[i] = new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5,
+					Integer.toString(offset + i)), page[i]);
+		}
+		if (page.length < length) {
+			// the placeholder is the last element
+			vars[page.length] = new JDIPlaceholderVariable(LogicalStructuresMessages.JDIAllInstancesValue_4, fPlaceholder);
 		}
 		return vars;
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Returns the variables of all instances, as a single page. Views page
+	 * through the instances with {@link #getVariables(int, int)}.
 	 *
 	 * @see org.eclipse.jdt.internal.debug.core.model.JDIValue#getVariables()
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		return getVariables(0, getInstances().length);
+		return getVariables(0, getSize());
 	}
 
 	/*
@@ -237,7 +411,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public boolean hasVariables() throws DebugException {
-		return getInstances().length > 0;
+		return getSize() > 0;
 	}
 
 	/*
@@ -279,45 +453,55 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public String getValueString() throws DebugException {
+		int count = retrieveInstances();
 		if (isMoreThanPreference()) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_7,
-							Integer.toString(getInstances().length - 1));
-		} else if (getInstances().length == 1) {
+							Integer.toString(count));
+		} else if (count == 1) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_8,
-					Integer.toString(getInstances().length));
+					Integer.toString(count));
 		} else {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_9,
-					Integer.toString(getInstances().length));
+					Integer.toString(count));
 		}
 	}
 
 	/**
 	 * Returns a string representation of this value intended to be displayed in
-	 * the detail pane of views. Lists the references on separate lines.
+	 * the detail pane of views. Lists the first references on separate lines.
 	 *
 	 * @return a string representation of this value to display in the detail
 	 *         pane
 	 */
 	public String getDetailString() {
 		StringBuilder buf = new StringBuilder();
-		Object[] elements = getInstances();
-		if (elements.length == 0) {
+		int count = retrieveInstances();
+		if (count == 0) {
 			buf.append(LogicalStructuresMessages.JDIAllInstancesValue_10);
 		} else {
 			String length = null;
 			if (isMoreThanPreference()) {
 				length = MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_11,
-						Integer.toString(elements.length - 1));
+						Integer.toString(count));
 			} else {
-				length = Integer.toString(elements.length);
+				length = Integer.toString(count);
 			}
-			if (elements.length == 1) {
+			if (count == 1) {
 				buf.append(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_12, length));
 			} else {
 				buf.append(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_13, length));
 			}
-			for (Object element : elements) {
-				buf.append(element + "\n"); //$NON-NLS-1$
+			try {
+				for (IJavaObject element : createValues(0, Math.min(count, DETAIL_LIMIT))) {
+					buf.append(element + "\n"); //$NON-NLS-1$
+				}
+			} catch (DebugException e) {
+				JDIDebugPlugin.log(e);
+			}
+			if (count > DETAIL_LIMIT) {
+				buf.append(LogicalStructuresMessages.JDIAllInstancesValue_4 + "\n"); //$NON-NLS-1$
+			} else if (isMoreThanPreference()) {
+				buf.append(fPlaceholder + "\n"); //$NON-NLS-1$
 			}
 		}
 		return buf.toString();
@@ -328,8 +512,8 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 *         displayed
 	 */
 	protected boolean isMoreThanPreference() {
-		getInstances(); // The instances must be requested to know if there are
-						// more than the preference
+		retrieveInstances(); // The instances must be requested to know if
+								// there are more than the preference
 		return fIsMoreThanPreference;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -108,6 +108,7 @@ public abstract class JDIDebugElement extends DebugElement implements
 	 *            the event set the event is associated with
 	 */
 	public void queueEvent(DebugEvent event, EventSet set) {
+		elementChanged(event);
 		EventDispatcher dispatcher = ((JDIDebugTarget) getDebugTarget())
 				.getEventDispatcher();
 		if (dispatcher != null) {
@@ -115,6 +116,42 @@ public abstract class JDIDebugElement extends DebugElement implements
 		}
 	}
 
+	/**
+	 * Fires the given debug event, after recording the change of this element.
+	 *
+	 * @param event
+	 *            the event to fire
+	 * @see #elementChanged(DebugEvent)
+	 */
+	@Override
+	public void fireEvent(DebugEvent event) {
+		elementChanged(event);
+		super.fireEvent(event);
+	}
+
+	/**
+	 * Called before a debug event with this element as its source is fired or
+	 * queued. Advances the change epoch of the debug target, such that
+	 * information derived from the state of this element, like labels, is
+	 * known to be stale. Events caused by implicit evaluations do not change
+	 * the presented state and only advance the value epoch.
+	 *
+	 * @param event
+	 *            the event about to be fired or queued
+	 * @see JDIDebugTarget#getChangeEpoch()
+	 * @see JDIDebugTarget#getValueEpoch()
+	 */
+	protected void elementChanged(DebugEvent event) {
+		JDIDebugTarget target = getJavaDebugTarget();
+		if (target != null) {
+			// any evaluation or resume may change values
+			target.advanceValueEpoch();
+			if (event.getDetail() != DebugEvent.EVALUATION_IMPLICIT) {
+				target.advanceChangeEpoch();
+			}
+		}
+	}
+
 	/**
 	 * Fires a debug event marking the SUSPEND of this element with the
 	 * associated detail.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,7 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIDebugTarget_exception_disconnecting;
 	public static String JDIDebugTarget_exception_resume;
 	public static String JDIDebugTarget_exception_retrieving_version_information;
+	public static String JDIDebugTarget_exception_retrieving_thread_status;
 	public static String JDIDebugTarget_exception_suspend;
 	public static String JDIDebugTarget_exception_terminating;
 	public static String JDIDebugTarget_JDI_Event_Dispatcher;
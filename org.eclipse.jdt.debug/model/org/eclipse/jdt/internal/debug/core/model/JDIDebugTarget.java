@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -67,6 +69,7 @@ import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -103,6 +106,7 @@ import com.sun.jdi.InternalException;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
@@ -194,6 +198,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * stored by their fully qualified names.
 	 */
 	private final Set<String> fOutOfSynchTypes;
+	/**
+	 * Digests of the class files last installed by hot code replace, keyed by
+	 * fully qualified type name.
+	 */
+	private final Map<String, byte[]> fInstalledClassDigests = new ConcurrentHashMap<>();
 	/**
 	 * Whether or not this target has performed a hot code replace.
 	 */
@@ -240,6 +249,47 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final AtomicInteger fSuspendCount = new AtomicInteger(0);
 
+	/**
+	 * Advanced on every debug event fired by an element of this target
+	 *
+	 * @see #getChangeEpoch()
+	 */
+	private final AtomicLong fChangeEpoch = new AtomicLong();
+
+	/**
+	 * Advanced on every debug event fired by an element of this target,
+	 * including implicit evaluations
+	 *
+	 * @see #getValueEpoch()
+	 */
+	private final AtomicLong fValueEpoch = new AtomicLong();
+
+	/**
+	 * Owners and waiters of monitors, derived from the monitors of all threads
+	 * when they were all suspended, or <code>null</code>
+	 *
+	 * @see #fetchMonitorInformation()
+	 */
+	private volatile MonitorIndex fMonitorIndex;
+
+	/**
+	 * Owning and waiting threads of the monitors of this target, valid in one
+	 * change epoch
+	 */
+	static final class MonitorIndex {
+		final long fEpoch;
+		final Map<ObjectReference, JDIThread> fOwners = new HashMap<>();
+		final Map<ObjectReference, List<JDIThread>> fWaiters = new HashMap<>();
+
+		MonitorIndex(long epoch) {
+			fEpoch = epoch;
+		}
+
+		boolean contains(ObjectReference monitor) {
+			return fOwners.containsKey(monitor) || fWaiters.containsKey(monitor);
+		}
+	}
+
 	/** Number of extra VM.resume operations needed due SUSPEND_VM breakpoints */
 	private final AtomicInteger extraResumeCount = new AtomicInteger(0);
 
@@ -260,6 +310,12 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private volatile int fStepFilterMask;
 
+	/**
+	 * Compiled step filter settings, or <code>null</code> if they need to be
+	 * compiled again.
+	 */
+	private volatile StepFilterMatcher fStepFilterMatcher;
+
 	/**
 	 * Step filter bit mask - indicates if step filters are enabled.
 	 */
@@ -338,6 +394,14 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final Map<Long, String> objectLabels = new HashMap<>();
 
+	/**
+	 * Enabled state changes of event requests deferred while a request batch
+	 * is open on the current thread, mapped to the state to apply.
+	 *
+	 * @see #beginRequestBatch()
+	 */
+	private final ThreadLocal<Map<EventRequest, Boolean>> fRequestBatch = new ThreadLocal<>();
+
 	/**
 	 * Creates a new JDI debug target for the given virtual machine.
 	 *
@@ -601,10 +665,107 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		manager.addBreakpointListener(this);
 		IBreakpoint[] bps = manager.getBreakpoints(JDIDebugModel
 				.getPluginIdentifier());
-		for (IBreakpoint bp : bps) {
-			if (bp instanceof IJavaBreakpoint) {
-				breakpointAdded(bp);
+		boolean batch = beginRequestBatch();
+		try {
+			for (IBreakpoint bp : bps) {
+				if (bp instanceof IJavaBreakpoint) {
+					breakpointAdded(bp);
+				}
 			}
+		} finally {
+			if (batch) {
+				endRequestBatch();
+			}
+		}
+	}
+
+	/**
+	 * Opens a request batch on the calling thread, unless one is already open.
+	 * While the batch is open, event requests are enabled or disabled through
+	 * {@link #setRequestEnabled(EventRequest, boolean)} only when the batch is
+	 * closed by {@link #endRequestBatch()}, which pipelines all changes to the
+	 * VM instead of making one round trip per request.
+	 *
+	 * @return whether a batch was opened, in which case the caller must close
+	 *         it
+	 */
+	public boolean beginRequestBatch() {
+		if (fRequestBatch.get() != null) {
+			return false;
+		}
+		fRequestBatch.set(new LinkedHashMap<>());
+		return true;
+	}
+
+	/**
+	 * Sets the enabled state of the given request, or defers it until the
+	 * request batch open on the calling thread is closed.
+	 *
+	 * @param request
+	 *            the request to enable or disable
+	 * @param enabled
+	 *            the state to set
+	 */
+	public void setRequestEnabled(EventRequest request, boolean enabled) {
+		Map<EventRequest, Boolean> batch = fRequestBatch.get();
+		if (batch != null) {
+			batch.put(request, Boolean.valueOf(enabled));
+		} else if (request.isEnabled() != enabled) {
+			request.setEnabled(enabled);
+		}
+	}
+
+	/**
+	 * Closes the request batch open on the calling thread, applying the
+	 * deferred enabled states of its requests.
+	 */
+	public void endRequestBatch() {
+		Map<EventRequest, Boolean> batch = fRequestBatch.get();
+		fRequestBatch.remove();
+		if (batch == null || batch.isEmpty()) {
+			return;
+		}
+		List<EventRequest> enable = new ArrayList<>(batch.size());
+		List<EventRequest> disable = new ArrayList<>();
+		batch.forEach((request, enabled) -> {
+			if (request.isEnabled() != enabled.booleanValue()) {
+				(enabled.booleanValue() ? enable : disable).add(request);
+			}
+		});
+		EventRequestManager manager = getEventRequestManager();
+		try {
+			if (manager instanceof EventRequestManagerImpl) {
+				((EventRequestManagerImpl) manager).disableEventRequests(disable);
+				((EventRequestManagerImpl) manager).enableEventRequests(enable);
+			} else {
+				disable.forEach(request -> request.setEnabled(false));
+				enable.forEach(request -> request.setEnabled(true));
+			}
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			// the failure is not attributed to a request, retry the requests
+			// which were not changed one by one
+			batch.forEach((request, enabled) -> retryRequestEnabled(request, enabled.booleanValue()));
+		}
+	}
+
+	/**
+	 * Sets the enabled state of a request which could not be changed in a
+	 * request batch, reporting a failure against the breakpoint owning the
+	 * request.
+	 */
+	private void retryRequestEnabled(EventRequest request, boolean enabled) {
+		if (request.getProperty(JavaBreakpoint.JAVA_BREAKPOINT_PROPERTY) instanceof JavaBreakpoint breakpoint) {
+			breakpoint.retryUpdateEnabledState(request, enabled);
+			return;
+		}
+		try {
+			if (request.isEnabled() != enabled) {
+				request.setEnabled(enabled);
+			}
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			internalError(e);
 		}
 	}
 
@@ -672,6 +833,51 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns the number of threads of this target, the length of
+	 * {@link #getThreads()}.
+	 *
+	 * @return the number of threads of this target
+	 * @since 3.22
+	 */
+	public int getThreadCount() {
+		return fThreads.size();
+	}
+
+	/**
+	 * Returns the threads of this target in the given range of the order of
+	 * {@link #getThreads()}, without copying the others.
+	 *
+	 * @param offset
+	 *            index of the first thread to return
+	 * @param length
+	 *            maximum number of threads to return
+	 * @return the threads in the given range, fewer if this target has less
+	 *         threads
+	 * @since 3.22
+	 */
+	public IThread[] getThreads(int offset, int length) {
+		synchronized (fThreads) {
+			int size = Math.max(0, Math.min(length, fThreads.size() - offset));
+			IThread[] threads = new IThread[size];
+			int index = 0;
+			int position = 0;
+			for (int pass = 0; pass < 2 && index < size; pass++) {
+				// non-system threads first
+				boolean system = pass == 1;
+				for (JDIThread thread : fThreads) {
+					if (thread.isSystemThread() == system) {
+						if (position >= offset && index < size) {
+							threads[index++] = thread;
+						}
+						position++;
+					}
+				}
+			}
+			return threads;
+		}
+	}
+
 	@Override
 	public boolean canResume() {
 		return (isSuspended() || canResumeThreads()) && isAvailable()
@@ -869,6 +1075,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		} else {
 			objectLabels.put(id, label);
 		}
+		advanceChangeEpoch();
 	}
 
 	/**
@@ -887,6 +1094,36 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	public void setHCROccurred(boolean occurred) {
 		fHasHCROccurred = occurred;
+		// redefined methods may no longer be getters or setters
+		fStepFilterMatcher = null;
+	}
+
+	/**
+	 * Returns the digest of the class file bytes last installed for the given
+	 * type by hot code replace, or <code>null</code> if the type has not been
+	 * replaced yet.
+	 *
+	 * @param qualifiedName
+	 *            fully qualified type name
+	 * @return digest of the installed class file or <code>null</code>
+	 * @since 3.22
+	 */
+	public byte[] getInstalledClassDigest(String qualifiedName) {
+		return fInstalledClassDigests.get(qualifiedName);
+	}
+
+	/**
+	 * Records the digest of the class file bytes installed for the given type
+	 * by hot code replace.
+	 *
+	 * @param qualifiedName
+	 *            fully qualified type name
+	 * @param digest
+	 *            digest of the installed class file
+	 * @since 3.22
+	 */
+	public void setInstalledClassDigest(String qualifiedName, byte[] digest) {
+		fInstalledClassDigests.put(qualifiedName, digest);
 	}
 
 	public void removeOutOfSynchTypes(List<String> qualifiedNames) {
@@ -1230,7 +1467,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				req.addSourceNameFilter(sourceName);
 			}
 			if (enabled) {
-				req.enable();
+				setRequestEnabled(req, true);
 			}
 		} catch (RuntimeException e) {
 			targetRequestFailed(
@@ -1836,12 +2073,32 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		while (itr.hasNext()) {
 			JDIThread child = itr.next();
 			child.terminated();
+			breakpointsThreadTerminated(child.getUnderlyingThread());
 		}
 		synchronized (fThreads) {
 			fThreads.clear();
 		}
 	}
 
+	/**
+	 * Lets the breakpoints installed in this target forget the state they keep
+	 * for the given thread, which died.
+	 *
+	 * @param thread
+	 *            the thread that died
+	 */
+	private void breakpointsThreadTerminated(ThreadReference thread) {
+		IBreakpoint[] breakpoints;
+		synchronized (fBreakpoints) {
+			breakpoints = fBreakpoints.toArray(new IBreakpoint[fBreakpoints.size()]);
+		}
+		for (IBreakpoint breakpoint : breakpoints) {
+			if (breakpoint instanceof JavaBreakpoint) {
+				((JavaBreakpoint) breakpoint).threadTerminated(thread);
+			}
+		}
+	}
+
 	/**
 	 * Removes all breakpoints from this target, such that each breakpoint can
 	 * update its install count. This target's collection of breakpoints is
@@ -1898,6 +2155,41 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return Collections.EMPTY_LIST;
 	}
 
+	/**
+	 * Returns the loaded reference types for each of the given fully qualified
+	 * names. When the underlying VM supports it, all names are resolved in one
+	 * pipelined batch of requests. If the batch fails, the failure is logged
+	 * and the names are looked up one by one.
+	 *
+	 * @param classNames
+	 *            fully qualified type names
+	 * @return mapping of each name to the types loaded with that name, never
+	 *         <code>null</code>
+	 * @since 3.22
+	 */
+	public Map<String, List<ReferenceType>> jdiClassesByNames(List<String> classNames) {
+		VirtualMachine vm = getVM();
+		if (vm instanceof VirtualMachineImpl) {
+			try {
+				return ((VirtualMachineImpl) vm).classesByNames(classNames);
+			} catch (VMDisconnectedException e) {
+				if (!isAvailable()) {
+					return Collections.emptyMap();
+				}
+				logError(e);
+			} catch (RuntimeException e) {
+				// a single failed lookup must not hide the types of the other
+				// names, look them up one by one
+				logError(e);
+			}
+		}
+		Map<String, List<ReferenceType>> classes = new LinkedHashMap<>();
+		for (String className : classNames) {
+			classes.put(className, jdiClassesByName(className));
+		}
+		return classes;
+	}
+
 	@Override
 	public IJavaVariable findVariable(String varName) throws DebugException {
 		IThread[] threads = getThreads();
@@ -2322,6 +2614,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				// triggers DebugEvent
 				thread.terminated();
 			}
+			breakpointsThreadTerminated(ref);
 			return true;
 		}
 
@@ -2417,6 +2710,13 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			return null;
 		}
 
+		/**
+		 * Returns whether name changes are observed.
+		 */
+		boolean isTracking() {
+			return request != null;
+		}
+
 		void deleteRequest() {
 			if (request != null) {
 				removeJDIEventListener(this, request);
@@ -2493,6 +2793,10 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		protected IStatus run(IProgressMonitor monitor) {
 			DebugEvent[] events;
 			synchronized (queue) {
+				for (JDIThread thread : queue) {
+					thread.advanceChangeEpoch();
+				}
+				advanceChangeEpoch();
 				events = queue.stream().map(t -> new DebugEvent(t, DebugEvent.CHANGE, DebugEvent.STATE)).toArray(DebugEvent[]::new);
 				queue.clear();
 			}
@@ -2556,6 +2860,17 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return fThreadNameChangeHandler;
 	}
 
+	/**
+	 * Returns whether name changes of threads are observed, such that the
+	 * names of threads can be remembered until they change.
+	 *
+	 * @return whether name changes of threads are observed
+	 */
+	boolean isTrackingThreadNames() {
+		ThreadNameChangeHandler handler = getThreadNameChangeHandler();
+		return handler != null && handler.isTracking();
+	}
+
 	private void setThreadNameChangeHandler(ThreadNameChangeHandler threadNameChangeHandler) {
 		fThreadNameChangeHandler = threadNameChangeHandler;
 	}
@@ -2661,6 +2976,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			fStepFilterMask = fStepFilterMask
 					& (FILTER_CONSTRUCTORS ^ XOR_MASK);
 		}
+		fStepFilterMatcher = null;
 	}
 
 	@Override
@@ -2671,6 +2987,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			fStepFilterMask = fStepFilterMask
 					& (FILTER_STATIC_INITIALIZERS ^ XOR_MASK);
 		}
+		fStepFilterMatcher = null;
 	}
 
 	@Override
@@ -2680,6 +2997,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		} else {
 			fStepFilterMask = fStepFilterMask & (FILTER_SYNTHETICS ^ XOR_MASK);
 		}
+		fStepFilterMatcher = null;
 	}
 
 	/*
@@ -2706,6 +3024,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		} else {
 			fStepFilterMask = fStepFilterMask & (FILTER_GETTERS ^ XOR_MASK);
 		}
+		fStepFilterMatcher = null;
 	}
 
 	@Override
@@ -2720,11 +3039,28 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		} else {
 			fStepFilterMask = fStepFilterMask & (FILTER_SETTERS ^ XOR_MASK);
 		}
+		fStepFilterMatcher = null;
 	}
 
 	@Override
 	public void setStepFilters(String[] list) {
 		fStepFilters = list;
+		fStepFilterMatcher = null;
+	}
+
+	/**
+	 * Returns the compiled form of this target's current step filter
+	 * settings. The settings are compiled again after they change.
+	 *
+	 * @return compiled step filter settings
+	 */
+	public StepFilterMatcher getStepFilterMatcher() {
+		StepFilterMatcher matcher = fStepFilterMatcher;
+		if (matcher == null) {
+			matcher = new StepFilterMatcher(this);
+			fStepFilterMatcher = matcher;
+		}
+		return matcher;
 	}
 
 	@Override
@@ -2735,6 +3071,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			fStepFilterMask = fStepFilterMask
 					& (STEP_FILTERS_ENABLED ^ XOR_MASK);
 		}
+		fStepFilterMatcher = null;
 	}
 
 	@Override
@@ -2770,6 +3107,62 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns the change epoch of this target. The epoch is advanced whenever a
+	 * debug event is fired or queued for this target or any of its elements,
+	 * except for implicit evaluations. Information derived from the state of
+	 * this target and its elements is current as long as the epoch is
+	 * unchanged.
+	 *
+	 * @return the change epoch of this target
+	 */
+	public long getChangeEpoch() {
+		return fChangeEpoch.get();
+	}
+
+	/**
+	 * Advances the change epoch of this target.
+	 */
+	void advanceChangeEpoch() {
+		fChangeEpoch.incrementAndGet();
+	}
+
+	/**
+	 * Returns the value epoch of this target. Unlike the change epoch, the
+	 * value epoch is also advanced by implicit evaluations, which may change
+	 * the values of variables. Values retrieved in advance are current as long
+	 * as the epoch is unchanged.
+	 *
+	 * @return the value epoch of this target
+	 * @see #getChangeEpoch()
+	 */
+	long getValueEpoch() {
+		return fValueEpoch.get();
+	}
+
+	/**
+	 * Advances the value epoch of this target.
+	 */
+	void advanceValueEpoch() {
+		fValueEpoch.incrementAndGet();
+	}
+
+	/**
+	 * Events of the target itself, e.g. suspending or resuming the whole VM or
+	 * hot code replace, also change the presented state of all its threads.
+	 */
+	@Override
+	protected void elementChanged(DebugEvent event) {
+		super.elementChanged(event);
+		if (event.getDetail() != DebugEvent.EVALUATION_IMPLICIT && fThreads != null) {
+			synchronized (fThreads) {
+				for (JDIThread thread : fThreads) {
+					thread.advanceChangeEpoch();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Returns an evaluation engine for the given project, creating one if
 	 * necessary.
@@ -2800,6 +3193,180 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return false;
 	}
 
+	/**
+	 * Returns the names of the given threads of this target. Names that are
+	 * not known for the current state of their thread are retrieved with one
+	 * pipelined batch of requests and remembered, such that
+	 * {@link IThread#getName()} answers from them until the thread changes.
+	 *
+	 * @param threads
+	 *            threads of this target
+	 * @return the name of each thread, in order
+	 * @throws DebugException
+	 *             if the names cannot be retrieved
+	 * @since 3.22
+	 */
+	public String[] fetchThreadNames(JDIThread[] threads) throws DebugException {
+		String[] names = new String[threads.length];
+		VirtualMachine vm = getVM();
+		if (!(vm instanceof VirtualMachineImpl) || !isAvailable()) {
+			for (int i = 0; i < threads.length; i++) {
+				names[i] = threads[i].getName();
+			}
+			return names;
+		}
+		List<Integer> indices = new ArrayList<>();
+		List<ThreadReference> references = new ArrayList<>();
+		for (int i = 0; i < threads.length; i++) {
+			String name = threads[i].getKnownName();
+			if (name != null) {
+				names[i] = name;
+			} else {
+				indices.add(Integer.valueOf(i));
+				references.add(threads[i].getUnderlyingThread());
+			}
+		}
+		if (references.isEmpty()) {
+			return names;
+		}
+		long[] epochs = new long[references.size()];
+		for (int i = 0; i < epochs.length; i++) {
+			epochs[i] = threads[indices.get(i).intValue()].getChangeEpoch();
+		}
+		String[] fetched;
+		try {
+			fetched = ((VirtualMachineImpl) vm).threadNames(references);
+		} catch (RuntimeException e) {
+			targetRequestFailed(MessageFormat.format(JDIDebugModelMessages.JDIThread_exception_retrieving_thread_name, e.toString()), e);
+			return names;
+		}
+		for (int i = 0; i < fetched.length; i++) {
+			int index = indices.get(i).intValue();
+			if (fetched[i] != null) {
+				threads[index].setName(epochs[i], fetched[i]);
+				names[index] = fetched[i];
+			} else {
+				// collected meanwhile, let the thread answer as usual
+				names[index] = threads[index].getName();
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Retrieves the status of the given threads of this target with one
+	 * pipelined batch of requests. The status is not remembered, it changes
+	 * while a thread runs.
+	 *
+	 * @param threads
+	 *            threads of this target
+	 * @return the status of each thread, in order, as one of the
+	 *         <code>THREAD_STATUS_*</code> constants of
+	 *         {@link ThreadReference}
+	 * @throws DebugException
+	 *             if the status cannot be retrieved
+	 * @since 3.22
+	 */
+	public int[] fetchThreadStatuses(JDIThread[] threads) throws DebugException {
+		List<ThreadReference> references = new ArrayList<>(threads.length);
+		for (JDIThread thread : threads) {
+			references.add(thread.getUnderlyingThread());
+		}
+		VirtualMachine vm = getVM();
+		try {
+			if (vm instanceof VirtualMachineImpl && isAvailable()) {
+				return ((VirtualMachineImpl) vm).threadStatuses(references);
+			}
+			int[] statuses = new int[references.size()];
+			for (int i = 0; i < statuses.length; i++) {
+				statuses[i] = references.get(i).status();
+			}
+			return statuses;
+		} catch (RuntimeException e) {
+			targetRequestFailed(MessageFormat.format(JDIDebugModelMessages.JDIDebugTarget_exception_retrieving_thread_status, e.toString()), e);
+			return new int[threads.length];
+		}
+	}
+
+	/**
+	 * Retrieves the monitors owned and contended by all suspended threads of
+	 * this target with one pipelined batch of requests. Until a thread changes,
+	 * {@link IJavaThread#getOwnedMonitors()} and
+	 * {@link IJavaThread#getContendedMonitor()} answer from the retrieved
+	 * information without communicating with the VM. When all threads are
+	 * suspended, {@link IJavaObject#getOwningThread()} and
+	 * {@link IJavaObject#getWaitingThreads()} of monitors are answered from it
+	 * as well, until this target changes.
+	 */
+	public void fetchMonitorInformation() {
+		VirtualMachine vm = getVM();
+		if (!(vm instanceof VirtualMachineImpl) || !supportsMonitorInformation()) {
+			return;
+		}
+		long targetEpoch = getChangeEpoch();
+		List<JDIThread> threads = new ArrayList<>();
+		List<ThreadReference> references = new ArrayList<>();
+		boolean allSuspended = true;
+		Iterator<JDIThread> iter = getThreadIterator();
+		while (iter.hasNext()) {
+			JDIThread thread = iter.next();
+			if (thread.isSuspended()) {
+				threads.add(thread);
+				references.add(thread.getUnderlyingThread());
+			} else {
+				allSuspended = false;
+			}
+		}
+		if (threads.isEmpty()) {
+			return;
+		}
+		long[] threadEpochs = new long[threads.size()];
+		for (int i = 0; i < threadEpochs.length; i++) {
+			threadEpochs[i] = threads.get(i).getChangeEpoch();
+		}
+		List<List<ObjectReference>> ownedMonitors = new ArrayList<>(threads.size());
+		List<ObjectReference> contendedMonitors = new ArrayList<>(threads.size());
+		try {
+			((VirtualMachineImpl) vm).threadMonitors(references, ownedMonitors, contendedMonitors);
+		} catch (RuntimeException e) {
+			// disconnected or not supported, threads query their monitors themselves
+			return;
+		}
+		MonitorIndex index = allSuspended ? new MonitorIndex(targetEpoch) : null;
+		for (int i = 0; i < threadEpochs.length; i++) {
+			JDIThread thread = threads.get(i);
+			List<ObjectReference> owned = ownedMonitors.get(i);
+			if (owned == null) {
+				// resumed or died meanwhile
+				index = null;
+				continue;
+			}
+			ObjectReference contended = contendedMonitors.get(i);
+			thread.setMonitorInformation(threadEpochs[i], owned, contended);
+			if (index != null) {
+				for (ObjectReference monitor : owned) {
+					index.fOwners.put(monitor, thread);
+				}
+				if (contended != null) {
+					index.fWaiters.computeIfAbsent(contended, k -> new ArrayList<>()).add(thread);
+				}
+			}
+		}
+		fMonitorIndex = index;
+	}
+
+	/**
+	 * Returns the owners and waiters of monitors retrieved by
+	 * {@link #fetchMonitorInformation()}, or <code>null</code> if not known
+	 * for the current state of this target.
+	 *
+	 * @return monitor index or <code>null</code>
+	 */
+	MonitorIndex getMonitorIndex() {
+		MonitorIndex index = fMonitorIndex;
+		return index != null && index.fEpoch == getChangeEpoch() ? index : null;
+	}
+
 	/**
 	 * Sets whether or not this debug target is currently performing a hot code
 	 * replace.
@@ -3231,10 +3798,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 *            the list of qualified names to filter, which corresponds to the list of resources on a one-to-one-basis
 	 */
 	public void filterNotLoadedTypes(List<IResource> resources, List<String> qualifiedNames) {
+		Map<String, List<ReferenceType>> loaded = jdiClassesByNames(qualifiedNames);
 		for (int i = 0, numElements = qualifiedNames.size(); i < numElements; i++) {
 			String name = qualifiedNames.get(i);
-			List<ReferenceType> list = jdiClassesByName(name);
-			if (list.isEmpty()) {
+			List<ReferenceType> list = loaded.get(name);
+			if (list == null || list.isEmpty()) {
 				// If no classes with the given name are loaded in the VM, don't
 				// waste cycles trying to replace.
 				qualifiedNames.remove(i);
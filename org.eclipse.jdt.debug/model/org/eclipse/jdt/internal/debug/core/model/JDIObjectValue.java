@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -451,6 +451,11 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 		List<JDIThread> waiting = new ArrayList<>();
 		try {
 			JDIDebugTarget debugTarget = (JDIDebugTarget) getDebugTarget();
+			JDIDebugTarget.MonitorIndex index = debugTarget.getMonitorIndex();
+			if (index != null) {
+				waiting = index.fWaiters.getOrDefault(getUnderlyingObject(), Collections.emptyList());
+				return waiting.toArray(new IJavaThread[waiting.size()]);
+			}
 			for (ThreadReference threadReference : getUnderlyingObject().waitingThreads()) {
 				JDIThread jdiThread = debugTarget.findThread(threadReference);
 				if (jdiThread != null) {
@@ -476,8 +481,12 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 	public IJavaThread getOwningThread() throws DebugException {
 		IJavaThread owningThread = null;
 		try {
-			ThreadReference thread = getUnderlyingObject().owningThread();
 			JDIDebugTarget debugTarget = (JDIDebugTarget) getDebugTarget();
+			JDIDebugTarget.MonitorIndex index = debugTarget.getMonitorIndex();
+			if (index != null) {
+				return index.fOwners.get(getUnderlyingObject());
+			}
+			ThreadReference thread = getUnderlyingObject().owningThread();
 			if (thread != null) {
 				owningThread = debugTarget.findThread(thread);
 			}
@@ -491,6 +500,21 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 		return owningThread;
 	}
 
+	/**
+	 * Monitors of suspended threads known to the monitor information of the
+	 * debug target are referenced by those threads and cannot be collected.
+	 *
+	 * @see JDIDebugTarget#fetchMonitorInformation()
+	 */
+	@Override
+	public boolean isAllocated() throws DebugException {
+		JDIDebugTarget.MonitorIndex index = getJavaDebugTarget().getMonitorIndex();
+		if (index != null && index.contains(getUnderlyingObject())) {
+			return true;
+		}
+		return super.isAllocated();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
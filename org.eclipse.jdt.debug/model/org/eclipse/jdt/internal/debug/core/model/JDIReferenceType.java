@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.InstanceList;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IJavaClassObject;
 import org.eclipse.jdt.debug.core.IJavaFieldVariable;
@@ -381,6 +383,30 @@ public abstract class JDIReferenceType extends JDIType implements
 		return null;
 	}
 
+	/**
+	 * Returns the instances of this type like {@link #getInstances(long)},
+	 * without creating model objects for them. Model objects for a window of
+	 * the instances are created with {@link JDIValue#createValue}.
+	 *
+	 * @param max
+	 *            the maximum number of instances to retrieve, 0 for all
+	 * @return the instances of this type or <code>null</code> if the
+	 *         underlying type does not support it
+	 * @throws DebugException
+	 *             if the instances cannot be retrieved
+	 */
+	public InstanceList getInstanceList(long max) throws DebugException {
+		ReferenceType type = getReferenceType();
+		if (type instanceof ReferenceTypeImpl) {
+			try {
+				return ((ReferenceTypeImpl) type).instanceList(max);
+			} catch (RuntimeException e) {
+				targetRequestFailed(JDIDebugModelMessages.JDIReferenceType_5, e);
+			}
+		}
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
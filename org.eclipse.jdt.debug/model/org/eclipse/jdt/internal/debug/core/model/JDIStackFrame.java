@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,10 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -74,6 +76,7 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.Type;
+import com.sun.jdi.Value;
 import com.sun.jdi.VirtualMachine;
 
 /**
@@ -217,6 +220,17 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		return fThread;
 	}
 
+	/**
+	 * Changes of a stack frame also change the presented state of its thread.
+	 */
+	@Override
+	protected void elementChanged(DebugEvent event) {
+		super.elementChanged(event);
+		if (event.getDetail() != DebugEvent.EVALUATION_IMPLICIT && fThread != null) {
+			fThread.advanceChangeEpoch();
+		}
+	}
+
 	/**
 	 * @see ISuspendResume#canResume()
 	 */
@@ -967,6 +981,99 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		return null;
 	}
 
+	/**
+	 * Retrieves the values of the local variables of this stack frame and of
+	 * the fields of its receiver, or of the static fields of its declaring
+	 * type, with one request for the locals and one per object or type. The
+	 * variables answer their values without communicating with the VM until
+	 * any element of the debug target fires an event, like for a resume or an
+	 * evaluation, including implicit evaluations. Fields are only retrieved
+	 * when all threads of the target are suspended, as running threads change
+	 * fields without firing events.
+	 *
+	 * @throws DebugException
+	 *             if the values cannot be retrieved
+	 */
+	public void preloadVariableValues() throws DebugException {
+		if (isNative()) {
+			return;
+		}
+		long epoch = getJavaDebugTarget().getValueEpoch();
+		boolean allSuspended = true;
+		Iterator<JDIThread> threads = getJavaDebugTarget().getThreadIterator();
+		while (allSuspended && threads.hasNext()) {
+			allSuspended = threads.next().isSuspended();
+		}
+		List<JDILocalVariable> locals = new ArrayList<>();
+		Map<ObjectReference, List<JDIFieldVariable>> instanceFields = new LinkedHashMap<>();
+		Map<ReferenceType, List<JDIFieldVariable>> staticFields = new LinkedHashMap<>();
+		for (IJavaVariable variable : getVariables0()) {
+			if (variable instanceof JDILocalVariable local) {
+				locals.add(local);
+			} else if (!allSuspended) {
+				continue;
+			} else if (variable instanceof JDIFieldVariable field) {
+				addField(field, instanceFields, staticFields);
+			} else if (variable instanceof JDIThisVariable) {
+				for (IVariable child : variable.getValue().getVariables()) {
+					if (child instanceof JDIFieldVariable field) {
+						addField(field, instanceFields, staticFields);
+					}
+				}
+			}
+		}
+		synchronized (fThread) {
+			if (!isSuspended()) {
+				return;
+			}
+			try {
+				StackFrame frame = getUnderlyingStackFrame();
+				if (frame != null && !locals.isEmpty()) {
+					List<LocalVariable> underlying = new ArrayList<>(locals.size());
+					for (JDILocalVariable local : locals) {
+						underlying.add(local.getLocal());
+					}
+					Map<LocalVariable, Value> values = frame.getValues(underlying);
+					for (JDILocalVariable local : locals) {
+						local.setPreloadedValue(epoch, values.get(local.getLocal()));
+					}
+				}
+				for (Map.Entry<ObjectReference, List<JDIFieldVariable>> entry : instanceFields.entrySet()) {
+					setPreloadedValues(epoch, entry.getValue(), entry.getKey().getValues(getFields(entry.getValue())));
+				}
+				for (Map.Entry<ReferenceType, List<JDIFieldVariable>> entry : staticFields.entrySet()) {
+					setPreloadedValues(epoch, entry.getValue(), entry.getKey().getValues(getFields(entry.getValue())));
+				}
+			} catch (RuntimeException e) {
+				targetRequestFailed(MessageFormat.format(JDIDebugModelMessages.JDIVariable_exception_retrieving, e.toString()), e);
+			}
+		}
+	}
+
+	private static void addField(JDIFieldVariable variable, Map<ObjectReference, List<JDIFieldVariable>> instanceFields,
+			Map<ReferenceType, List<JDIFieldVariable>> staticFields) {
+		Field field = variable.getField();
+		if (field.isStatic()) {
+			staticFields.computeIfAbsent(field.declaringType(), k -> new ArrayList<>()).add(variable);
+		} else if (variable.getObjectReference() != null) {
+			instanceFields.computeIfAbsent(variable.getObjectReference(), k -> new ArrayList<>()).add(variable);
+		}
+	}
+
+	private static List<Field> getFields(List<JDIFieldVariable> variables) {
+		List<Field> fields = new ArrayList<>(variables.size());
+		for (JDIFieldVariable variable : variables) {
+			fields.add(variable.getField());
+		}
+		return fields;
+	}
+
+	private static void setPreloadedValues(long epoch, List<JDIFieldVariable> variables, Map<Field, Value> values) {
+		for (JDIFieldVariable variable : variables) {
+			variable.setPreloadedValue(epoch, values.get(variable.getField()));
+		}
+	}
+
 	/**
 	 * Retrieves visible variables in this stack frame handling any exceptions.
 	 * Returns an empty list if there are no variables.
@@ -1560,8 +1667,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	@Override
 	public boolean canStepWithFilters() {
 		if (canStepInto()) {
-			String[] filters = getJavaDebugTarget().getStepFilters();
-			return filters != null && filters.length > 0;
+			return getJavaDebugTarget().getStepFilterMatcher().hasTypeFilters();
 		}
 		return false;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -135,6 +136,54 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * Cache of previous name, used in case thread is garbage collected.
 	 */
 	private String fPreviousName;
+	/**
+	 * Advanced on every debug event fired by this thread, its stack frames or
+	 * its debug target
+	 *
+	 * @see #getChangeEpoch()
+	 */
+	private final AtomicLong fChangeEpoch = new AtomicLong();
+	/**
+	 * Monitors of this thread retrieved by its debug target, or
+	 * <code>null</code>
+	 *
+	 * @see JDIDebugTarget#fetchMonitorInformation()
+	 */
+	private volatile MonitorInformation fMonitorInformation;
+	/**
+	 * Name of this thread retrieved in one change epoch, or <code>null</code>
+	 *
+	 * @see JDIDebugTarget#fetchThreadNames(JDIThread[])
+	 */
+	private volatile NameInformation fNameInformation;
+
+	/**
+	 * Name of a thread, valid in one change epoch
+	 */
+	private static final class NameInformation {
+		final long fEpoch;
+		final String fName;
+
+		NameInformation(long epoch, String name) {
+			fEpoch = epoch;
+			fName = name;
+		}
+	}
+
+	/**
+	 * Owned and contended monitors of a thread, valid in one change epoch
+	 */
+	private static final class MonitorInformation {
+		final long fEpoch;
+		final List<ObjectReference> fOwnedMonitors;
+		final ObjectReference fContendedMonitor;
+
+		MonitorInformation(long epoch, List<ObjectReference> ownedMonitors, ObjectReference contendedMonitor) {
+			fEpoch = epoch;
+			fOwnedMonitors = ownedMonitors;
+			fContendedMonitor = contendedMonitor;
+		}
+	}
 	/**
 	 * Collection of stack frames
 	 */
@@ -1284,6 +1333,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * <li>Resets the state of this thread to suspended</li>
 	 * <li>Restores the communication timeout value</li>
 	 * <li>Computes the new set of stack frames for this thread</li>
+	 * <li>Invalidates values retrieved in advance, the method may have changed them</li>
 	 * </ul>
 	 *
 	 * @param restoreTimeout
@@ -1295,6 +1345,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		setInvokingMethod(false);
 		setRunning(false);
 		setRequestTimeout(restoreTimeout);
+		getJavaDebugTarget().advanceValueEpoch();
 		// update preserved stack frames
 		try {
 			computeStackFrames();
@@ -1303,10 +1354,44 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		}
 	}
 
+	/**
+	 * Returns the change epoch of this thread. The epoch is advanced whenever a
+	 * debug event is fired or queued for this thread, one of its stack frames
+	 * or its debug target, except for implicit evaluations, and when the name
+	 * of this thread changes. Information derived from the state of this thread
+	 * and its stack frames, like labels, is current as long as the epoch is
+	 * unchanged.
+	 *
+	 * @return the change epoch of this thread
+	 */
+	public long getChangeEpoch() {
+		return fChangeEpoch.get();
+	}
+
+	/**
+	 * Advances the change epoch of this thread.
+	 */
+	void advanceChangeEpoch() {
+		fChangeEpoch.incrementAndGet();
+	}
+
+	@Override
+	protected void elementChanged(DebugEvent event) {
+		super.elementChanged(event);
+		if (event.getDetail() != DebugEvent.EVALUATION_IMPLICIT) {
+			advanceChangeEpoch();
+		}
+	}
+
 	@Override
 	public String getName() throws DebugException {
+		String name = getKnownName();
+		if (name != null) {
+			return name;
+		}
+		long epoch = getChangeEpoch();
 		try {
-			fPreviousName = fThread.name();
+			setName(epoch, fThread.name());
 		} catch (RuntimeException e) {
 			// Don't bother reporting the exception when retrieving the name
 			// (bug 30785 & bug 33276)
@@ -1511,7 +1596,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		if (breakpoint instanceof JavaExceptionBreakpoint) {
 			JavaExceptionBreakpoint exceptionBreakpoint = (JavaExceptionBreakpoint) breakpoint;
 			try {
-				IJavaObject lastException = exceptionBreakpoint.getLastException();
+				IJavaObject lastException = exceptionBreakpoint.getLastException(this);
 				IJavaObject previousException = fPreviousException;
 				if (previousException != null && previousException.equals(lastException)) {
 					return exceptionBreakpoint.getSuspendOnRecurrenceStrategy();
@@ -2759,7 +2844,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				// //is so do not filter @see bug 5587
 				// ReferenceType type= currentLocation.declaringType();
 				// String typeName= type.name();
-				String[] activeFilters = getJavaDebugTarget().getStepFilters();
+				String[] activeFilters = getJavaDebugTarget().getStepFilterMatcher().getExclusionFilters();
 				// for (int i = 0; i < activeFilters.length; i++) {
 				// StringMatcher matcher = new StringMatcher(activeFilters[i],
 				// false, false);
@@ -2767,10 +2852,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				// return;
 				// }
 				// }
-				if (activeFilters != null) {
-					for (String activeFilter : activeFilters) {
-						request.addClassExclusionFilter(activeFilter);
-					}
+				for (String activeFilter : activeFilters) {
+					request.addClassExclusionFilter(activeFilter);
 				}
 			}
 		}
@@ -2947,12 +3030,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 */
 		protected boolean locationIsFiltered(Method method, boolean orig) {
 			if (isStepFiltersEnabled()) {
-				JDIDebugTarget target = getJavaDebugTarget();
-				if ((target.isFilterStaticInitializers() && method.isStaticInitializer())
-						|| (target.isFilterSynthetics() && method.isSynthetic())
-						|| (target.isFilterConstructors() && method.isConstructor())
-						|| (target.isFilterGetters() && JDIMethod.isGetterMethod(method))
-						|| (target.isFilterSetters() && JDIMethod.isSetterMethod(method))) {
+				if (getJavaDebugTarget().getStepFilterMatcher().isMethodFiltered(method)) {
 					return true;
 				}
 				if(!orig) {
@@ -3419,7 +3497,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	public IJavaObject[] getOwnedMonitors() throws DebugException {
 		try {
 			JDIDebugTarget target = (JDIDebugTarget) getDebugTarget();
-			List<ObjectReference> ownedMonitors = fThread.ownedMonitors();
+			MonitorInformation information = getMonitorInformation();
+			List<ObjectReference> ownedMonitors = information != null ? information.fOwnedMonitors : fThread.ownedMonitors();
 			IJavaObject[] javaOwnedMonitors = new IJavaObject[ownedMonitors
 					.size()];
 			Iterator<ObjectReference> itr = ownedMonitors.iterator();
@@ -3441,7 +3520,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	@Override
 	public IJavaObject getContendedMonitor() throws DebugException {
 		try {
-			ObjectReference monitor = fThread.currentContendedMonitor();
+			MonitorInformation information = getMonitorInformation();
+			ObjectReference monitor = information != null ? information.fContendedMonitor : fThread.currentContendedMonitor();
 			if (monitor != null) {
 				return new JDIObjectValue((JDIDebugTarget) getDebugTarget(),
 						monitor);
@@ -3455,11 +3535,63 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return null;
 	}
 
+	/**
+	 * Remembers the monitors of this thread retrieved in the given change
+	 * epoch.
+	 *
+	 * @param epoch
+	 *            change epoch of this thread before the monitors were
+	 *            retrieved
+	 * @param ownedMonitors
+	 *            monitors owned by this thread
+	 * @param contendedMonitor
+	 *            monitor this thread is waiting for or <code>null</code>
+	 */
+	void setMonitorInformation(long epoch, List<ObjectReference> ownedMonitors, ObjectReference contendedMonitor) {
+		fMonitorInformation = new MonitorInformation(epoch, ownedMonitors, contendedMonitor);
+	}
+
+	/**
+	 * Remembers the name of this thread retrieved in the given change epoch.
+	 * The name is only reused within the epoch if the debug target observes
+	 * name changes, which advance the epoch.
+	 *
+	 * @param epoch
+	 *            change epoch of this thread before the name was retrieved
+	 * @param name
+	 *            name of this thread
+	 */
+	void setName(long epoch, String name) {
+		fPreviousName = name;
+		if (getJavaDebugTarget().isTrackingThreadNames()) {
+			fNameInformation = new NameInformation(epoch, name);
+		}
+	}
+
+	/**
+	 * Returns the remembered name of this thread, or <code>null</code> if this
+	 * thread changed since it was retrieved.
+	 *
+	 * @return the remembered name or <code>null</code>
+	 */
+	String getKnownName() {
+		NameInformation information = fNameInformation;
+		return information != null && information.fEpoch == getChangeEpoch() ? information.fName : null;
+	}
+
+	/**
+	 * Returns the remembered monitors of this thread, or <code>null</code> if
+	 * this thread changed since they were retrieved.
+	 */
+	private MonitorInformation getMonitorInformation() {
+		MonitorInformation information = fMonitorInformation;
+		return information != null && information.fEpoch == getChangeEpoch() ? information : null;
+	}
+
 	@Override
 	public boolean canStepWithFilters() {
 		if (canStepInto()) {
-			String[] filters = getJavaDebugTarget().getStepFilters();
-			return filters != null && filters.length > 0;
+			return getJavaDebugTarget().getStepFilterMatcher().hasTypeFilters();
 		}
 		return false;
 	}
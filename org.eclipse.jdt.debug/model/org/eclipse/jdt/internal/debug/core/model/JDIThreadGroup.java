@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,14 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.ITerminate;
+import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaThreadGroup;
 
@@ -35,6 +38,13 @@ public class JDIThreadGroup extends JDIDebugElement implements
 	private ThreadGroupReference fGroup = null;
 	private String fName = null;
 
+	/**
+	 * Model threads of the threads in this thread group, looked up in the
+	 * change epoch {@link #fModelThreadsEpoch}, or <code>null</code>
+	 */
+	private List<JDIThread> fModelThreads;
+	private long fModelThreadsEpoch;
+
 	/**
 	 * Constructs a new thread group in the given target based on the underlying
 	 * thread group reference.
@@ -56,26 +66,81 @@ public class JDIThreadGroup extends JDIDebugElement implements
 	 */
 	@Override
 	public synchronized IJavaThread[] getThreads() throws DebugException {
+		List<JDIThread> modelThreads = getModelThreads();
+		return modelThreads.toArray(new IJavaThread[modelThreads.size()]);
+	}
+
+	/**
+	 * Returns the number of threads in this thread group, the length of
+	 * {@link #getThreads()}.
+	 *
+	 * @return the number of threads in this thread group
+	 * @throws DebugException
+	 *             if the threads cannot be retrieved
+	 * @since 3.22
+	 */
+	public synchronized int getThreadCount() throws DebugException {
+		return getModelThreads().size();
+	}
+
+	/**
+	 * Returns the threads in this thread group in the given range of the order
+	 * of {@link #getThreads()}.
+	 *
+	 * @param offset
+	 *            index of the first thread to return
+	 * @param length
+	 *            maximum number of threads to return
+	 * @return the threads in the given range, fewer if this thread group has
+	 *         less threads
+	 * @throws DebugException
+	 *             if the threads cannot be retrieved
+	 * @since 3.22
+	 */
+	public synchronized IJavaThread[] getThreads(int offset, int length) throws DebugException {
+		List<JDIThread> modelThreads = getModelThreads();
+		int end = Math.min(modelThreads.size(), offset + length);
+		if (offset >= end) {
+			return new IJavaThread[0];
+		}
+		return modelThreads.subList(offset, end).toArray(new IJavaThread[end - offset]);
+	}
+
+	/**
+	 * Returns the model threads of the threads in this thread group, looked up
+	 * together. They are kept while the change epoch of the target is
+	 * unchanged, such that paging through the threads does not look them up
+	 * for every page.
+	 */
+	private List<JDIThread> getModelThreads() throws DebugException {
+		long epoch = getJavaDebugTarget().getChangeEpoch();
+		if (fModelThreads != null && fModelThreadsEpoch == epoch) {
+			return fModelThreads;
+		}
 		try {
 			List<ThreadReference> threads = fGroup.threads();
+			Map<ThreadReference, JDIThread> targetThreads = new HashMap<>();
+			for (IThread thread : getJavaDebugTarget().getThreads()) {
+				targetThreads.put(((JDIThread) thread).getUnderlyingThread(), (JDIThread) thread);
+			}
 			List<JDIThread> modelThreads = new ArrayList<>(threads.size());
 			Iterator<ThreadReference> iterator = threads.iterator();
 			while (iterator.hasNext()) {
-				ThreadReference ref = iterator.next();
-				JDIThread thread = getJavaDebugTarget().findThread(ref);
+				JDIThread thread = targetThreads.get(iterator.next());
 				if (thread != null) {
 					modelThreads.add(thread);
 				}
 			}
-			return modelThreads
-					.toArray(new IJavaThread[modelThreads.size()]);
+			fModelThreads = modelThreads;
+			fModelThreadsEpoch = epoch;
+			return modelThreads;
 		} catch (VMDisconnectedException e) {
 			// terminated/disconnected, return empty collection
-			return new IJavaThread[0];
+			return new ArrayList<>();
 		} catch (RuntimeException e) {
 			targetRequestFailed(JDIDebugModelMessages.JDIThreadGroup_0, e);
 		}
-		return null;
+		return new ArrayList<>();
 	}
 
 	/*
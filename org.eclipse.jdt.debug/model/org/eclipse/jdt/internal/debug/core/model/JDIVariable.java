@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,28 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	private int fLastChangeIndex = -1;
 
+	/**
+	 * Value retrieved in advance, valid in one value epoch of the debug
+	 * target, or <code>null</code>
+	 *
+	 * @see JDIStackFrame#preloadVariableValues()
+	 */
+	private volatile PreloadedValue fPreloadedValue;
+
+	/**
+	 * Underlying value of a variable, valid in one value epoch of the debug
+	 * target
+	 */
+	private static final class PreloadedValue {
+		final long fEpoch;
+		final Value fValue;
+
+		PreloadedValue(long epoch, Value value) {
+			fEpoch = epoch;
+			fValue = value;
+		}
+	}
+
 	protected final static String jdiStringSignature = "Ljava/lang/String;"; //$NON-NLS-1$
 
 	public JDIVariable(JDIDebugTarget target) {
@@ -70,6 +92,10 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 *                if unable to access the value
 	 */
 	protected final Value getCurrentValue() throws DebugException {
+		PreloadedValue preloaded = fPreloadedValue;
+		if (preloaded != null && preloaded.fEpoch == getJavaDebugTarget().getValueEpoch()) {
+			return preloaded.fValue;
+		}
 		try {
 			return retrieveValue();
 		} catch (RuntimeException e) {
@@ -87,6 +113,22 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	protected abstract Value retrieveValue() throws DebugException;
 
+	/**
+	 * Remembers the underlying value of this variable retrieved in the given
+	 * value epoch of the debug target. Until any element of the target fires
+	 * an event, like for a resume or an evaluation, the value is used instead
+	 * of retrieving it again.
+	 *
+	 * @param epoch
+	 *            value epoch of the debug target before the value was
+	 *            retrieved
+	 * @param value
+	 *            the underlying value, may be <code>null</code>
+	 */
+	void setPreloadedValue(long epoch, Value value) {
+		fPreloadedValue = new PreloadedValue(epoch, value);
+	}
+
 	/**
 	 * Returns the current value of this variable. The value is cached, but on
 	 * each access we see if the value has changed and update if required.
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Compiled form of the step filter settings of a debug target.
+ * <p>
+ * The type name patterns are compiled into a prefix trie which is used to
+ * drop patterns that are already covered by a broader pattern, so that step
+ * requests carry the smallest equivalent set of class exclusion filters.
+ * Verdicts for the method kind filters (synthetics, static initializers,
+ * constructors, getters and setters) are cached per declaring type, so
+ * repeated step events in the same method do not query the method again.
+ * </p>
+ * <p>
+ * A matcher is immutable with respect to the settings it was created from. The
+ * owning target discards it whenever its step filter settings change.
+ * </p>
+ */
+public final class StepFilterMatcher {
+
+	/**
+	 * Node of the prefix trie over type name patterns.
+	 */
+	private static final class Node {
+		Map<Character, Node> fChildren;
+		/**
+		 * Whether a prefix pattern (<code>"name*"</code>) ends at this node
+		 */
+		boolean fPrefix;
+		/**
+		 * Whether an exact type name pattern ends at this node
+		 */
+		boolean fExact;
+
+		Node child(char c, boolean create) {
+			if (fChildren == null) {
+				if (!create) {
+					return null;
+				}
+				fChildren = new HashMap<>(4);
+			}
+			Node node = fChildren.get(c);
+			if (node == null && create) {
+				node = new Node();
+				fChildren.put(c, node);
+			}
+			return node;
+		}
+	}
+
+	private final Node fRoot = new Node();
+	private final List<String> fSuffixes = new ArrayList<>();
+	private boolean fMatchAll;
+	private final String[] fExclusionFilters;
+
+	private final boolean fFilterStaticInitializers;
+	private final boolean fFilterSynthetics;
+	private final boolean fFilterConstructors;
+	private final boolean fFilterGetters;
+	private final boolean fFilterSetters;
+
+	/**
+	 * Method kind verdicts, per declaring type
+	 */
+	private final Map<ReferenceType, Map<Method, Boolean>> fVerdicts = new ConcurrentHashMap<>();
+
+	/**
+	 * Compiles the current step filter settings of the given target.
+	 *
+	 * @param target
+	 *            the target to compile the step filter settings of
+	 */
+	public StepFilterMatcher(IJavaDebugTarget target) {
+		fFilterStaticInitializers = target.isFilterStaticInitializers();
+		fFilterSynthetics = target.isFilterSynthetics();
+		fFilterConstructors = target.isFilterConstructors();
+		fFilterGetters = target.isFilterGetters();
+		fFilterSetters = target.isFilterSetters();
+		String[] filters = target.getStepFilters();
+		if (filters == null) {
+			fExclusionFilters = new String[0];
+			return;
+		}
+		for (String filter : filters) {
+			add(filter);
+		}
+		List<String> effective = new ArrayList<>(filters.length);
+		for (String filter : filters) {
+			if (filter != null && !filter.isEmpty() && !effective.contains(filter) && !isSubsumed(filter)) {
+				effective.add(filter);
+			}
+		}
+		fExclusionFilters = effective.toArray(new String[effective.size()]);
+	}
+
+	private void add(String pattern) {
+		if (pattern == null || pattern.isEmpty()) {
+			return;
+		}
+		if ("*".equals(pattern)) { //$NON-NLS-1$
+			fMatchAll = true;
+		} else if (pattern.charAt(0) == '*') {
+			fSuffixes.add(pattern.substring(1));
+		} else if (pattern.charAt(pattern.length() - 1) == '*') {
+			insert(pattern.substring(0, pattern.length() - 1)).fPrefix = true;
+		} else {
+			insert(pattern).fExact = true;
+		}
+	}
+
+	private Node insert(String key) {
+		Node node = fRoot;
+		for (int i = 0; i < key.length(); i++) {
+			node = node.child(key.charAt(i), true);
+		}
+		return node;
+	}
+
+	/**
+	 * Returns whether every type name matched by the given pattern is also
+	 * matched by a different, broader pattern of this matcher.
+	 */
+	private boolean isSubsumed(String pattern) {
+		if (fMatchAll) {
+			return !"*".equals(pattern); //$NON-NLS-1$
+		}
+		if (pattern.charAt(0) == '*') {
+			String suffix = pattern.substring(1);
+			for (String other : fSuffixes) {
+				if (other.length() < suffix.length() && suffix.endsWith(other)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		boolean prefix = pattern.charAt(pattern.length() - 1) == '*';
+		String key = prefix ? pattern.substring(0, pattern.length() - 1) : pattern;
+		if (!prefix) {
+			for (String suffix : fSuffixes) {
+				if (key.endsWith(suffix)) {
+					return true;
+				}
+			}
+		}
+		// a shorter prefix pattern along the path covers this pattern; for an
+		// exact name, a prefix pattern ending at the same node does as well
+		Node node = fRoot;
+		for (int i = 0; i < key.length(); i++) {
+			if (node.fPrefix) {
+				return true;
+			}
+			node = node.child(key.charAt(i), false);
+			if (node == null) {
+				return false;
+			}
+		}
+		return !prefix && node.fPrefix;
+	}
+
+	/**
+	 * Returns the class exclusion filters to attach to step requests. Patterns
+	 * covered by a broader pattern are omitted.
+	 *
+	 * @return class exclusion filters, possibly empty
+	 */
+	public String[] getExclusionFilters() {
+		return fExclusionFilters;
+	}
+
+	/**
+	 * Returns whether there are any type name filters.
+	 *
+	 * @return whether there are any type name filters
+	 */
+	public boolean hasTypeFilters() {
+		return fExclusionFilters.length > 0;
+	}
+
+	/**
+	 * Returns whether the given method is filtered by one of the method kind
+	 * filters (synthetics, static initializers, constructors, getters and
+	 * setters). The verdict is computed once per method.
+	 *
+	 * @param method
+	 *            the method to check
+	 * @return whether the method is filtered by its kind
+	 */
+	public boolean isMethodFiltered(Method method) {
+		Map<Method, Boolean> verdicts = fVerdicts.computeIfAbsent(method.declaringType(), t -> new ConcurrentHashMap<>());
+		Boolean verdict = verdicts.get(method);
+		if (verdict == null) {
+			verdict = Boolean.valueOf(computeMethodFiltered(method));
+			verdicts.put(method, verdict);
+		}
+		return verdict.booleanValue();
+	}
+
+	private boolean computeMethodFiltered(Method method) {
+		return (fFilterStaticInitializers && method.isStaticInitializer())
+				|| (fFilterSynthetics && method.isSynthetic())
+				|| (fFilterConstructors && method.isConstructor())
+				|| (fFilterGetters && JDIMethod.isGetterMethod(method))
+				|| (fFilterSetters && JDIMethod.isSetterMethod(method));
+	}
+}
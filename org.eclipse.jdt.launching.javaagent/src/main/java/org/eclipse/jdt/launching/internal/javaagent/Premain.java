@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.launching.internal.javaagent;
 
+import java.io.File;
 import java.io.InputStream;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
@@ -21,12 +22,29 @@ import java.lang.instrument.Instrumentation;
 import java.net.URL;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.launching.internal.weaving.ClassfileTransformer;
 
 public class Premain {
 	private static final ClassfileTransformer transformer = new ClassfileTransformer();
 
+	private static final String JRT_PROTOCOL = "jrt:"; //$NON-NLS-1$
+
+	/**
+	 * Marks protection domains whose classes are not instrumented in {@link #locations}
+	 */
+	private static final String SKIP = ""; //$NON-NLS-1$
+
+	/**
+	 * Location to record for the classes of each protection domain, or {@link #SKIP}. Protection domains are compared by identity, so the location
+	 * of a domain is computed and checked once rather than for each of its classes.
+	 */
+	private static final Map<ProtectionDomain, String> locations = Collections.synchronizedMap(new WeakHashMap<>());
+
 	public static void premain(final String agentArgs, final Instrumentation inst) {
 		final boolean debuglog = "debuglog".equals(agentArgs); //$NON-NLS-1$
 
@@ -40,6 +58,8 @@ public class Premain {
 			return;
 		}
 
+		final String javaHome = getJavaHomeLocation();
+
 		inst.addTransformer(new ClassFileTransformer() {
 			@Override
 			public byte[] transform(ClassLoader loader, final String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws IllegalClassFormatException {
@@ -52,18 +72,15 @@ public class Premain {
 						return null;
 					}
 
-					final CodeSource codeSource = protectionDomain.getCodeSource();
-					if (codeSource == null) {
-						return null;
+					String location = locations.get(protectionDomain);
+					if (location == null) {
+						location = getLocation(protectionDomain, javaHome);
+						locations.put(protectionDomain, location);
 					}
-
-					final URL locationUrl = codeSource.getLocation();
-					if (locationUrl == null) {
+					if (location == SKIP) {
 						return null;
 					}
 
-					final String location = locationUrl.toExternalForm();
-
 					return transformer.transform(classfileBuffer, location);
 				}
 				catch (Exception e) {
@@ -76,9 +93,48 @@ public class Premain {
 			}
 		});
 
+		if (debuglog) {
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.printf("Advanced source lookup instrumented %d classes in %d ms.\n", //$NON-NLS-1$
+					transformer.getTransformedCount(), TimeUnit.NANOSECONDS.toMillis(transformer.getTransformNanos()))));
+		}
+
 		printErrorMessage("Advanced source lookup enabled.", null, debuglog);//$NON-NLS-1$
 	}
 
+	/**
+	 * Returns the location to record for the classes of the given protection domain, or {@link #SKIP} if they are not instrumented.
+	 */
+	static String getLocation(ProtectionDomain protectionDomain, String javaHome) {
+		final CodeSource codeSource = protectionDomain.getCodeSource();
+		if (codeSource == null) {
+			return SKIP;
+		}
+
+		final URL locationUrl = codeSource.getLocation();
+		if (locationUrl == null) {
+			return SKIP;
+		}
+
+		final String location = locationUrl.toExternalForm();
+		if (location.startsWith(JRT_PROTOCOL) || (javaHome != null && location.startsWith(javaHome))) {
+			// JDK classes, from the runtime image or from rt.jar and lib/ext of a Java 8 JRE, are looked up in the JRE container anyway
+			return SKIP;
+		}
+		return location;
+	}
+
+	/**
+	 * Returns the URL of the <code>java.home</code> directory, with a trailing slash, or <code>null</code> if it is not known.
+	 */
+	private static String getJavaHomeLocation() {
+		String javaHome = System.getProperty("java.home"); //$NON-NLS-1$
+		if (javaHome == null) {
+			return null;
+		}
+		String location = new File(javaHome).getAbsoluteFile().toURI().toString();
+		return location.endsWith("/") ? location : location + '/'; //$NON-NLS-1$
+	}
+
 	private static short readJavaLangObjectMajor(boolean debuglog) {
 		// https://docs.oracle.com/javase/specs/jvms/se10/html/jvms-4.html
 		// We need class major_version, i.e. the u2 field starting at offset 6
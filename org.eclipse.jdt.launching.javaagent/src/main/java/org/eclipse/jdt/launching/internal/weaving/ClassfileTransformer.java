@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2024 Igor Fedorenko
+ * Copyright (c) 2014, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.launching.internal.weaving;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
@@ -30,7 +35,273 @@ public class ClassfileTransformer {
 	/** supported ASM API version, must match {@link #MAX_CLASS_MAJOR} above */
 	private static final int ASM_API = Opcodes.ASM9;
 
+	private static final byte[] SOURCE_FILE = { 'S', 'o', 'u', 'r', 'c', 'e', 'F', 'i', 'l', 'e' };
+
+	private static final byte[] SOURCE_DEBUG_EXTENSION = { 'S', 'o', 'u', 'r', 'c', 'e', 'D', 'e', 'b', 'u', 'g', 'E', 'x', 't', 'e', 'n', 's',
+			'i', 'o', 'n' };
+
+	private static final int CONSTANT_Utf8 = 1;
+
+	private final AtomicLong transformNanos = new AtomicLong();
+
+	private final AtomicLong transformedCount = new AtomicLong();
+
+	/**
+	 * Returns the class file with a <code>SourceDebugExtension</code> attribute recording the given classes location, or <code>null</code> if the
+	 * class file is to be left unchanged, i.e. it has no <code>SourceFile</code> attribute or already has a <code>SourceDebugExtension</code>.
+	 * <p>
+	 * The attribute is appended to the original bytes, adding its name to the end of the constant pool if needed. The class file is only parsed as
+	 * far as necessary to locate the attributes and is never rewritten as a whole, unless the constant pool is full or contains entries unknown to
+	 * this implementation.
+	 * </p>
+	 */
 	public byte[] transform(byte[] classfileBuffer, final String location) {
+		long start = System.nanoTime();
+		try {
+			byte[] result;
+			try {
+				result = patch(classfileBuffer, location);
+			}
+			catch (UnsupportedOperationException e) {
+				result = rewrite(classfileBuffer, location);
+			}
+			if (result != null) {
+				transformedCount.incrementAndGet();
+			}
+			return result;
+		}
+		finally {
+			transformNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Returns the total time spent in {@link #transform(byte[], String)}, in nanoseconds.
+	 */
+	public long getTransformNanos() {
+		return transformNanos.get();
+	}
+
+	/**
+	 * Returns the number of class files changed by {@link #transform(byte[], String)}.
+	 */
+	public long getTransformedCount() {
+		return transformedCount.get();
+	}
+
+	private static byte[] patch(byte[] b, String location) {
+		int cpCount = u2(b, 8);
+		int sourceFileIndex = -1;
+		int sourceDebugExtensionIndex = -1;
+		// offsets of the Utf8 constants, to resolve the SourceFile attribute value
+		int[] utf8Offsets = new int[cpCount];
+		int offset = 10;
+		for (int i = 1; i < cpCount; i++) {
+			int tag = b[offset] & 0xFF;
+			switch (tag) {
+				case CONSTANT_Utf8:
+					utf8Offsets[i] = offset;
+					if (equalsUtf8(b, offset, SOURCE_FILE)) {
+						sourceFileIndex = i;
+					} else if (equalsUtf8(b, offset, SOURCE_DEBUG_EXTENSION)) {
+						sourceDebugExtensionIndex = i;
+					}
+					offset += 3 + u2(b, offset + 1);
+					break;
+				case 7: // Class
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					offset += 3;
+					break;
+				case 15: // MethodHandle
+					offset += 4;
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					offset += 5;
+					break;
+				case 5: // Long
+				case 6: // Double
+					offset += 9;
+					i++;
+					break;
+				default:
+					throw new UnsupportedOperationException();
+			}
+		}
+		int cpEnd = offset;
+		if (sourceFileIndex < 0) {
+			// no SourceFile attribute possible
+			return null;
+		}
+		// access_flags, this_class, super_class
+		offset += 6;
+		offset += 2 + 2 * u2(b, offset);
+		offset = skipMembers(b, offset);
+		offset = skipMembers(b, offset);
+		int attributesCountOffset = offset;
+		int attributesCount = u2(b, offset);
+		offset += 2;
+		String source = null;
+		for (int i = 0; i < attributesCount; i++) {
+			int nameIndex = u2(b, offset);
+			int length = u4(b, offset + 2);
+			if (nameIndex == sourceDebugExtensionIndex) {
+				// already has debug information, e.g. from another weaver
+				return null;
+			}
+			if (nameIndex == sourceFileIndex) {
+				int utf8Offset = utf8Offsets[u2(b, offset + 6)];
+				source = readUtf8(b, utf8Offset);
+			}
+			offset += 6 + length;
+		}
+		if (source == null) {
+			return null;
+		}
+		if (sourceDebugExtensionIndex < 0 && cpCount == 0xFFFF) {
+			throw new UnsupportedOperationException();
+		}
+
+		try {
+			byte[] smap = encodeUtf8(createSmap(source, location));
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(b.length + smap.length + 32);
+			DataOutputStream out = new DataOutputStream(bytes);
+			int nameIndex = sourceDebugExtensionIndex;
+			if (nameIndex < 0) {
+				nameIndex = cpCount;
+				out.write(b, 0, 8);
+				out.writeShort(cpCount + 1);
+				out.write(b, 10, cpEnd - 10);
+				out.writeByte(CONSTANT_Utf8);
+				out.writeShort(SOURCE_DEBUG_EXTENSION.length);
+				out.write(SOURCE_DEBUG_EXTENSION);
+			} else {
+				out.write(b, 0, cpEnd);
+			}
+			out.write(b, cpEnd, attributesCountOffset - cpEnd);
+			out.writeShort(attributesCount + 1);
+			out.write(b, attributesCountOffset + 2, b.length - attributesCountOffset - 2);
+			out.writeShort(nameIndex);
+			out.writeInt(smap.length);
+			out.write(smap);
+			out.flush();
+			return bytes.toByteArray();
+		}
+		catch (IOException e) {
+			// can't happen with an in-memory stream
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static int skipMembers(byte[] b, int offset) {
+		int count = u2(b, offset);
+		offset += 2;
+		for (int i = 0; i < count; i++) {
+			// access_flags, name_index, descriptor_index
+			offset += 6;
+			int attributes = u2(b, offset);
+			offset += 2;
+			for (int j = 0; j < attributes; j++) {
+				offset += 6 + u4(b, offset + 2);
+			}
+		}
+		return offset;
+	}
+
+	private static int u2(byte[] b, int offset) {
+		return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+	}
+
+	private static int u4(byte[] b, int offset) {
+		return ((b[offset] & 0xFF) << 24) | ((b[offset + 1] & 0xFF) << 16) | ((b[offset + 2] & 0xFF) << 8) | (b[offset + 3] & 0xFF);
+	}
+
+	private static boolean equalsUtf8(byte[] b, int offset, byte[] expected) {
+		if (u2(b, offset + 1) != expected.length) {
+			return false;
+		}
+		for (int i = 0; i < expected.length; i++) {
+			if (b[offset + 3 + i] != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Decodes the modified UTF-8 constant at the given offset of the constant pool.
+	 */
+	private static String readUtf8(byte[] b, int offset) {
+		int length = u2(b, offset + 1);
+		int index = offset + 3;
+		int end = index + length;
+		char[] chars = new char[length];
+		int count = 0;
+		while (index < end) {
+			int c = b[index++] & 0xFF;
+			if ((c & 0x80) == 0) {
+				chars[count++] = (char) c;
+			} else if ((c & 0xE0) == 0xC0) {
+				chars[count++] = (char) (((c & 0x1F) << 6) | (b[index++] & 0x3F));
+			} else {
+				chars[count++] = (char) (((c & 0x0F) << 12) | ((b[index++] & 0x3F) << 6) | (b[index++] & 0x3F));
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+	/**
+	 * Encodes the given string in modified UTF-8, without length prefix.
+	 */
+	private static byte[] encodeUtf8(String value) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(value.length() + 16);
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c >= 0x0001 && c <= 0x007F) {
+				out.write(c);
+			} else if (c <= 0x07FF) {
+				out.write(0xC0 | ((c >> 6) & 0x1F));
+				out.write(0x80 | (c & 0x3F));
+			} else {
+				out.write(0xE0 | ((c >> 12) & 0x0F));
+				out.write(0x80 | ((c >> 6) & 0x3F));
+				out.write(0x80 | (c & 0x3F));
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static String createSmap(String source, String location) {
+		StringBuilder smap = new StringBuilder();
+		smap.append("SMAP\n"); //$NON-NLS-1$
+		smap.append(source).append("\n"); //$NON-NLS-1$
+		// default strata name
+		smap.append("Java\n"); //$NON-NLS-1$
+		smap.append("*S " + STRATA_ID + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		smap.append("*F\n"); //$NON-NLS-1$
+		smap.append("1 ").append(source).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		smap.append("2 ").append(location).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		// JSR-045, StratumSection
+		// "One FileSection and one LineSection (in either order) must follow the StratumSection"
+		smap.append("*L\n"); //$NON-NLS-1$
+		smap.append("*E\n"); //$NON-NLS-1$
+		return smap.toString();
+	}
+
+	/**
+	 * Adds the <code>SourceDebugExtension</code> by rewriting the whole class file with ASM. Only used for class files {@link #patch(byte[], String)}
+	 * can't handle.
+	 */
+	private static byte[] rewrite(byte[] classfileBuffer, final String location) {
 
 		final ClassReader r = new ClassReader(classfileBuffer, 0, classfileBuffer.length);
 		final ClassWriter w = new ClassWriter(r, 0);
@@ -38,26 +309,12 @@ public class ClassfileTransformer {
 		r.accept(new ClassVisitor(ASM_API, w) {
 			@Override
 			public void visitSource(String source, String debug) {
-				String javaSource = source;
 				// TODO merge SMAP if present (always present when used together with Equinox weaver)
 				if (debug == null) {
-					StringBuilder smap = new StringBuilder();
-					smap.append("SMAP\n"); //$NON-NLS-1$
-					smap.append(javaSource).append("\n"); //$NON-NLS-1$
-					// default strata name
-					smap.append("Java\n"); //$NON-NLS-1$
-					smap.append("*S " + STRATA_ID + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					smap.append("*F\n"); //$NON-NLS-1$
-					smap.append("1 ").append(source).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					smap.append("2 ").append(location).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					// JSR-045, StratumSection
-					// "One FileSection and one LineSection (in either order) must follow the StratumSection"
-					smap.append("*L\n"); //$NON-NLS-1$
-					smap.append("*E\n"); //$NON-NLS-1$
-					debug = smap.toString();
+					debug = createSmap(source, location);
 				}
 
-				super.visitSource(javaSource, debug);
+				super.visitSource(source, debug);
 			}
 		}, 0);
 
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.VMRunnerConfiguration;
+
+/**
+ * Manages dynamic class data sharing (AppCDS) archives for launches that opt in
+ * with {@link IJavaLaunchConfigurationConstants#ATTR_USE_CDS_ARCHIVE}.
+ * <p>
+ * Archives are kept in the state location of the launching plug-in and named
+ * after a hash of the VM installation and the resolved class and module path,
+ * including the time stamp and size of every archive on them. A changed
+ * classpath or VM therefore maps to a different archive. The first launch of a
+ * given key dumps the archive when the VM exits
+ * (<code>-XX:ArchiveClassesAtExit</code>), later launches map it
+ * (<code>-XX:SharedArchiveFile</code>). On Java 19 and newer the VM maintains
+ * the archive itself (<code>-XX:+AutoCreateSharedArchive</code>). Archives not
+ * used for {@link #MAX_AGE_DAYS} days, or exceeding {@link #MAX_ARCHIVES}, are
+ * deleted.
+ * </p>
+ */
+public final class CDSArchiveSupport {
+
+	/**
+	 * Name of the folder in the state location holding the archives
+	 */
+	private static final String ARCHIVE_FOLDER = "cds"; //$NON-NLS-1$
+
+	private static final String ARCHIVE_EXTENSION = ".jsa"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of archives to keep
+	 */
+	static final int MAX_ARCHIVES = 32;
+
+	/**
+	 * Number of days an unused archive is kept
+	 */
+	static final int MAX_AGE_DAYS = 30;
+
+	/**
+	 * Archives being dumped by a VM launched in this session, mapped to the
+	 * launch of that VM. Such an archive is not handed out again until it
+	 * exists or the launch terminates without dumping it.
+	 */
+	private static final Map<String, ILaunch> fgPending = new ConcurrentHashMap<>();
+
+	/**
+	 * Releases the archives of terminated or removed launches
+	 */
+	private static final ILaunchesListener2 fgLaunchListener = new ILaunchesListener2() {
+		@Override
+		public void launchesTerminated(ILaunch[] launches) {
+			release(launches);
+		}
+
+		@Override
+		public void launchesRemoved(ILaunch[] launches) {
+			release(launches);
+		}
+
+		@Override
+		public void launchesAdded(ILaunch[] launches) {
+		}
+
+		@Override
+		public void launchesChanged(ILaunch[] launches) {
+		}
+	};
+
+	/**
+	 * Whether {@link #fgLaunchListener} is registered
+	 */
+	private static final AtomicBoolean fgListening = new AtomicBoolean();
+
+	private CDSArchiveSupport() {
+	}
+
+	/**
+	 * Returns the VM arguments to use an AppCDS archive for the given launch, or
+	 * an empty array if the launch did not opt in, the VM does not support
+	 * dynamic archives or the VM arguments already configure class data
+	 * sharing.
+	 *
+	 * @param launch
+	 *            the launch the VM is started for
+	 * @param vm
+	 *            the VM to launch
+	 * @param javaVersion
+	 *            the major version of the VM
+	 * @param config
+	 *            the runner configuration
+	 * @param vmArgs
+	 *            the VM arguments specified for the launch
+	 * @return VM arguments to add, possibly empty
+	 */
+	public static String[] getArchiveArguments(ILaunch launch, IVMInstall vm, double javaVersion, VMRunnerConfiguration config, String[] vmArgs) {
+		ILaunchConfiguration launchConfiguration = launch.getLaunchConfiguration();
+		try {
+			if (launchConfiguration == null || javaVersion < 13
+					|| !launchConfiguration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, false)
+					|| launchConfiguration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CLASSPATH_ONLY_JAR, false)) {
+				return new String[0];
+			}
+		} catch (CoreException e) {
+			LaunchingPlugin.log(e);
+			return new String[0];
+		}
+		for (String arg : vmArgs) {
+			if (arg.startsWith("-XX:SharedArchiveFile") || arg.startsWith("-XX:ArchiveClassesAtExit") || arg.startsWith("-Xshare")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				return new String[0];
+			}
+		}
+		File folder = LaunchingPlugin.getDefault().getStateLocation().append(ARCHIVE_FOLDER).toFile();
+		if (!folder.isDirectory() && !folder.mkdirs()) {
+			return new String[0];
+		}
+		cleanup(folder);
+		File archive = new File(folder, computeKey(vm, config) + ARCHIVE_EXTENSION);
+		String path = archive.getAbsolutePath();
+		if (javaVersion >= 19) {
+			archive.setLastModified(System.currentTimeMillis());
+			return new String[] { "-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=" + path }; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (archive.isFile() && archive.length() > 0) {
+			fgPending.remove(path);
+			archive.setLastModified(System.currentTimeMillis());
+			return new String[] { "-XX:SharedArchiveFile=" + path }; //$NON-NLS-1$
+		}
+		ILaunchManager manager = DebugPlugin.getDefault().getLaunchManager();
+		if (!manager.isRegistered(launch)) {
+			// only showing the command line, no VM dumps the archive
+			return new String[] { "-XX:ArchiveClassesAtExit=" + path }; //$NON-NLS-1$
+		}
+		if (fgListening.compareAndSet(false, true)) {
+			manager.addLaunchListener(fgLaunchListener);
+		}
+		if (fgPending.putIfAbsent(path, launch) == null) {
+			if (launch.isTerminated()) {
+				// terminated meanwhile
+				fgPending.remove(path, launch);
+			}
+			return new String[] { "-XX:ArchiveClassesAtExit=" + path }; //$NON-NLS-1$
+		}
+		// another VM of this session is still about to dump the archive
+		return new String[0];
+	}
+
+	/**
+	 * Releases the archives being dumped by VMs of the given launches. If a VM
+	 * died or was terminated before dumping its archive, a later launch dumps
+	 * it instead.
+	 */
+	static void release(ILaunch[] launches) {
+		for (ILaunch launch : launches) {
+			fgPending.values().removeIf(launch::equals);
+		}
+	}
+
+	/**
+	 * Stops listening to launches.
+	 */
+	public static void stop() {
+		if (fgListening.compareAndSet(true, false)) {
+			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(fgLaunchListener);
+		}
+	}
+
+	/**
+	 * Returns the archive key for the given VM and runner configuration.
+	 */
+	static String computeKey(IVMInstall vm, VMRunnerConfiguration config) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		File home = vm.getInstallLocation();
+		update(digest, vm.getId());
+		if (home != null) {
+			update(digest, home.getAbsolutePath());
+			update(digest, LaunchingPlugin.computeInstallFingerprint(home));
+		}
+		updatePath(digest, config.getBootClassPath());
+		updatePath(digest, config.getModulepath());
+		updatePath(digest, config.getClassPath());
+		update(digest, config.getModuleDescription());
+		update(digest, String.valueOf(config.isPreviewEnabled()));
+		return HexFormat.of().formatHex(digest.digest(), 0, 16);
+	}
+
+	private static void updatePath(MessageDigest digest, String[] path) {
+		if (path == null) {
+			update(digest, null);
+			return;
+		}
+		for (String entry : path) {
+			File file = new File(entry);
+			update(digest, entry);
+			if (file.isFile()) {
+				update(digest, file.lastModified() + ":" + file.length()); //$NON-NLS-1$
+			}
+		}
+		update(digest, null);
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Deletes archives unused for {@link #MAX_AGE_DAYS} days and the least
+	 * recently used archives exceeding {@link #MAX_ARCHIVES}.
+	 */
+	static void cleanup(File folder) {
+		File[] archives = folder.listFiles((dir, name) -> name.endsWith(ARCHIVE_EXTENSION));
+		if (archives == null) {
+			return;
+		}
+		long expired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_AGE_DAYS);
+		Arrays.sort(archives, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i = 0; i < archives.length; i++) {
+			if (i >= MAX_ARCHIVES || archives[i].lastModified() < expired) {
+				if (!fgPending.containsKey(archives[i].getAbsolutePath())) {
+					archives[i].delete();
+				}
+			}
+		}
+	}
+}
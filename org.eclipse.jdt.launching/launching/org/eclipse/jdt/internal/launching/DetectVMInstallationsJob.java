@@ -154,7 +154,9 @@ public class DetectVMInstallationsJob extends Job {
 			directories.add(new File(jdkHome));
 		}
 		// other common/standard lookup strategies can be added here
-		return directories.stream()
+		// candidates are validated in parallel, as validation may need to probe
+		// the installation
+		return directories.parallelStream()
 			.filter(Objects::nonNull)
 			.filter(File::isDirectory)
 			.map(t -> {
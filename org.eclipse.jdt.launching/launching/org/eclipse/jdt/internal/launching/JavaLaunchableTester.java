@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.launching;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -29,7 +30,6 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IClassFile;
@@ -469,12 +469,7 @@ public class JavaLaunchableTester extends PropertyTester {
 		try {
 			IType type = getType(element);
 			if(type != null) {
-				IType[] stypes = type.newSupertypeHierarchy(new NullProgressMonitor()).getAllSuperclasses(type);
-				for(int i = 0; i < stypes.length; i++) {
-					if(stypes[i].getFullyQualifiedName().equals(qname) || stypes[i].getElementName().equals(qname)) {
-						return true;
-					}
-				}
+				return LaunchableTypeIndex.getDefault().getSuperTypes(type).fSuperclasses.contains(qname);
 			}
 		}
 		catch(JavaModelException e) {}
@@ -548,18 +543,56 @@ public class JavaLaunchableTester extends PropertyTester {
 		try {
 			IType type = getType(element);
 			if(type != null) {
-				IType[] itypes = type.newSupertypeHierarchy(new NullProgressMonitor()).getAllInterfaces();
-				for(int i = 0; i < itypes.length; i++) {
-					if(itypes[i].getFullyQualifiedName().equals(qname)) {
-						return true;
-					}
-				}
+				return LaunchableTypeIndex.getDefault().getSuperTypes(type).fInterfaces.contains(qname);
 			}
 		}
 		catch(JavaModelException e) {}
 		return false;
 	}
 
+	/**
+	 * Returns the remembered value of the given property of the given element,
+	 * evaluating and remembering it when not already known. Only used for
+	 * properties that depend on the compilation unit or class file of the
+	 * element alone.
+	 *
+	 * @param element the element to test
+	 * @param property the property to test
+	 * @param args the arguments of the property
+	 * @return the value of the property
+	 */
+	private boolean testIndexed(IJavaElement element, String property, Object[] args) {
+		LaunchableTypeIndex index = LaunchableTypeIndex.getDefault();
+		List<Object> key = new ArrayList<>(2 + (args != null ? args.length : 0));
+		key.add(element.getHandleIdentifier());
+		key.add(property);
+		if (args != null) {
+			key.addAll(Arrays.asList(args));
+		}
+		Boolean value = index.getProperty(element, key);
+		if (value != null) {
+			return value.booleanValue();
+		}
+		long generation = index.getGeneration();
+		boolean result;
+		switch (property) {
+			case PROPERTY_HAS_MAIN:
+				result = hasMain(element);
+				break;
+			case PROPERTY_HAS_METHOD:
+				result = hasMethod(element, args);
+				break;
+			case PROPERTY_HAS_METHOD_WITH_ANNOTATION:
+				result = hasMethodWithAnnotation(element, args);
+				break;
+			default:
+				result = hasTypeWithAnnotation(element, (String) args[0]);
+				break;
+		}
+		index.putProperty(element, key, result, generation);
+		return result;
+	}
+
 	/**
 	 * Method runs the tests defined from extension points for Run As... and Debug As... menu items.
 	 * Currently this test optimistically considers everything not a source file. In this context we
@@ -597,17 +630,12 @@ public class JavaLaunchableTester extends PropertyTester {
 				}
 			}
 		}
-		if(PROPERTY_HAS_MAIN.equals(property)) {
-			return hasMain(element);
-		}
-		if (PROPERTY_HAS_METHOD.equals(property)) {
-			return hasMethod(element, args);
-		}
-		if (PROPERTY_HAS_METHOD_WITH_ANNOTATION.equals(property)) {
-			return hasMethodWithAnnotation(element, args);
-		}
-		if (PROPERTY_HAS_TYPE_WITH_ANNOTATION.equals(property)) {
-			return hasTypeWithAnnotation(element, (String)args[0]);
+		if (PROPERTY_HAS_MAIN.equals(property) || PROPERTY_HAS_METHOD.equals(property) || PROPERTY_HAS_METHOD_WITH_ANNOTATION.equals(property)
+				|| PROPERTY_HAS_TYPE_WITH_ANNOTATION.equals(property)) {
+			if (element == null) {
+				return false;
+			}
+			return testIndexed(element, property, args);
 		}
 		if(PROPERTY_BUILDPATH_REFERENCE.equals(property)) {
 			return hasItemOnBuildPath(element, args);
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Cache of source lookup results of one source lookup participant, including
+ * lookups that found nothing.
+ * <p>
+ * All caches are invalidated when a resource is added to or removed from the
+ * workspace, and when the classpath or a source attachment of a Java project
+ * changes. A lookup that was running while such a change happened is not
+ * remembered.
+ * </p>
+ */
+public final class JavaSourceLookupCache {
+
+	/**
+	 * Maximum number of lookups to remember
+	 */
+	private static final int MAX_ENTRIES = 2000;
+
+	/**
+	 * Java element delta flags which affect source lookup results
+	 */
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_SOURCEATTACHED
+			| IJavaElementDelta.F_SOURCEDETACHED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_OPENED
+			| IJavaElementDelta.F_CLOSED;
+
+	/**
+	 * Incremented on every change invalidating lookup results
+	 */
+	private static final AtomicLong fgGeneration = new AtomicLong();
+
+	private static final ChangeListener fgListener = new ChangeListener();
+
+	/**
+	 * Bumps the generation on workspace structure and classpath changes.
+	 */
+	private static class ChangeListener implements IResourceChangeListener, IElementChangedListener {
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			IResourceDelta delta = event.getDelta();
+			if (delta != null && hasStructuralChange(delta)) {
+				fgGeneration.incrementAndGet();
+			}
+		}
+
+		private boolean hasStructuralChange(IResourceDelta delta) {
+			if ((delta.getKind() & (IResourceDelta.ADDED | IResourceDelta.REMOVED)) != 0) {
+				return true;
+			}
+			for (IResourceDelta child : delta.getAffectedChildren(IResourceDelta.ADDED | IResourceDelta.REMOVED | IResourceDelta.CHANGED)) {
+				if (hasStructuralChange(child)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsClasspath(event.getDelta())) {
+				fgGeneration.incrementAndGet();
+			}
+		}
+
+		private boolean affectsClasspath(IJavaElementDelta delta) {
+			int type = delta.getElement().getElementType();
+			if ((delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+				return true;
+			}
+			if (type == IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+				return false;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsClasspath(child)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Access ordered map of lookup key to source elements
+	 */
+	private final Map<List<Object>, Object[]> fEntries = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, Object[]> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Generation the entries were computed in
+	 */
+	private long fGeneration = fgGeneration.get();
+
+	/**
+	 * Starts tracking changes that invalidate lookup results.
+	 */
+	public static void startListening() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(fgListener, IResourceChangeEvent.POST_CHANGE);
+		JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stops tracking changes.
+	 */
+	public static void stopListening() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgListener);
+		JavaCore.removeElementChangedListener(fgListener);
+		fgGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Returns the current generation, to be passed to
+	 * {@link #put(List, Object[], long)} for a lookup started now.
+	 *
+	 * @return the current generation
+	 */
+	public static long getGeneration() {
+		return fgGeneration.get();
+	}
+
+	/**
+	 * Returns the remembered source elements for the given key, an empty array
+	 * if the lookup found nothing, or <code>null</code> if unknown.
+	 *
+	 * @param key
+	 *            lookup key
+	 * @return remembered source elements or <code>null</code>
+	 */
+	public synchronized Object[] get(List<Object> key) {
+		long generation = fgGeneration.get();
+		if (generation != fGeneration) {
+			fEntries.clear();
+			fGeneration = generation;
+			return null;
+		}
+		Object[] elements = fEntries.get(key);
+		return elements != null ? elements.clone() : null;
+	}
+
+	/**
+	 * Remembers the source elements found for the given key, unless a change
+	 * happened since the given generation.
+	 *
+	 * @param key
+	 *            lookup key
+	 * @param elements
+	 *            source elements found, possibly empty
+	 * @param generation
+	 *            generation when the lookup started
+	 */
+	public synchronized void put(List<Object> key, Object[] elements, long generation) {
+		if (generation == fgGeneration.get()) {
+			if (generation != fGeneration) {
+				fEntries.clear();
+				fGeneration = generation;
+			}
+			fEntries.put(key, elements.clone());
+		}
+	}
+
+	/**
+	 * Discards all remembered lookups.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+	}
+}
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Index of launchable properties of Java elements answered by
+ * {@link JavaLaunchableTester}, maintained incrementally from Java element
+ * deltas.
+ * <p>
+ * Properties that only depend on the compilation unit or class file of an
+ * element, such as the presence of a main method or of annotated test methods,
+ * are remembered per compilation unit or class file and discarded when it
+ * changes, including reconciled changes of working copies. The super types of
+ * a type are remembered per type and discarded when super types, types or the
+ * classpath of any project change.
+ * </p>
+ */
+public final class LaunchableTypeIndex implements IElementChangedListener {
+
+	/**
+	 * Maximum number of compilation units or class files, respectively types, to
+	 * remember
+	 */
+	private static final int MAX_ENTRIES = 1000;
+
+	/**
+	 * Delta flags on projects and package fragment roots which affect all entries
+	 */
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_SOURCEATTACHED | IJavaElementDelta.F_SOURCEDETACHED;
+
+	private static final LaunchableTypeIndex fgDefault = new LaunchableTypeIndex();
+
+	/**
+	 * Super types of a type
+	 */
+	static final class SuperTypes {
+		/**
+		 * Fully qualified and simple names of all super classes
+		 */
+		final Set<String> fSuperclasses = new HashSet<>();
+		/**
+		 * Fully qualified names of all super interfaces
+		 */
+		final Set<String> fInterfaces = new HashSet<>();
+	}
+
+	/**
+	 * Access ordered map of compilation unit or class file handle to the
+	 * properties tested for elements within it
+	 */
+	private final Map<String, Map<List<Object>, Boolean>> fProperties = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Map<List<Object>, Boolean>> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Access ordered map of type handle to super types
+	 */
+	private final Map<String, SuperTypes> fSuperTypes = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SuperTypes> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Incremented whenever entries are discarded, results computed across a
+	 * change are not remembered
+	 */
+	private long fGeneration;
+
+	private LaunchableTypeIndex() {
+	}
+
+	/**
+	 * Returns the shared index.
+	 *
+	 * @return the shared index
+	 */
+	public static LaunchableTypeIndex getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Starts listening to Java model changes.
+	 */
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Stops listening and discards all entries.
+	 */
+	public void stop() {
+		JavaCore.removeElementChangedListener(this);
+		flush();
+	}
+
+	/**
+	 * Returns the current generation, to be passed to
+	 * {@link #putProperty(IJavaElement, List, boolean, long)} for a test started
+	 * now.
+	 *
+	 * @return the current generation
+	 */
+	public synchronized long getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the remembered value of the given property of the given element,
+	 * or <code>null</code> if unknown.
+	 *
+	 * @param element
+	 *            element within a compilation unit or class file
+	 * @param key
+	 *            property and arguments
+	 * @return remembered value or <code>null</code>
+	 */
+	public synchronized Boolean getProperty(IJavaElement element, List<Object> key) {
+		String openable = getOpenableKey(element);
+		if (openable == null) {
+			return null;
+		}
+		Map<List<Object>, Boolean> properties = fProperties.get(openable);
+		return properties != null ? properties.get(key) : null;
+	}
+
+	/**
+	 * Remembers the value of the given property of the given element, unless
+	 * entries were discarded since the given generation.
+	 *
+	 * @param element
+	 *            element within a compilation unit or class file
+	 * @param key
+	 *            property and arguments
+	 * @param value
+	 *            the value of the property
+	 * @param generation
+	 *            generation when the test started
+	 */
+	public synchronized void putProperty(IJavaElement element, List<Object> key, boolean value, long generation) {
+		String openable = getOpenableKey(element);
+		if (openable != null && generation == fGeneration) {
+			fProperties.computeIfAbsent(openable, k -> new HashMap<>()).put(key, Boolean.valueOf(value));
+		}
+	}
+
+	/**
+	 * Returns the super types of the given type, computing and remembering them
+	 * when not already known.
+	 *
+	 * @param type
+	 *            the type
+	 * @return super types of the type
+	 * @throws JavaModelException
+	 *             if the type hierarchy cannot be computed
+	 */
+	public SuperTypes getSuperTypes(IType type) throws JavaModelException {
+		String key = type.getHandleIdentifier();
+		long generation;
+		synchronized (this) {
+			SuperTypes superTypes = fSuperTypes.get(key);
+			if (superTypes != null) {
+				return superTypes;
+			}
+			generation = fGeneration;
+		}
+		ITypeHierarchy hierarchy = type.newSupertypeHierarchy(new NullProgressMonitor());
+		SuperTypes superTypes = new SuperTypes();
+		for (IType superclass : hierarchy.getAllSuperclasses(type)) {
+			superTypes.fSuperclasses.add(superclass.getFullyQualifiedName());
+			superTypes.fSuperclasses.add(superclass.getElementName());
+		}
+		for (IType superInterface : hierarchy.getAllInterfaces()) {
+			superTypes.fInterfaces.add(superInterface.getFullyQualifiedName());
+		}
+		synchronized (this) {
+			if (generation == fGeneration) {
+				fSuperTypes.put(key, superTypes);
+			}
+		}
+		return superTypes;
+	}
+
+	/**
+	 * Returns the handle of the compilation unit or class file containing the
+	 * given element, or <code>null</code> if none.
+	 */
+	private static String getOpenableKey(IJavaElement element) {
+		if (element == null) {
+			return null;
+		}
+		IOpenable openable = element.getOpenable();
+		if (openable instanceof IJavaElement) {
+			int type = ((IJavaElement) openable).getElementType();
+			if (type == IJavaElement.COMPILATION_UNIT || type == IJavaElement.CLASS_FILE) {
+				return ((IJavaElement) openable).getHandleIdentifier();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Discards all entries.
+	 */
+	public synchronized void flush() {
+		fProperties.clear();
+		fSuperTypes.clear();
+		fGeneration++;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<String> changed = new HashSet<>();
+		boolean[] hierarchyChanged = new boolean[1];
+		if (collectChanges(event.getDelta(), changed, hierarchyChanged)) {
+			flush();
+			return;
+		}
+		if (changed.isEmpty() && !hierarchyChanged[0]) {
+			return;
+		}
+		synchronized (this) {
+			for (String openable : changed) {
+				fProperties.remove(openable);
+			}
+			if (hierarchyChanged[0]) {
+				fSuperTypes.clear();
+			}
+			fGeneration++;
+		}
+	}
+
+	/**
+	 * Collects the compilation units and class files changed by the given delta
+	 * and whether the change may affect type hierarchies. Returns
+	 * <code>true</code> if the delta affects the classpath, i.e. all entries.
+	 */
+	private boolean collectChanges(IJavaElementDelta delta, Set<String> changed, boolean[] hierarchyChanged) {
+		IJavaElement element = delta.getElement();
+		int type = element.getElementType();
+		switch (type) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (type != IJavaElement.JAVA_MODEL
+						&& (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0)) {
+					return true;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					hierarchyChanged[0] = true;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				changed.add(element.getHandleIdentifier());
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+					// no details on what changed
+					hierarchyChanged[0] = true;
+					return false;
+				}
+				break;
+			case IJavaElement.TYPE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_SUPER_TYPES) != 0) {
+					hierarchyChanged[0] = true;
+					return false;
+				}
+				break;
+			default:
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (collectChanges(child, changed, hierarchyChanged)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -117,6 +117,12 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	public static final String ATTR_LAUNCH_TEMP_FILES = "tempFiles"; //$NON-NLS-1$
 
+	/**
+	 * Process attribute holding the number of milliseconds it took to start the VM of a debug launch, until the debug connection was
+	 * established. Run launches do not set it, the start of their VM cannot be observed.
+	 */
+	public static final String ATTR_VM_STARTUP_TIME = "vmStartupTime"; //$NON-NLS-1$
+
 	/**
 	 * prefix for temp files
 	 */
@@ -165,6 +171,26 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	private static final ConcurrentHashMap<String, LibraryInfo> fgLibraryInfoMap = new ConcurrentHashMap<>(10);
 
+	/**
+	 * Mapping of top-level VM installation directories to the fingerprint of
+	 * the installation the library info was computed for. See
+	 * {@link #computeInstallFingerprint(File)}.
+	 */
+	private static final ConcurrentHashMap<String, String> fgLibraryInfoFingerprints = new ConcurrentHashMap<>(10);
+
+	/**
+	 * Whether fingerprints were recorded for library info that has not been
+	 * saved since. They are saved along with the next library info change or
+	 * when the plug-in stops.
+	 */
+	private static volatile boolean fgLibraryInfoFingerprintsChanged;
+
+	/**
+	 * Files, relative to an installation directory, whose time stamp and size
+	 * make up the fingerprint of the installation.
+	 */
+	private static final String[] FINGERPRINT_FILES = { "release", "lib/modules", "lib/rt.jar", "jre/lib/rt.jar", "bin/java", "bin/java.exe" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
 	/**
 	 * Mapping of the last time the directory of a given SDK was modified.
 	 * <br><br>
@@ -437,12 +463,63 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * @param info the library information, or <code>null</code> to remove
 	 */
 	public static void setLibraryInfo(String javaInstallPath, LibraryInfo info) {
+		setLibraryInfo(javaInstallPath, info, null);
+	}
+
+	/**
+	 * Returns the library info that corresponds to the specified JRE install
+	 * path if it was computed for an installation with the given fingerprint,
+	 * or <code>null</code> if none. For library info persisted without a
+	 * fingerprint, the time stamp of the install location is checked instead
+	 * and the fingerprint is recorded.
+	 *
+	 * @param javaInstallPath home location for a JRE
+	 * @param fingerprint the current fingerprint of the installation, see
+	 *            {@link #computeInstallFingerprint(File)}
+	 * @return the library info for the unchanged installation or
+	 *         <code>null</code>
+	 */
+	public static LibraryInfo getLibraryInfo(String javaInstallPath, String fingerprint) {
+		LibraryInfo info = getLibraryInfo(javaInstallPath);
+		if (info == null) {
+			return null;
+		}
+		String known = fgLibraryInfoFingerprints.get(javaInstallPath);
+		if (known != null) {
+			return known.equals(fingerprint) ? info : null;
+		}
+		if (timeStampChanged(javaInstallPath)) {
+			return null;
+		}
+		// remember the fingerprint of the install for next time, without
+		// rewriting the library info on a lookup
+		fgLibraryInfoFingerprints.put(javaInstallPath, fingerprint);
+		fgLibraryInfoFingerprintsChanged = true;
+		return info;
+	}
+
+	/**
+	 * Sets the library info that corresponds to the specified JRE install
+	 * path, along with the fingerprint of the installation it was computed
+	 * for.
+	 *
+	 * @param javaInstallPath home location for a JRE
+	 * @param info the library information, or <code>null</code> to remove
+	 * @param fingerprint the fingerprint of the installation or
+	 *            <code>null</code> if unknown
+	 */
+	public static void setLibraryInfo(String javaInstallPath, LibraryInfo info, String fingerprint) {
 		if (isVMLogging()) {
 			LaunchingPlugin.log(LaunchingMessages.VMLogging_2 + javaInstallPath);
 		}
 		if (fgLibraryInfoMap.isEmpty()) {
 			restoreLibraryInfo();
 		}
+		if (info == null || fingerprint == null) {
+			fgLibraryInfoFingerprints.remove(javaInstallPath);
+		} else {
+			fgLibraryInfoFingerprints.put(javaInstallPath, fingerprint);
+		}
 		if (info == null) {
 			fgLibraryInfoMap.remove(javaInstallPath);
 			if (!fgInstallTimeMap.isEmpty()) {
@@ -458,6 +535,26 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		saveLibraryInfo();
 	}
 
+	/**
+	 * Computes a fingerprint of the installation at the given location from the
+	 * time stamps and sizes of the files that identify it, such as the
+	 * <code>release</code> file, the runtime image and the Java executable.
+	 * The fingerprint changes when the installation is updated in place.
+	 *
+	 * @param javaHome home location for a JRE
+	 * @return the fingerprint of the installation
+	 */
+	public static String computeInstallFingerprint(File javaHome) {
+		StringBuilder fingerprint = new StringBuilder();
+		for (String name : FINGERPRINT_FILES) {
+			File file = new File(javaHome, name);
+			if (file.isFile()) {
+				fingerprint.append(name).append(':').append(file.lastModified()).append(':').append(file.length()).append(';');
+			}
+		}
+		return fingerprint.toString();
+	}
+
 	public static boolean isVMLogging() {
 		String vmLogging = System.getProperty("jdt.debug.launching.vmLogging"); //$NON-NLS-1$
 		return "true".equalsIgnoreCase(vmLogging); //$NON-NLS-1$
@@ -532,6 +629,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public void stop(BundleContext context) throws Exception {
 		try {
 			AdvancedSourceLookupSupport.stop();
+			CDSArchiveSupport.stop();
+			ResolvedClasspathCache.getDefault().stop();
+			LaunchableTypeIndex.getDefault().stop();
+			JavaSourceLookupCache.stopListening();
 
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
 			DebugPlugin.getDefault().removeDebugEventListener(this);
@@ -540,6 +641,9 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 			InstanceScope.INSTANCE.getNode(ID_PLUGIN).removePreferenceChangeListener(this);
 			JavaRuntime.removeVMInstallChangedListener(this);
 			JavaRuntime.saveVMConfiguration();
+			if (fgLibraryInfoFingerprintsChanged) {
+				saveLibraryInfo();
+			}
 			fgXMLParser = null;
 			fWorkspaceServiceTracker.close();
 		} finally {
@@ -607,6 +711,9 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
 		DebugPlugin.getDefault().addDebugEventListener(this);
 		AdvancedSourceLookupSupport.start();
+		ResolvedClasspathCache.getDefault().start();
+		LaunchableTypeIndex.getDefault().start();
+		JavaSourceLookupCache.startListening();
 	}
 
 	/**
@@ -877,6 +984,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 			LibraryInfo info = fgLibraryInfoMap.get(home);
 			Element locationElemnet = infoAsElement(doc, info);
 			locationElemnet.setAttribute("home", home); //$NON-NLS-1$
+			String fingerprint = fgLibraryInfoFingerprints.get(home);
+			if (fingerprint != null) {
+				locationElemnet.setAttribute("fingerprint", fingerprint); //$NON-NLS-1$
+			}
 			config.appendChild(locationElemnet);
 		}
 
@@ -925,7 +1036,8 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	/**
 	 * Saves the library info in a local workspace state location
 	 */
-	private static void saveLibraryInfo() {
+	private static synchronized void saveLibraryInfo() {
+		fgLibraryInfoFingerprintsChanged = false;
 		try {
 			String xml = getLibraryInfoAsXML();
 			IPath libPath = getDefault().getStateLocation();
@@ -947,8 +1059,12 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	/**
 	 * Restores library information for VMs
 	 */
-	private static void restoreLibraryInfo() {
-		fgLibraryInfoMap.clear();
+	private static synchronized void restoreLibraryInfo() {
+		if (!fgLibraryInfoMap.isEmpty()) {
+			// restored by another thread in the meantime
+			return;
+		}
+		fgLibraryInfoFingerprints.clear();
 		IPath libPath = getDefault().getStateLocation();
 		libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
 		File file = libPath.toFile();
@@ -982,6 +1098,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 								}
 								LibraryInfo info = new LibraryInfo(version, bootpath, extDirs, endDirs);
 								fgLibraryInfoMap.put(location, info);
+								String fingerprint = element.getAttribute("fingerprint"); //$NON-NLS-1$
+								if (!fingerprint.isEmpty()) {
+									fgLibraryInfoFingerprints.put(location, fingerprint);
+								}
 							}
 						}
 					}
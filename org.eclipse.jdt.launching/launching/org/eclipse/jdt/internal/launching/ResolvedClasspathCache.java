@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallChangedListener;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.PropertyChangeEvent;
+
+/**
+ * Remembers the classpaths resolved by the standard classpath provider for
+ * recently launched configurations.
+ * <p>
+ * Entries are keyed by the launch configuration type, the launch configuration
+ * attributes, the unresolved entries, the VM install of the configuration and
+ * the classpath stamps of the Java projects the configuration depends on. A
+ * project's stamp advances whenever its classpath changes and a VM install's
+ * stamp whenever the VM install changes, so a changed project or VM only makes
+ * the keys of the configurations using it obsolete. Resolved entries are
+ * copied in and out of the cache, callers may modify them.
+ * </p>
+ */
+public final class ResolvedClasspathCache implements IElementChangedListener, IVMInstallChangedListener {
+
+	/**
+	 * Functional resolution of a classpath, performed on a cache miss.
+	 */
+	@FunctionalInterface
+	public interface IResolver {
+		/**
+		 * Resolves the classpath.
+		 *
+		 * @return resolved entries
+		 * @throws CoreException
+		 *             if resolution fails
+		 */
+		IRuntimeClasspathEntry[] resolve() throws CoreException;
+	}
+
+	/**
+	 * Maximum number of configurations to remember
+	 */
+	private static final int MAX_ENTRIES = 32;
+
+	/**
+	 * Delta flags which affect resolved classpaths
+	 */
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
+
+	private static final ResolvedClasspathCache fgDefault = new ResolvedClasspathCache();
+
+	/**
+	 * Access ordered map of key to resolved entries
+	 */
+	private final Map<List<Object>, RuntimeClasspathEntry[]> fResolved = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, RuntimeClasspathEntry[]> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Classpath stamps by project name. A project without a stamp has stamp 0.
+	 */
+	private final Map<String, Long> fProjectStamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Stamps by VM install id. A VM install without a stamp has stamp 0.
+	 */
+	private final Map<String, Long> fVMStamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Source of stamps, so a stamp is never reused
+	 */
+	private final AtomicLong fNextStamp = new AtomicLong();
+
+	private ResolvedClasspathCache() {
+	}
+
+	/**
+	 * Returns the shared cache.
+	 *
+	 * @return the shared cache
+	 */
+	public static ResolvedClasspathCache getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Starts listening to Java model and VM install changes.
+	 */
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+		JavaRuntime.addVMInstallChangedListener(this);
+	}
+
+	/**
+	 * Stops listening and discards all remembered classpaths.
+	 */
+	public void stop() {
+		JavaCore.removeElementChangedListener(this);
+		JavaRuntime.removeVMInstallChangedListener(this);
+		flush();
+	}
+
+	/**
+	 * Returns the resolved classpath for the given unresolved entries in the
+	 * context of the given configuration, resolving it with the given resolver
+	 * when not already known.
+	 *
+	 * @param entries
+	 *            unresolved entries
+	 * @param configuration
+	 *            launch configuration
+	 * @param resolver
+	 *            resolves the classpath on a cache miss
+	 * @return resolved entries, which may be modified by the caller
+	 * @throws CoreException
+	 *             if resolution fails
+	 */
+	public IRuntimeClasspathEntry[] resolve(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration, IResolver resolver) throws CoreException {
+		// stamps are taken before resolving, a change meanwhile makes the key obsolete
+		List<Object> key = computeKey(entries, configuration);
+		if (key != null) {
+			synchronized (this) {
+				RuntimeClasspathEntry[] resolved = fResolved.get(key);
+				if (resolved != null) {
+					return copy(resolved);
+				}
+			}
+		}
+		IRuntimeClasspathEntry[] resolved = resolver.resolve();
+		if (key != null) {
+			RuntimeClasspathEntry[] copies = copy(resolved);
+			if (copies != null) {
+				synchronized (this) {
+					fResolved.put(key, copies);
+				}
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Returns copies of the given entries, or <code>null</code> if an entry
+	 * is not a plain {@link RuntimeClasspathEntry} and cannot be copied.
+	 */
+	private static RuntimeClasspathEntry[] copy(IRuntimeClasspathEntry[] entries) {
+		RuntimeClasspathEntry[] copies = new RuntimeClasspathEntry[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			if (entries[i] == null || entries[i].getClass() != RuntimeClasspathEntry.class) {
+				return null;
+			}
+			copies[i] = new RuntimeClasspathEntry((RuntimeClasspathEntry) entries[i]);
+		}
+		return copies;
+	}
+
+	/**
+	 * Returns the cache key for the given entries and configuration, or
+	 * <code>null</code> if the result must not be cached.
+	 */
+	private List<Object> computeKey(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) {
+		if (configuration == null) {
+			return null;
+		}
+		try {
+			List<Object> key = new ArrayList<>(entries.length + 4);
+			key.add(configuration.getType().getIdentifier());
+			key.add(configuration.getAttributes());
+			Set<String> projects = new TreeSet<>();
+			IJavaProject project = JavaRuntime.getJavaProject(configuration);
+			if (project != null) {
+				addRequiredProjects(project, projects);
+			}
+			for (IRuntimeClasspathEntry entry : entries) {
+				key.add(entry.getMemento());
+				IJavaProject entryProject = entry.getJavaProject();
+				if (entryProject != null) {
+					addRequiredProjects(entryProject, projects);
+				}
+				if (entry.getType() == IRuntimeClasspathEntry.PROJECT) {
+					addRequiredProjects(JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(entry.getPath().lastSegment())), projects);
+				}
+			}
+			for (String name : projects) {
+				key.add(name);
+				key.add(fProjectStamps.getOrDefault(name, Long.valueOf(0)));
+			}
+			IVMInstall vm = JavaRuntime.computeVMInstall(configuration);
+			key.add(vm.getId());
+			key.add(fVMStamps.getOrDefault(vm.getId(), Long.valueOf(0)));
+			return key;
+		} catch (CoreException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the name of the given project and of all projects it requires,
+	 * directly or indirectly, to the given set.
+	 */
+	private static void addRequiredProjects(IJavaProject project, Set<String> names) throws JavaModelException {
+		if (!names.add(project.getElementName()) || !project.exists()) {
+			return;
+		}
+		IJavaModel model = project.getJavaModel();
+		for (String required : project.getRequiredProjectNames()) {
+			addRequiredProjects(model.getJavaProject(required), names);
+		}
+	}
+
+	/**
+	 * Discards all remembered classpaths.
+	 */
+	public synchronized void flush() {
+		fResolved.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		advanceProjectStamps(event.getDelta());
+	}
+
+	/**
+	 * Advances the stamps of the projects whose classpath is affected by the
+	 * given delta. Only the model, project and package fragment root levels
+	 * are visited.
+	 */
+	private void advanceProjectStamps(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		int type = element.getElementType();
+		if (type == IJavaElement.JAVA_PROJECT || type == IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+				fProjectStamps.put(element.getJavaProject().getElementName(), Long.valueOf(fNextStamp.incrementAndGet()));
+			}
+		}
+		if (type == IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			advanceProjectStamps(child);
+		}
+	}
+
+	/**
+	 * Advances the stamp of the given VM install.
+	 */
+	private void advanceVMStamp(IVMInstall vm) {
+		if (vm != null) {
+			fVMStamps.put(vm.getId(), Long.valueOf(fNextStamp.incrementAndGet()));
+		}
+	}
+
+	@Override
+	public void defaultVMInstallChanged(IVMInstall previous, IVMInstall current) {
+		// configurations using the default VM compute their VM anew
+	}
+
+	@Override
+	public void vmChanged(PropertyChangeEvent event) {
+		if (event.getSource() instanceof IVMInstall vm) {
+			advanceVMStamp(vm);
+		}
+	}
+
+	@Override
+	public void vmAdded(IVMInstall vm) {
+		advanceVMStamp(vm);
+	}
+
+	@Override
+	public void vmRemoved(IVMInstall vm) {
+		advanceVMStamp(vm);
+	}
+}
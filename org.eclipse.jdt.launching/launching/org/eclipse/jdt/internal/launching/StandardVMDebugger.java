@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -218,6 +218,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 
 		String[] allVMArgs = combineVmArgs(config, fVMInstance);
 		addArguments(ensureEncoding(launch, allVMArgs), arguments);
+		addArguments(CDSArchiveSupport.getArchiveArguments(launch, fVMInstance, getJavaVersion(fVMInstance), config, allVMArgs), arguments);
 		addBootClassPathArguments(arguments, config);
 
 		String[] mp = config.getModulepath();
@@ -334,6 +335,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 
 				connector.startListening(map);
 
+				long start = System.currentTimeMillis();
 				p = exec(cmdLine, cmdDetails.getWorkingDir(), cmdDetails.getEnvp(), config.isMergeOutput());
 				if (p == null) {
 					return;
@@ -421,6 +423,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 
 						VirtualMachine vm= runnable.getVirtualMachine();
 						if (vm != null) {
+							process.setAttribute(LaunchingPlugin.ATTR_VM_STARTUP_TIME, Long.toString(System.currentTimeMillis() - start));
 							createDebugTarget(config, launch, cmdDetails.getPort(), process, vm);
 							subMonitor.worked(1);
 							subMonitor.done();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -448,6 +448,7 @@ public class StandardVMRunner extends AbstractVMRunner {
 		// options like '-client' & '-server' which are required to be the first option
 		String[] allVMArgs = combineVmArgs(config, fVMInstance);
 		addArguments(ensureEncoding(launch, allVMArgs), arguments);
+		addArguments(CDSArchiveSupport.getArchiveArguments(launch, fVMInstance, getJavaVersion(fVMInstance), config, allVMArgs), arguments);
 
 		addBootClassPathArguments(arguments, config);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,23 +20,26 @@ package org.eclipse.jdt.internal.launching;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -82,6 +85,11 @@ public class StandardVMType extends AbstractVMInstallType {
 	private static final String RELEASE_FILE = "release"; //$NON-NLS-1$
 	private static final String JAVA_VERSION = "JAVA_VERSION"; //$NON-NLS-1$
 	private static final String JRT_FS_JAR = "jrt-fs.jar"; //$NON-NLS-1$
+	private static final String MODULES_FILE = "modules"; //$NON-NLS-1$
+	/**
+	 * Magic number of a jimage runtime image (<code>lib/modules</code>)
+	 */
+	private static final int JIMAGE_MAGIC = 0xCAFEDADA;
 
 	public static final String ID_STANDARD_VM_TYPE = "org.eclipse.jdt.internal.debug.ui.launcher.StandardVMType"; //$NON-NLS-1$
 
@@ -110,7 +118,12 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Map of the install path for which we were unable to generate
 	 * the library info during this session.
 	 */
-	private static Map<String, LibraryInfo> fgFailedInstallPath = new HashMap<>();
+	private static Map<String, LibraryInfo> fgFailedInstallPath = new ConcurrentHashMap<>();
+
+	/**
+	 * Locks serializing VM launches that probe the same install path.
+	 */
+	private static final Map<String, Object> fgProbeLocks = new ConcurrentHashMap<>();
 
 	/**
 	 * Cache for default library locations. See {@link #getDefaultLibraryLocations(File)}
@@ -119,7 +132,7 @@ public class StandardVMType extends AbstractVMInstallType {
 	 *
 	 * @since 3.7
 	 */
-	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new HashMap<>();
+	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new ConcurrentHashMap<>();
 
 	/**
 	 * The list of locations in which to look for the java executable in candidate
@@ -206,39 +219,82 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Return library information corresponding to the specified install
 	 * location. If the information does not exist, create it using the given Java
 	 * executable.
+	 * <p>
+	 * Library information is reused as long as the fingerprint of the install
+	 * location does not change. Modular runtimes (Java 9 and later) are
+	 * recognized from their <code>release</code> file and runtime image without
+	 * launching a VM, which remains the fallback for older and unrecognized
+	 * installs. Different install locations may be probed concurrently.
+	 * </p>
 	 * @param javaHome the Java home folder
 	 * @param javaExecutable the Java executable file
 	 * @return the {@link LibraryInfo} for the home and executable path or an empty object, never <code>null</code>
 	 */
-	protected synchronized LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
+	protected LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
 		String installPath = javaHome.getAbsolutePath();
-		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
-		if (info == null || LaunchingPlugin.timeStampChanged(installPath)) {
-			info = fgFailedInstallPath.get(installPath);
+		String fingerprint = LaunchingPlugin.computeInstallFingerprint(javaHome);
+		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath, fingerprint);
+		if (info != null) {
+			return info;
+		}
+		info = fgFailedInstallPath.get(installPath);
+		if (info != null) {
+			return info;
+		}
+		String version = readReleaseVersion(javaHome);
+		if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0 && isModularRuntimeImage(javaHome)) {
+			info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
+			LaunchingPlugin.setLibraryInfo(installPath, info, fingerprint);
+			return info;
+		}
+		synchronized (fgProbeLocks.computeIfAbsent(installPath, path -> new Object())) {
+			// another thread may have probed the same install in the meantime
+			info = LaunchingPlugin.getLibraryInfo(installPath, fingerprint);
 			if (info == null) {
-				String version = readReleaseVersion(javaHome);
-				if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
-					info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
-					LaunchingPlugin.setLibraryInfo(installPath, info);
-				} else {
+				info = fgFailedInstallPath.get(installPath);
+			}
+			if (info == null) {
+				info = generateLibraryInfo(javaHome, javaExecutable);
+				if (info == null) {
+					// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
 					info = generateLibraryInfo(javaHome, javaExecutable);
-					if (info == null) {
-						// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
-						info = generateLibraryInfo(javaHome, javaExecutable);
-					}
-					if (info == null) {
-						info = getDefaultLibraryInfo(javaHome);
-						fgFailedInstallPath.put(installPath, info);
-					} else {
-						// only persist if we were able to generate information - see bug 70011
-						LaunchingPlugin.setLibraryInfo(installPath, info);
-					}
+				}
+				if (info == null) {
+					info = getDefaultLibraryInfo(javaHome);
+					fgFailedInstallPath.put(installPath, info);
+				} else {
+					// only persist if we were able to generate information - see bug 70011
+					LaunchingPlugin.setLibraryInfo(installPath, info, fingerprint);
 				}
 			}
 		}
 		return info;
 	}
 
+	/**
+	 * Returns whether the given install location contains a runtime image
+	 * (<code>lib/modules</code>) with a valid jimage header, i.e. whether the
+	 * version from its <code>release</code> file can be trusted without
+	 * launching a VM.
+	 *
+	 * @param javaHome the Java home folder
+	 * @return whether the install location contains a modular runtime image
+	 */
+	private boolean isModularRuntimeImage(File javaHome) {
+		Path modules = javaHome.getAbsoluteFile().toPath().resolve(LIB).resolve(MODULES_FILE);
+		try (InputStream stream = Files.newInputStream(modules)) {
+			byte[] header = stream.readNBytes(4);
+			if (header.length < 4) {
+				return false;
+			}
+			int magic = ByteBuffer.wrap(header).order(ByteOrder.BIG_ENDIAN).getInt();
+			// the image is written in the byte order of the platform it was built for
+			return magic == JIMAGE_MAGIC || Integer.reverseBytes(magic) == JIMAGE_MAGIC;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Return <code>true</code> if the appropriate system libraries can be found for the
 	 * specified java executable, <code>false</code> otherwise.
@@ -860,7 +916,7 @@ public class StandardVMType extends AbstractVMInstallType {
 		return null;
 	}
 
-	public synchronized String readReleaseVersion(File javaHome) {
+	public String readReleaseVersion(File javaHome) {
 		String version = ""; //$NON-NLS-1$
 		Path releaseFile = javaHome.getAbsoluteFile().toPath().resolve(RELEASE_FILE);
 		if (Files.notExists(releaseFile)) {
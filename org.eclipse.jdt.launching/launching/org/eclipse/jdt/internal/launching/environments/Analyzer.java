@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.launching.environments;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.environments.CompatibleEnvironment;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironmentAnalyzerDelegate;
@@ -49,7 +50,7 @@ class Analyzer implements IExecutionEnvironmentAnalyzerDelegate {
 	 * @return analyzer
 	 * @throws CoreException if an error occurs
 	 */
-	private IExecutionEnvironmentAnalyzerDelegate getDelegate() throws CoreException {
+	private synchronized IExecutionEnvironmentAnalyzerDelegate getDelegate() throws CoreException {
 		if (fDelegate == null) {
 			fDelegate = (IExecutionEnvironmentAnalyzerDelegate) fElement.createExecutableExtension("class");  //$NON-NLS-1$
 		}
@@ -64,4 +65,14 @@ class Analyzer implements IExecutionEnvironmentAnalyzerDelegate {
 		return fElement.getAttribute("id"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Returns whether this analyzer is contributed by the launching plug-in, i.e.
+	 * whether its results only depend on the analyzed installation.
+	 *
+	 * @return whether this analyzer is contributed by the launching plug-in
+	 */
+	boolean isBuiltIn() {
+		return LaunchingPlugin.ID_PLUGIN.equals(fElement.getContributor().getName());
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2024 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -15,16 +15,29 @@
 package org.eclipse.jdt.internal.launching.environments;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.DocumentBuilder;
 
@@ -39,6 +52,7 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChange
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.internal.launching.EEVMInstall;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallChangedListener;
@@ -118,6 +132,18 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 	 */
 	private boolean fInitializedCompatibilities = false;
 
+	/**
+	 * Whether compatible environments are being initialized
+	 */
+	private boolean fInitializingCompatibilities = false;
+
+	/**
+	 * Set on the threads initializing compatible environments, which must not
+	 * wait for the initialization to complete when analyzers call back into this
+	 * manager
+	 */
+	private static final ThreadLocal<Boolean> fgAnalyzing = new ThreadLocal<>();
+
 	/**
 	 * XML attribute
 	 */
@@ -138,6 +164,29 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 	 */
 	private static final String DEFAULT_ENVIRONMENTS = "defaultEnvironments"; //$NON-NLS-1$
 
+	/**
+	 * Name of the file in the state location persisting the results of built-in
+	 * analyzers
+	 */
+	private static final String ANALYSIS_CACHE_FILE = ".environmentAnalysis.properties"; //$NON-NLS-1$
+
+	/**
+	 * Suffixes of the analysis cache keys
+	 */
+	private static final String STAMP_SUFFIX = ".stamp"; //$NON-NLS-1$
+	private static final String ENVIRONMENTS_SUFFIX = ".environments"; //$NON-NLS-1$
+
+	/**
+	 * Persisted results of built-in analyzers keyed by analyzer and VM, lazily
+	 * loaded. Access is guarded by the lock of the properties.
+	 */
+	private Properties fAnalysisCache = null;
+
+	/**
+	 * Whether the analysis cache has changed since last saved
+	 */
+	private boolean fAnalysisCacheDirty = false;
+
 	/**
 	 * Returns the singleton environments manager.
 	 *
@@ -322,24 +371,95 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 
 	/**
 	 * Initializes compatibility settings.
+	 * <p>
+	 * Other threads asking for compatible VMs meanwhile wait until all VMs are
+	 * analyzed and the default VMs are initialized.
+	 * </p>
 	 */
 	void initializeCompatibilities() {
+		if (fgAnalyzing.get() != null) {
+			// called back by an analyzer, see the VMs analyzed so far
+			return;
+		}
 		IVMInstallType[] installTypes = JavaRuntime.getVMInstallTypes();
-        synchronized (this) {
-        	if (!fInitializedCompatibilities) {
-	        	fInitializedCompatibilities = true;
-	            for (int i = 0; i < installTypes.length; i++) {
-	                IVMInstallType type = installTypes[i];
-	                IVMInstall[] installs = type.getVMInstalls();
-	                for (int j = 0; j < installs.length; j++) {
-	                    IVMInstall install = installs[j];
-	                    // TODO: progress reporting?
-	                    analyze(install, new NullProgressMonitor());
-	                }
-	            }
-	            initializeDefaultVMs();
-        	}
-        }
+		synchronized (this) {
+			while (fInitializingCompatibilities) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+			if (fInitializedCompatibilities) {
+				return;
+			}
+			fInitializingCompatibilities = true;
+		}
+		fgAnalyzing.set(Boolean.TRUE);
+		try {
+			List<IVMInstall> installs = new ArrayList<>();
+			for (int i = 0; i < installTypes.length; i++) {
+				installs.addAll(Arrays.asList(installTypes[i].getVMInstalls()));
+			}
+			analyzeVMs(installs.toArray(new IVMInstall[installs.size()]));
+			initializeDefaultVMs();
+		} finally {
+			fgAnalyzing.remove();
+			synchronized (this) {
+				fInitializedCompatibilities = true;
+				fInitializingCompatibilities = false;
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Analyzes compatible execution environments for the given VM installs and
+	 * saves the results of built-in analyzers.
+	 * <p>
+	 * VMs are analyzed concurrently, unless the calling thread holds the lock of
+	 * this manager, since analyzers call back into it.
+	 * </p>
+	 *
+	 * @param installs the VM installs to analyze
+	 */
+	public void analyzeVMs(IVMInstall[] installs) {
+		int threads = Math.min(installs.length, Runtime.getRuntime().availableProcessors());
+		if (threads <= 1 || Thread.holdsLock(this)) {
+			for (IVMInstall install : installs) {
+				analyze(install, new NullProgressMonitor());
+			}
+		} else {
+			ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+				Thread thread = new Thread(r, "Execution Environment Analysis"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				List<Future<?>> analyses = new ArrayList<>(installs.length);
+				for (IVMInstall install : installs) {
+					analyses.add(executor.submit(() -> {
+						fgAnalyzing.set(Boolean.TRUE);
+						try {
+							analyze(install, new NullProgressMonitor());
+						} finally {
+							fgAnalyzing.remove();
+						}
+					}));
+				}
+				for (Future<?> analysis : analyses) {
+					analysis.get();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				LaunchingPlugin.log(e.getCause());
+			} finally {
+				executor.shutdown();
+			}
+		}
+		saveAnalysisCache();
 	}
 
 	/**
@@ -424,19 +544,139 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 	 */
 	private void analyze(IVMInstall vm, IProgressMonitor monitor) {
 		Analyzer[] analyzers = getAnalyzers();
+		List<CompatibleEnvironment> compatible = new ArrayList<>();
 		for (int i = 0; i < analyzers.length; i++) {
 			Analyzer analyzer = analyzers[i];
 			try {
-				CompatibleEnvironment[] environments = analyzer.analyze(vm, monitor);
-				for (int j = 0; j < environments.length; j++) {
-					CompatibleEnvironment compatibleEnvironment = environments[j];
-					ExecutionEnvironment environment = (ExecutionEnvironment) compatibleEnvironment.getCompatibleEnvironment();
-					environment.add(vm, compatibleEnvironment.isStrictlyCompatbile());
-				}
+				compatible.addAll(Arrays.asList(analyze(analyzer, vm, monitor)));
 			} catch (CoreException e) {
 				LaunchingPlugin.log(e);
 			}
 		}
+		synchronized (this) {
+			for (CompatibleEnvironment compatibleEnvironment : compatible) {
+				ExecutionEnvironment environment = (ExecutionEnvironment) compatibleEnvironment.getCompatibleEnvironment();
+				environment.add(vm, compatibleEnvironment.isStrictlyCompatbile());
+			}
+		}
+	}
+
+	/**
+	 * Returns the environments the given analyzer finds compatible with the given
+	 * VM. Results of built-in analyzers are remembered across sessions as long as
+	 * the installation of the VM is unchanged.
+	 *
+	 * @param analyzer the analyzer
+	 * @param vm the {@link IVMInstall} to find environments for
+	 * @param monitor a progress monitor or <code>null</code>
+	 * @return compatible environments
+	 * @throws CoreException if the analyzer fails
+	 */
+	private CompatibleEnvironment[] analyze(Analyzer analyzer, IVMInstall vm, IProgressMonitor monitor) throws CoreException {
+		File home = vm.getInstallLocation();
+		if (!analyzer.isBuiltIn() || home == null || vm instanceof EEVMInstall) {
+			return analyzer.analyze(vm, monitor);
+		}
+		String fingerprint = LaunchingPlugin.computeInstallFingerprint(home);
+		if (fingerprint.isEmpty()) {
+			// unknown layout, changes can't be detected
+			return analyzer.analyze(vm, monitor);
+		}
+		String key = analyzer.getId() + '|' + JavaRuntime.getCompositeIdFromVM(vm);
+		String stamp = home.getAbsolutePath() + '|' + fingerprint + '|' + LaunchingPlugin.getDefault().getBundle().getVersion();
+		Properties cache = getAnalysisCache();
+		String environments;
+		synchronized (cache) {
+			environments = stamp.equals(cache.getProperty(key + STAMP_SUFFIX)) ? cache.getProperty(key + ENVIRONMENTS_SUFFIX) : null;
+		}
+		if (environments != null) {
+			List<CompatibleEnvironment> result = new ArrayList<>();
+			for (String id : environments.split(",")) { //$NON-NLS-1$
+				boolean strict = id.endsWith("!"); //$NON-NLS-1$
+				IExecutionEnvironment environment = getEnvironment(strict ? id.substring(0, id.length() - 1) : id);
+				if (environment != null) {
+					result.add(new CompatibleEnvironment(environment, strict));
+				}
+			}
+			return result.toArray(new CompatibleEnvironment[result.size()]);
+		}
+		CompatibleEnvironment[] result = analyzer.analyze(vm, monitor);
+		StringBuilder ids = new StringBuilder();
+		for (CompatibleEnvironment environment : result) {
+			if (ids.length() > 0) {
+				ids.append(',');
+			}
+			ids.append(environment.getCompatibleEnvironment().getId());
+			if (environment.isStrictlyCompatbile()) {
+				ids.append('!');
+			}
+		}
+		synchronized (cache) {
+			cache.setProperty(key + STAMP_SUFFIX, stamp);
+			cache.setProperty(key + ENVIRONMENTS_SUFFIX, ids.toString());
+			fAnalysisCacheDirty = true;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the persisted analysis results, loading them if required.
+	 *
+	 * @return the persisted analysis results
+	 */
+	private synchronized Properties getAnalysisCache() {
+		if (fAnalysisCache == null) {
+			fAnalysisCache = new Properties();
+			File file = getAnalysisCacheFile();
+			if (file != null && file.isFile()) {
+				try (InputStream in = new FileInputStream(file)) {
+					fAnalysisCache.load(in);
+				} catch (IOException | IllegalArgumentException e) {
+					// start over, results are recomputed
+					fAnalysisCache.clear();
+				}
+			}
+		}
+		return fAnalysisCache;
+	}
+
+	/**
+	 * Removes the persisted analysis results of the given VM.
+	 *
+	 * @param vm the VM
+	 */
+	private void removeAnalysis(IVMInstall vm) {
+		String suffix = '|' + JavaRuntime.getCompositeIdFromVM(vm);
+		Properties cache = getAnalysisCache();
+		synchronized (cache) {
+			if (cache.keySet().removeIf(key -> ((String) key).endsWith(suffix + STAMP_SUFFIX) || ((String) key).endsWith(suffix + ENVIRONMENTS_SUFFIX))) {
+				fAnalysisCacheDirty = true;
+			}
+		}
+	}
+
+	/**
+	 * Saves the analysis results if changed.
+	 */
+	private void saveAnalysisCache() {
+		Properties cache = getAnalysisCache();
+		File file = getAnalysisCacheFile();
+		synchronized (cache) {
+			if (!fAnalysisCacheDirty || file == null) {
+				return;
+			}
+			try (OutputStream out = new FileOutputStream(file)) {
+				cache.store(out, null);
+				fAnalysisCacheDirty = false;
+			} catch (IOException e) {
+				LaunchingPlugin.log(e);
+			}
+		}
+	}
+
+	private File getAnalysisCacheFile() {
+		LaunchingPlugin plugin = LaunchingPlugin.getDefault();
+		return plugin != null ? plugin.getStateLocation().append(ANALYSIS_CACHE_FILE).toFile() : null;
 	}
 
 	/* (non-Javadoc)
@@ -470,6 +710,7 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 			return;
 		}
 		analyze(vm, new NullProgressMonitor());
+		saveAnalysisCache();
 	}
 
 	/* (non-Javadoc)
@@ -485,6 +726,7 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 			ExecutionEnvironment environment = (ExecutionEnvironment) environments[i];
 			environment.remove(vm);
 		}
+		removeAnalysis(vm);
 	}
 
 	synchronized void updateDefaultVMs() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,13 +18,14 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.FileLocator;
@@ -120,14 +121,15 @@ class ExecutionEnvironment implements IExecutionEnvironment {
 	private boolean fPropertiesInitialized;
 
 	/**
-	 * Set of compatible vm's - just the strictly compatible ones
+	 * Set of compatible vm's - just the strictly compatible ones. Concurrent,
+	 * as VMs are added while other threads query the environment.
 	 */
-	private final Set<IVMInstall> fStrictlyCompatible = new HashSet<>();
+	private final Set<IVMInstall> fStrictlyCompatible = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * All compatible vm's
 	 */
-	private final List<IVMInstall> fCompatibleVMs = new ArrayList<>();
+	private final List<IVMInstall> fCompatibleVMs = new CopyOnWriteArrayList<>();
 
 	/**
 	 * default VM install or <code>null</code> if none
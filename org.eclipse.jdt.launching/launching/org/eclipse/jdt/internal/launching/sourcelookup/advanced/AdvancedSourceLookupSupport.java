@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015-2016 Igor Fedorenko
+ * Copyright (c) 2015, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,24 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
+import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
@@ -30,8 +39,13 @@ import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.Launch;
 import org.eclipse.debug.core.model.IPersistableSourceLocator;
 import org.eclipse.debug.core.sourcelookup.IPersistableSourceLocator2;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing.Hasher;
 
 public class AdvancedSourceLookupSupport {
 
@@ -43,6 +57,8 @@ public class AdvancedSourceLookupSupport {
 
 	private static BackgroundProcessingJob backgroundJob;
 
+	private static Job warmFileHashesJob;
+
 	private static volatile WorkspaceProjectSourceContainers workspaceProjects;
 	private static final Lock workspaceProjectsLock = new ReentrantLock();
 
@@ -51,11 +67,35 @@ public class AdvancedSourceLookupSupport {
 
 	public static void start() {
 		backgroundJob = new BackgroundProcessingJob();
+		if (isAdvancedSourcelookupEnabled()) {
+			// warm the persistent file hash index so the first source lookup of the session does not hash workspace dependencies
+			// runs in its own low priority job, source lookup requests queued on the background job must not wait for it
+			warmFileHashesJob = new Job(Messages.AdvancedSourceLookupSupport_warmFileHashes) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						warmFileHashes(monitor);
+					}
+					catch (CoreException e) {
+						return e.getStatus();
+					}
+					return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+				}
+			};
+			warmFileHashesJob.setSystem(true);
+			warmFileHashesJob.setPriority(Job.DECORATE);
+			warmFileHashesJob.schedule();
+		}
 	}
 
 	public static void stop() {
+		if (warmFileHashesJob != null) {
+			warmFileHashesJob.cancel();
+			warmFileHashesJob = null;
+		}
 		backgroundJob.cancel();
 		backgroundJob = null;
+		FileHashing.saveIndex();
 
 		workspaceProjectsLock.lock();
 		try {
@@ -117,6 +157,55 @@ public class AdvancedSourceLookupSupport {
 		return workspaceProjects;
 	}
 
+	/**
+	 * Hashes the archives of all package fragment roots of the workspace Java projects. Files already in the persistent index are not read. Does
+	 * nothing when advanced source lookup is disabled, stops early when the monitor is canceled.
+	 */
+	public static void warmFileHashes(IProgressMonitor monitor) throws CoreException {
+		if (!isAdvancedSourcelookupEnabled()) {
+			return;
+		}
+		IJavaProject[] projects;
+		try {
+			projects = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+		} catch (IllegalStateException e) {
+			// workspace is not available (yet)
+			return;
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, 2);
+		SubMonitor collecting = progress.newChild(1).setWorkRemaining(projects.length);
+		Set<File> files = new LinkedHashSet<>();
+		for (IJavaProject project : projects) {
+			if (collecting.isCanceled()) {
+				return;
+			}
+			collecting.worked(1);
+			try {
+				for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+					if (root.isArchive()) {
+						IResource resource = root.getResource();
+						IPath location = resource != null ? resource.getLocation() : root.getPath();
+						if (location != null) {
+							files.add(location.toFile());
+						}
+					}
+				}
+			} catch (JavaModelException e) {
+				// project is closed or its classpath can't be resolved, skip it
+			}
+		}
+		SubMonitor hashing = progress.newChild(1).setWorkRemaining(files.size());
+		Hasher hasher = FileHashing.hasher();
+		for (File file : files) {
+			if (hashing.isCanceled()) {
+				break;
+			}
+			hasher.hash(file);
+			hashing.worked(1);
+		}
+		FileHashing.saveIndex();
+	}
+
 	public static String getJavaagentString() {
 		return "-javaagent:\"" + getJavaagentLocation() + "\""; //$NON-NLS-1$ //$NON-NLS-2$
 	}
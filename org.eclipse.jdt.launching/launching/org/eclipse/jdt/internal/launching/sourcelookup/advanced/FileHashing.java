@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,29 +13,66 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 
 /**
  * Helpers to compute file content digests. Provides long-lived hasher instance with bounded cache of most recently requested files, which is useful
  * to handle source lookup requests. Also provides factory of hasher instances with unbounded caches, which is useful to perform bulk workspace
- * indexing.
+ * indexing. All hashers share a persistent index of file digests, keyed by file, size and modification time, so files are not hashed again after a
+ * restart.
  */
 public class FileHashing {
 
 	public static interface Hasher {
 		Object hash(File file);
+
+		/**
+		 * Hashes the given files in parallel. Files that do not exist or can't be read are not included in the result.
+		 */
+		default Map<File, Object> hash(Collection<File> files) {
+			Map<File, Object> result = new ConcurrentHashMap<>();
+			files.parallelStream().forEach(file -> {
+				Object hash = hash(file);
+				if (hash != null) {
+					result.put(file, hash);
+				}
+			});
+			return result;
+		}
 	}
 
+	/**
+	 * Name of the persistent index file in the plug-in state location
+	 */
+	private static final String INDEX_FILE = "fileHashes.index"; //$NON-NLS-1$
+
+	private static final int INDEX_VERSION = 1;
+
+	/**
+	 * Upper bound of the number of files in the persistent index, least recently used files are evicted first
+	 */
+	private static final int INDEX_SIZE = 100000;
+
+	private static final HashIndex INDEX = new HashIndex();
+
 	// default hasher with bounded cache.
 	// this is used when performing source lookup and number of unique files requested during the same debugging session is likely to be small.
 	private static final HasherImpl HASHER = new HasherImpl(5000);
@@ -54,6 +91,22 @@ public class FileHashing {
 		return new HasherImpl(HASHER);
 	}
 
+	/**
+	 * Writes the persistent hash index if it changed since it was loaded or last saved.
+	 */
+	public static void saveIndex() {
+		INDEX.save();
+	}
+
+	/**
+	 * Discards the hash index held in memory, it is read back from the persistent index on next use. Changes that have not been saved are lost.
+	 *
+	 * @noreference public for test purposes
+	 */
+	public static void reloadIndex() {
+		INDEX.reload();
+	}
+
 	private static class CacheKey {
 		public final Object file;
 
@@ -161,7 +214,11 @@ public class FileHashing {
 					}
 				}
 				// don't hold cache lock while hashing file
-				HashCode hashCode = computeHash(file);
+				HashCode hashCode = INDEX.get(cacheKey);
+				if (hashCode == null) {
+					hashCode = computeHash(file);
+					INDEX.put(cacheKey, hashCode);
+				}
 				synchronized (cache) {
 					cache.put(cacheKey, hashCode);
 				}
@@ -182,8 +239,9 @@ public class FileHashing {
 		catch (NoSuchAlgorithmException e) {
 			throw new IllegalStateException("Unsupported JVM", e); //$NON-NLS-1$
 		}
-		byte[] buf = new byte[4096];
-		try (InputStream is = new FileInputStream(file)) {
+		// plain stream reads, mapped files stay locked on Windows until the buffer is garbage collected
+		byte[] buf = new byte[64 * 1024];
+		try (InputStream is = Files.newInputStream(file.toPath())) {
 			int len;
 			while ((len = is.read(buf)) > 0) {
 				digest.update(buf, 0, len);
@@ -192,4 +250,118 @@ public class FileHashing {
 		return new HashCode(digest.digest());
 	}
 
+	/**
+	 * Persistent index of file digests, stored in the plug-in state location and loaded on first use. Holds one digest per file, the digest is only
+	 * valid for the recorded size and modification time.
+	 */
+	private static class HashIndex {
+
+		private static class Entry {
+			final long length;
+
+			final long lastModified;
+
+			final HashCode hash;
+
+			Entry(long length, long lastModified, HashCode hash) {
+				this.length = length;
+				this.lastModified = lastModified;
+				this.hash = hash;
+			}
+		}
+
+		private Map<String, Entry> entries;
+
+		private boolean dirty;
+
+		public synchronized HashCode get(CacheKey key) {
+			Entry entry = entries().get(key.file.toString());
+			if (entry != null && entry.length == key.length && entry.lastModified == key.lastModified) {
+				return entry.hash;
+			}
+			return null;
+		}
+
+		public synchronized void put(CacheKey key, HashCode hash) {
+			entries().put(key.file.toString(), new Entry(key.length, key.lastModified, hash));
+			dirty = true;
+		}
+
+		@SuppressWarnings("serial")
+		private Map<String, Entry> entries() {
+			if (entries == null) {
+				// access order, the index is written and read back from least to most recently used
+				entries = new LinkedHashMap<>(16, 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+						return size() > INDEX_SIZE;
+					}
+				};
+				File file = getIndexFile();
+				if (file != null && file.isFile()) {
+					try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+						if (in.readInt() == INDEX_VERSION) {
+							int count = in.readInt();
+							for (int i = 0; i < count; i++) {
+								String path = in.readUTF();
+								long length = in.readLong();
+								long lastModified = in.readLong();
+								byte[] bytes = new byte[in.readUnsignedByte()];
+								in.readFully(bytes);
+								entries.put(path, new Entry(length, lastModified, new HashCode(bytes)));
+							}
+						}
+					} catch (IOException e) {
+						// corrupt or truncated index, start over
+						entries.clear();
+					}
+				}
+			}
+			return entries;
+		}
+
+		public synchronized void reload() {
+			entries = null;
+			dirty = false;
+		}
+
+		public void save() {
+			File file = getIndexFile();
+			if (file == null) {
+				return;
+			}
+			Map<String, Entry> snapshot;
+			synchronized (this) {
+				if (!dirty) {
+					return;
+				}
+				snapshot = new LinkedHashMap<>(entries);
+				dirty = false;
+			}
+			File temp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					out.writeInt(INDEX_VERSION);
+					out.writeInt(snapshot.size());
+					for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+						out.writeUTF(entry.getKey());
+						out.writeLong(entry.getValue().length);
+						out.writeLong(entry.getValue().lastModified);
+						byte[] bytes = entry.getValue().hash.bytes;
+						out.writeByte(bytes.length);
+						out.write(bytes);
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				LaunchingPlugin.log(e);
+			}
+		}
+
+		private static File getIndexFile() {
+			LaunchingPlugin plugin = LaunchingPlugin.getDefault();
+			return plugin != null ? plugin.getStateLocation().append(INDEX_FILE).toFile() : null;
+		}
+	}
+
 }
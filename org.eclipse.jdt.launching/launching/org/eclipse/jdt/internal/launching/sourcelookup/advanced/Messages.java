@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015-2016 Igor Fedorenko
+ * Copyright (c) 2015, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ public class Messages extends NLS {
 	private static final String BUNDLE_NAME = "org.eclipse.jdt.internal.launching.sourcelookup.advanced.messages"; //$NON-NLS-1$
 	public static String BackgroundProcessingJob_name;
 	public static String BackgroundProcessingJob_failed;
+	public static String AdvancedSourceLookupSupport_warmFileHashes;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012-2016 Igor Fedorenko
+ * Copyright (c) 2012, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -320,6 +320,7 @@ public class WorkspaceProjectSourceContainers {
 		for (IJavaProject project : javaProjects) {
 			addJavaProject(project, describers, hasher, progress.split(1));
 		}
+		FileHashing.saveIndex();
 	}
 
 	public void close() {
@@ -349,16 +350,21 @@ public class WorkspaceProjectSourceContainers {
 		// make binary project support little easier to implement
 		locations.forEach(location -> dependencies.remove(location));
 
+		// hash all files of the project at once, cache misses are hashed in parallel
+		Set<File> files = new HashSet<>(locations);
+		files.addAll(dependencies.keySet());
+		Map<File, Object> fileHashes = hasher.hash(files);
+
 		Set<Object> hashes = new HashSet<>();
 		locations.forEach(location -> {
-			Object hash = hasher.hash(location);
+			Object hash = fileHashes.get(location);
 			if (hash != null) {
 				hashes.add(hash);
 			}
 		});
 
 		Map<Object, IPackageFragmentRoot> dependencyHashes = new HashMap<>();
-		dependencies.forEach((location, packageFragmentRoot) -> dependencyHashes.put(hasher.hash(location), packageFragmentRoot));
+		dependencies.forEach((location, packageFragmentRoot) -> dependencyHashes.put(fileHashes.get(location), packageFragmentRoot));
 
 		JavaProjectDescription info = new JavaProjectDescription(locations, hashes, factories, dependencies, dependencyHashes);
 
@@ -437,6 +443,7 @@ public class WorkspaceProjectSourceContainers {
 		for (IJavaProject project : add) {
 			addJavaProject(project, describers, hasher, progress.split(1));
 		}
+		FileHashing.saveIndex();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -410,6 +410,15 @@ public interface IJavaLaunchConfigurationConstants {
 	 */
 	public static final String ATTR_USE_CLASSPATH_ONLY_JAR = LaunchingPlugin.getUniqueIdentifier() + ".ATTR_USE_CLASSPATH_ONLY_JAR"; //$NON-NLS-1$
 
+	/**
+	 * Launch configuration attribute key. The value is a boolean specifying whether the launched VM should use a dynamic class data sharing
+	 * (AppCDS) archive, created on the first launch and reused by later launches with the same VM and class path. Only applies to Java 13 and
+	 * newer. Default value is <code>false</code>.
+	 *
+	 * @since 3.24
+	 */
+	public static final String ATTR_USE_CDS_ARCHIVE = LaunchingPlugin.getUniqueIdentifier() + ".ATTR_USE_CDS_ARCHIVE"; //$NON-NLS-1$
+
 	/**
 	 * Status code indicating a launch configuration does not specify a project when a project is required.
 	 */
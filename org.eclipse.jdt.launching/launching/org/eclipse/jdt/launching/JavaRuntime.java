@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1712,6 +1712,15 @@ public final class JavaRuntime {
 	 * @return the {@link IPackageFragmentRoot} for the JRE container or null if no JRE container is on the classpath
 	 */
 	private static IPackageFragmentRoot findJreContainer(IJavaProject project) throws JavaModelException {
+		// look the container up on the raw classpath rather than expanding every root of the project
+		for (IClasspathEntry entry : project.getRawClasspath()) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_CONTAINER && entry.getPath().segment(0).contains("JRE_CONTAINER")) { //$NON-NLS-1$
+				IPackageFragmentRoot[] roots = project.findPackageFragmentRoots(entry);
+				if (roots.length > 0) {
+					return roots[0];
+				}
+			}
+		}
 		IPackageFragmentRoot jreContainer = null;
 
 		IPackageFragmentRoot[] allPackageFragmentRoots = project.getAllPackageFragmentRoots();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.Set;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.internal.launching.ResolvedClasspathCache;
 
 /**
  * Default implementation for classpath provider.
@@ -89,6 +90,14 @@ public class StandardClasspathProvider implements IRuntimeClasspathProvider {
 	 */
 	@Override
 	public IRuntimeClasspathEntry[] resolveClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException {
+		if (getClass() == StandardClasspathProvider.class) {
+			// subclasses may resolve differently, only remember the standard resolution
+			return ResolvedClasspathCache.getDefault().resolve(entries, configuration, () -> doResolveClasspath(entries, configuration));
+		}
+		return doResolveClasspath(entries, configuration);
+	}
+
+	private IRuntimeClasspathEntry[] doResolveClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException {
 		// use an ordered set to avoid duplicates
 		Set<IRuntimeClasspathEntry> all = new LinkedHashSet<>(entries.length);
 		for (int i = 0; i < entries.length; i++) {
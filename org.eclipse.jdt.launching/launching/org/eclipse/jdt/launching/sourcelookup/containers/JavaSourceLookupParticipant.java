@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,18 @@
 
 package org.eclipse.jdt.launching.sourcelookup.containers;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.sourcelookup.AbstractSourceLookupParticipant;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
@@ -30,7 +34,10 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.launching.JavaSourceLookupCache;
 
 /**
  * A source lookup participant that searches for Java source code.
@@ -49,6 +56,17 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	 */
 	private Map<ISourceContainer, PackageFragmentRootSourceContainer> fDelegateContainers;
 
+	/**
+	 * Results of previous lookups, including lookups that found nothing
+	 */
+	private JavaSourceLookupCache fCache;
+
+	/**
+	 * Object and source name of the lookup in progress on the current thread,
+	 * so the source name is computed once per lookup
+	 */
+	private final ThreadLocal<Object[]> fPendingLookup = new ThreadLocal<>();
+
 	/**
 	 * Returns the source name associated with the given object, or <code>null</code>
 	 * if none.
@@ -61,9 +79,67 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	 */
 	@Override
 	public String getSourceName(Object object) throws CoreException {
+		Object[] pending = fPendingLookup.get();
+		if (pending != null && pending[0] == object) {
+			return (String) pending[1];
+		}
 		return JavaDebugUtils.getSourceName(object);
 	}
 
+	/**
+	 * Returns the source elements for the given object. Results are remembered
+	 * per declaring type, source name and stratum until the source containers,
+	 * the workspace structure or a Java classpath changes, so frames of types
+	 * without source do not query every container again on each suspend.
+	 *
+	 * @param object the object to find source elements for
+	 * @return the source elements found, possibly empty
+	 * @exception CoreException if an exception occurs while searching
+	 * @since 3.24
+	 */
+	@Override
+	public Object[] findSourceElements(Object object) throws CoreException {
+		JavaSourceLookupCache cache = fCache;
+		String name = getSourceName(object);
+		if (cache == null || name == null) {
+			return super.findSourceElements(object);
+		}
+		List<Object> key = getLookupKey(object, name);
+		Object[] elements = cache.get(key);
+		if (elements != null) {
+			return elements;
+		}
+		long generation = JavaSourceLookupCache.getGeneration();
+		fPendingLookup.set(new Object[] { object, name });
+		try {
+			elements = super.findSourceElements(object);
+		} finally {
+			fPendingLookup.remove();
+		}
+		if (elements != null) {
+			cache.put(key, elements, generation);
+		}
+		return elements;
+	}
+
+	/**
+	 * Returns the key identifying the lookup of the given object.
+	 */
+	private List<Object> getLookupKey(Object object, String name) {
+		String typeName = null;
+		String stratum = null;
+		IJavaStackFrame frame = object instanceof IAdaptable adaptable ? adaptable.getAdapter(IJavaStackFrame.class) : null;
+		if (frame != null) {
+			try {
+				typeName = frame.getDeclaringTypeName();
+				stratum = ((IJavaDebugTarget) frame.getDebugTarget()).getDefaultStratum();
+			} catch (DebugException e) {
+				// key on the source name only
+			}
+		}
+		return Arrays.asList(typeName, name, stratum, Boolean.valueOf(isFindDuplicates()));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.debug.internal.core.sourcelookup.ISourceLookupParticipant#dispose()
 	 */
@@ -75,6 +151,7 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 			container.dispose();
 		}
 		fDelegateContainers = null;
+		fCache = null;
 		super.dispose();
 
 	}
@@ -97,12 +174,16 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	public void init(ISourceLookupDirector director) {
 		super.init(director);
 		fDelegateContainers = new HashMap<>();
+		fCache = new JavaSourceLookupCache();
 	}
 	/* (non-Javadoc)
 	 * @see org.eclipse.debug.internal.core.sourcelookup.ISourceLookupParticipant#sourceContainersChanged(org.eclipse.debug.internal.core.sourcelookup.ISourceLookupDirector)
 	 */
 	@Override
 	public void sourceContainersChanged(ISourceLookupDirector director) {
+		if (fCache != null) {
+			fCache.clear();
+		}
 		// use package fragment roots in place of local archives, where they exist
 		fDelegateContainers.clear();
 		ISourceContainer[] containers = director.getSourceContainers();